@@ -0,0 +1,104 @@
+package bench.com.julio;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.ExportService;
+import main.com.julio.service.FormatColonnes;
+import main.com.julio.service.GenerateurDonnees;
+import main.com.julio.service.TypeEnregistrement;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Mesure du débit et de la mémoire de l'export CSV et en colonnes.
+ * <p>
+ * Peuple les repositories par {@link GenerateurDonnees} (graine fixe, deux
+ * contrats par client en moyenne), puis exporte clients et contrats dans
+ * chaque format. Affiche pour chaque export les lignes
+ * par seconde, les octets écrits par ligne et les octets alloués par ligne
+ * (mesurés par {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}) :
+ * une allocation par ligne faible et indépendante du nombre de lignes confirme
+ * que l'export ne matérialise aucune copie des données.
+ * </p>
+ *
+ * <p><b>Exécution :</b></p>
+ * <pre>
+ * java -cp &lt;classes&gt; bench.com.julio.BenchExport [nombre de clients]
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class BenchExport {
+
+    private static final int NB_DEFAUT = 1_000_000;
+    private static final int NB_PASSES = 3;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private BenchExport() {
+    }
+
+    /**
+     * Lance les mesures.
+     *
+     * @param args nombre de clients (optionnel)
+     * @throws IOException si un fichier temporaire ne peut pas être écrit
+     * @throws ValidationException si les repositories ne peuvent pas être initialisés
+     */
+    public static void main(String[] args) throws IOException, ValidationException {
+        int nb = args.length > 0 ? Integer.parseInt(args[0]) : NB_DEFAUT;
+        RaisonSocialeIndex index = new RaisonSocialeIndex();
+        ContratRepository contratRepo = new ContratRepository();
+        ClientRepository clientRepo = new ClientRepository(contratRepo, index, false);
+        ProspectRepository prospectRepo = new ProspectRepository(index, false);
+        new GenerateurDonnees(42).peupler(clientRepo, contratRepo, prospectRepo, nb, 0);
+        int nbContrats = contratRepo.findAll().size();
+        ExportService exportService = new ExportService(clientRepo, prospectRepo);
+
+        Path dossier = Files.createTempDirectory("bench-export");
+        try {
+            for (int passe = 1; passe <= NB_PASSES; passe++) {
+                System.out.println("Passe " + passe + " (" + nb + " clients, " + nbContrats + " contrats)");
+                for (TypeEnregistrement type : List.of(TypeEnregistrement.CLIENT, TypeEnregistrement.CONTRAT)) {
+                    Path csv = dossier.resolve(type + ".csv");
+                    mesurer(type + " CSV", csv, () -> exportService.exporterCsv(csv, type));
+                    Path colonnes = dossier.resolve(type + FormatColonnes.EXTENSION);
+                    mesurer(type + " colonnes", colonnes, () -> exportService.exporterColonnes(colonnes, type));
+                }
+            }
+        } finally {
+            try (var fichiers = Files.list(dossier)) {
+                for (Path fichier : fichiers.toList()) {
+                    Files.delete(fichier);
+                }
+            }
+            Files.delete(dossier);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        long exporter() throws IOException;
+    }
+
+    private static void mesurer(String nom, Path fichier, Export export) throws IOException {
+        long thread = Thread.currentThread().getId();
+        long allouesAvant = THREADS.getThreadAllocatedBytes(thread);
+        long debut = System.nanoTime();
+        long lignes = export.exporter();
+        long duree = System.nanoTime() - debut;
+        long alloues = THREADS.getThreadAllocatedBytes(thread) - allouesAvant;
+        System.out.printf("  %-20s %,12.0f lignes/s %,8.1f octets/ligne %,8.1f alloués/ligne%n",
+                nom, lignes * 1e9 / duree, (double) Files.size(fichier) / lignes, (double) alloues / lignes);
+    }
+}
@@ -0,0 +1,124 @@
+package bench.com.julio;
+
+import main.com.julio.service.FormatterLog;
+import main.com.julio.service.HandlerFichier;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Mesure du débit et des allocations du formatage et de l'écriture des logs.
+ * <p>
+ * Compare, sur le même enregistrement répété, l'ancien chemin (formateur
+ * créant un {@link SimpleDateFormat} par entrée, écrit par un {@link FileHandler})
+ * et le nouveau ({@link FormatterLog} à horodatage en cache, écrit en octets par
+ * {@link HandlerFichier}). Pour chaque variante sont affichés le nombre
+ * d'enregistrements par seconde et les octets alloués par enregistrement, mesurés
+ * par {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}.
+ * </p>
+ *
+ * <p><b>Exécution :</b></p>
+ * <pre>
+ * java -cp &lt;classes&gt; bench.com.julio.BenchFormatterLog [nombre d'enregistrements]
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class BenchFormatterLog {
+
+    private static final int NB_DEFAUT = 1_000_000;
+    private static final int NB_PASSES = 3;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private BenchFormatterLog() {
+    }
+
+    /**
+     * Ancien formateur, conservé pour comparaison.
+     */
+    private static final class FormatterLogAncien extends Formatter {
+        @Override
+        public String format(LogRecord record) {
+            DateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss");
+            StringBuilder result = new StringBuilder();
+            result.append(dateFormat.format(new Date()));
+            result.append(" Level : ");
+            result.append(record.getLevel());
+            result.append(" / Message : ");
+            result.append(record.getMessage());
+            result.append(" / Classe :");
+            result.append(record.getSourceClassName());
+            result.append(" / Methode :");
+            result.append(record.getSourceMethodName());
+            result.append("\n");
+            return result.toString();
+        }
+    }
+
+    /**
+     * Lance les mesures.
+     *
+     * @param args nombre d'enregistrements par passe (optionnel)
+     * @throws IOException si un fichier temporaire ne peut pas être écrit
+     */
+    public static void main(String[] args) throws IOException {
+        int nb = args.length > 0 ? Integer.parseInt(args[0]) : NB_DEFAUT;
+        LogRecord record = new LogRecord(Level.WARNING, "Validation refusée : raison sociale déjà utilisée");
+        record.setSourceClassName("main.com.julio.viewmodel.ClientViewModel");
+        record.setSourceMethodName("creerClient");
+
+        Formatter ancien = new FormatterLogAncien();
+        FormatterLog nouveau = new FormatterLog();
+        Path dossier = Files.createTempDirectory("bench-log");
+        try {
+            for (int passe = 1; passe <= NB_PASSES; passe++) {
+                System.out.println("Passe " + passe + " (" + nb + " enregistrements)");
+                mesurer("format, avant", nb, () -> ancien.format(record));
+                mesurer("format, après", nb, () -> nouveau.format(record));
+
+                FileHandler fileHandler = new FileHandler(dossier.resolve("avant.log").toString(), true);
+                fileHandler.setFormatter(ancien);
+                mesurer("fichier, avant (FileHandler)", nb, () -> fileHandler.publish(record));
+                fileHandler.close();
+
+                HandlerFichier handlerFichier = new HandlerFichier(dossier.resolve("apres.log"), nouveau);
+                mesurer("fichier, après (HandlerFichier)", nb, () -> handlerFichier.publish(record));
+                handlerFichier.close();
+            }
+        } finally {
+            try (var fichiers = Files.list(dossier)) {
+                for (Path fichier : fichiers.toList()) {
+                    Files.delete(fichier);
+                }
+            }
+            Files.delete(dossier);
+        }
+    }
+
+    private static void mesurer(String nom, int nb, Runnable operation) {
+        long thread = Thread.currentThread().getId();
+        long allouesAvant = THREADS.getThreadAllocatedBytes(thread);
+        long debut = System.nanoTime();
+        for (int i = 0; i < nb; i++) {
+            operation.run();
+        }
+        long duree = System.nanoTime() - debut;
+        long alloues = THREADS.getThreadAllocatedBytes(thread) - allouesAvant;
+        System.out.printf("  %-34s %,12.0f enr/s %,10.1f octets/enr%n",
+                nom, nb * 1e9 / duree, (double) alloues / nb);
+    }
+}
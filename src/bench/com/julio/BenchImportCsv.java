@@ -0,0 +1,102 @@
+package bench.com.julio;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.ImportCsvService;
+import main.com.julio.service.RapportImport;
+import main.com.julio.service.TypeEnregistrement;
+import main.com.julio.service.UnicityService;
+import main.com.julio.util.LecteurCsv;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Mesure du débit de l'import CSV des clients.
+ * <p>
+ * Génère un fichier de clients (dont une ligne sur cent invalide), mesure la
+ * lecture seule par {@link LecteurCsv} puis l'import complet par
+ * {@link ImportCsvService} (validation, unicité, création, insertion) dans des
+ * repositories neufs, et affiche les lignes traitées par seconde.
+ * </p>
+ *
+ * <p><b>Exécution :</b></p>
+ * <pre>
+ * java -cp &lt;classes&gt; bench.com.julio.BenchImportCsv [nombre de lignes]
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class BenchImportCsv {
+
+    private static final int NB_DEFAUT = 1_000_000;
+    private static final int NB_PASSES = 3;
+
+    private BenchImportCsv() {
+    }
+
+    /**
+     * Lance les mesures.
+     *
+     * @param args nombre de lignes du fichier (optionnel)
+     * @throws IOException si le fichier temporaire ne peut pas être écrit ou lu
+     * @throws ValidationException si les données de démonstration sont invalides
+     */
+    public static void main(String[] args) throws IOException, ValidationException {
+        int nb = args.length > 0 ? Integer.parseInt(args[0]) : NB_DEFAUT;
+        Path fichier = Files.createTempFile("bench-import", ".csv");
+        try {
+            generer(fichier, nb);
+            System.out.printf("Fichier : %,d lignes, %,d octets%n", nb, Files.size(fichier));
+            for (int passe = 1; passe <= NB_PASSES; passe++) {
+                System.out.println("Passe " + passe);
+
+                long debut = System.nanoTime();
+                long champs = 0;
+                try (LecteurCsv lecteur = new LecteurCsv(fichier, ';')) {
+                    while (lecteur.suivant()) {
+                        champs += lecteur.nbChamps();
+                    }
+                }
+                afficher("lecture (LecteurCsv)", nb, System.nanoTime() - debut);
+
+                RaisonSocialeIndex index = new RaisonSocialeIndex();
+                ClientRepository clientRepo = new ClientRepository(new ContratRepository(), index);
+                ProspectRepository prospectRepo = new ProspectRepository(index);
+                ImportCsvService importCsv = new ImportCsvService(clientRepo, prospectRepo, new ContratRepository(),
+                        new UnicityService(clientRepo, prospectRepo));
+                RapportImport rapport = importCsv.importer(fichier, TypeEnregistrement.CLIENT);
+                afficher("import (ImportCsvService)", nb, rapport.dureeNanos());
+                System.out.printf("  %,d champs lus, %,d importés, %,d rejetés%n",
+                        champs, rapport.nbImportes(), rapport.nbRejetes());
+            }
+        } finally {
+            Files.delete(fichier);
+        }
+    }
+
+    private static void generer(Path fichier, int nb) throws IOException {
+        try (BufferedWriter sortie = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            sortie.write("Raison sociale;Numéro de rue;Nom de rue;Code postal;Ville;Téléphone;Email;"
+                    + "Commentaires;Chiffre d'affaires;Nombre d'employés\n");
+            for (int i = 0; i < nb; i++) {
+                String codePostal = i % 100 == 99 ? "540" : "54000";
+                sortie.write("Société " + i + ";" + (i % 200 + 1) + ";\"rue des Lilas; bâtiment " + (i % 7)
+                        + "\";" + codePostal + ";Nancy;03 83 12 34 56;contact" + i + "@societe.fr;;"
+                        + (1_000 + i) + ";" + (i % 500 + 1) + "\n");
+            }
+        }
+    }
+
+    private static void afficher(String nom, int nb, long duree) {
+        System.out.printf("  %-26s %,12.0f lignes/s%n", nom, nb * 1e9 / duree);
+    }
+}
@@ -0,0 +1,112 @@
+package bench.com.julio;
+
+import main.com.julio.service.FormatterLog;
+import main.com.julio.service.HandlerBinaire;
+import main.com.julio.service.HandlerFichier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Mesure du débit et de la taille des logs, format texte contre format binaire.
+ * <p>
+ * Publie le même mélange d'enregistrements (messages fixes et modèles à
+ * arguments, comme ceux de la persistance) dans {@link HandlerFichier} (texte,
+ * {@link FormatterLog}) puis dans {@link HandlerBinaire}, et affiche pour chacun
+ * les nanosecondes et les octets écrits par enregistrement.
+ * </p>
+ *
+ * <p><b>Exécution :</b></p>
+ * <pre>
+ * java -cp &lt;classes&gt; bench.com.julio.BenchLogBinaire [nombre d'enregistrements]
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class BenchLogBinaire {
+
+    private static final int NB_DEFAUT = 1_000_000;
+    private static final int NB_PASSES = 3;
+
+    private BenchLogBinaire() {
+    }
+
+    /**
+     * Lance les mesures.
+     *
+     * @param args nombre d'enregistrements par passe (optionnel)
+     * @throws IOException si un fichier temporaire ne peut pas être écrit
+     */
+    public static void main(String[] args) throws IOException {
+        int nb = args.length > 0 ? Integer.parseInt(args[0]) : NB_DEFAUT;
+        List<LogRecord> records = List.of(
+                record(Level.WARNING, "Validation refusée : raison sociale déjà utilisée",
+                        "main.com.julio.viewmodel.ClientViewModel", "creerClient"),
+                record(Level.INFO, "Données chargées en {0,number,#} ms ({1,number,#} clients, "
+                                + "{2,number,#} prospects, {3,number,#} contrats)",
+                        "main.com.julio.persistence.PersistanceService", "charger", 1_234L, 500_000, 250_000, 1_000_000),
+                record(Level.WARNING, "Journal : somme de contrôle invalide à la position {0,number,#}",
+                        "main.com.julio.persistence.Journal", "rejouer", 987_654_321L),
+                record(Level.FINE, "Chargement annulé",
+                        "main.com.julio.util.ChargementAsynchrone", "done"));
+
+        Path dossier = Files.createTempDirectory("bench-log-binaire");
+        try {
+            for (int passe = 1; passe <= NB_PASSES; passe++) {
+                System.out.println("Passe " + passe + " (" + nb + " enregistrements)");
+                Path texte = dossier.resolve("texte-" + passe + ".log");
+                long duree = publier(new HandlerFichier(texte, new FormatterLog()), records, nb);
+                afficher("texte (HandlerFichier)", nb, duree, List.of(texte));
+
+                String nom = "binaire-" + passe;
+                duree = publier(new HandlerBinaire(dossier, nom, HandlerBinaire.TAILLE_FICHIER_DEFAUT,
+                        Integer.MAX_VALUE), records, nb);
+                afficher("binaire (HandlerBinaire)", nb, duree, HandlerBinaire.fichiers(dossier, nom));
+            }
+        } finally {
+            try (var fichiers = Files.list(dossier)) {
+                for (Path fichier : fichiers.toList()) {
+                    Files.delete(fichier);
+                }
+            }
+            Files.delete(dossier);
+        }
+    }
+
+    private static LogRecord record(Level niveau, String message, String classe, String methode,
+                                    Object... parametres) {
+        LogRecord record = new LogRecord(niveau, message);
+        record.setSourceClassName(classe);
+        record.setSourceMethodName(methode);
+        record.setParameters(parametres.length == 0 ? null : parametres);
+        return record;
+    }
+
+    /**
+     * Publie les enregistrements à tour de rôle puis ferme le handler ; retourne la durée en ns.
+     */
+    private static long publier(Handler handler, List<LogRecord> records, int nb) {
+        long debut = System.nanoTime();
+        for (int i = 0; i < nb; i++) {
+            handler.publish(records.get(i % records.size()));
+        }
+        handler.close();
+        return System.nanoTime() - debut;
+    }
+
+    private static void afficher(String nom, int nb, long duree, List<Path> fichiers) throws IOException {
+        long octets = 0;
+        for (Path fichier : fichiers) {
+            octets += Files.size(fichier);
+        }
+        System.out.printf("  %-26s %,8.1f ns/enr %,8.1f octets/enr%n",
+                nom, (double) duree / nb, (double) octets / nb);
+    }
+}
@@ -0,0 +1,111 @@
+package bench.com.julio;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Prospect;
+import main.com.julio.persistence.PersistanceService;
+import main.com.julio.persistence.Snapshot;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.GenerateurDonnees;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mesure du rechargement des données persistées au démarrage.
+ * <p>
+ * Génère par {@link GenerateurDonnees} (graine fixe) des clients, leurs contrats
+ * (deux par client en moyenne) et autant de prospects que de clients, soit un
+ * million d'entités environ par défaut, et les écrit comme snapshot. Chaque passe
+ * recharge ensuite le snapshot par
+ * {@link PersistanceService#charger(ClientRepository, ProspectRepository, ContratRepository)}
+ * dans des repositories neufs (index de raisons sociales, vues triées et index
+ * secondaires compris) et affiche la durée, dont le temps passé par le
+ * ramasse-miettes, et le débit, à comparer à l'objectif de deux secondes pour
+ * un million d'entités.
+ * </p>
+ *
+ * <p><b>Exécution :</b></p>
+ * <pre>
+ * java -Xmx4g -cp &lt;classes&gt; bench.com.julio.BenchRechargement [nombre de clients]
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see PersistanceService
+ */
+public final class BenchRechargement {
+
+    private static final int NB_DEFAUT = 250_000;
+    private static final int NB_PASSES = 5;
+
+    private BenchRechargement() {
+    }
+
+    /**
+     * Lance les mesures.
+     *
+     * @param args nombre de clients, et de prospects (optionnel)
+     * @throws IOException si le snapshot temporaire ne peut pas être écrit ou relu
+     * @throws ValidationException si les repositories ne peuvent pas être créés
+     */
+    public static void main(String[] args) throws IOException, ValidationException {
+        int nb = args.length > 0 ? Integer.parseInt(args[0]) : NB_DEFAUT;
+        Path dossier = Files.createTempDirectory("bench-rechargement");
+        Path snapshot = dossier.resolve(PersistanceService.FICHIER_SNAPSHOT);
+        try {
+            int nbEntites = generer(snapshot, nb);
+            System.out.printf("Snapshot : %,d entités, %,d octets%n", nbEntites, Files.size(snapshot));
+            for (int passe = 1; passe <= NB_PASSES; passe++) {
+                RaisonSocialeIndex index = new RaisonSocialeIndex();
+                ContratRepository contratRepo = new ContratRepository();
+                ClientRepository clientRepo = new ClientRepository(contratRepo, index, false);
+                ProspectRepository prospectRepo = new ProspectRepository(index, false);
+                System.gc();
+
+                long gcAvant = dureeGc();
+                long debut = System.nanoTime();
+                new PersistanceService(dossier).charger(clientRepo, prospectRepo, contratRepo);
+                long duree = System.nanoTime() - debut;
+                System.out.printf("Passe %d : %,8.0f ms (dont GC %,6d ms), %,12.0f entités/s%n",
+                        passe, duree / 1e6, dureeGc() - gcAvant, nbEntites * 1e9 / duree);
+            }
+        } finally {
+            Files.delete(snapshot);
+            Files.delete(dossier);
+        }
+    }
+
+    /**
+     * Temps cumulé passé par les ramasse-miettes depuis le démarrage, en millisecondes.
+     */
+    private static long dureeGc() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += gc.getCollectionTime();
+        }
+        return total;
+    }
+
+    private static int generer(Path snapshot, int nb) throws IOException {
+        GenerateurDonnees generateur = new GenerateurDonnees(42);
+        List<Client> clients = generateur.genererClients(nb);
+        List<Prospect> prospects = generateur.genererProspects(nb);
+        List<Contrat> contrats = new ArrayList<>();
+        for (Client client : clients) {
+            contrats.addAll(client.getContrats());
+        }
+        Snapshot.ecrire(snapshot, clients, prospects, contrats);
+        return clients.size() + prospects.size() + contrats.size();
+    }
+}
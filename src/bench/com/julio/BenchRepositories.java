@@ -0,0 +1,105 @@
+package bench.com.julio;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.GenerateurDonnees;
+import main.com.julio.service.UnicityService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Mesure des recherches des repositories et du contrôle d'unicité selon la taille des données.
+ * <p>
+ * Pour chaque taille (par défaut 1 000, 10 000, 100 000 et 1 000 000 clients,
+ * deux contrats par client en moyenne), les repositories sont peuplés par
+ * {@link GenerateurDonnees} (graine fixe) puis {@link Harnais} mesure :
+ * </p>
+ * <ul>
+ *   <li>{@link ClientRepository#findById(int)} sur un identifiant existant et absent</li>
+ *   <li>{@link ContratRepository#findByClientId(int)}</li>
+ *   <li>{@link UnicityService#isRaisonSocialDuplique(String, int)} sur une raison
+ *       sociale existante (casse différente) et nouvelle</li>
+ * </ul>
+ * <p>
+ * Les entrées sont tirées au hasard (graine fixe) dans un tableau de 4 096
+ * valeurs : les accès ne suivent pas l'ordre d'insertion.
+ * </p>
+ *
+ * <p><b>Exécution :</b></p>
+ * <pre>
+ * java -Xmx4g -cp &lt;classes&gt; bench.com.julio.BenchRepositories [taille,taille...]
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see Harnais
+ */
+public final class BenchRepositories {
+
+    private static final String TAILLES_DEFAUT = "1000,10000,100000,1000000";
+    private static final int NB_ENTREES = 4_096;
+    private static final int MASQUE = NB_ENTREES - 1;
+
+    private BenchRepositories() {
+    }
+
+    /**
+     * Lance les mesures.
+     *
+     * @param args tailles des jeux de données, séparées par des virgules (optionnel)
+     * @throws ValidationException si les repositories ne peuvent pas être initialisés
+     */
+    public static void main(String[] args) throws ValidationException {
+        Harnais harnais = new Harnais();
+        for (String taille : (args.length > 0 ? args[0] : TAILLES_DEFAUT).split(",")) {
+            mesurer(harnais, Integer.parseInt(taille.strip()));
+        }
+    }
+
+    private static void mesurer(Harnais harnais, int nb) throws ValidationException {
+        RaisonSocialeIndex index = new RaisonSocialeIndex();
+        ContratRepository contratRepo = new ContratRepository();
+        ClientRepository clientRepo = new ClientRepository(contratRepo, index, false);
+        ProspectRepository prospectRepo = new ProspectRepository(index, false);
+        UnicityService unicityService = new UnicityService(clientRepo, prospectRepo);
+        List<Client> clients = new GenerateurDonnees(42).genererClients(nb);
+        List<Contrat> contrats = new ArrayList<>();
+        for (Client client : clients) {
+            contrats.addAll(client.getContrats());
+        }
+        clientRepo.addAll(clients);
+        contratRepo.addAll(contrats);
+
+        SplittableRandom hasard = new SplittableRandom(nb);
+        int[] presents = new int[NB_ENTREES];
+        int[] absents = new int[NB_ENTREES];
+        String[] existantes = new String[NB_ENTREES];
+        String[] nouvelles = new String[NB_ENTREES];
+        for (int i = 0; i < NB_ENTREES; i++) {
+            Client client = clients.get(hasard.nextInt(nb));
+            presents[i] = client.getId();
+            absents[i] = -1 - hasard.nextInt(nb);
+            existantes[i] = client.getRaisonSociale().toUpperCase(Locale.ROOT);
+            nouvelles[i] = "Nouvelle société " + hasard.nextInt();
+        }
+
+        harnais.entete(String.format("%,d clients, %,d contrats", nb, contrats.size()));
+        harnais.mesurer("ClientRepository.findById (présent)", i -> clientRepo.findById(presents[i & MASQUE]));
+        harnais.mesurer("ClientRepository.findById (absent)", i -> clientRepo.findById(absents[i & MASQUE]));
+        harnais.mesurer("ContratRepository.findByClientId",
+                i -> contratRepo.findByClientId(presents[i & MASQUE]));
+        harnais.mesurer("UnicityService.isRaisonSocialDuplique (doublon)",
+                i -> unicityService.isRaisonSocialDuplique(existantes[i & MASQUE], -1));
+        harnais.mesurer("UnicityService.isRaisonSocialDuplique (unique)",
+                i -> unicityService.isRaisonSocialDuplique(nouvelles[i & MASQUE], -1));
+    }
+}
@@ -0,0 +1,94 @@
+package bench.com.julio;
+
+import main.com.julio.service.FormatterLog;
+import main.com.julio.service.ValidationService;
+
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Mesure de la validation des champs et du formatage des logs selon la taille du jeu d'entrées.
+ * <p>
+ * Pour chaque taille (par défaut 1 000, 10 000, 100 000 et 1 000 000 entrées),
+ * un jeu d'entrées réalistes est généré avec une graine fixe (environ une entrée
+ * invalide sur dix) puis {@link Harnais} mesure les méthodes de
+ * {@link ValidationService} et {@link FormatterLog#format(LogRecord)} en
+ * parcourant ce jeu : un grand jeu ne tient plus dans les caches du processeur.
+ * </p>
+ *
+ * <p><b>Exécution :</b></p>
+ * <pre>
+ * java -cp &lt;classes&gt; bench.com.julio.BenchServices [taille,taille...]
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see Harnais
+ */
+public final class BenchServices {
+
+    private static final String TAILLES_DEFAUT = "1000,10000,100000,1000000";
+    private static final String[] DOMAINES = {"gmail.com", "orange.fr", "societe.fr", "univ-lorraine.fr"};
+
+    private BenchServices() {
+    }
+
+    /**
+     * Lance les mesures.
+     *
+     * @param args tailles des jeux d'entrées, séparées par des virgules (optionnel)
+     */
+    public static void main(String[] args) {
+        Harnais harnais = new Harnais();
+        for (String taille : (args.length > 0 ? args[0] : TAILLES_DEFAUT).split(",")) {
+            mesurer(harnais, Integer.parseInt(taille.strip()));
+        }
+    }
+
+    private static void mesurer(Harnais harnais, int nb) {
+        SplittableRandom hasard = new SplittableRandom(nb);
+        String[] emails = new String[nb];
+        String[] telephones = new String[nb];
+        String[] codesPostaux = new String[nb];
+        String[] dates = new String[nb];
+        LogRecord[] records = new LogRecord[nb];
+        for (int i = 0; i < nb; i++) {
+            boolean invalide = hasard.nextInt(10) == 0;
+            emails[i] = "contact." + i + (invalide ? "@" : "@" + DOMAINES[hasard.nextInt(DOMAINES.length)]);
+            telephones[i] = invalide ? "03 83 12" : String.format("0%d %02d %02d %02d %02d", hasard.nextInt(1, 10),
+                    hasard.nextInt(100), hasard.nextInt(100), hasard.nextInt(100), hasard.nextInt(100));
+            codesPostaux[i] = invalide ? "540" : String.format("%05d", hasard.nextInt(1_000, 98_000));
+            dates[i] = String.format("%02d/%02d/%d", hasard.nextInt(1, invalide ? 40 : 29),
+                    hasard.nextInt(1, 13), hasard.nextInt(2000, 2026));
+            records[i] = record(i, hasard);
+        }
+        FormatterLog formatter = new FormatterLog();
+
+        harnais.entete(String.format("%,d entrées", nb));
+        harnais.mesurer("ValidationService.isValidEmail", i -> ValidationService.isValidEmail(emails[i % nb]));
+        harnais.mesurer("ValidationService.isValidTelephone",
+                i -> ValidationService.isValidTelephone(telephones[i % nb]));
+        harnais.mesurer("ValidationService.isValidCodePostal",
+                i -> ValidationService.isValidCodePostal(codesPostaux[i % nb]));
+        harnais.mesurer("ValidationService.isValidDate", i -> ValidationService.isValidDate(dates[i % nb]));
+        harnais.mesurer("FormatterLog.format", i -> formatter.format(records[i % nb]));
+    }
+
+    /**
+     * Enregistrement de log : message fixe une fois sur deux, modèle à arguments sinon.
+     */
+    private static LogRecord record(int i, SplittableRandom hasard) {
+        LogRecord record;
+        if (i % 2 == 0) {
+            record = new LogRecord(Level.WARNING, "Validation refusée : raison sociale déjà utilisée");
+        } else {
+            record = new LogRecord(Level.INFO, "Données chargées en {0,number,#} ms ({1,number,#} clients)");
+            record.setParameters(new Object[]{hasard.nextLong(1, 5_000), hasard.nextInt(1_000_000)});
+        }
+        record.setSourceClassName("main.com.julio.viewmodel.ClientViewModel");
+        record.setSourceMethodName("creerClient");
+        return record;
+    }
+}
@@ -0,0 +1,154 @@
+package bench.com.julio;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Harnais de micro-mesures partagé par les mesures de ce package.
+ * <p>
+ * Reprend les principes de JMH sans dépendance : chaque opération mesurée est
+ * d'abord exécutée pendant une phase de préchauffage (compilation JIT), puis
+ * pendant plusieurs itérations de durée fixe dont on tire le débit moyen et son
+ * écart-type. Le résultat de chaque appel est consommé par un « puits » que le
+ * compilateur ne peut pas éliminer. Sont affichés pour chaque opération :
+ * </p>
+ * <ul>
+ *   <li>le débit (opérations par seconde, moyenne ± écart-type des itérations)</li>
+ *   <li>les percentiles de latence p50, p90, p99 et p99,9, mesurés appel par
+ *       appel sur {@link #NB_ECHANTILLONS} échantillons ; le coût d'une mesure à
+ *       vide (plancher de {@link System#nanoTime()}) est affiché en en-tête</li>
+ *   <li>les octets alloués par opération, mesurés par
+ *       {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}</li>
+ * </ul>
+ * <p>
+ * Durées et nombre d'itérations sont réglables par les propriétés système
+ * {@code bench.prechauffe.ms}, {@code bench.iteration.ms} et {@code bench.iterations}.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class Harnais {
+
+    /** Nombre d'appels chronométrés individuellement pour les percentiles de latence */
+    public static final int NB_ECHANTILLONS = 200_000;
+
+    private static final long PRECHAUFFE_MS = Long.getLong("bench.prechauffe.ms", 1_000);
+    private static final long DUREE_ITERATION_MS = Long.getLong("bench.iteration.ms", 1_000);
+    private static final int NB_ITERATIONS = Integer.getInteger("bench.iterations", 5);
+
+    /** Nombre d'appels entre deux lectures de l'horloge pendant les itérations de débit */
+    private static final int TAILLE_SALVE = 256;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Opération mesurée.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * Exécute une fois l'opération.
+         *
+         * @param i numéro de l'appel (positif), pour varier les entrées (ex. {@code ids[i & masque]})
+         * @return le résultat, consommé par le harnais
+         */
+        Object executer(int i);
+    }
+
+    // Puits : un résultat identique à cet objet privé est impossible, mais le compilateur l'ignore
+    private final Object temoin = new Object();
+    private long puits;
+    private int appel;
+
+    /**
+     * Affiche l'en-tête d'un groupe de mesures et le plancher de latence.
+     *
+     * @param titre titre du groupe (opérations, taille du jeu de données...)
+     */
+    public void entete(String titre) {
+        long[] vide = new long[NB_ECHANTILLONS];
+        for (int i = 0; i < vide.length; i++) {
+            long debut = System.nanoTime();
+            vide[i] = System.nanoTime() - debut;
+        }
+        Arrays.sort(vide);
+        System.out.printf("%n%s (mesure à vide : p50 %d ns)%n", titre, vide[vide.length / 2]);
+        System.out.printf("  %-48s %25s   %8s %8s %8s %8s   %10s%n",
+                "opération", "débit (ops/s)", "p50 ns", "p90 ns", "p99 ns", "p99,9 ns", "octets/op");
+    }
+
+    /**
+     * Mesure une opération et affiche une ligne de résultats.
+     *
+     * @param nom nom de l'opération
+     * @param operation l'opération à mesurer
+     */
+    public void mesurer(String nom, Operation operation) {
+        // Préchauffage : mêmes boucles que la mesure, pour compiler les chemins mesurés
+        long fin = System.nanoTime() + PRECHAUFFE_MS * 1_000_000;
+        while (System.nanoTime() < fin) {
+            salve(operation);
+            chronometrer(operation, TAILLE_SALVE);
+        }
+
+        long thread = Thread.currentThread().getId();
+        double[] debits = new double[NB_ITERATIONS];
+        long nbOperations = 0;
+        long allouesAvant = THREADS.getThreadAllocatedBytes(thread);
+        for (int iteration = 0; iteration < NB_ITERATIONS; iteration++) {
+            long debut = System.nanoTime();
+            long limite = debut + DUREE_ITERATION_MS * 1_000_000;
+            long operations = 0;
+            long maintenant;
+            do {
+                salve(operation);
+                operations += TAILLE_SALVE;
+                maintenant = System.nanoTime();
+            } while (maintenant < limite);
+            debits[iteration] = operations * 1e9 / (maintenant - debut);
+            nbOperations += operations;
+        }
+        long alloues = THREADS.getThreadAllocatedBytes(thread) - allouesAvant;
+
+        long[] latences = chronometrer(operation, NB_ECHANTILLONS);
+        Arrays.sort(latences);
+
+        double moyenne = Arrays.stream(debits).average().orElse(0);
+        double ecartType = Math.sqrt(Arrays.stream(debits).map(d -> (d - moyenne) * (d - moyenne)).sum()
+                / Math.max(1, debits.length - 1));
+        System.out.printf("  %-48s %,12.0f ± %,10.0f   %8d %8d %8d %8d   %,10.1f%n", nom, moyenne, ecartType,
+                percentile(latences, 0.50), percentile(latences, 0.90), percentile(latences, 0.99),
+                percentile(latences, 0.999), (double) alloues / nbOperations);
+    }
+
+    private void salve(Operation operation) {
+        for (int i = 0; i < TAILLE_SALVE; i++) {
+            consommer(operation.executer(appel++ & Integer.MAX_VALUE));
+        }
+    }
+
+    private long[] chronometrer(Operation operation, int nb) {
+        long[] latences = new long[nb];
+        for (int i = 0; i < nb; i++) {
+            long debut = System.nanoTime();
+            Object resultat = operation.executer(appel++ & Integer.MAX_VALUE);
+            latences[i] = System.nanoTime() - debut;
+            consommer(resultat);
+        }
+        return latences;
+    }
+
+    private void consommer(Object resultat) {
+        if (resultat == temoin) {
+            puits++;
+        }
+    }
+
+    private static long percentile(long[] tries, double rang) {
+        return tries[Math.min(tries.length - 1, (int) Math.ceil(rang * tries.length) - 1)];
+    }
+}
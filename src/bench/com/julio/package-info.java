@@ -0,0 +1,39 @@
+/**
+ * Package contenant les mesures de performance de l'application.
+ * <p>
+ * Chaque mesure est un programme autonome ({@code main}) qui exerce un chemin
+ * critique, en comparant parfois une implémentation antérieure et l'implémentation
+ * actuelle, et affiche débit et allocations. Ces classes ne font pas partie de
+ * l'application livrée ni des tests.
+ * </p>
+ * <p>
+ * {@link bench.com.julio.Harnais} fournit le préchauffage, les itérations, les
+ * percentiles de latence et la mesure des allocations aux mesures qui suivent
+ * l'évolution des performances selon la taille des données, afin de détecter
+ * les régressions.
+ * </p>
+ *
+ * <h2>Mesures disponibles</h2>
+ * <ul>
+ *   <li>{@link bench.com.julio.BenchFormatterLog} - Formatage et écriture des logs :
+ *       enregistrements par seconde et octets alloués par enregistrement</li>
+ *   <li>{@link bench.com.julio.BenchLogBinaire} - Logs texte contre logs binaires :
+ *       nanosecondes et octets écrits par enregistrement</li>
+ *   <li>{@link bench.com.julio.BenchImportCsv} - Import CSV des clients :
+ *       lignes lues et importées par seconde</li>
+ *   <li>{@link bench.com.julio.BenchRechargement} - Rechargement d'un snapshot d'un million
+ *       d'entités au démarrage : durée, temps de ramasse-miettes et entités par seconde</li>
+ *   <li>{@link bench.com.julio.BenchExport} - Export CSV et en colonnes : lignes par
+ *       seconde, octets écrits et alloués par ligne</li>
+ *   <li>{@link bench.com.julio.BenchRepositories} - Recherches par identifiant, contrats
+ *       d'un client et unicité des raisons sociales, de 1 000 à 1 000 000 de clients générés
+ *       par {@link main.com.julio.service.GenerateurDonnees}</li>
+ *   <li>{@link bench.com.julio.BenchServices} - Validation des champs et formatage des
+ *       logs, de 1 000 à 1 000 000 d'entrées</li>
+ * </ul>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+package bench.com.julio;
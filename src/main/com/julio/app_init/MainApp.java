@@ -1,11 +1,18 @@
 package main.com.julio.app_init;
 
 import main.com.julio.exception.ValidationException;
+import main.com.julio.persistence.PersistanceService;
 import main.com.julio.repository.ClientRepository;
 import main.com.julio.repository.ContratRepository;
 import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.GenerateurDonnees;
 import main.com.julio.service.LoggingService;
+import main.com.julio.service.Metriques;
+import main.com.julio.service.PolitiqueDebordement;
 import main.com.julio.service.UnicityService;
+import main.com.julio.util.DetecteurBlocageEdt;
+import main.com.julio.util.DisplayDialog;
 import main.com.julio.view.AccueilView;
 import main.com.julio.viewmodel.ClientViewModel;
 import main.com.julio.viewmodel.ContratViewModel;
@@ -13,6 +20,9 @@ import main.com.julio.viewmodel.ProspectViewModel;
 
 import javax.swing.*;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 
 import static main.com.julio.service.LoggingService.LOGGER;
@@ -33,10 +43,13 @@ public class MainApp {
      * @throws IOException échec d'initialisation du fichier de logs
      */
     void main() throws ValidationException, IOException {
-        // Logging fichier + formatter custom
-        LoggingService.intFichierLog();
+        // Logging fichier + formatter custom (format binaire compact avec -Djulio.log.binaire=true)
+        LoggingService.intFichierLog(PolitiqueDebordement.BLOQUER, Boolean.getBoolean("julio.log.binaire"));
         LOGGER.log(Level.INFO, "Démarrage de la application");
 
+        // Signalement des accès aux repositories qui bloquent l'EDT
+        DetecteurBlocageEdt.installer(DetecteurBlocageEdt.SEUIL_DEFAUT);
+
         // Look & Feel natif (fallback + log SEVERE en cas d'échec)
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -45,23 +58,119 @@ public class MainApp {
             LOGGER.log(Level.SEVERE, e.getMessage(), e);
         }
 
-        // Repositories en mémoire (clients préchargés avec contrats)
+        // Repositories en mémoire, rechargés depuis le dossier de données s'il existe
+        // (sinon préchargés avec les données de démonstration).
+        // L'index des raisons sociales est partagé pour l'unicité clients/prospects
+        PersistanceService persistance = new PersistanceService(Path.of("data"));
+        boolean donneesDemo = !persistance.existe();
+        RaisonSocialeIndex indexRaisonSociale = new RaisonSocialeIndex();
         ContratRepository contratRepo = new ContratRepository();
-        ClientRepository clientRepo = new ClientRepository(contratRepo);
-        ProspectRepository prospectRepo = new ProspectRepository();
+        ClientRepository clientRepo = new ClientRepository(contratRepo, indexRaisonSociale, donneesDemo);
+        ProspectRepository prospectRepo = new ProspectRepository(indexRaisonSociale, donneesDemo);
+        // Jeu de données de charge en plus des données de démonstration, avec
+        // -Djulio.demo.clients=N (et -Djulio.demo.prospects=N, par défaut la moitié)
+        int nbClientsGeneres = Integer.getInteger("julio.demo.clients", 0);
+        int nbProspectsGeneres = Integer.getInteger("julio.demo.prospects", nbClientsGeneres / 2);
+        boolean jeuGenere = donneesDemo && (nbClientsGeneres > 0 || nbProspectsGeneres > 0);
+        if (!donneesDemo && (nbClientsGeneres > 0 || nbProspectsGeneres > 0)) {
+            LOGGER.log(Level.WARNING, "Jeu de données non généré : des données persistées existent déjà");
+        }
+        if (donneesDemo && !jeuGenere) {
+            persistance.attacher(clientRepo, prospectRepo, contratRepo);
+        }
+        // Fermée dans le hook d'arrêt de la journalisation, avant le log : ses erreurs sont écrites
+        LoggingService.avantArret(() -> {
+            try {
+                persistance.fermer();
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, e.getMessage(), e);
+            }
+        });
 
         // Services transverses
         UnicityService unicityService = new UnicityService(clientRepo, prospectRepo);
 
+        // Métriques : taille des repositories et mémoire, relevés exportés périodiquement dans les logs
+        // (ou dans -Djulio.metriques.fichier) toutes les -Djulio.metriques.periode secondes, 0 pour aucun export
+        Metriques.jauge("clients.nombre", clientRepo::count);
+        Metriques.jauge("prospects.nombre", prospectRepo::count);
+        Metriques.jauge("contrats.nombre", contratRepo::count);
+        Metriques.jauge("memoire.utilisee.octets",
+                () -> Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+        int periodeMetriques = Integer.getInteger("julio.metriques.periode", 60);
+        if (periodeMetriques > 0) {
+            String fichierMetriques = System.getProperty("julio.metriques.fichier");
+            Metriques.demarrerExport(Duration.ofSeconds(periodeMetriques),
+                    fichierMetriques == null ? null : Path.of(fichierMetriques));
+        }
+
         // ViewModels (injection par constructeur)
         ClientViewModel clientVM = new ClientViewModel(clientRepo, contratRepo, unicityService);
         ProspectViewModel prospectVM = new ProspectViewModel(prospectRepo, unicityService);
         ContratViewModel contratVM = new ContratViewModel(contratRepo, clientRepo);
 
-        // Lancer l'UI sur l'Event Dispatch Thread (bonne pratique Swing)
+        // Lancer l'UI sur l'Event Dispatch Thread (bonne pratique Swing).
+        // Les données persistées (depuis le snapshot projeté en mémoire) ou le jeu généré
+        // sont chargés en arrière-plan : l'accueil s'affiche sans attendre, actions désactivées.
         SwingUtilities.invokeLater(() -> {
             AccueilView accueil = new AccueilView(clientVM, prospectVM, contratVM);
             accueil.setVisible(true);
+            if (!donneesDemo) {
+                accueil.setChargementEnCours(true);
+                chargerEnArrierePlan(() -> persistance.charger(clientRepo, prospectRepo, contratRepo),
+                        persistance, clientRepo, prospectRepo, contratRepo, accueil);
+            } else if (jeuGenere) {
+                accueil.setChargementEnCours(true);
+                GenerateurDonnees generateur = new GenerateurDonnees(Long.getLong("julio.demo.graine", 1));
+                chargerEnArrierePlan(() -> generateur.peupler(clientRepo, contratRepo, prospectRepo,
+                                nbClientsGeneres, nbProspectsGeneres),
+                        persistance, clientRepo, prospectRepo, contratRepo, accueil);
+            }
         });
     }
+
+    /**
+     * Charge les données (rechargement des données persistées ou jeu généré) hors
+     * de l'EDT puis réactive l'accueil.
+     * <p>
+     * La journalisation n'est branchée qu'une fois le chargement terminé, pour
+     * ne pas journaliser le rejeu lui-même ; un jeu généré est ainsi enregistré
+     * d'un bloc dans le snapshot initial. En cas d'échec, les actions restent
+     * désactivées afin qu'aucune saisie ne soit perdue faute de journalisation.
+     * </p>
+     */
+    private static void chargerEnArrierePlan(Chargement chargement, PersistanceService persistance,
+                                             ClientRepository clientRepo,
+                                             ProspectRepository prospectRepo, ContratRepository contratRepo,
+                                             AccueilView accueil) {
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws IOException {
+                chargement.executer();
+                persistance.attacher(clientRepo, prospectRepo, contratRepo);
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    get();
+                    accueil.setChargementEnCours(false);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    LOGGER.log(Level.SEVERE, "Chargement des données impossible : " + e.getCause().getMessage(), e.getCause());
+                    DisplayDialog.messageError("Erreur", "Chargement des données impossible : " + e.getCause().getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Chargement des données exécuté en arrière-plan.
+     */
+    @FunctionalInterface
+    private interface Chargement {
+        void executer() throws IOException;
+    }
 }
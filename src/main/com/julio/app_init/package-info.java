@@ -7,6 +7,7 @@
  *   <li>Initialisation du logging (fichier, formatter, handlers)</li>
  *   <li>Initialisation du Look and Feel Swing</li>
  *   <li>Construction des repositories (données en mémoire)</li>
+ *   <li>Rechargement et journalisation des données sur disque (dossier {@code data/})</li>
  *   <li>Création des services (unicité, etc.)</li>
  *   <li>Injection des ViewModels (MVVM)</li>
  *   <li>Lancement de la vue d’accueil sur l’EDT</li>
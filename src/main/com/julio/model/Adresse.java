@@ -1,6 +1,8 @@
 package main.com.julio.model;
 
 import main.com.julio.exception.ValidationException;
+import main.com.julio.service.GenerateurIdService;
+import main.com.julio.service.GenerateurIdService.Sequence;
 import main.com.julio.service.ValidationService;
 
 /**
@@ -8,8 +10,10 @@ import main.com.julio.service.ValidationService;
  * <p>
  * Une adresse contient tous les éléments nécessaires pour identifier
  * une localisation : numéro de rue, nom de rue, code postal et ville.
- * Les identifiants des adresses sont générés automatiquement via un compteur
- * statique incrémental.
+ * Les identifiants des adresses sont tirés de la séquence
+ * {@link Sequence#ADRESSE} de {@link GenerateurIdService}, ou d'un bloc
+ * réservé à l'avance pour une création en masse
+ * ({@link GenerateurIdService#reserverBloc(Sequence, int)}).
  * </p>
  * <p>
  * Contraintes métier :
@@ -28,9 +32,6 @@ import main.com.julio.service.ValidationService;
  */
 public class Adresse {
 
-    /** Compteur statique pour générer automatiquement les identifiants des adresses */
-    private static int compteurId = 1;
-
     /** Identifiant unique de l'adresse */
     private int id;
 
@@ -49,9 +50,9 @@ public class Adresse {
     /**
      * Constructeur principal de la classe Adresse.
      * <p>
-     * Crée une nouvelle adresse avec un identifiant auto-généré et valide
-     * tous les champs selon les règles métier. Le compteur d'identifiant est
-     * automatiquement incrémenté après la création.
+     * Valide tous les champs selon les règles métier puis attribue à l'adresse
+     * le prochain identifiant de la séquence {@link Sequence#ADRESSE} : des
+     * données refusées ne consomment aucun identifiant.
      * </p>
      *
      * @param numeroRue numéro de la rue (ne peut pas être vide)
@@ -61,7 +62,24 @@ public class Adresse {
      * @throws ValidationException si une des validations échoue
      */
     public Adresse(String numeroRue, String nomRue, String codePostal, String ville) throws ValidationException {
-        this.id = compteurId++;
+        this(0, numeroRue, nomRue, codePostal, ville);
+        this.id = GenerateurIdService.prochain(Sequence.ADRESSE);
+    }
+
+    /**
+     * Constructeur avec un identifiant déjà attribué (rechargement, bloc réservé).
+     *
+     * @param id identifiant de l'adresse
+     * @param numeroRue numéro de la rue (ne peut pas être vide)
+     * @param nomRue nom de la voie (ne peut pas être vide)
+     * @param codePostal code postal à 5 chiffres (doit respecter le format)
+     * @param ville nom de la ville (ne peut pas être vide)
+     * @throws ValidationException si une des validations échoue
+     * @see GenerateurIdService.Reservation#suivant()
+     */
+    public Adresse(int id, String numeroRue, String nomRue, String codePostal, String ville)
+            throws ValidationException {
+        this.id = id;
         setNumeroRue(numeroRue);
         setNomRue(nomRue);
         setCodePostal(codePostal);
@@ -176,6 +194,6 @@ public class Adresse {
      * </p>
      */
     public static void resetCompteur() {
-        compteurId = 1;
+        GenerateurIdService.reinitialiser(Sequence.ADRESSE);
     }
 }
@@ -1,6 +1,9 @@
 package main.com.julio.model;
 
 import main.com.julio.exception.ValidationException;
+import main.com.julio.service.GenerateurIdService;
+import main.com.julio.service.GenerateurIdService.Sequence;
+import main.com.julio.service.ValidationService;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,8 +13,10 @@ import java.util.List;
  * <p>
  * Un client est une société avec des informations spécifiques telles que
  * le chiffre d'affaires, le nombre d'employés et une liste de contrats associés.
- * Les identifiants des clients sont générés automatiquement via un compteur
- * statique incrémental.
+ * Les identifiants des clients sont tirés de la séquence
+ * {@link Sequence#SOCIETE} de {@link GenerateurIdService}, partagée avec les
+ * prospects, ou d'un bloc réservé à l'avance pour une création en masse
+ * ({@link GenerateurIdService#reserverBloc(Sequence, int)}).
  * </p>
  * <p>
  * Contraintes métier :
@@ -29,9 +34,6 @@ import java.util.List;
  */
 public class Client extends Societe {
 
-    /** Compteur statique pour générer automatiquement les identifiants des clients */
-    private static int compteurId = 1;
-
     /** Chiffre d'affaires du client en euros (minimum 200) */
     private long chiffreAffaires;
 
@@ -44,9 +46,9 @@ public class Client extends Societe {
     /**
      * Constructeur principal de la classe Client.
      * <p>
-     * Crée un nouveau client avec un identifiant auto-généré et valide
-     * toutes les données métier. Le compteur d'identifiant est automatiquement
-     * incrémenté après la création.
+     * Valide toutes les données métier puis attribue au client le prochain
+     * identifiant de la séquence {@link Sequence#SOCIETE} : des données
+     * refusées ne consomment aucun identifiant.
      * </p>
      *
      * @param raisonSociale raison sociale du client (ne peut pas être vide)
@@ -61,10 +63,30 @@ public class Client extends Societe {
     public Client(String raisonSociale, Adresse adresse, String telephone,
                   String email, String commentaires, long chiffreAffaires,
                   int nbEmployes) throws ValidationException {
-        super(compteurId, raisonSociale, adresse, telephone, email, commentaires);
+        this(0, raisonSociale, adresse, telephone, email, commentaires, chiffreAffaires, nbEmployes);
+        setId(GenerateurIdService.prochain(Sequence.SOCIETE));
+    }
+
+    /**
+     * Constructeur avec un identifiant déjà attribué (rechargement, bloc réservé).
+     *
+     * @param id identifiant du client
+     * @param raisonSociale raison sociale du client (ne peut pas être vide)
+     * @param adresse adresse complète du client (ne peut pas être null)
+     * @param telephone numéro de téléphone (doit respecter le format validé)
+     * @param email adresse email (doit respecter le format validé)
+     * @param commentaires notes additionnelles (peut être null ou vide)
+     * @param chiffreAffaires chiffre d'affaires du client (doit être >= 200)
+     * @param nbEmployes nombre d'employés du client (doit être >= 1)
+     * @throws ValidationException si une des validations échoue
+     * @see GenerateurIdService.Reservation#suivant()
+     */
+    public Client(int id, String raisonSociale, Adresse adresse, String telephone,
+                  String email, String commentaires, long chiffreAffaires,
+                  int nbEmployes) throws ValidationException {
+        super(id, raisonSociale, adresse, telephone, email, commentaires);
         setChiffreAffaires(chiffreAffaires);
         setNbEmployes(nbEmployes);
-        compteurId = compteurId + 1;
         this.contrats = new ArrayList<>();
     }
 
@@ -94,7 +116,7 @@ public class Client extends Societe {
      * @throws ValidationException si le chiffre d'affaires est inférieur à 200
      */
     public void setChiffreAffaires(long chiffreAffaires) throws ValidationException {
-        if (chiffreAffaires < 200) {
+        if (!ValidationService.isValidChiffreAffaires(chiffreAffaires)) {
             throw new ValidationException("Le chiffre d'affaires doit être >= 200.");
         }
         this.chiffreAffaires = chiffreAffaires;
@@ -108,7 +130,7 @@ public class Client extends Societe {
      * @throws ValidationException si le nombre d'employés est inférieur à 1
      */
     public void setNbEmployes(int nbEmployes) throws ValidationException {
-        if (nbEmployes < 1) {
+        if (!ValidationService.isValidNbEmployes(nbEmployes)) {
             throw new ValidationException("Le nombre d'employés doit être >= 1");
         }
         this.nbEmployes = nbEmployes;
@@ -140,11 +162,13 @@ public class Client extends Societe {
     /**
      * Réinitialise le compteur d'identifiants des clients à 1.
      * <p>
-     * Cette méthode statique est généralement utilisée pour les tests.
+     * Cette méthode statique est généralement utilisée pour les tests. Clients et
+     * prospects partageant la séquence {@link Sequence#SOCIETE}, elle réinitialise
+     * aussi la numérotation des prospects.
      * </p>
      */
     public static void resetCompteur() {
-        compteurId = 1;
+        GenerateurIdService.reinitialiser(Sequence.SOCIETE);
     }
 
     /**
@@ -1,14 +1,21 @@
 package main.com.julio.model;
 
 import main.com.julio.exception.ValidationException;
+import main.com.julio.service.GenerateurIdService;
+import main.com.julio.service.GenerateurIdService.Sequence;
 import main.com.julio.service.ValidationService;
 
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+
 /**
  * Classe représentant un contrat commercial dans le système de gestion.
  * <p>
  * Un contrat est associé à un client et contient les informations essentielles
  * telles que le nom du contrat et son montant financier. Les identifiants
- * des contrats sont générés automatiquement via un compteur statique incrémental.
+ * des contrats sont tirés de la séquence {@link Sequence#CONTRAT} de
+ * {@link GenerateurIdService}, ou d'un bloc réservé à l'avance pour une
+ * création en masse ({@link GenerateurIdService#reserverBloc(Sequence, int)}).
  * </p>
  * <p>
  * Contraintes métier :
@@ -26,8 +33,8 @@ import main.com.julio.service.ValidationService;
  */
 public class Contrat {
 
-    /** Compteur statique pour générer automatiquement les identifiants des contrats */
-    private static int compteurId = 1;
+    /** Nom de la propriété notifiée lors d'un changement de client */
+    public static final String PROPRIETE_CLIENT_ID = "clientId";
 
     /** Identifiant unique du contrat */
     private int id;
@@ -41,12 +48,15 @@ public class Contrat {
     /** Montant financier du contrat en euros (doit être > 0) */
     private double montant;
 
+    /** Support de notification des changements (utilisé par les index des repositories) */
+    private final PropertyChangeSupport changements = new PropertyChangeSupport(this);
+
     /**
      * Constructeur principal de la classe Contrat.
      * <p>
-     * Crée un nouveau contrat avec un identifiant auto-généré et valide
-     * toutes les données métier. Le compteur d'identifiant est automatiquement
-     * incrémenté après la création.
+     * Valide toutes les données métier puis attribue au contrat le prochain
+     * identifiant de la séquence {@link Sequence#CONTRAT} : des données
+     * refusées ne consomment aucun identifiant.
      * </p>
      *
      * @param clientId identifiant du client propriétaire du contrat (doit être > 0)
@@ -58,7 +68,24 @@ public class Contrat {
         setClientId(clientId);
         setNomContrat(nomContrat);
         setMontant(montant);
-        this.id = compteurId++;
+        this.id = GenerateurIdService.prochain(Sequence.CONTRAT);
+    }
+
+    /**
+     * Constructeur avec un identifiant déjà attribué (rechargement, bloc réservé).
+     *
+     * @param id identifiant du contrat
+     * @param clientId identifiant du client propriétaire du contrat (doit être > 0)
+     * @param nomContrat nom ou désignation du contrat (ne peut pas être vide)
+     * @param montant montant financier du contrat en euros (doit être > 0)
+     * @throws ValidationException si une des validations échoue
+     * @see GenerateurIdService.Reservation#suivant()
+     */
+    public Contrat(int id, int clientId, String nomContrat, double montant) throws ValidationException {
+        setClientId(clientId);
+        setNomContrat(nomContrat);
+        setMontant(montant);
+        this.id = id;
     }
 
     public int getId() {
@@ -76,15 +103,19 @@ public class Contrat {
     /**
      * Modifie l'identifiant du client associé au contrat avec validation métier.
      * L'ID du client doit être strictement positif (supérieur à zéro).
+     * Les écouteurs enregistrés sont notifiés via la propriété
+     * {@link #PROPRIETE_CLIENT_ID}.
      *
      * @param clientId le nouvel identifiant du client
      * @throws ValidationException si l'ID du client est inférieur ou égal à 0
      */
     public void setClientId(int clientId) throws ValidationException {
-        if (clientId <= 0) {
+        if (!ValidationService.isValidClientId(clientId)) {
             throw new ValidationException("L'ID du client est obligatoire.");
         }
+        int ancienClientId = this.clientId;
         this.clientId = clientId;
+        changements.firePropertyChange(PROPRIETE_CLIENT_ID, ancienClientId, clientId);
     }
 
     public String getNomContrat() {
@@ -112,18 +143,38 @@ public class Contrat {
 
     /**
      * Modifie le montant du contrat avec validation métier.
-     * Le montant doit être strictement positif (supérieur à zéro).
+     * Le montant doit être strictement positif (supérieur à zéro) et ne pas
+     * dépasser {@link ValidationService#MONTANT_MAX}.
      *
      * @param montant le nouveau montant en euros
-     * @throws ValidationException si le montant est inférieur ou égal à 0
+     * @throws ValidationException si le montant est inférieur ou égal à 0, trop grand ou non numérique
      */
     public void setMontant(double montant) throws ValidationException {
-        if (montant <= 0) {
-            throw new ValidationException("Le montant doit être positif.");
+        if (!ValidationService.isValidMontant(montant)) {
+            throw new ValidationException(montant > 0 ? "Le montant ne doit pas dépasser 1 000 milliards d'euros."
+                    : "Le montant doit être positif.");
         }
         this.montant = montant;
     }
 
+    /**
+     * Enregistre un écouteur notifié lors des changements de propriétés du contrat.
+     *
+     * @param ecouteur l'écouteur à ajouter
+     */
+    public void addPropertyChangeListener(PropertyChangeListener ecouteur) {
+        changements.addPropertyChangeListener(ecouteur);
+    }
+
+    /**
+     * Retire un écouteur précédemment enregistré.
+     *
+     * @param ecouteur l'écouteur à retirer
+     */
+    public void removePropertyChangeListener(PropertyChangeListener ecouteur) {
+        changements.removePropertyChangeListener(ecouteur);
+    }
+
     /**
      * Retourne une représentation textuelle du contrat.
      * <p>
@@ -1,6 +1,8 @@
 package main.com.julio.model;
 
 import main.com.julio.exception.ValidationException;
+import main.com.julio.service.GenerateurIdService;
+import main.com.julio.service.GenerateurIdService.Sequence;
 import main.com.julio.util.DateUtils;
 
 import java.time.LocalDate;
@@ -11,8 +13,10 @@ import java.time.LocalDate;
  * Un prospect est une société potentiellement intéressée par les services
  * de l'entreprise. Cette classe gère les informations spécifiques comme
  * la date de prospection et le niveau d'intérêt manifesté.
- * Les identifiants des prospects sont générés automatiquement via un compteur
- * statique incrémental.
+ * Les identifiants des prospects sont tirés de la séquence
+ * {@link Sequence#SOCIETE} de {@link GenerateurIdService}, partagée avec les
+ * clients, ou d'un bloc réservé à l'avance pour une création en masse
+ * ({@link GenerateurIdService#reserverBloc(Sequence, int)}).
  * </p>
  * <p>
  * Contraintes métier :
@@ -30,9 +34,6 @@ import java.time.LocalDate;
  */
 public class Prospect extends Societe {
 
-    /** Compteur statique pour générer automatiquement les identifiants des prospects */
-    private static int compteurId = 1;
-
     /** Date à laquelle le prospect a été contacté ou identifié (obligatoire) */
     private LocalDate dateProspection;
 
@@ -42,9 +43,9 @@ public class Prospect extends Societe {
     /**
      * Constructeur principal de la classe Prospect.
      * <p>
-     * Crée un nouveau prospect avec un identifiant auto-généré et valide
-     * toutes les données métier. Le compteur d'identifiant est automatiquement
-     * incrémenté après la création.
+     * Valide toutes les données métier puis attribue au prospect le prochain
+     * identifiant de la séquence {@link Sequence#SOCIETE} : des données
+     * refusées ne consomment aucun identifiant.
      * </p>
      *
      * @param raisonSociale raison sociale du prospect (ne peut pas être vide)
@@ -59,10 +60,30 @@ public class Prospect extends Societe {
     public Prospect(String raisonSociale, Adresse adresse, String telephone,
                     String email, String commentaires, LocalDate dateProspection,
                     Interesse interesse) throws ValidationException {
-        super(compteurId, raisonSociale, adresse, telephone, email, commentaires);
+        this(0, raisonSociale, adresse, telephone, email, commentaires, dateProspection, interesse);
+        setId(GenerateurIdService.prochain(Sequence.SOCIETE));
+    }
+
+    /**
+     * Constructeur avec un identifiant déjà attribué (rechargement, bloc réservé).
+     *
+     * @param id identifiant du prospect
+     * @param raisonSociale raison sociale du prospect (ne peut pas être vide)
+     * @param adresse adresse complète du prospect (ne peut pas être null)
+     * @param telephone numéro de téléphone (doit respecter le format validé)
+     * @param email adresse email (doit respecter le format validé)
+     * @param commentaires notes additionnelles (peut être null ou vide)
+     * @param dateProspection date de première prospection (ne peut pas être null)
+     * @param interesse niveau d'intérêt du prospect (ne peut pas être null)
+     * @throws ValidationException si une des validations échoue
+     * @see GenerateurIdService.Reservation#suivant()
+     */
+    public Prospect(int id, String raisonSociale, Adresse adresse, String telephone,
+                    String email, String commentaires, LocalDate dateProspection,
+                    Interesse interesse) throws ValidationException {
+        super(id, raisonSociale, adresse, telephone, email, commentaires);
         setDateProspection(dateProspection);
         setInteresse(interesse);
-        compteurId++;
     }
 
     public LocalDate getDateProspection() {
@@ -139,10 +160,12 @@ public class Prospect extends Societe {
     /**
      * Réinitialise le compteur d'identifiants des prospects à 1.
      * <p>
-     * Cette méthode statique est généralement utilisée pour les tests.
+     * Cette méthode statique est généralement utilisée pour les tests. Clients et
+     * prospects partageant la séquence {@link Sequence#SOCIETE}, elle réinitialise
+     * aussi la numérotation des clients.
      * </p>
      */
     public static void resetCompteur() {
-        compteurId = 1;
+        GenerateurIdService.reinitialiser(Sequence.SOCIETE);
     }
 }
@@ -3,6 +3,9 @@ package main.com.julio.model;
 import main.com.julio.exception.ValidationException;
 import main.com.julio.service.ValidationService;
 
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+
 /**
  * Classe abstraite représentant une société dans le système de gestion.
  * Cette classe encapsule les informations communes à toutes les sociétés
@@ -14,6 +17,9 @@ import main.com.julio.service.ValidationService;
  */
 public abstract class Societe {
 
+    /** Nom de la propriété notifiée lors d'un changement de raison sociale */
+    public static final String PROPRIETE_RAISON_SOCIALE = "raisonSociale";
+
     private int id;
     private String raisonSociale;
     private Adresse adresse;
@@ -21,6 +27,9 @@ public abstract class Societe {
     private String email;
     private String commentaires;
 
+    /** Support de notification des changements (utilisé par les index des repositories) */
+    private final PropertyChangeSupport changements = new PropertyChangeSupport(this);
+
     /**
      * Constructeur principal de la classe Societe.
      * Initialise une société avec validation des données obligatoires.
@@ -78,7 +87,8 @@ public abstract class Societe {
 
     /**
      * Modifie la raison sociale de la société avec validation.
-     * La raison sociale ne peut pas être nulle ou vide.
+     * La raison sociale ne peut pas être nulle ou vide. Les écouteurs enregistrés
+     * sont notifiés via la propriété {@link #PROPRIETE_RAISON_SOCIALE}.
      *
      * @param raisonSociale la nouvelle raison sociale
      * @throws ValidationException si la raison sociale est nulle ou vide
@@ -87,7 +97,9 @@ public abstract class Societe {
         if (ValidationService.isNullOrEmpty(raisonSociale)) {
             throw new ValidationException("La raison sociale est obligatoire.");
         }
+        String ancienneRaisonSociale = this.raisonSociale;
         this.raisonSociale = raisonSociale;
+        changements.firePropertyChange(PROPRIETE_RAISON_SOCIALE, ancienneRaisonSociale, raisonSociale);
     }
 
     /**
@@ -143,6 +155,24 @@ public abstract class Societe {
         this.commentaires = commentaires;
     }
 
+    /**
+     * Enregistre un écouteur notifié lors des changements de propriétés de la société.
+     *
+     * @param ecouteur l'écouteur à ajouter
+     */
+    public void addPropertyChangeListener(PropertyChangeListener ecouteur) {
+        changements.addPropertyChangeListener(ecouteur);
+    }
+
+    /**
+     * Retire un écouteur précédemment enregistré.
+     *
+     * @param ecouteur l'écouteur à retirer
+     */
+    public void removePropertyChangeListener(PropertyChangeListener ecouteur) {
+        changements.removePropertyChangeListener(ecouteur);
+    }
+
     /**
      * Retourne le type spécifique de société.
      * Cette méthode abstraite doit être implémentée par les sous-classes
@@ -0,0 +1,190 @@
+package main.com.julio.persistence;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Interesse;
+import main.com.julio.model.Prospect;
+import main.com.julio.model.Societe;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Encodage binaire des entités du modèle.
+ * <p>
+ * Chaque entité est écrite avec l'intégralité de son état (identifiants compris),
+ * ce qui rend le rejeu du journal idempotent : le dernier enregistrement d'une
+ * entité suffit à reconstruire son état final. Les entités relues passent par
+ * leurs constructeurs et setters, donc par les mêmes validations métier que
+ * les saisies utilisateur.
+ * </p>
+ *
+ * <p><b>Format d'une société :</b></p>
+ * <pre>
+ * id, raisonSociale, adresse(id, numeroRue, nomRue, codePostal, ville),
+ * telephone, email, commentaires (nullable), champs spécifiques
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see Journal
+ * @see Snapshot
+ */
+public final class CodecEntites {
+
+    private CodecEntites() {
+    }
+
+    /**
+     * Écrit un client complet (adresse comprise).
+     *
+     * @param out flux de sortie
+     * @param client le client à écrire
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void ecrireClient(DataOutput out, Client client) throws IOException {
+        ecrireSociete(out, client);
+        out.writeLong(client.getChiffreAffaires());
+        out.writeInt(client.getNbEmployes());
+    }
+
+    /**
+     * Lit un client écrit par {@link #ecrireClient(DataOutput, Client)}.
+     *
+     * @param in flux d'entrée
+     * @return le client reconstruit, avec ses identifiants d'origine
+     * @throws IOException en cas d'erreur de lecture ou de données invalides
+     */
+    public static Client lireClient(DataInput in) throws IOException {
+        int id = in.readInt();
+        String raisonSociale = in.readUTF();
+        Adresse adresse = lireAdresse(in);
+        String telephone = in.readUTF();
+        String email = in.readUTF();
+        String commentaires = lireChaineNullable(in);
+        long chiffreAffaires = in.readLong();
+        int nbEmployes = in.readInt();
+        try {
+            return new Client(id, raisonSociale, adresse, telephone, email,
+                    commentaires, chiffreAffaires, nbEmployes);
+        } catch (ValidationException e) {
+            throw new IOException("Client " + id + " invalide : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Écrit un prospect complet (adresse comprise).
+     *
+     * @param out flux de sortie
+     * @param prospect le prospect à écrire
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void ecrireProspect(DataOutput out, Prospect prospect) throws IOException {
+        ecrireSociete(out, prospect);
+        out.writeLong(prospect.getDateProspection().toEpochDay());
+        out.writeByte(prospect.getInteresse().ordinal());
+    }
+
+    /**
+     * Lit un prospect écrit par {@link #ecrireProspect(DataOutput, Prospect)}.
+     *
+     * @param in flux d'entrée
+     * @return le prospect reconstruit, avec ses identifiants d'origine
+     * @throws IOException en cas d'erreur de lecture ou de données invalides
+     */
+    public static Prospect lireProspect(DataInput in) throws IOException {
+        int id = in.readInt();
+        String raisonSociale = in.readUTF();
+        Adresse adresse = lireAdresse(in);
+        String telephone = in.readUTF();
+        String email = in.readUTF();
+        String commentaires = lireChaineNullable(in);
+        LocalDate dateProspection = LocalDate.ofEpochDay(in.readLong());
+        Interesse interesse = Interesse.values()[in.readUnsignedByte()];
+        try {
+            return new Prospect(id, raisonSociale, adresse, telephone, email,
+                    commentaires, dateProspection, interesse);
+        } catch (ValidationException e) {
+            throw new IOException("Prospect " + id + " invalide : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Écrit un contrat.
+     *
+     * @param out flux de sortie
+     * @param contrat le contrat à écrire
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void ecrireContrat(DataOutput out, Contrat contrat) throws IOException {
+        out.writeInt(contrat.getId());
+        out.writeInt(contrat.getClientId());
+        out.writeUTF(contrat.getNomContrat());
+        out.writeDouble(contrat.getMontant());
+    }
+
+    /**
+     * Lit un contrat écrit par {@link #ecrireContrat(DataOutput, Contrat)}.
+     *
+     * @param in flux d'entrée
+     * @return le contrat reconstruit, avec son identifiant d'origine
+     * @throws IOException en cas d'erreur de lecture ou de données invalides
+     */
+    public static Contrat lireContrat(DataInput in) throws IOException {
+        int id = in.readInt();
+        int clientId = in.readInt();
+        String nomContrat = in.readUTF();
+        double montant = in.readDouble();
+        try {
+            return new Contrat(id, clientId, nomContrat, montant);
+        } catch (ValidationException e) {
+            throw new IOException("Contrat " + id + " invalide : " + e.getMessage(), e);
+        }
+    }
+
+    private static void ecrireSociete(DataOutput out, Societe societe) throws IOException {
+        out.writeInt(societe.getId());
+        out.writeUTF(societe.getRaisonSociale());
+        ecrireAdresse(out, societe.getAdresse());
+        out.writeUTF(societe.getTelephone());
+        out.writeUTF(societe.getEmail());
+        ecrireChaineNullable(out, societe.getCommentaires());
+    }
+
+    private static void ecrireAdresse(DataOutput out, Adresse adresse) throws IOException {
+        out.writeInt(adresse.getId());
+        out.writeUTF(adresse.getNumeroRue());
+        out.writeUTF(adresse.getNomRue());
+        out.writeUTF(adresse.getCodePostal());
+        out.writeUTF(adresse.getVille());
+    }
+
+    private static Adresse lireAdresse(DataInput in) throws IOException {
+        int id = in.readInt();
+        String numeroRue = in.readUTF();
+        String nomRue = in.readUTF();
+        String codePostal = in.readUTF();
+        String ville = in.readUTF();
+        try {
+            return new Adresse(id, numeroRue, nomRue, codePostal, ville);
+        } catch (ValidationException e) {
+            throw new IOException("Adresse " + id + " invalide : " + e.getMessage(), e);
+        }
+    }
+
+    private static void ecrireChaineNullable(DataOutput out, String valeur) throws IOException {
+        out.writeBoolean(valeur != null);
+        if (valeur != null) {
+            out.writeUTF(valeur);
+        }
+    }
+
+    private static String lireChaineNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
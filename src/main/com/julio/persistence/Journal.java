@@ -0,0 +1,366 @@
+package main.com.julio.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Journal binaire en ajout seul des opérations effectuées sur les repositories.
+ * <p>
+ * Chaque enregistrement décrit une opération (ajout, modification, suppression)
+ * sur une entité et contient son état complet, ce qui rend le rejeu idempotent.
+ * Un enregistrement est protégé par une somme de contrôle CRC32 : au rejeu,
+ * une fin de fichier tronquée ou corrompue (arrêt brutal pendant une écriture)
+ * est détectée et ignorée.
+ * </p>
+ *
+ * <p><b>Format d'un enregistrement :</b></p>
+ * <pre>
+ * [int longueur du corps][corps : byte opération, byte type, données][int CRC32 du corps]
+ * </pre>
+ *
+ * <p><b>Validation groupée (group commit) :</b></p>
+ * <p>
+ * {@link #enregistrer(Operation, TypeEntite, Charge)} encode l'enregistrement dans
+ * un tampon mémoire et rend la main immédiatement. Un thread d'écriture dédié
+ * vide le tampon par lots : il attend au plus {@code delaiGroupeMs} que d'autres
+ * enregistrements s'accumulent, écrit le lot puis effectue un seul
+ * {@link FileChannel#force(boolean)} pour tout le lot. {@link #synchroniser()}
+ * attend que tous les enregistrements déjà soumis soient durables.
+ * </p>
+ *
+ * <p><b>Bascule :</b></p>
+ * <p>
+ * {@link #basculer(Path)} met de côté le fichier courant, entièrement durable, et
+ * poursuit dans un fichier vide sans jamais bloquer les appelants plus longtemps
+ * qu'une synchronisation : la compaction peut ensuite écrire son snapshot en
+ * parallèle des nouvelles opérations.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see PersistanceService
+ * @see CodecEntites
+ */
+public class Journal implements Closeable {
+
+    /** Nature de l'opération journalisée */
+    public enum Operation { AJOUT, MODIFICATION, SUPPRESSION }
+
+    /** Type de l'entité concernée par l'opération */
+    public enum TypeEntite { CLIENT, PROSPECT, CONTRAT }
+
+    /**
+     * Écriture des données propres à un enregistrement.
+     */
+    @FunctionalInterface
+    public interface Charge {
+        void ecrire(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Traitement appliqué à chaque enregistrement valide lors du rejeu.
+     */
+    @FunctionalInterface
+    public interface Rejeu {
+        void appliquer(Operation operation, TypeEntite type, DataInput donnees) throws IOException;
+    }
+
+    /** Taille maximale acceptée pour un corps d'enregistrement (protection contre les longueurs corrompues) */
+    private static final int TAILLE_MAX_ENREGISTREMENT = 1 << 20;
+
+    private final Path fichier;
+    private final long delaiGroupeMs;
+    private final Thread ecrivain;
+
+    /** Verrou protégeant le tampon et les compteurs ci-dessous */
+    private final Object verrou = new Object();
+    private FileChannel canal;
+    private ByteArrayOutputStream enAttente = new ByteArrayOutputStream(64 * 1024);
+    private long sequenceSoumise;
+    private long sequenceDurable;
+    private boolean urgent;
+    private boolean ferme;
+    private IOException erreur;
+
+    /**
+     * Ouvre (ou crée) le journal en mode ajout et démarre le thread d'écriture.
+     *
+     * @param fichier chemin du fichier journal
+     * @param delaiGroupeMs délai maximal d'accumulation d'un lot avant écriture
+     * @throws IOException si le fichier ne peut pas être ouvert
+     */
+    public Journal(Path fichier, long delaiGroupeMs) throws IOException {
+        this.fichier = fichier;
+        this.canal = ouvrir(fichier);
+        this.delaiGroupeMs = delaiGroupeMs;
+        this.ecrivain = new Thread(this::boucleEcriture, "journal-ecrivain");
+        this.ecrivain.setDaemon(true);
+        this.ecrivain.start();
+    }
+
+    /**
+     * Soumet un enregistrement au journal.
+     * <p>
+     * L'enregistrement est encodé dans le thread appelant puis placé dans le lot
+     * en cours ; il sera rendu durable par le thread d'écriture.
+     * </p>
+     *
+     * @param operation nature de l'opération
+     * @param type type de l'entité
+     * @param charge écriture des données de l'enregistrement
+     * @throws IOException si l'encodage échoue ou si le journal est en erreur/fermé
+     */
+    public void enregistrer(Operation operation, TypeEntite type, Charge charge) throws IOException {
+        ByteArrayOutputStream corps = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(corps);
+        out.writeByte(operation.ordinal());
+        out.writeByte(type.ordinal());
+        charge.ecrire(out);
+        out.flush();
+
+        CRC32 crc = new CRC32();
+        crc.update(corps.toByteArray(), 0, corps.size());
+
+        synchronized (verrou) {
+            verifierEtat();
+            DataOutputStream lot = new DataOutputStream(enAttente);
+            lot.writeInt(corps.size());
+            corps.writeTo(lot);
+            lot.writeInt((int) crc.getValue());
+            sequenceSoumise++;
+            verrou.notifyAll();
+        }
+    }
+
+    /**
+     * Attend que tous les enregistrements soumis jusqu'ici soient écrits et synchronisés sur disque.
+     *
+     * @throws IOException si l'écriture a échoué
+     */
+    public void synchroniser() throws IOException {
+        synchronized (verrou) {
+            long cible = sequenceSoumise;
+            if (sequenceDurable < cible) {
+                urgent = true;
+                verrou.notifyAll();
+            }
+            while (sequenceDurable < cible && erreur == null) {
+                try {
+                    verrou.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Synchronisation du journal interrompue", e);
+                }
+            }
+            if (erreur != null) {
+                throw erreur;
+            }
+        }
+    }
+
+    /**
+     * Renomme le journal courant, une fois entièrement durable, et poursuit dans un fichier vide.
+     * <p>
+     * Tout enregistrement soumis avant l'appel se trouve dans {@code precedent},
+     * tout enregistrement soumis après dans le nouveau fichier. Un éventuel
+     * fichier {@code precedent} existant est remplacé.
+     * </p>
+     *
+     * @param precedent chemin sous lequel conserver le journal courant
+     * @throws IOException en cas d'erreur d'écriture, de renommage ou d'ouverture
+     */
+    public void basculer(Path precedent) throws IOException {
+        synchronized (verrou) {
+            // Le verrou n'est relâché que pendant l'attente : à la sortie de la boucle,
+            // le thread d'écriture n'a plus rien en cours sur l'ancien canal
+            while (sequenceDurable < sequenceSoumise && erreur == null) {
+                urgent = true;
+                verrou.notifyAll();
+                try {
+                    verrou.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Bascule du journal interrompue", e);
+                }
+            }
+            verifierEtat();
+            canal.close();
+            Files.move(fichier, precedent, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            canal = ouvrir(fichier);
+        }
+    }
+
+    /**
+     * Synchronise les enregistrements en attente, arrête le thread d'écriture et ferme le fichier.
+     *
+     * @throws IOException en cas d'erreur d'écriture ou de fermeture
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            synchroniser();
+        } finally {
+            synchronized (verrou) {
+                ferme = true;
+                verrou.notifyAll();
+            }
+            try {
+                ecrivain.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (verrou) {
+                canal.close();
+            }
+        }
+    }
+
+    /**
+     * Rejoue les enregistrements valides d'un journal.
+     * <p>
+     * La lecture s'arrête au premier enregistrement incomplet ou dont la somme de
+     * contrôle ne correspond pas ; la position retournée permet de tronquer cette
+     * fin invalide avant de rouvrir le journal en écriture.
+     * </p>
+     *
+     * @param fichier chemin du fichier journal
+     * @param rejeu traitement appliqué à chaque enregistrement valide
+     * @return la longueur en octets de la partie valide du journal
+     * @throws IOException en cas d'erreur de lecture ou si le rejeu échoue
+     */
+    public static long rejouer(Path fichier, Rejeu rejeu) throws IOException {
+        if (!Files.exists(fichier)) {
+            return 0;
+        }
+        long valide = 0;
+        try (InputStream flux = new BufferedInputStream(Files.newInputStream(fichier), 1 << 20);
+             DataInputStream in = new DataInputStream(flux)) {
+            byte[] corps = new byte[256];
+            CRC32 crc = new CRC32();
+            while (true) {
+                int longueur;
+                try {
+                    longueur = in.readInt();
+                } catch (EOFException fin) {
+                    break;
+                }
+                if (longueur < 2 || longueur > TAILLE_MAX_ENREGISTREMENT) {
+                    LOGGER.log(Level.WARNING, "Journal : longueur invalide à la position {0,number,#}", valide);
+                    break;
+                }
+                if (corps.length < longueur) {
+                    corps = new byte[Math.max(longueur, corps.length * 2)];
+                }
+                int controle;
+                try {
+                    in.readFully(corps, 0, longueur);
+                    controle = in.readInt();
+                } catch (EOFException tronque) {
+                    LOGGER.log(Level.WARNING, "Journal : enregistrement tronqué à la position {0,number,#}", valide);
+                    break;
+                }
+                crc.reset();
+                crc.update(corps, 0, longueur);
+                if ((int) crc.getValue() != controle) {
+                    LOGGER.log(Level.WARNING, "Journal : somme de contrôle invalide à la position {0,number,#}", valide);
+                    break;
+                }
+                DataInputStream donnees = new DataInputStream(new ByteArrayInputStream(corps, 2, longueur - 2));
+                rejeu.appliquer(Operation.values()[corps[0]], TypeEntite.values()[corps[1]], donnees);
+                valide += 4L + longueur + 4L;
+            }
+        }
+        return valide;
+    }
+
+    /**
+     * Boucle du thread d'écriture : accumule un lot, l'écrit et le synchronise en une fois.
+     */
+    private void boucleEcriture() {
+        while (true) {
+            byte[] lot;
+            long sequence;
+            FileChannel cible;
+            synchronized (verrou) {
+                try {
+                    while (enAttente.size() == 0 && !ferme) {
+                        verrou.wait();
+                    }
+                    // Fenêtre de regroupement : laisser d'autres enregistrements rejoindre le lot
+                    long limite = System.currentTimeMillis() + delaiGroupeMs;
+                    long reste;
+                    while (!urgent && !ferme && (reste = limite - System.currentTimeMillis()) > 0) {
+                        verrou.wait(reste);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (enAttente.size() == 0) {
+                    if (ferme) {
+                        return;
+                    }
+                    urgent = false;
+                    continue;
+                }
+                lot = enAttente.toByteArray();
+                sequence = sequenceSoumise;
+                cible = canal;
+                enAttente = new ByteArrayOutputStream(64 * 1024);
+                urgent = false;
+            }
+
+            try {
+                ByteBuffer tampon = ByteBuffer.wrap(lot);
+                while (tampon.hasRemaining()) {
+                    cible.write(tampon);
+                }
+                cible.force(false);
+                synchronized (verrou) {
+                    sequenceDurable = sequence;
+                    verrou.notifyAll();
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Écriture du journal impossible : " + e.getMessage(), e);
+                synchronized (verrou) {
+                    erreur = e;
+                    verrou.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    private static FileChannel ouvrir(Path fichier) throws IOException {
+        return FileChannel.open(fichier, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void verifierEtat() throws IOException {
+        if (erreur != null) {
+            throw erreur;
+        }
+        if (ferme) {
+            throw new IOException("Le journal est fermé");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package main.com.julio.persistence;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link DataInput} lisant un {@link ByteBuffer} (typiquement projeté en mémoire)
+ * à partir d'une position donnée.
+ * <p>
+ * Seules les lectures absolues du tampon sont utilisées : plusieurs lecteurs
+ * peuvent parcourir le même tampon sans en modifier la position.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see SnapshotMappe
+ */
+final class LecteurTampon implements DataInput {
+
+    private final ByteBuffer tampon;
+    private int position;
+
+    LecteurTampon(ByteBuffer tampon, int position) {
+        this.tampon = tampon;
+        this.position = position;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        verifierDisponible(len);
+        tampon.get(position, b, off, len);
+        position += len;
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int saut = Math.max(0, Math.min(n, tampon.limit() - position));
+        position += saut;
+        return saut;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        verifierDisponible(1);
+        return tampon.get(position++);
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        verifierDisponible(2);
+        short valeur = tampon.getShort(position);
+        position += 2;
+        return valeur;
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return (char) readShort();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        verifierDisponible(4);
+        int valeur = tampon.getInt(position);
+        position += 4;
+        return valeur;
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        verifierDisponible(8);
+        long valeur = tampon.getLong(position);
+        position += 8;
+        return valeur;
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Lit une ligne comme {@link DataInputStream#readLine()} : chaque octet est
+     * converti en caractère (sans décodage) jusqu'à {@code \n}, {@code \r} ou
+     * {@code \r\n}, exclus.
+     *
+     * @return la ligne, ou null si la fin du tampon est atteinte avant tout octet
+     */
+    @Override
+    public String readLine() {
+        int limite = tampon.limit();
+        if (position < 0 || position >= limite) {
+            return null;
+        }
+        StringBuilder ligne = new StringBuilder();
+        while (position < limite) {
+            int octet = tampon.get(position++) & 0xFF;
+            if (octet == '\n') {
+                break;
+            }
+            if (octet == '\r') {
+                if (position < limite && tampon.get(position) == '\n') {
+                    position++;
+                }
+                break;
+            }
+            ligne.append((char) octet);
+        }
+        return ligne.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    private void verifierDisponible(int n) throws EOFException {
+        if (position < 0 || n > tampon.limit() - position) {
+            throw new EOFException("Fin de tampon atteinte à la position " + position);
+        }
+    }
+}
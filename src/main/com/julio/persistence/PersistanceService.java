@@ -0,0 +1,444 @@
+package main.com.julio.persistence;
+
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Prospect;
+import main.com.julio.model.Societe;
+import main.com.julio.persistence.Journal.Operation;
+import main.com.julio.persistence.Journal.TypeEntite;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.EcouteurRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.service.GenerateurIdService;
+import main.com.julio.service.GenerateurIdService.Sequence;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Persistance durable des repositories sur disque.
+ * <p>
+ * L'état est conservé dans un dossier sous forme de trois fichiers, plus un
+ * journal précédent présent uniquement pendant une compaction :
+ * </p>
+ * <ul>
+ *   <li><b>snapshot.bin</b> - état complet compacté ({@link Snapshot})</li>
+ *   <li><b>journal.bin</b> - opérations effectuées depuis le dernier snapshot ({@link Journal})</li>
+ *   <li><b>identifiants.bin</b> - plafonds des séquences d'identifiants ({@link GenerateurIdService})</li>
+ * </ul>
+ *
+ * <p><b>Cycle de vie :</b></p>
+ * <ol>
+ *   <li>{@link #charger(ClientRepository, ProspectRepository, ContratRepository)} lit le snapshot
+ *       puis rejoue le journal dans des repositories vides</li>
+ *   <li>{@link #attacher(ClientRepository, ProspectRepository, ContratRepository)} branche un
+ *       {@link EcouteurRepository} sur chaque repository : toute modification est journalisée</li>
+ *   <li>Lorsque le journal dépasse {@link #SEUIL_COMPACTION} opérations, un nouveau snapshot
+ *       est écrit en arrière-plan ; le journal est basculé au préalable, de sorte que
+ *       les modifications ne sont jamais bloquées pendant l'écriture du snapshot</li>
+ *   <li>{@link #fermer()} compacte si nécessaire et ferme le journal</li>
+ * </ol>
+ *
+ * <p><b>Compaction :</b></p>
+ * <p>
+ * Le journal courant est renommé en <b>journal.prec.bin</b> ({@link Journal#basculer(Path)}),
+ * puis l'état des repositories est capturé sous leurs verrous de lecture et écrit
+ * comme snapshot, et enfin le journal précédent est supprimé. Les enregistrements
+ * contenant l'état complet des entités, un arrêt brutal à n'importe quelle étape
+ * se rattrape au rechargement en rejouant le journal précédent puis le courant.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see Journal
+ * @see Snapshot
+ */
+public class PersistanceService {
+
+    /** Nom du fichier de snapshot dans le dossier de données */
+    public static final String FICHIER_SNAPSHOT = "snapshot.bin";
+
+    /** Nom du fichier journal dans le dossier de données */
+    public static final String FICHIER_JOURNAL = "journal.bin";
+
+    /** Nom du journal mis de côté pendant une compaction */
+    public static final String FICHIER_JOURNAL_PRECEDENT = "journal.prec.bin";
+
+    /** Nom du fichier des plafonds d'identifiants ({@link GenerateurIdService}) */
+    public static final String FICHIER_IDENTIFIANTS = "identifiants.bin";
+
+    /** Nombre d'opérations journalisées au-delà duquel un snapshot est écrit */
+    public static final int SEUIL_COMPACTION = 100_000;
+
+    /** Fenêtre de regroupement des écritures du journal (group commit) */
+    private static final long DELAI_GROUPE_MS = 5;
+
+    private final Path dossier;
+    private final Path fichierSnapshot;
+    private final Path fichierJournal;
+    private final Path fichierJournalPrecedent;
+
+    private ClientRepository clientRepo;
+    private ProspectRepository prospectRepo;
+    private ContratRepository contratRepo;
+    private volatile Journal journal;
+    private final AtomicInteger operationsDepuisSnapshot = new AtomicInteger();
+
+    /** Vrai tant qu'une compaction déclenchée par le seuil est planifiée ou en cours */
+    private final AtomicBoolean compactionPlanifiee = new AtomicBoolean();
+
+    /** Thread unique exécutant les compactions déclenchées par le seuil */
+    private volatile ExecutorService compacteur;
+
+    /**
+     * Constructeur.
+     *
+     * @param dossier dossier contenant les fichiers de données (créé si nécessaire)
+     */
+    public PersistanceService(Path dossier) {
+        this.dossier = dossier;
+        this.fichierSnapshot = dossier.resolve(FICHIER_SNAPSHOT);
+        this.fichierJournal = dossier.resolve(FICHIER_JOURNAL);
+        this.fichierJournalPrecedent = dossier.resolve(FICHIER_JOURNAL_PRECEDENT);
+    }
+
+    /**
+     * Indique si des données ont déjà été persistées dans le dossier.
+     *
+     * @return true si un snapshot ou un journal existe
+     */
+    public boolean existe() {
+        return Files.exists(fichierSnapshot) || Files.exists(fichierJournal)
+                || Files.exists(fichierJournalPrecedent);
+    }
+
+    /**
+     * Recharge les données persistées dans des repositories vides.
+     * <p>
+     * Le snapshot est projeté en mémoire ({@link SnapshotMappe}), ses entités
+     * décodées puis chargées en masse ({@link ClientRepository#charger(java.util.Collection)} :
+     * vues triées et index construits d'un bloc), et le journal est rejoué
+     * par-dessus entité par entité (précédé du journal mis de côté par une
+     * compaction interrompue). Cette méthode
+     * peut être appelée hors de l'EDT, tant que les repositories ne sont pas
+     * consultés pendant le chargement. Une fin de journal
+     * invalide (arrêt brutal) est tronquée. Les contrats sont ensuite rattachés à
+     * leurs clients et les compteurs d'identifiants avancés au-delà des
+     * identifiants rechargés.
+     * </p>
+     *
+     * @param clientRepo repository des clients à alimenter
+     * @param prospectRepo repository des prospects à alimenter
+     * @param contratRepo repository des contrats à alimenter
+     * @throws IOException en cas d'erreur de lecture ou de données invalides
+     */
+    public void charger(ClientRepository clientRepo, ProspectRepository prospectRepo,
+                        ContratRepository contratRepo) throws IOException {
+        long debut = System.nanoTime();
+
+        if (Files.exists(fichierSnapshot)) {
+            List<Client> clients = new ArrayList<>();
+            List<Prospect> prospects = new ArrayList<>();
+            List<Contrat> contrats = new ArrayList<>();
+            Snapshot.lire(fichierSnapshot, clients::add, prospects::add, contrats::add);
+            clientRepo.charger(clients);
+            prospectRepo.charger(prospects);
+            contratRepo.charger(contrats);
+        }
+
+        Journal.Rejeu rejeu = (operation, type, donnees) -> rejouer(operation, type, donnees,
+                clientRepo, prospectRepo, contratRepo);
+        boolean compactionInterrompue = Files.exists(fichierJournalPrecedent);
+        if (compactionInterrompue) {
+            Journal.rejouer(fichierJournalPrecedent, rejeu);
+        }
+        long valide = Journal.rejouer(fichierJournal, rejeu);
+        if (Files.exists(fichierJournal) && Files.size(fichierJournal) > valide) {
+            try (FileChannel canal = FileChannel.open(fichierJournal, StandardOpenOption.WRITE)) {
+                canal.truncate(valide);
+            }
+        }
+
+        for (Contrat contrat : contratRepo.findAll()) {
+            Client client = clientRepo.findById(contrat.getClientId());
+            if (client != null) {
+                client.ajouterContrat(contrat);
+            }
+        }
+        avancerCompteurs(clientRepo, prospectRepo, contratRepo);
+
+        if (compactionInterrompue) {
+            // Achève la compaction : le snapshot couvre désormais le journal précédent
+            Snapshot.ecrire(fichierSnapshot, clientRepo.getClients(), prospectRepo.findAll(),
+                    contratRepo.findAll());
+            Files.delete(fichierJournalPrecedent);
+        }
+
+        LOGGER.log(Level.INFO, "Données chargées en {0,number,#} ms ({1,number,#} clients, "
+                        + "{2,number,#} prospects, {3,number,#} contrats)",
+                new Object[]{(System.nanoTime() - debut) / 1_000_000, clientRepo.getClients().size(),
+                        prospectRepo.findAll().size(), contratRepo.findAll().size()});
+    }
+
+    /**
+     * Ouvre le journal et journalise désormais toutes les modifications des repositories.
+     * <p>
+     * Active aussi la persistance des plafonds d'identifiants. Si aucun snapshot
+     * n'existe encore, l'état courant (par exemple les données de démonstration)
+     * est écrit comme snapshot initial.
+     * </p>
+     *
+     * @param clientRepo repository des clients à suivre
+     * @param prospectRepo repository des prospects à suivre
+     * @param contratRepo repository des contrats à suivre
+     * @throws IOException si le dossier ou le journal ne peut pas être créé
+     */
+    public synchronized void attacher(ClientRepository clientRepo, ProspectRepository prospectRepo,
+                         ContratRepository contratRepo) throws IOException {
+        Files.createDirectories(dossier);
+        GenerateurIdService.activerPersistance(dossier.resolve(FICHIER_IDENTIFIANTS));
+        this.clientRepo = clientRepo;
+        this.prospectRepo = prospectRepo;
+        this.contratRepo = contratRepo;
+        this.journal = new Journal(fichierJournal, DELAI_GROUPE_MS);
+        this.compacteur = Executors.newSingleThreadExecutor(tache -> {
+            Thread thread = new Thread(tache, "persistance-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!Files.exists(fichierSnapshot)) {
+            compacter();
+        }
+
+        clientRepo.ajouterEcouteur(new EcouteurJournal<>(TypeEntite.CLIENT) {
+            @Override
+            protected Journal.Charge encoder(Client client) {
+                return out -> CodecEntites.ecrireClient(out, client);
+            }
+        });
+        prospectRepo.ajouterEcouteur(new EcouteurJournal<>(TypeEntite.PROSPECT) {
+            @Override
+            protected Journal.Charge encoder(Prospect prospect) {
+                return out -> CodecEntites.ecrireProspect(out, prospect);
+            }
+        });
+        contratRepo.ajouterEcouteur(new EcouteurJournal<>(TypeEntite.CONTRAT) {
+            @Override
+            protected Journal.Charge encoder(Contrat contrat) {
+                return out -> CodecEntites.ecrireContrat(out, contrat);
+            }
+        });
+    }
+
+    /**
+     * Bascule le journal, écrit un snapshot de l'état courant puis supprime le journal précédent.
+     * <p>
+     * Les repositories restent modifiables pendant l'écriture du snapshot : chacun
+     * n'est verrouillé en lecture que le temps de copier ses entités.
+     * </p>
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public synchronized void compacter() throws IOException {
+        journal.basculer(fichierJournalPrecedent);
+        operationsDepuisSnapshot.set(0);
+        Snapshot.ecrire(fichierSnapshot, clientRepo.getClients(), prospectRepo.findAll(),
+                contratRepo.findAll());
+        Files.delete(fichierJournalPrecedent);
+    }
+
+    /**
+     * Attend que toutes les opérations déjà journalisées soient écrites sur disque.
+     *
+     * @throws IOException si l'écriture du journal a échoué
+     */
+    public void synchroniser() throws IOException {
+        Journal courant = journal;
+        if (courant != null) {
+            courant.synchroniser();
+        }
+    }
+
+    /**
+     * Attend la fin d'une compaction en cours, compacte les opérations en attente puis ferme le journal.
+     * <p>
+     * À appeler à l'arrêt de l'application ; sans effet si le service n'est pas attaché.
+     * </p>
+     *
+     * @throws IOException en cas d'erreur d'écriture ou de fermeture
+     */
+    public void fermer() throws IOException {
+        ExecutorService executeur = compacteur;
+        if (executeur != null) {
+            // Hors du moniteur : la compaction en cours en a besoin pour se terminer
+            compacteur = null;
+            executeur.shutdown();
+            try {
+                executeur.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (journal == null) {
+                return;
+            }
+            try {
+                if (operationsDepuisSnapshot.get() > 0) {
+                    compacter();
+                }
+            } finally {
+                journal.close();
+                journal = null;
+                GenerateurIdService.desactiverPersistance();
+            }
+        }
+    }
+
+    /**
+     * Soumet une opération au journal et planifie une compaction au-delà du seuil.
+     * <p>
+     * Appelée sous le verrou d'écriture d'un repository : elle ne doit pas prendre
+     * le moniteur du service, que la compaction détient en lisant les repositories.
+     * </p>
+     */
+    private void journaliser(Operation operation, TypeEntite type, Journal.Charge charge) {
+        Journal courant = journal;
+        if (courant == null) {
+            return;
+        }
+        try {
+            courant.enregistrer(operation, type, charge);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Journalisation impossible : " + e.getMessage(), e);
+            return;
+        }
+        if (operationsDepuisSnapshot.incrementAndGet() >= SEUIL_COMPACTION
+                && compactionPlanifiee.compareAndSet(false, true)) {
+            planifierCompaction();
+        }
+    }
+
+    /**
+     * Confie une compaction au thread dédié ; sans effet pendant la fermeture.
+     */
+    private void planifierCompaction() {
+        ExecutorService executeur = compacteur;
+        try {
+            if (executeur != null) {
+                executeur.execute(() -> {
+                    try {
+                        compacter();
+                    } catch (IOException e) {
+                        LOGGER.log(Level.SEVERE, "Compaction impossible : " + e.getMessage(), e);
+                    } finally {
+                        compactionPlanifiee.set(false);
+                    }
+                });
+                return;
+            }
+        } catch (RejectedExecutionException e) {
+            // Fermeture en cours : la compaction finale s'en charge
+        }
+        compactionPlanifiee.set(false);
+    }
+
+    /**
+     * Applique une opération relue du journal aux repositories.
+     */
+    private static void rejouer(Operation operation, TypeEntite type, DataInput donnees,
+                                ClientRepository clientRepo, ProspectRepository prospectRepo,
+                                ContratRepository contratRepo) throws IOException {
+        if (operation == Operation.SUPPRESSION) {
+            int id = donnees.readInt();
+            switch (type) {
+                case CLIENT -> clientRepo.delete(id);
+                case PROSPECT -> prospectRepo.delete(id);
+                case CONTRAT -> contratRepo.delete(id);
+            }
+            return;
+        }
+        // Un enregistrement contient l'état complet : une modification d'une entité
+        // absente (snapshot écrit entre-temps) se rejoue comme un ajout
+        switch (type) {
+            case CLIENT -> clientRepo.add(CodecEntites.lireClient(donnees));
+            case PROSPECT -> prospectRepo.add(CodecEntites.lireProspect(donnees));
+            case CONTRAT -> contratRepo.add(CodecEntites.lireContrat(donnees));
+        }
+    }
+
+    /**
+     * Avance les compteurs d'identifiants au-delà des identifiants rechargés.
+     */
+    private static void avancerCompteurs(ClientRepository clientRepo, ProspectRepository prospectRepo,
+                                         ContratRepository contratRepo) {
+        for (Client client : clientRepo.getClients()) {
+            GenerateurIdService.avancer(Sequence.SOCIETE, client.getId());
+            avancerCompteurAdresse(client);
+        }
+        for (Prospect prospect : prospectRepo.findAll()) {
+            GenerateurIdService.avancer(Sequence.SOCIETE, prospect.getId());
+            avancerCompteurAdresse(prospect);
+        }
+        for (Contrat contrat : contratRepo.findAll()) {
+            GenerateurIdService.avancer(Sequence.CONTRAT, contrat.getId());
+        }
+    }
+
+    private static void avancerCompteurAdresse(Societe societe) {
+        if (societe.getAdresse() != null) {
+            GenerateurIdService.avancer(Sequence.ADRESSE, societe.getAdresse().getId());
+        }
+    }
+
+    /**
+     * Écouteur traduisant les notifications d'un repository en enregistrements du journal.
+     *
+     * @param <T> type d'entité suivi
+     */
+    private abstract class EcouteurJournal<T> implements EcouteurRepository<T> {
+
+        private final TypeEntite type;
+
+        EcouteurJournal(TypeEntite type) {
+            this.type = type;
+        }
+
+        /**
+         * Retourne l'écriture de l'état complet de l'entité.
+         */
+        protected abstract Journal.Charge encoder(T entite);
+
+        @Override
+        public void entiteAjoutee(T entite) {
+            journaliser(Operation.AJOUT, type, encoder(entite));
+        }
+
+        @Override
+        public void entiteModifiee(T entite) {
+            journaliser(Operation.MODIFICATION, type, encoder(entite));
+        }
+
+        @Override
+        public void entiteSupprimee(int id) {
+            journaliser(Operation.SUPPRESSION, type, out -> out.writeInt(id));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package main.com.julio.persistence;
+
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Prospect;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot compacté de l'ensemble des entités.
+ * <p>
+ * Un snapshot contient l'état complet des repositories à un instant donné.
+ * Il est écrit dans un fichier temporaire, synchronisé sur disque puis renommé
+ * atomiquement, de sorte qu'un arrêt brutal laisse toujours l'ancien ou le
+ * nouveau snapshot intact. Une fois le snapshot en place, le journal peut être vidé.
+ * </p>
+ * <p>
+ * Le fichier est conçu pour être projeté en mémoire ({@link SnapshotMappe}) :
+ * une table des positions placée après l'en-tête donne l'emplacement de chaque
+ * enregistrement, ce qui permet de décoder une entité sans lire les précédentes.
+ * Les adresses sont enregistrées avec la société qui les porte.
+ * </p>
+ *
+ * <p><b>Format :</b></p>
+ * <pre>
+ * [int MAGIC][int VERSION][int nbClients][int nbProspects][int nbContrats]
+ * [int position de chaque client][int position de chaque prospect][int position de chaque contrat]
+ * [clients...][prospects...][contrats...]
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see SnapshotMappe
+ * @see Journal
+ * @see CodecEntites
+ */
+public final class Snapshot {
+
+    /** Signature du fichier ("SNAP") */
+    static final int MAGIC = 0x534E4150;
+
+    /** Version du format */
+    static final int VERSION = 2;
+
+    /** Taille de l'en-tête précédant la table des positions */
+    static final int TAILLE_EN_TETE = 20;
+
+    private Snapshot() {
+    }
+
+    /**
+     * Écrit un snapshot de manière atomique.
+     *
+     * @param fichier chemin du snapshot
+     * @param clients clients à écrire
+     * @param prospects prospects à écrire
+     * @param contrats contrats à écrire
+     * @throws IOException en cas d'erreur d'écriture ou si le snapshot dépasse 2 Gio
+     */
+    public static void ecrire(Path fichier, Collection<Client> clients,
+                              Collection<Prospect> prospects,
+                              Collection<Contrat> contrats) throws IOException {
+        Path temporaire = fichier.resolveSibling(fichier.getFileName() + ".tmp");
+        long tailleTable = 4L * ((long) clients.size() + prospects.size() + contrats.size());
+        if (TAILLE_EN_TETE + tailleTable > Integer.MAX_VALUE) {
+            throw new IOException("Trop d'entités pour un snapshot projetable");
+        }
+        int debutDonnees = TAILLE_EN_TETE + (int) tailleTable;
+        ByteBuffer entete = ByteBuffer.allocate(debutDonnees);
+        entete.putInt(MAGIC).putInt(VERSION)
+                .putInt(clients.size()).putInt(prospects.size()).putInt(contrats.size());
+
+        try (FileChannel canal = FileChannel.open(temporaire, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Les enregistrements sont écrits après la table, remplie au fil de l'eau
+            canal.position(debutDonnees);
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(canal), 1 << 20));
+            for (Client client : clients) {
+                entete.putInt(position(debutDonnees, out));
+                CodecEntites.ecrireClient(out, client);
+            }
+            for (Prospect prospect : prospects) {
+                entete.putInt(position(debutDonnees, out));
+                CodecEntites.ecrireProspect(out, prospect);
+            }
+            for (Contrat contrat : contrats) {
+                entete.putInt(position(debutDonnees, out));
+                CodecEntites.ecrireContrat(out, contrat);
+            }
+            out.flush();
+
+            entete.flip();
+            long ecrit = 0;
+            while (entete.hasRemaining()) {
+                ecrit += canal.write(entete, ecrit);
+            }
+            canal.force(true);
+        }
+        Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Lit un snapshot et transmet chaque entité aux consommateurs fournis.
+     *
+     * @param fichier chemin du snapshot
+     * @param clients consommateur des clients lus
+     * @param prospects consommateur des prospects lus
+     * @param contrats consommateur des contrats lus
+     * @throws IOException en cas d'erreur de lecture ou de format invalide
+     */
+    public static void lire(Path fichier, Consumer<Client> clients,
+                            Consumer<Prospect> prospects,
+                            Consumer<Contrat> contrats) throws IOException {
+        SnapshotMappe snapshot = SnapshotMappe.ouvrir(fichier);
+        for (int i = 0; i < snapshot.getNbClients(); i++) {
+            clients.accept(snapshot.getClient(i));
+        }
+        for (int i = 0; i < snapshot.getNbProspects(); i++) {
+            prospects.accept(snapshot.getProspect(i));
+        }
+        for (int i = 0; i < snapshot.getNbContrats(); i++) {
+            contrats.accept(snapshot.getContrat(i));
+        }
+    }
+
+    /**
+     * Position absolue du prochain octet écrit dans le fichier.
+     * {@link DataOutputStream#size()} sature à {@link Integer#MAX_VALUE}, limite
+     * qui correspond aussi à celle d'une projection en mémoire.
+     */
+    private static int position(int debutDonnees, DataOutputStream out) throws IOException {
+        long position = (long) debutDonnees + out.size();
+        if (position >= Integer.MAX_VALUE) {
+            throw new IOException("Snapshot trop volumineux pour être projeté");
+        }
+        return (int) position;
+    }
+}
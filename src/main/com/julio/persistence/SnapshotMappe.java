@@ -0,0 +1,125 @@
+package main.com.julio.persistence;
+
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Prospect;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Snapshot projeté en mémoire et décodé à la demande.
+ * <p>
+ * L'ouverture se limite à projeter le fichier via {@link FileChannel#map} et à
+ * vérifier son en-tête : aucune entité n'est décodée. La table des positions
+ * écrite par {@link Snapshot#ecrire} permet d'accéder directement au i-ème
+ * enregistrement de chaque section. Chaque accès décode l'enregistrement et
+ * retourne une nouvelle entité, sans rien conserver : c'est à l'appelant de
+ * garder les entités dont il a besoin (le chargement les remet aux repositories).
+ * </p>
+ * <p>
+ * Seules des lectures absolues du tampon sont effectuées : une instance peut
+ * être lue par plusieurs threads.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see Snapshot
+ * @see LecteurTampon
+ */
+public final class SnapshotMappe {
+
+    private final MappedByteBuffer tampon;
+    private final int nbClients;
+    private final int nbProspects;
+    private final int nbContrats;
+
+    private SnapshotMappe(MappedByteBuffer tampon) throws IOException {
+        this.tampon = tampon;
+        if (tampon.limit() < Snapshot.TAILLE_EN_TETE
+                || tampon.getInt(0) != Snapshot.MAGIC || tampon.getInt(4) != Snapshot.VERSION) {
+            throw new IOException("Format de snapshot inconnu");
+        }
+        this.nbClients = tampon.getInt(8);
+        this.nbProspects = tampon.getInt(12);
+        this.nbContrats = tampon.getInt(16);
+        long finTable = Snapshot.TAILLE_EN_TETE + 4L * ((long) nbClients + nbProspects + nbContrats);
+        if (nbClients < 0 || nbProspects < 0 || nbContrats < 0 || finTable > tampon.limit()) {
+            throw new IOException("Table des positions du snapshot invalide");
+        }
+    }
+
+    /**
+     * Projette un snapshot en mémoire sans décoder ses entités.
+     *
+     * @param fichier chemin du snapshot
+     * @return le snapshot projeté
+     * @throws IOException si le fichier ne peut pas être projeté ou si son format est invalide
+     */
+    public static SnapshotMappe ouvrir(Path fichier) throws IOException {
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            long taille = canal.size();
+            if (taille > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot trop volumineux pour être projeté : " + taille + " octets");
+            }
+            // La projection reste valide après la fermeture du canal
+            return new SnapshotMappe(canal.map(FileChannel.MapMode.READ_ONLY, 0, taille));
+        }
+    }
+
+    public int getNbClients() {
+        return nbClients;
+    }
+
+    public int getNbProspects() {
+        return nbProspects;
+    }
+
+    public int getNbContrats() {
+        return nbContrats;
+    }
+
+    /**
+     * Décode le i-ème client du snapshot.
+     *
+     * @param i rang du client (0 ≤ i &lt; {@link #getNbClients()})
+     * @return un nouveau client, à chaque appel
+     * @throws IOException si l'enregistrement est invalide
+     */
+    public Client getClient(int i) throws IOException {
+        return CodecEntites.lireClient(lecteur(i));
+    }
+
+    /**
+     * Décode le i-ème prospect du snapshot.
+     *
+     * @param i rang du prospect (0 ≤ i &lt; {@link #getNbProspects()})
+     * @return un nouveau prospect, à chaque appel
+     * @throws IOException si l'enregistrement est invalide
+     */
+    public Prospect getProspect(int i) throws IOException {
+        return CodecEntites.lireProspect(lecteur(nbClients + i));
+    }
+
+    /**
+     * Décode le i-ème contrat du snapshot.
+     *
+     * @param i rang du contrat (0 ≤ i &lt; {@link #getNbContrats()})
+     * @return un nouveau contrat, à chaque appel
+     * @throws IOException si l'enregistrement est invalide
+     */
+    public Contrat getContrat(int i) throws IOException {
+        return CodecEntites.lireContrat(lecteur(nbClients + nbProspects + i));
+    }
+
+    /**
+     * Positionne un lecteur sur l'enregistrement de rang global donné.
+     */
+    private LecteurTampon lecteur(int rangGlobal) {
+        return new LecteurTampon(tampon, tampon.getInt(Snapshot.TAILLE_EN_TETE + 4 * rangGlobal));
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Package contenant la persistance durable des données sur disque.
+ * <p>
+ * Ce package conserve l'état des repositories entre deux lancements de
+ * l'application à l'aide d'un journal binaire en ajout seul et de snapshots
+ * compactés périodiquement.
+ * </p>
+ *
+ * <h2>Classes disponibles</h2>
+ * <ul>
+ *   <li>{@link main.com.julio.persistence.PersistanceService} - Chargement au démarrage,
+ *       journalisation des modifications et compaction</li>
+ *   <li>{@link main.com.julio.persistence.Journal} - Journal des opérations avec
+ *       sommes de contrôle et synchronisation disque groupée</li>
+ *   <li>{@link main.com.julio.persistence.Snapshot} - État complet écrit de manière atomique,
+ *       avec une table des positions de chaque enregistrement</li>
+ *   <li>{@link main.com.julio.persistence.SnapshotMappe} - Snapshot projeté en mémoire
+ *       ({@code FileChannel.map}) dont les entités sont décodées à la demande</li>
+ *   <li>{@link main.com.julio.persistence.CodecEntites} - Encodage binaire des entités</li>
+ * </ul>
+ *
+ * <h2>Reprise après arrêt brutal</h2>
+ * <ul>
+ *   <li>Le snapshot est remplacé par renommage atomique : l'ancien reste valide tant que le nouveau n'est pas complet</li>
+ *   <li>Une fin de journal tronquée ou corrompue est détectée par sa somme de contrôle et ignorée</li>
+ *   <li>Chaque enregistrement contient l'état complet de l'entité : rejouer deux fois une opération est sans effet</li>
+ * </ul>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see main.com.julio.repository
+ */
+package main.com.julio.persistence;
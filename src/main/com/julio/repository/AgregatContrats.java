@@ -0,0 +1,104 @@
+package main.com.julio.repository;
+
+import main.com.julio.model.Contrat;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Agrégats des contrats d'un client : nombre, montant total et plus gros montant.
+ * <p>
+ * Maintenus par {@link ContratRepository} à chaque ajout, mise à jour et
+ * suppression, ils se lisent en temps constant, sans parcourir les contrats :
+ * la liste des clients peut ainsi afficher et trier le total des contrats.
+ * </p>
+ * <p>
+ * Les montants sont cumulés en centimes exacts ({@code long}) : chaque montant
+ * est arrondi au centime une fois, à partir de son écriture décimale, et les
+ * sommes ne subissent pas les erreurs d'arrondi d'une addition de {@code double}.
+ * </p>
+ *
+ * @param clientId identifiant du client
+ * @param nombre nombre de contrats du client
+ * @param totalCentimes somme des montants, en centimes
+ * @param maxCentimes plus gros montant, en centimes (0 sans contrat)
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ContratRepository#agregat(int)
+ */
+public record AgregatContrats(int clientId, int nombre, long totalCentimes, long maxCentimes) {
+
+    /**
+     * Agrégats d'un client sans contrat.
+     *
+     * @param clientId identifiant du client
+     * @return agrégats nuls
+     */
+    public static AgregatContrats vide(int clientId) {
+        return new AgregatContrats(clientId, 0, 0, 0);
+    }
+
+    /**
+     * Calcule les agrégats d'une liste de contrats d'un même client.
+     *
+     * @param clientId identifiant du client
+     * @param contrats contrats du client
+     * @return les agrégats
+     */
+    static AgregatContrats de(int clientId, List<Contrat> contrats) {
+        AgregatContrats agregat = vide(clientId);
+        for (Contrat contrat : contrats) {
+            agregat = agregat.avec(contrat);
+        }
+        return agregat;
+    }
+
+    /**
+     * Ajoute un contrat aux agrégats.
+     *
+     * @param contrat le contrat ajouté
+     * @return les nouveaux agrégats
+     * @throws ArithmeticException si le total dépasse la capacité d'un {@code long}
+     */
+    AgregatContrats avec(Contrat contrat) {
+        long montant = centimes(contrat.getMontant());
+        return new AgregatContrats(clientId, nombre + 1, Math.addExact(totalCentimes, montant),
+                Math.max(maxCentimes, montant));
+    }
+
+    /**
+     * Retourne le montant total des contrats, en euros.
+     *
+     * @return le total, avec deux décimales
+     */
+    public BigDecimal total() {
+        return BigDecimal.valueOf(totalCentimes, 2);
+    }
+
+    /**
+     * Retourne le plus gros montant de contrat, en euros.
+     *
+     * @return le plus gros montant, avec deux décimales
+     */
+    public BigDecimal montantMax() {
+        return BigDecimal.valueOf(maxCentimes, 2);
+    }
+
+    /**
+     * Convertit un montant en centimes, arrondi au plus proche.
+     * <p>
+     * L'arrondi part de l'écriture décimale la plus courte du {@code double}
+     * ({@link BigDecimal#valueOf(double)}) : 1,005 € donne 101 centimes, là où
+     * {@code Math.round(1.005 * 100)} donnerait 100.
+     * </p>
+     *
+     * @param montant montant en euros, fini (garanti par
+     *                {@link main.com.julio.service.ValidationService#isValidMontant(double)})
+     * @return montant en centimes
+     */
+    static long centimes(double montant) {
+        return BigDecimal.valueOf(montant).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
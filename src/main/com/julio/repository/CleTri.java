@@ -0,0 +1,36 @@
+package main.com.julio.repository;
+
+/**
+ * Clé de tri pré-calculée d'une ligne de liste de sociétés.
+ * <p>
+ * Calculée une seule fois par ligne (voir {@link TriSocietes#cle(main.com.julio.model.Societe)}),
+ * elle se compare sans appel aux accesseurs, sans formatage ni boxing :
+ * d'abord la partie numérique, puis la partie textuelle, enfin l'identifiant
+ * qui départage les égalités et rend l'ordre total.
+ * </p>
+ *
+ * @param nombre partie numérique (0 pour un tri textuel)
+ * @param texte partie textuelle (vide pour un tri numérique, jamais null)
+ * @param id identifiant de la société
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public record CleTri(long nombre, String texte, int id) implements Comparable<CleTri> {
+
+    /**
+     * Constructeur remplaçant un texte null par une chaîne vide.
+     */
+    public CleTri {
+        texte = texte == null ? "" : texte;
+    }
+
+    @Override
+    public int compareTo(CleTri autre) {
+        int cmp = Long.compare(nombre, autre.nombre);
+        if (cmp == 0) {
+            cmp = texte.compareTo(autre.texte);
+        }
+        return cmp != 0 ? cmp : Integer.compare(id, autre.id);
+    }
+}
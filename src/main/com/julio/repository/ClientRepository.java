@@ -4,11 +4,16 @@ import main.com.julio.exception.ValidationException;
 import main.com.julio.model.Adresse;
 import main.com.julio.model.Client;
 import main.com.julio.model.Contrat;
+import main.com.julio.service.HistogrammeLatence;
+import main.com.julio.service.Metriques;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntToLongFunction;
 
 /**
  * Repository gérant la persistance et l'accès aux données des clients.
@@ -23,6 +28,12 @@ import java.util.Optional;
  * lors de sa création pour faciliter les tests et la démonstration de
  * l'application.
  * </p>
+ * <p>
+ * Le repository peut être utilisé depuis plusieurs threads (EDT, imports en
+ * arrière-plan) : un {@link ReentrantReadWriteLock} laisse les lectures
+ * s'exécuter en parallèle et sérialise les modifications. Les écouteurs sont
+ * notifiés sous le verrou d'écriture, dans l'ordre des modifications.
+ * </p>
  *
  * @author Julio FERMIN
  * @version 1.0
@@ -32,26 +43,62 @@ import java.util.Optional;
  */
 public class ClientRepository {
 
+    private static final HistogrammeLatence LATENCE_FIND_BY_ID = Metriques.histogramme("clientRepository.findById");
+    private static final HistogrammeLatence LATENCE_RECHERCHER =
+            Metriques.histogramme("clientRepository.rechercher");
+
     /**
-     * Collection en mémoire contenant tous les clients
+     * Index en mémoire des clients par identifiant.
+     * <p>
+     * Le {@link RegistreParIdentifiant} conserve l'ordre d'insertion tout en
+     * offrant des recherches, mises à jour et suppressions en temps constant,
+     * sans boxer les identifiants.
+     * </p>
      */
-    private List<Client> clients;
+    private final RegistreParIdentifiant<Client> clients;
 
     /**
      * Référence vers le repository des contrats pour gérer les associations
      */
     private final ContratRepository contratRepo;
 
+    /**
+     * Index des raisons sociales, éventuellement partagé avec {@link ProspectRepository}
+     */
+    private final RaisonSocialeIndex indexRaisonSociale;
+
+    /**
+     * Verrou lecteurs/écrivain protégeant l'index, la vue triée et les notifications
+     */
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    /**
+     * Vue triée par raison sociale maintenue à chaque modification
+     */
+    private final VueTriee<Client> vueTriee = new VueTriee<>(verrou.writeLock());
+
+    /**
+     * Index secondaires (raison sociale, ville, code postal, domaine email, chiffre d'affaires) du filtrage
+     */
+    private final IndexSocietes<Client> indexSocietes = new IndexSocietes<>(verrou.writeLock(), true);
+
+    /**
+     * Écouteurs notifiés après chaque modification du repository
+     */
+    private final List<EcouteurRepository<Client>> ecouteurs = new CopyOnWriteArrayList<>();
+
     /**
      * Comparateur statique pour trier les clients par raison sociale.
      * <p>
-     * Utilise {@link Optional#ofNullable} pour gérer les raisons sociales nulles
-     * en les traitant comme des chaînes vides, garantissant ainsi un tri stable
-     * sans risque de {@link NullPointerException}.
+     * Les raisons sociales nulles sont placées en tête via
+     * {@link Comparator#nullsFirst(Comparator)}, sans allocation par comparaison ;
+     * l'identifiant départage les raisons sociales identiques. C'est l'ordre
+     * maintenu par la vue triée du repository.
      * </p>
      */
     public static final Comparator<Client> BY_RAISON_SOCIALE =
-            Comparator.comparing((Client c) -> Optional.ofNullable(c.getRaisonSociale()).orElse(""));
+            Comparator.comparing(Client::getRaisonSociale, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                    .thenComparingInt(Client::getId);
 
     /**
      * Constructeur initialisant le repository avec des données de démonstration.
@@ -65,47 +112,220 @@ public class ClientRepository {
      * @throws ValidationException si les données de démonstration ne respectent pas les règles de validation
      */
     public ClientRepository(ContratRepository contratRepo) throws ValidationException {
-        this.clients = new ArrayList<>();
+        this(contratRepo, new RaisonSocialeIndex());
+    }
+
+    /**
+     * Constructeur initialisant le repository avec un index de raisons sociales fourni.
+     * <p>
+     * Partager le même index avec {@link ProspectRepository} permet à
+     * {@link main.com.julio.service.UnicityService} de vérifier l'unicité
+     * des raisons sociales à travers clients et prospects en une seule recherche.
+     * </p>
+     *
+     * @param contratRepo repository des contrats pour gérer les associations
+     * @param indexRaisonSociale index des raisons sociales à alimenter
+     * @throws ValidationException si les données de démonstration ne respectent pas les règles de validation
+     */
+    public ClientRepository(ContratRepository contratRepo, RaisonSocialeIndex indexRaisonSociale)
+            throws ValidationException {
+        this(contratRepo, indexRaisonSociale, true);
+    }
+
+    /**
+     * Constructeur permettant de choisir le chargement des données de démonstration.
+     * <p>
+     * Un repository créé sans données de démonstration est destiné à être
+     * alimenté depuis la persistance ({@link main.com.julio.persistence.PersistanceService}).
+     * </p>
+     *
+     * @param contratRepo repository des contrats pour gérer les associations
+     * @param indexRaisonSociale index des raisons sociales à alimenter
+     * @param donneesDemo true pour charger les données de démonstration
+     * @throws ValidationException si les données de démonstration ne respectent pas les règles de validation
+     */
+    public ClientRepository(ContratRepository contratRepo, RaisonSocialeIndex indexRaisonSociale,
+                            boolean donneesDemo) throws ValidationException {
+        this.clients = new RegistreParIdentifiant<>();
         this.contratRepo = contratRepo;
-        initialiserDonneesDemo();
+        this.indexRaisonSociale = indexRaisonSociale;
+        if (donneesDemo) {
+            initialiserDonneesDemo();
+        }
+    }
+
+    public RaisonSocialeIndex getIndexRaisonSociale() {
+        return indexRaisonSociale;
+    }
+
+    /**
+     * Enregistre un écouteur notifié après chaque ajout, mise à jour ou suppression.
+     *
+     * @param ecouteur l'écouteur à ajouter
+     */
+    public void ajouterEcouteur(EcouteurRepository<Client> ecouteur) {
+        ecouteurs.add(ecouteur);
+    }
+
+    /**
+     * Retire un écouteur précédemment enregistré.
+     *
+     * @param ecouteur l'écouteur à retirer
+     */
+    public void retirerEcouteur(EcouteurRepository<Client> ecouteur) {
+        ecouteurs.remove(ecouteur);
     }
 
+    /**
+     * Retourne les clients dans leur ordre d'insertion.
+     *
+     * @return une nouvelle liste contenant tous les clients
+     */
     public List<Client> getClients() {
-        return clients;
+        verrou.readLock().lock();
+        try {
+            return clients.valeurs();
+        } finally {
+            verrou.readLock().unlock();
+        }
     }
 
+    /**
+     * Remplace le contenu du repository par la liste fournie.
+     * <p>
+     * L'index par identifiant est reconstruit en respectant l'ordre de la liste.
+     * </p>
+     *
+     * @param clients les nouveaux clients
+     */
     public void setClients(List<Client> clients) {
-        this.clients = clients;
+        verrou.writeLock().lock();
+        try {
+            List<Client> anciens = this.clients.valeurs();
+            for (Client existant : anciens) {
+                indexRaisonSociale.retirer(existant);
+            }
+            vueTriee.vider();
+            indexSocietes.vider();
+            this.clients.clear();
+            for (Client existant : anciens) {
+                ecouteurs.forEach(e -> e.entiteSupprimee(existant.getId()));
+            }
+            for (Client client : clients) {
+                add(client);
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
     }
 
     /**
      * Ajoute un nouveau client au repository.
      * <p>
-     * Le client est ajouté à la fin de la collection.
+     * Le client est indexé par son identifiant et placé à la fin de l'ordre d'insertion.
      * </p>
      *
      * @param client le client à ajouter (ne devrait pas être null)
      */
     public void add(Client client) {
-        this.clients.add(client);
+        verrou.writeLock().lock();
+        try {
+            Client existant = this.clients.put(client.getId(), client);
+            if (existant != null) {
+                indexRaisonSociale.retirer(existant);
+                vueTriee.retirer(existant);
+                indexSocietes.retirer(existant);
+            }
+            indexRaisonSociale.ajouter(client);
+            vueTriee.ajouter(client);
+            indexSocietes.ajouter(client);
+            ecouteurs.forEach(e -> e.entiteAjoutee(client));
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ajoute un lot de clients sous une seule prise du verrou d'écriture.
+     * <p>
+     * Équivaut à {@link #add(Client)} pour chaque client, dans l'ordre, mais une
+     * lecture concurrente n'observe jamais un lot partiellement ajouté et le
+     * verrou n'est pris qu'une fois (imports en masse).
+     * </p>
+     *
+     * @param clients les clients à ajouter
+     */
+    public void addAll(Collection<Client> clients) {
+        verrou.writeLock().lock();
+        try {
+            for (Client client : clients) {
+                add(client);
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Alimente en masse un repository vide (rechargement des données persistées).
+     * <p>
+     * Équivaut à {@link #addAll(Collection)}, mais la vue triée et les index
+     * secondaires sont construits d'un bloc : les clients sont triés une fois par
+     * vue au lieu d'être insérés un à un. Sur un repository non vide, délègue
+     * à {@link #addAll(Collection)}.
+     * </p>
+     *
+     * @param clients les clients à ajouter
+     */
+    public void charger(Collection<Client> clients) {
+        verrou.writeLock().lock();
+        try {
+            if (this.clients.size() > 0) {
+                addAll(clients);
+                return;
+            }
+            for (Client client : clients) {
+                this.clients.put(client.getId(), client);
+            }
+            // Un identifiant répété ne garde que sa dernière instance, comme add
+            List<Client> charges = this.clients.valeurs();
+            indexRaisonSociale.ajouterTous(charges);
+            vueTriee.charger(charges);
+            indexSocietes.charger(charges);
+            for (Client client : charges) {
+                ecouteurs.forEach(e -> e.entiteAjoutee(client));
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
     }
 
     /**
      * Met à jour un client existant dans le repository.
      * <p>
-     * Recherche le client par son identifiant et remplace l'ancienne instance
-     * par la nouvelle. Les contrats associés ne sont pas automatiquement
-     * mis à jour (gestion séparée via {@link ContratRepository}).
+     * Remplace l'ancienne instance par la nouvelle en temps constant, sans
+     * modifier l'ordre d'insertion. Un client inconnu est ignoré. Les contrats
+     * associés ne sont pas automatiquement mis à jour (gestion séparée via
+     * {@link ContratRepository}).
      * </p>
      *
      * @param client le client avec les nouvelles données (doit avoir un ID valide)
      */
     public void update(Client client) {
-        for (int i = 0; i < this.clients.size(); i++) {
-            if (this.clients.get(i).getId() == client.getId()) {
-                this.clients.set(i, client);
-                return;
+        verrou.writeLock().lock();
+        try {
+            Client existant = this.clients.replace(client.getId(), client);
+            if (existant != null) {
+                indexRaisonSociale.retirer(existant);
+                indexRaisonSociale.ajouter(client);
+                vueTriee.retirer(existant);
+                indexSocietes.retirer(existant);
+                vueTriee.ajouter(client);
+                indexSocietes.ajouter(client);
+                ecouteurs.forEach(e -> e.entiteModifiee(client));
             }
+        } finally {
+            verrou.writeLock().unlock();
         }
     }
 
@@ -134,48 +354,166 @@ public class ClientRepository {
      * @see Client#supprimerContrat (Contrat)
      */
     public boolean delete(int id) {
-        Client existing = findById(id);
+        verrou.writeLock().lock();
+        try {
+            Client existing = clients.get(id);
+            if (existing == null) {
+                return false;
+            }
 
-        // Nettoyage de la liste des contrats dans l'objet Client
-        for (Contrat ct : new ArrayList<>(existing.getContrats())) {
-            existing.supprimerContrat(ct);
-        }
+            // Nettoyage de la liste des contrats dans l'objet Client
+            for (Contrat ct : new ArrayList<>(existing.getContrats())) {
+                existing.supprimerContrat(ct);
+            }
 
-        // Suppression du client
-        return clients.removeIf(client -> client.getId() == id);
+            // Suppression du client
+            indexRaisonSociale.retirer(existing);
+            vueTriee.retirer(existing);
+            indexSocietes.retirer(existing);
+            clients.remove(id);
+            ecouteurs.forEach(e -> e.entiteSupprimee(id));
+            return true;
+        } finally {
+            verrou.writeLock().unlock();
+        }
     }
 
 
     /**
      * Recherche un client par son identifiant.
      * <p>
-     * Utilise les Streams Java 8 pour rechercher efficacement le client.
+     * Accès direct à l'index par identifiant, en temps constant.
      * </p>
      *
      * @param id identifiant du client recherché
      * @return le client trouvé ou null si aucun client ne correspond
      */
     public Client findById(int id) {
-        return clients.stream()
-                .filter(client -> client.getId() == id)
-                .findFirst()
-                .orElse(null);
+        long debut = System.nanoTime();
+        verrou.readLock().lock();
+        try {
+            return clients.get(id);
+        } finally {
+            verrou.readLock().unlock();
+            LATENCE_FIND_BY_ID.enregistrerDepuis(debut);
+        }
     }
 
     /**
      * Retourne tous les clients triés alphabétiquement par raison sociale.
      * <p>
-     * Le tri est insensible à la casse (compareToIgnoreCase) pour garantir
-     * un ordre cohérent indépendamment de la saisie utilisateur.
-     * Retourne une nouvelle liste pour éviter les modifications non contrôlées.
+     * L'ordre est maintenu incrémentalement par une vue triée (voir
+     * {@link #BY_RAISON_SOCIALE}) : aucun tri n'est effectué à l'appel.
+     * La liste retournée est une version figée non modifiable, partagée entre
+     * les appelants jusqu'à la prochaine modification du repository et
+     * inchangée par les modifications ultérieures.
      * </p>
      *
-     * @return liste de tous les clients triés par raison sociale (A-Z)
+     * @return liste non modifiable de tous les clients triés par raison sociale (A-Z)
      */
     public List<Client> findAll() {
-        List<Client> copy = new ArrayList<>(clients);
-        copy.sort(BY_RAISON_SOCIALE);
-        return copy;
+        verrou.readLock().lock();
+        try {
+            return vueTriee.liste();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retourne le nombre de clients, en temps constant.
+     *
+     * @return nombre de clients du repository
+     */
+    public int count() {
+        verrou.readLock().lock();
+        try {
+            return clients.size();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recherche les clients dont la raison sociale commence par un préfixe.
+     * <p>
+     * La recherche est insensible à la casse et s'appuie sur l'index de préfixes :
+     * seuls les {@code max} premiers résultats sont parcourus et retournés, quel
+     * que soit le nombre de clients. Adaptée à la saisie incrémentale.
+     * </p>
+     *
+     * @param prefixe début de la raison sociale (vide pour les premiers clients)
+     * @param max nombre maximal de résultats
+     * @return nouvelle liste d'au plus {@code max} clients, par raison sociale pliée puis identifiant
+     */
+    public List<Client> rechercherParPrefixe(String prefixe, int max) {
+        verrou.readLock().lock();
+        try {
+            return indexSocietes.prefixes(prefixe, max);
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recherche les clients satisfaisant un filtre, triés selon un critère.
+     * <p>
+     * Seule la collecte des candidats s'effectue sous le verrou de lecture : ils
+     * proviennent de l'index secondaire le plus sélectif du filtre, ou de la
+     * version figée de la vue triée si le filtre est vide ; pour le tri par total
+     * des contrats, les agrégats de {@link ContratRepository} sont figés au même
+     * instant. Le filtrage et le tri sur clés pré-calculées ont lieu ensuite,
+     * sans verrou. Destinée à être appelée hors EDT ; abandonnée si le thread
+     * est interrompu.
+     * </p>
+     *
+     * @param filtre critères de filtrage ({@link FiltreSocietes#AUCUN} pour tous)
+     * @param tri critère de tri
+     * @param croissant true pour l'ordre croissant
+     * @return le résultat filtré et trié, avec les clés de tri de chaque ligne
+     * @throws java.util.concurrent.CancellationException si le thread est interrompu
+     */
+    public ResultatRecherche<Client> rechercher(FiltreSocietes filtre, TriSocietes tri, boolean croissant) {
+        long debut = System.nanoTime();
+        List<Client> candidats;
+        IntToLongFunction totalContrats = TriSocietes.SANS_CONTRATS;
+        verrou.readLock().lock();
+        try {
+            candidats = filtre.estVide() ? null : indexSocietes.candidats(filtre);
+            if (candidats == null) {
+                candidats = vueTriee.liste();
+            }
+            if (tri == TriSocietes.TOTAL_CONTRATS) {
+                totalContrats = contratRepo.instantaneTotaux();
+            }
+        } finally {
+            verrou.readLock().unlock();
+        }
+        try {
+            return ResultatRecherche.calculer(candidats, filtre.estVide(), filtre, tri, croissant, totalContrats);
+        } finally {
+            LATENCE_RECHERCHER.enregistrerDepuis(debut);
+        }
+    }
+
+    /**
+     * Capture un instantané cohérent des clients et de leurs contrats.
+     * <p>
+     * Les deux repositories sont verrouillés en lecture le temps de figer leurs
+     * versions (sans copie des entités) ; l'instantané se parcourt ensuite sans
+     * aucun verrou, sans bloquer ni subir les modifications concurrentes.
+     * </p>
+     *
+     * @return l'instantané des clients triés et de leurs contrats
+     * @see InstantaneClients
+     */
+    public InstantaneClients instantane() {
+        verrou.readLock().lock();
+        try {
+            return new InstantaneClients(vueTriee.liste(), contratRepo.instantaneParClient());
+        } finally {
+            verrou.readLock().unlock();
+        }
     }
 
 
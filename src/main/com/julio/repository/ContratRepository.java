@@ -1,10 +1,19 @@
 package main.com.julio.repository;
 
 import main.com.julio.model.Contrat;
+import main.com.julio.service.HistogrammeLatence;
+import main.com.julio.service.Metriques;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntToLongFunction;
 
 /**
  * Repository gérant la persistance et l'accès aux données des contrats.
@@ -16,6 +25,30 @@ import java.util.stream.Collectors;
  * à un client particulier.
  * </p>
  * <p>
+ * Deux index sont maintenus à chaque ajout, mise à jour et suppression :
+ * un index primaire par identifiant de contrat et un index secondaire par
+ * identifiant de client. L'index secondaire suit aussi les changements de
+ * client effectués via {@link Contrat#setClientId(int)}.
+ * </p>
+ * <p>
+ * L'index secondaire associe à chaque client une liste immuable, remplacée à
+ * chaque modification, dans une {@link TableParIdentifiant} : une version figée
+ * de l'index ({@link #instantaneParClient()}) s'obtient sans copier les contrats.
+ * </p>
+ * <p>
+ * Les agrégats de chaque client ({@link AgregatContrats} : nombre de contrats,
+ * total et plus gros montant en centimes) sont tenus à jour aux mêmes points que
+ * l'index secondaire et lus en temps constant ({@link #agregat(int)}). Un ajout
+ * les complète ; une mise à jour ou une suppression les recalcule sur la seule
+ * liste du client (quelques contrats), le montant d'un contrat modifié en place
+ * n'étant plus connu.
+ * </p>
+ * <p>
+ * Comme {@link ClientRepository}, le repository est protégé par un
+ * {@link ReentrantReadWriteLock}. Un changement de client notifié par un
+ * contrat prend lui aussi le verrou d'écriture avant de toucher l'index secondaire.
+ * </p>
+ * <p>
  * Contrairement aux autres repositories, celui-ci ne contient pas de données
  * de démonstration initiales. Les contrats sont créés et associés lors de
  * l'initialisation du {@link ClientRepository}.
@@ -29,8 +62,30 @@ import java.util.stream.Collectors;
  */
 public class ContratRepository {
 
-    /** Collection en mémoire contenant tous les contrats */
-    private List<Contrat> contrats;
+    private static final HistogrammeLatence LATENCE_FIND_BY_ID = Metriques.histogramme("contratRepository.findById");
+    private static final HistogrammeLatence LATENCE_FIND_BY_CLIENT_ID =
+            Metriques.histogramme("contratRepository.findByClientId");
+
+    /** Index primaire : identifiant du contrat vers le contrat (ordre d'insertion conservé) */
+    private final Map<Integer, Contrat> contrats;
+
+    /** Index secondaire : identifiant du client vers la liste immuable de ses contrats */
+    private final TableParIdentifiant<List<Contrat>> contratsParClient;
+
+    /** Agrégats des contrats de chaque client ayant au moins un contrat */
+    private final TableParIdentifiant<AgregatContrats> agregatsParClient;
+
+    /** Verrou lecteurs/écrivain protégeant les index, les agrégats et les notifications */
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    /** Écouteur déplaçant un contrat dans l'index secondaire lorsque son client change */
+    private final PropertyChangeListener ecouteurClientId = this::onClientIdModifie;
+
+    /** Écouteurs notifiés après chaque modification du repository */
+    private final List<EcouteurRepository<Contrat>> ecouteurs = new CopyOnWriteArrayList<>();
+
+    /** Écouteurs notifiés après chaque changement d'agrégats d'un client */
+    private final List<EcouteurAgregats> ecouteursAgregats = new CopyOnWriteArrayList<>();
 
     /**
      * Constructeur initialisant le repository avec une collection vide.
@@ -40,77 +95,266 @@ public class ContratRepository {
      * </p>
      */
     public ContratRepository() {
-        this.contrats = new ArrayList<>();
+        this.contrats = new LinkedHashMap<>();
+        this.contratsParClient = new TableParIdentifiant<>();
+        this.agregatsParClient = new TableParIdentifiant<>();
+    }
+
+    /**
+     * Enregistre un écouteur notifié après chaque ajout, mise à jour ou suppression.
+     *
+     * @param ecouteur l'écouteur à ajouter
+     */
+    public void ajouterEcouteur(EcouteurRepository<Contrat> ecouteur) {
+        ecouteurs.add(ecouteur);
+    }
+
+    /**
+     * Retire un écouteur précédemment enregistré.
+     *
+     * @param ecouteur l'écouteur à retirer
+     */
+    public void retirerEcouteur(EcouteurRepository<Contrat> ecouteur) {
+        ecouteurs.remove(ecouteur);
+    }
+
+    /**
+     * Enregistre un écouteur notifié après chaque changement d'agrégats d'un client.
+     *
+     * @param ecouteur l'écouteur à ajouter
+     */
+    public void ajouterEcouteurAgregats(EcouteurAgregats ecouteur) {
+        ecouteursAgregats.add(ecouteur);
+    }
+
+    /**
+     * Retire un écouteur d'agrégats précédemment enregistré.
+     *
+     * @param ecouteur l'écouteur à retirer
+     */
+    public void retirerEcouteurAgregats(EcouteurAgregats ecouteur) {
+        ecouteursAgregats.remove(ecouteur);
     }
 
     /**
      * Ajoute un nouveau contrat au repository.
      * <p>
-     * Le contrat est ajouté à la fin de la collection.
+     * Le contrat est indexé par son identifiant et rattaché à l'index de son client.
+     * Un contrat déjà présent avec le même identifiant est remplacé.
      * </p>
      *
      * @param contrat le contrat à ajouter (ne devrait pas être null)
      */
     public void add(Contrat contrat) {
-        contrats.add(contrat);
+        verrou.writeLock().lock();
+        try {
+            Contrat existant = contrats.get(contrat.getId());
+            AgregatContrats agregat;
+            if (existant == null) {
+                agregat = agregatsParClient.get(contrat.getClientId());
+                agregat = (agregat == null ? AgregatContrats.vide(contrat.getClientId()) : agregat).avec(contrat);
+            } else {
+                agregat = agregatAvec(contrat);
+            }
+            contrats.put(contrat.getId(), contrat);
+            if (existant != null) {
+                desindexer(existant);
+            }
+            indexer(contrat);
+            publier(agregat, existant == null ? contrat.getClientId() : existant.getClientId());
+            ecouteurs.forEach(e -> e.entiteAjoutee(contrat));
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ajoute un lot de contrats sous une seule prise du verrou d'écriture.
+     * <p>
+     * Équivaut à {@link #add(Contrat)} pour chaque contrat, dans l'ordre, mais une
+     * lecture concurrente n'observe jamais un lot partiellement ajouté et le
+     * verrou n'est pris qu'une fois (imports en masse).
+     * </p>
+     *
+     * @param contrats les contrats à ajouter
+     */
+    public void addAll(Collection<Contrat> contrats) {
+        verrou.writeLock().lock();
+        try {
+            for (Contrat contrat : contrats) {
+                add(contrat);
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Alimente en masse un repository vide (rechargement des données persistées).
+     * <p>
+     * Équivaut à {@link #addAll(Collection)}, mais les contrats sont regroupés par
+     * client en un seul passage : la liste immuable et les agrégats de chaque
+     * client sont construits une fois, au lieu d'être recopiés à chaque contrat.
+     * Sur un repository non vide, délègue à {@link #addAll(Collection)}.
+     * </p>
+     *
+     * @param contrats les contrats à ajouter
+     * @throws ArithmeticException si le total d'un client dépasse la capacité d'un
+     *                             {@code long} ; le repository reste alors vide
+     */
+    public void charger(Collection<Contrat> contrats) {
+        verrou.writeLock().lock();
+        try {
+            if (!this.contrats.isEmpty()) {
+                addAll(contrats);
+                return;
+            }
+            for (Contrat contrat : contrats) {
+                this.contrats.put(contrat.getId(), contrat);
+            }
+            // Un identifiant répété ne garde que sa dernière instance, comme add
+            TableParIdentifiant<List<Contrat>> groupes = new TableParIdentifiant<>();
+            List<List<Contrat>> parClient = new ArrayList<>();
+            for (Contrat contrat : this.contrats.values()) {
+                List<Contrat> duClient = groupes.get(contrat.getClientId());
+                if (duClient == null) {
+                    duClient = new ArrayList<>(2);
+                    groupes.put(contrat.getClientId(), duClient);
+                    parClient.add(duClient);
+                }
+                duClient.add(contrat);
+            }
+            AgregatContrats[] agregats = new AgregatContrats[parClient.size()];
+            try {
+                for (int i = 0; i < agregats.length; i++) {
+                    agregats[i] = AgregatContrats.de(parClient.get(i).get(0).getClientId(), parClient.get(i));
+                }
+            } catch (ArithmeticException e) {
+                this.contrats.clear();
+                throw e;
+            }
+            for (int i = 0; i < agregats.length; i++) {
+                contratsParClient.put(agregats[i].clientId(), List.copyOf(parClient.get(i)));
+                publier(agregats[i]);
+            }
+            for (Contrat contrat : this.contrats.values()) {
+                contrat.addPropertyChangeListener(ecouteurClientId);
+                ecouteurs.forEach(e -> e.entiteAjoutee(contrat));
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
     }
 
     /**
      * Met à jour un contrat existant dans le repository.
      * <p>
-     * Recherche le contrat par son identifiant et remplace l'ancienne instance
-     * par la nouvelle.
+     * Remplace l'ancienne instance par la nouvelle en temps constant et
+     * réindexe le contrat sous son client actuel. Un contrat inconnu est ignoré.
      * </p>
      *
      * @param contrat le contrat avec les nouvelles données (doit avoir un ID valide)
      */
     public void update(Contrat contrat) {
-        for (int i = 0; i < this.contrats.size(); i++) {
-            if (this.contrats.get(i).getId() == contrat.getId()) {
-                this.contrats.set(i, contrat);
+        verrou.writeLock().lock();
+        try {
+            Contrat existant = contrats.get(contrat.getId());
+            if (existant == null) {
                 return;
             }
+            AgregatContrats agregat = agregatAvec(contrat);
+            contrats.put(contrat.getId(), contrat);
+            int ancienClientId = existant.getClientId();
+            desindexer(existant);
+            indexer(contrat);
+            publier(agregat, ancienClientId);
+            ecouteurs.forEach(e -> e.entiteModifiee(contrat));
+        } finally {
+            verrou.writeLock().unlock();
         }
     }
 
     /**
      * Supprime un contrat du repository par son identifiant.
      * <p>
-     * Utilise {@link List#removeIf} pour supprimer le contrat correspondant.
-     * Cette méthode est notamment utilisée lors de la suppression en cascade
-     * d'un client via {@link ClientRepository#delete(int)}.
+     * Le contrat est retiré de l'index primaire en temps constant, et de la liste
+     * de son client en O(k), k étant le nombre de contrats du client, comme le
+     * recalcul de ses agrégats.
      * </p>
      *
      * @param id identifiant du contrat à supprimer
      * @return true si un contrat a été supprimé, false si aucun contrat ne correspond
-     * @see ClientRepository#delete(int)
      */
     public boolean delete(int id) {
-        return contrats.removeIf(contrat -> contrat.getId() == id);
+        verrou.writeLock().lock();
+        try {
+            Contrat existant = contrats.remove(id);
+            if (existant == null) {
+                return false;
+            }
+            desindexer(existant);
+            recalculer(existant.getClientId(), existant.getClientId());
+            ecouteurs.forEach(e -> e.entiteSupprimee(id));
+            return true;
+        } finally {
+            verrou.writeLock().unlock();
+        }
     }
 
     /**
      * Recherche un contrat par son identifiant.
      * <p>
-     * Utilise les Streams Java 8 pour rechercher efficacement le contrat.
+     * Accès direct à l'index primaire, en temps constant.
      * </p>
      *
      * @param id identifiant du contrat recherché
      * @return le contrat trouvé ou null si aucun contrat ne correspond
      */
     public Contrat findById(int id) {
-        return contrats.stream()
-                .filter(contrat -> contrat.getId() == id)
-                .findFirst()
-                .orElse(null);
+        long debut = System.nanoTime();
+        verrou.readLock().lock();
+        try {
+            return contrats.get(id);
+        } finally {
+            verrou.readLock().unlock();
+            LATENCE_FIND_BY_ID.enregistrerDepuis(debut);
+        }
+    }
+
+    /**
+     * Retourne tous les contrats dans leur ordre d'insertion.
+     *
+     * @return une nouvelle liste contenant tous les contrats
+     */
+    public List<Contrat> findAll() {
+        verrou.readLock().lock();
+        try {
+            return new ArrayList<>(contrats.values());
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retourne le nombre de contrats, en temps constant.
+     *
+     * @return nombre de contrats du repository
+     */
+    public int count() {
+        verrou.readLock().lock();
+        try {
+            return contrats.size();
+        } finally {
+            verrou.readLock().unlock();
+        }
     }
 
     /**
      * Recherche tous les contrats associés à un client spécifique.
      * <p>
-     * Filtre les contrats par l'identifiant du client et retourne une nouvelle
-     * liste contenant uniquement les contrats correspondants. Cette méthode est
-     * essentielle pour :
+     * Lit l'index secondaire du client et retourne une nouvelle liste contenant
+     * uniquement ses contrats, sans parcourir les contrats des autres clients.
+     * Cette méthode est essentielle pour :
      * </p>
      * <ul>
      *   <li>Afficher les contrats d'un client dans l'interface utilisateur</li>
@@ -123,8 +367,214 @@ public class ContratRepository {
      * @see ClientRepository#delete(int)
      */
     public List<Contrat> findByClientId(int clientId) {
-        return contrats.stream()
-                .filter(contrat -> contrat.getClientId() == clientId)
-                .collect(Collectors.toList());
+        long debut = System.nanoTime();
+        verrou.readLock().lock();
+        try {
+            List<Contrat> duClient = contratsParClient.get(clientId);
+            return duClient == null ? new ArrayList<>() : new ArrayList<>(duClient);
+        } finally {
+            verrou.readLock().unlock();
+            LATENCE_FIND_BY_CLIENT_ID.enregistrerDepuis(debut);
+        }
+    }
+
+    /**
+     * Retourne les agrégats des contrats d'un client, en temps constant.
+     *
+     * @param clientId identifiant du client
+     * @return nombre de contrats, total et plus gros montant (nuls si le client n'a aucun contrat)
+     */
+    public AgregatContrats agregat(int clientId) {
+        verrou.readLock().lock();
+        try {
+            AgregatContrats agregat = agregatsParClient.get(clientId);
+            return agregat == null ? AgregatContrats.vide(clientId) : agregat;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Fige le total des contrats de chaque client dans son état courant.
+     * <p>
+     * La fonction retournée se lit sans verrou ; elle sert de source aux clés de
+     * tri {@link TriSocietes#TOTAL_CONTRATS} d'une recherche.
+     * </p>
+     *
+     * @return total en centimes par identifiant de client (0 sans contrat)
+     */
+    IntToLongFunction instantaneTotaux() {
+        TableParIdentifiant.Version<AgregatContrats> version;
+        verrou.readLock().lock();
+        try {
+            version = agregatsParClient.figer();
+        } finally {
+            verrou.readLock().unlock();
+        }
+        return clientId -> {
+            AgregatContrats agregat = version.get(clientId);
+            return agregat == null ? 0 : agregat.totalCentimes();
+        };
+    }
+
+    /**
+     * Fige l'index des contrats par client dans son état courant.
+     * <p>
+     * Seule la table des pages de l'index est copiée ; les listes de contrats,
+     * immuables, sont partagées. La version retournée n'est plus affectée par
+     * les modifications ultérieures du repository.
+     * </p>
+     *
+     * @return la version figée de l'index secondaire
+     * @see ClientRepository#instantane()
+     */
+    TableParIdentifiant.Version<List<Contrat>> instantaneParClient() {
+        verrou.readLock().lock();
+        try {
+            return contratsParClient.figer();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rattache un contrat à l'index de son client et écoute ses changements de client.
+     *
+     * @param contrat le contrat à indexer
+     */
+    private void indexer(Contrat contrat) {
+        rattacher(contrat, contrat.getClientId());
+        contrat.addPropertyChangeListener(ecouteurClientId);
+    }
+
+    /**
+     * Détache un contrat de l'index de son client et cesse d'écouter ses changements.
+     *
+     * @param contrat le contrat à désindexer
+     */
+    private void desindexer(Contrat contrat) {
+        contrat.removePropertyChangeListener(ecouteurClientId);
+        detacher(contrat, contrat.getClientId());
+    }
+
+    /**
+     * Déplace un contrat indexé lorsque son client change via {@link Contrat#setClientId(int)},
+     * puis notifie les écouteurs comme pour une mise à jour.
+     *
+     * @param evt l'événement de changement de propriété émis par le contrat
+     */
+    private void onClientIdModifie(PropertyChangeEvent evt) {
+        if (!Contrat.PROPRIETE_CLIENT_ID.equals(evt.getPropertyName())) {
+            return;
+        }
+        Contrat contrat = (Contrat) evt.getSource();
+        verrou.writeLock().lock();
+        try {
+            // Le contrat a pu être supprimé entre le changement et sa notification
+            if (contrats.get(contrat.getId()) != contrat) {
+                return;
+            }
+            AgregatContrats agregat = agregatAvec(contrat);
+            detacher(contrat, (Integer) evt.getOldValue());
+            rattacher(contrat, (Integer) evt.getNewValue());
+            publier(agregat, (Integer) evt.getOldValue());
+            // Le journal et les vues doivent voir le nouveau client comme une mise à jour
+            ecouteurs.forEach(e -> e.entiteModifiee(contrat));
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ajoute un contrat à la liste de son client, à la place d'un contrat de même
+     * identifiant s'il y en a un, sinon à la fin.
+     */
+    private void rattacher(Contrat contrat, int clientId) {
+        List<Contrat> duClient = contratsParClient.get(clientId);
+        if (duClient == null) {
+            contratsParClient.put(clientId, List.of(contrat));
+            return;
+        }
+        List<Contrat> nouveaux = new ArrayList<>(duClient);
+        int position = rang(duClient, contrat.getId());
+        if (position >= 0) {
+            nouveaux.set(position, contrat);
+        } else {
+            nouveaux.add(contrat);
+        }
+        contratsParClient.put(clientId, List.copyOf(nouveaux));
+    }
+
+    private void detacher(Contrat contrat, int clientId) {
+        List<Contrat> duClient = contratsParClient.get(clientId);
+        int position = duClient == null ? -1 : rang(duClient, contrat.getId());
+        if (position < 0 || !duClient.get(position).equals(contrat)) {
+            return;
+        }
+        List<Contrat> restants = new ArrayList<>(duClient);
+        restants.remove(position);
+        contratsParClient.put(clientId, restants.isEmpty() ? null : List.copyOf(restants));
+    }
+
+    /**
+     * Recalcule les agrégats d'un client depuis sa liste de contrats, et ceux de
+     * son ancien client si le contrat en a changé.
+     */
+    private void recalculer(int clientId, int ancienClientId) {
+        if (ancienClientId != clientId) {
+            recalculer(ancienClientId, ancienClientId);
+        }
+        List<Contrat> duClient = contratsParClient.get(clientId);
+        publier(AgregatContrats.de(clientId, duClient == null ? List.of() : duClient));
+    }
+
+    /**
+     * Calcule les agrégats qu'aura le client d'un contrat une fois le contrat
+     * rangé dans sa liste, à la place d'un contrat de même identifiant.
+     * <p>
+     * Appelée avant toute modification : un cumul dépassant la capacité d'un
+     * {@code long} ({@link ArithmeticException}) laisse le repository intact.
+     * </p>
+     */
+    private AgregatContrats agregatAvec(Contrat contrat) {
+        AgregatContrats agregat = AgregatContrats.vide(contrat.getClientId());
+        List<Contrat> duClient = contratsParClient.get(contrat.getClientId());
+        if (duClient != null) {
+            for (Contrat autre : duClient) {
+                if (autre.getId() != contrat.getId()) {
+                    agregat = agregat.avec(autre);
+                }
+            }
+        }
+        return agregat.avec(contrat);
+    }
+
+    /**
+     * Publie les agrégats calculés par {@link #agregatAvec(Contrat)}, après avoir
+     * recalculé ceux de l'ancien client si le contrat en a changé (un retrait ne
+     * peut pas dépasser la capacité).
+     */
+    private void publier(AgregatContrats agregat, int ancienClientId) {
+        if (ancienClientId != agregat.clientId()) {
+            recalculer(ancienClientId, ancienClientId);
+        }
+        publier(agregat);
+    }
+
+    /**
+     * Enregistre les nouveaux agrégats d'un client et notifie les écouteurs.
+     */
+    private void publier(AgregatContrats agregat) {
+        agregatsParClient.put(agregat.clientId(), agregat.nombre() == 0 ? null : agregat);
+        ecouteursAgregats.forEach(e -> e.agregatModifie(agregat));
+    }
+
+    private static int rang(List<Contrat> contrats, int id) {
+        for (int i = 0; i < contrats.size(); i++) {
+            if (contrats.get(i).getId() == id) {
+                return i;
+            }
+        }
+        return -1;
     }
 }
@@ -0,0 +1,27 @@
+package main.com.julio.repository;
+
+/**
+ * Écouteur notifié des changements d'agrégats des contrats d'un client.
+ * <p>
+ * {@link ContratRepository} le notifie après chaque ajout, mise à jour,
+ * suppression ou changement de client d'un contrat, une fois par client
+ * concerné, dans le thread qui a effectué l'opération et sous le verrou
+ * d'écriture du repository : le traitement doit rester bref et ne pas accéder
+ * aux autres repositories.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see AgregatContrats
+ */
+@FunctionalInterface
+public interface EcouteurAgregats {
+
+    /**
+     * Appelée après la modification des agrégats d'un client.
+     *
+     * @param agregat les nouveaux agrégats du client
+     */
+    void agregatModifie(AgregatContrats agregat);
+}
@@ -0,0 +1,39 @@
+package main.com.julio.repository;
+
+/**
+ * Écouteur notifié des modifications effectuées sur un repository.
+ * <p>
+ * Chaque repository notifie ses écouteurs après chaque ajout, mise à jour ou
+ * suppression réussie, dans le thread qui a effectué l'opération. Cette interface
+ * permet de brancher des traitements transverses (journalisation sur disque,
+ * rafraîchissement de l'affichage, etc.) sans modifier les repositories.
+ * </p>
+ *
+ * @param <T> type d'entité gérée par le repository
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public interface EcouteurRepository<T> {
+
+    /**
+     * Appelée après l'ajout d'une entité.
+     *
+     * @param entite l'entité ajoutée
+     */
+    void entiteAjoutee(T entite);
+
+    /**
+     * Appelée après la mise à jour d'une entité existante.
+     *
+     * @param entite l'entité dans son nouvel état
+     */
+    void entiteModifiee(T entite);
+
+    /**
+     * Appelée après la suppression d'une entité.
+     *
+     * @param id identifiant de l'entité supprimée
+     */
+    void entiteSupprimee(int id);
+}
@@ -0,0 +1,116 @@
+package main.com.julio.repository;
+
+import main.com.julio.model.Client;
+import main.com.julio.model.Societe;
+
+/**
+ * Critères de filtrage d'une liste de sociétés.
+ * <p>
+ * Les critères textuels sont des préfixes insensibles à la casse (voir
+ * {@link RaisonSocialeIndex#plier(String)}) ; un critère vide ou null est
+ * ignoré. L'intervalle de chiffre d'affaires (bornes incluses, null si absente)
+ * ne concerne que les clients : un prospect ne le satisfait jamais.
+ * </p>
+ * <p>
+ * Chaque critère correspond à un index du repository ({@link IndexSocietes}) :
+ * le filtrage ne parcourt que les candidats du critère le plus sélectif.
+ * </p>
+ *
+ * @param raisonSociale début de la raison sociale
+ * @param ville début de la ville
+ * @param codePostal début du code postal
+ * @param domaineEmail début du domaine de l'email (partie suivant '@')
+ * @param caMin chiffre d'affaires minimal, ou null
+ * @param caMax chiffre d'affaires maximal, ou null
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ClientRepository#rechercher(FiltreSocietes, TriSocietes, boolean)
+ */
+public record FiltreSocietes(String raisonSociale, String ville, String codePostal, String domaineEmail,
+                             Long caMin, Long caMax) {
+
+    /** Filtre sans aucun critère : toutes les sociétés */
+    public static final FiltreSocietes AUCUN = new FiltreSocietes("", "", "", "", null, null);
+
+    /**
+     * Constructeur normalisant les critères textuels (espaces retirés, casse pliée).
+     */
+    public FiltreSocietes {
+        raisonSociale = normaliser(raisonSociale);
+        ville = normaliser(ville);
+        codePostal = normaliser(codePostal);
+        domaineEmail = normaliser(domaineEmail);
+    }
+
+    /**
+     * Indique si le filtre ne comporte aucun critère.
+     *
+     * @return true si toutes les sociétés sont acceptées
+     */
+    public boolean estVide() {
+        return raisonSociale.isEmpty() && ville.isEmpty() && codePostal.isEmpty()
+                && domaineEmail.isEmpty() && !filtreChiffreAffaires();
+    }
+
+    /**
+     * Indique si une borne de chiffre d'affaires est renseignée.
+     *
+     * @return true si l'intervalle de chiffre d'affaires est à vérifier
+     */
+    public boolean filtreChiffreAffaires() {
+        return caMin != null || caMax != null;
+    }
+
+    /**
+     * Vérifie qu'une société satisfait tous les critères.
+     *
+     * @param societe la société à vérifier
+     * @return true si la société est acceptée
+     */
+    public boolean accepte(Societe societe) {
+        if (!commencePar(societe.getRaisonSociale(), raisonSociale)) {
+            return false;
+        }
+        if (!ville.isEmpty() && !commencePar(societe.getAdresse().getVille(), ville)) {
+            return false;
+        }
+        if (!codePostal.isEmpty() && !commencePar(societe.getAdresse().getCodePostal(), codePostal)) {
+            return false;
+        }
+        if (!domaineEmail.isEmpty() && !commencePar(domaine(societe.getEmail()), domaineEmail)) {
+            return false;
+        }
+        if (filtreChiffreAffaires()) {
+            if (!(societe instanceof Client client)) {
+                return false;
+            }
+            long ca = client.getChiffreAffaires();
+            return (caMin == null || ca >= caMin) && (caMax == null || ca <= caMax);
+        }
+        return true;
+    }
+
+    /**
+     * Retourne le domaine d'un email, partie suivant le dernier '@'.
+     *
+     * @param email l'email (peut être null)
+     * @return le domaine, ou une chaîne vide si l'email n'en comporte pas
+     */
+    static String domaine(String email) {
+        int arobase = email == null ? -1 : email.lastIndexOf('@');
+        return arobase < 0 ? "" : email.substring(arobase + 1);
+    }
+
+    private static boolean commencePar(String valeur, String prefixePlie) {
+        if (prefixePlie.isEmpty()) {
+            return true;
+        }
+        return valeur != null && valeur.length() >= prefixePlie.length()
+                && RaisonSocialeIndex.plier(valeur.substring(0, prefixePlie.length())).equals(prefixePlie);
+    }
+
+    private static String normaliser(String critere) {
+        return critere == null ? "" : RaisonSocialeIndex.plier(critere.strip());
+    }
+}
@@ -0,0 +1,219 @@
+package main.com.julio.repository;
+
+import main.com.julio.model.Client;
+import main.com.julio.model.Societe;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Index secondaires d'un repository de sociétés, support du filtrage.
+ * <p>
+ * Chaque critère de {@link FiltreSocietes} dispose d'une {@link VueTriee} dont
+ * la clé est la valeur indexée : raison sociale, ville, code postal et domaine
+ * de l'email pliés (insensibles à la casse), chiffre d'affaires pour les
+ * clients. Une recherche par préfixe ou par intervalle ne parcourt que les
+ * sociétés retournées.
+ * </p>
+ * <p>
+ * Les index sont maintenus par le repository propriétaire, sous son verrou
+ * d'écriture, aux mêmes points que sa vue triée ; ils sont interrogés sous son
+ * verrou de lecture.
+ * </p>
+ * <p>
+ * Villes, codes postaux et domaines se répètent d'une société à l'autre : leurs
+ * clés pliées sont partagées (une instance par valeur distincte) au lieu d'être
+ * conservées en autant de copies que de sociétés. Chaque clé partagée compte ses
+ * sociétés et est oubliée au retrait de la dernière.
+ * </p>
+ *
+ * @param <T> type de société indexée
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see FiltreSocietes
+ */
+final class IndexSocietes<T extends Societe> {
+
+    private final VueTriee<T> raisonsSociales;
+    private final VueTriee<T> villes;
+    private final VueTriee<T> codesPostaux;
+    private final VueTriee<T> domaines;
+    private final VueTriee<T> chiffresAffaires;  // null si les sociétés ne sont pas des clients
+
+    // Instance partagée de chaque clé répétée, accédée sous le verrou d'écriture
+    private final Map<String, ClePartagee> clesPartagees = new HashMap<>();
+
+    /**
+     * Instance partagée d'une clé et nombre d'entrées d'index qui la référencent.
+     */
+    private static final class ClePartagee {
+        private final String valeur;
+        private int references;
+
+        private ClePartagee(String valeur) {
+            this.valeur = valeur;
+        }
+    }
+
+    /**
+     * Constructeur.
+     *
+     * @param verrouEcriture verrou d'écriture du repository propriétaire
+     * @param chiffreAffaires true pour indexer le chiffre d'affaires (clients)
+     */
+    IndexSocietes(Lock verrouEcriture, boolean chiffreAffaires) {
+        raisonsSociales = new VueTriee<>(verrouEcriture, s -> plier(s.getRaisonSociale()), true);
+        villes = new VueTriee<>(verrouEcriture, s -> partager(plier(s.getAdresse().getVille())), false);
+        codesPostaux = new VueTriee<>(verrouEcriture, s -> partager(plier(s.getAdresse().getCodePostal())), false);
+        domaines = new VueTriee<>(verrouEcriture, s -> partager(plier(FiltreSocietes.domaine(s.getEmail()))), false);
+        chiffresAffaires = chiffreAffaires
+                ? new VueTriee<>(verrouEcriture, s -> encoder(((Client) s).getChiffreAffaires()), false)
+                : null;
+    }
+
+    void ajouter(T societe) {
+        raisonsSociales.ajouter(societe);
+        villes.ajouter(societe);
+        codesPostaux.ajouter(societe);
+        domaines.ajouter(societe);
+        if (chiffresAffaires != null) {
+            chiffresAffaires.ajouter(societe);
+        }
+    }
+
+    /**
+     * Alimente en masse des index vides ({@link VueTriee#charger(List)}).
+     *
+     * @param societes les sociétés à indexer, d'identifiants distincts
+     */
+    void charger(List<T> societes) {
+        raisonsSociales.charger(societes);
+        villes.charger(societes);
+        codesPostaux.charger(societes);
+        domaines.charger(societes);
+        if (chiffresAffaires != null) {
+            chiffresAffaires.charger(societes);
+        }
+    }
+
+    void retirer(T societe) {
+        raisonsSociales.retirer(societe);
+        liberer(villes.retirer(societe));
+        liberer(codesPostaux.retirer(societe));
+        liberer(domaines.retirer(societe));
+        if (chiffresAffaires != null) {
+            chiffresAffaires.retirer(societe);
+        }
+    }
+
+    void vider() {
+        clesPartagees.clear();
+        raisonsSociales.vider();
+        villes.vider();
+        codesPostaux.vider();
+        domaines.vider();
+        if (chiffresAffaires != null) {
+            chiffresAffaires.vider();
+        }
+    }
+
+    /**
+     * Premières sociétés dont la raison sociale commence par un préfixe, insensible à la casse.
+     *
+     * @param prefixe début de la raison sociale
+     * @param max nombre maximal de résultats
+     * @return nouvelle liste d'au plus {@code max} sociétés
+     */
+    List<T> prefixes(String prefixe, int max) {
+        return raisonsSociales.rechercher(plier(prefixe), max);
+    }
+
+    /**
+     * Retourne les candidats d'un filtre, issus de l'index le plus sélectif.
+     * <p>
+     * Les index des critères renseignés sont interrogés successivement, chacun
+     * étant borné par la taille du meilleur résultat déjà obtenu : le coût reste
+     * proportionnel au plus petit ensemble de candidats. Les candidats doivent
+     * encore être vérifiés par {@link FiltreSocietes#accepte(Societe)}.
+     * </p>
+     *
+     * @param filtre le filtre (normalisé)
+     * @return nouvelle liste de candidats, ou null si aucun critère n'est renseigné
+     */
+    List<T> candidats(FiltreSocietes filtre) {
+        List<T> meilleurs = null;
+        meilleurs = plusSelectif(meilleurs, codesPostaux, filtre.codePostal());
+        meilleurs = plusSelectif(meilleurs, villes, filtre.ville());
+        meilleurs = plusSelectif(meilleurs, domaines, filtre.domaineEmail());
+        meilleurs = plusSelectif(meilleurs, raisonsSociales, filtre.raisonSociale());
+        if (filtre.filtreChiffreAffaires()) {
+            if (chiffresAffaires == null) {
+                return List.of();  // Critère réservé aux clients
+            }
+            String min = encoder(filtre.caMin() == null ? Long.MIN_VALUE : filtre.caMin());
+            String max = encoder(filtre.caMax() == null ? Long.MAX_VALUE : filtre.caMax());
+            int borne = meilleurs == null ? Integer.MAX_VALUE : meilleurs.size();
+            List<T> trouves = chiffresAffaires.entre(min, max, borne);
+            if (meilleurs == null || trouves.size() < borne) {
+                meilleurs = trouves;
+            }
+        }
+        return meilleurs;
+    }
+
+    /**
+     * Interroge un index si son critère est renseigné et conserve le plus petit résultat complet.
+     */
+    private List<T> plusSelectif(List<T> meilleurs, VueTriee<T> index, String prefixe) {
+        if (prefixe.isEmpty()) {
+            return meilleurs;
+        }
+        int borne = meilleurs == null ? Integer.MAX_VALUE : meilleurs.size();
+        List<T> trouves = index.rechercher(prefixe, borne);
+        // Un résultat atteignant la borne est tronqué, donc pas plus sélectif
+        return meilleurs == null || trouves.size() < borne ? trouves : meilleurs;
+    }
+
+    /**
+     * Retourne l'instance partagée d'une clé et compte une référence de plus.
+     */
+    private String partager(String cle) {
+        ClePartagee partagee = clesPartagees.computeIfAbsent(cle, ClePartagee::new);
+        partagee.references++;
+        return partagee.valeur;
+    }
+
+    /**
+     * Compte une référence de moins à une clé partagée, oubliée à la dernière.
+     *
+     * @param cle clé retirée d'un index, ou null si la société n'y figurait pas
+     */
+    private void liberer(String cle) {
+        if (cle == null) {
+            return;
+        }
+        ClePartagee partagee = clesPartagees.get(cle);
+        if (partagee != null && --partagee.references == 0) {
+            clesPartagees.remove(cle);
+        }
+    }
+
+    private static String plier(String valeur) {
+        return valeur == null ? "" : RaisonSocialeIndex.plier(valeur);
+    }
+
+    /**
+     * Encode un entier long en chaîne de 4 caractères de même ordre.
+     * <p>
+     * Le bit de signe est inversé pour que l'ordre non signé des caractères
+     * (celui de {@link String#compareTo(String)}) suive l'ordre signé des valeurs.
+     * </p>
+     */
+    static String encoder(long valeur) {
+        long v = valeur ^ Long.MIN_VALUE;
+        return new String(new char[]{(char) (v >>> 48), (char) (v >>> 32), (char) (v >>> 16), (char) v});
+    }
+}
@@ -0,0 +1,59 @@
+package main.com.julio.repository;
+
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+
+import java.util.List;
+
+/**
+ * Vue immuable et cohérente des clients et de leurs contrats à un instant donné.
+ * <p>
+ * Obtenue via {@link ClientRepository#instantane()}, elle associe une version
+ * figée de la liste triée des clients et une version figée de l'index des
+ * contrats par client, prises au même instant. Aucune de ces versions ne copie
+ * les entités : seules les tables de blocs et de pages sont dupliquées, et
+ * seulement après une modification. Un parcours long (rapport, construction
+ * d'une table) peut donc se dérouler sans verrou pendant que les modifications
+ * se poursuivent.
+ * </p>
+ * <p>
+ * L'instantané fige l'ensemble des clients, leur ordre et leurs contrats ; les
+ * entités elles-mêmes restent les objets du modèle, modifiés par les ViewModels
+ * avant l'appel à update.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ClientRepository#instantane()
+ */
+public final class InstantaneClients {
+
+    private final List<Client> clients;
+    private final TableParIdentifiant.Version<List<Contrat>> contratsParClient;
+
+    InstantaneClients(List<Client> clients, TableParIdentifiant.Version<List<Contrat>> contratsParClient) {
+        this.clients = clients;
+        this.contratsParClient = contratsParClient;
+    }
+
+    /**
+     * Retourne les clients triés par raison sociale à l'instant de la capture.
+     *
+     * @return liste non modifiable des clients
+     */
+    public List<Client> getClients() {
+        return clients;
+    }
+
+    /**
+     * Retourne les contrats d'un client à l'instant de la capture.
+     *
+     * @param clientId identifiant du client
+     * @return liste non modifiable des contrats du client (vide si aucun)
+     */
+    public List<Contrat> getContrats(int clientId) {
+        List<Contrat> contrats = contratsParClient.get(clientId);
+        return contrats == null ? List.of() : contrats;
+    }
+}
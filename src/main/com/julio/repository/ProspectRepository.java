@@ -4,12 +4,15 @@ import main.com.julio.exception.ValidationException;
 import main.com.julio.model.Adresse;
 import main.com.julio.model.Interesse;
 import main.com.julio.model.Prospect;
+import main.com.julio.service.HistogrammeLatence;
+import main.com.julio.service.Metriques;
 import main.com.julio.util.DateUtils;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Repository gérant la persistance et l'accès aux données des prospects.
@@ -24,6 +27,11 @@ import java.util.Optional;
  * lors de sa création pour faciliter les tests et la démonstration de
  * l'application.
  * </p>
+ * <p>
+ * Comme {@link ClientRepository}, le repository est protégé par un
+ * {@link ReentrantReadWriteLock} : lectures parallèles, modifications sérialisées
+ * et écouteurs notifiés sous le verrou d'écriture.
+ * </p>
  *
  * @author Julio FERMIN
  * @version 1.0
@@ -33,19 +41,40 @@ import java.util.Optional;
  */
 public class ProspectRepository {
 
-    /** Collection en mémoire contenant tous les prospects */
-    private final List<Prospect> prospects;
+    private static final HistogrammeLatence LATENCE_FIND_BY_ID = Metriques.histogramme("prospectRepository.findById");
+    private static final HistogrammeLatence LATENCE_RECHERCHER =
+            Metriques.histogramme("prospectRepository.rechercher");
+
+    /** Index principal des prospects par identifiant, dans l'ordre d'insertion */
+    private final RegistreParIdentifiant<Prospect> prospects;
+
+    /** Index des raisons sociales, éventuellement partagé avec {@link ClientRepository} */
+    private final RaisonSocialeIndex indexRaisonSociale;
+
+    /** Verrou lecteurs/écrivain protégeant l'index, la vue triée et les notifications */
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    /** Vue triée par raison sociale maintenue à chaque modification */
+    private final VueTriee<Prospect> vueTriee = new VueTriee<>(verrou.writeLock());
+
+    /** Index secondaires (raison sociale, ville, code postal, domaine email) du filtrage */
+    private final IndexSocietes<Prospect> indexSocietes = new IndexSocietes<>(verrou.writeLock(), false);
+
+    /** Écouteurs notifiés après chaque modification du repository */
+    private final List<EcouteurRepository<Prospect>> ecouteurs = new CopyOnWriteArrayList<>();
 
     /**
      * Comparateur statique pour trier les prospects par raison sociale.
      * <p>
-     * Utilise {@link Optional#ofNullable} pour gérer les raisons sociales nulles
-     * en les traitant comme des chaînes vides, garantissant ainsi un tri stable
-     * sans risque de {@link NullPointerException}.
+     * Les raisons sociales nulles sont placées en tête via
+     * {@link Comparator#nullsFirst(Comparator)}, sans allocation par comparaison ;
+     * l'identifiant départage les raisons sociales identiques. C'est l'ordre
+     * maintenu par la vue triée du repository.
      * </p>
      */
     public static final Comparator<Prospect> BY_RAISON_SOCIALE =
-            Comparator.comparing((Prospect p) -> Optional.ofNullable(p.getRaisonSociale()).orElse(""));
+            Comparator.comparing(Prospect::getRaisonSociale, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                    .thenComparingInt(Prospect::getId);
 
     /**
      * Constructeur initialisant le repository avec des données de démonstration.
@@ -58,83 +87,309 @@ public class ProspectRepository {
      * @throws ValidationException si les données de démonstration ne respectent pas les règles de validation
      */
     public ProspectRepository() throws ValidationException {
-        this.prospects = new ArrayList<>();
-        initialiserDonneesDemo();
+        this(new RaisonSocialeIndex());
+    }
+
+    /**
+     * Constructeur initialisant le repository avec un index de raisons sociales fourni.
+     * <p>
+     * Partager le même index avec {@link ClientRepository} permet de vérifier
+     * l'unicité des raisons sociales à travers clients et prospects.
+     * </p>
+     *
+     * @param indexRaisonSociale index des raisons sociales à alimenter
+     * @throws ValidationException si les données de démonstration ne respectent pas les règles de validation
+     */
+    public ProspectRepository(RaisonSocialeIndex indexRaisonSociale) throws ValidationException {
+        this(indexRaisonSociale, true);
+    }
+
+    /**
+     * Constructeur permettant de choisir le chargement des données de démonstration.
+     * <p>
+     * Un repository créé sans données de démonstration est destiné à être
+     * alimenté depuis la persistance ({@link main.com.julio.persistence.PersistanceService}).
+     * </p>
+     *
+     * @param indexRaisonSociale index des raisons sociales à alimenter
+     * @param donneesDemo true pour charger les données de démonstration
+     * @throws ValidationException si les données de démonstration ne respectent pas les règles de validation
+     */
+    public ProspectRepository(RaisonSocialeIndex indexRaisonSociale, boolean donneesDemo)
+            throws ValidationException {
+        this.prospects = new RegistreParIdentifiant<>();
+        this.indexRaisonSociale = indexRaisonSociale;
+        if (donneesDemo) {
+            initialiserDonneesDemo();
+        }
+    }
+
+    public RaisonSocialeIndex getIndexRaisonSociale() {
+        return indexRaisonSociale;
+    }
+
+    /**
+     * Enregistre un écouteur notifié après chaque ajout, mise à jour ou suppression.
+     *
+     * @param ecouteur l'écouteur à ajouter
+     */
+    public void ajouterEcouteur(EcouteurRepository<Prospect> ecouteur) {
+        ecouteurs.add(ecouteur);
+    }
+
+    /**
+     * Retire un écouteur précédemment enregistré.
+     *
+     * @param ecouteur l'écouteur à retirer
+     */
+    public void retirerEcouteur(EcouteurRepository<Prospect> ecouteur) {
+        ecouteurs.remove(ecouteur);
     }
 
     /**
      * Ajoute un nouveau prospect au repository.
      * <p>
-     * Le prospect est ajouté à la fin de la collection.
+     * Le prospect est indexé par son identifiant et placé à la fin de l'ordre d'insertion.
+     * Un prospect déjà présent avec le même identifiant est remplacé.
      * </p>
      *
      * @param prospect le prospect à ajouter (ne devrait pas être null)
      */
     public void add(Prospect prospect) {
-        this.prospects.add(prospect);
+        verrou.writeLock().lock();
+        try {
+            Prospect existant = this.prospects.put(prospect.getId(), prospect);
+            if (existant != null) {
+                indexRaisonSociale.retirer(existant);
+                vueTriee.retirer(existant);
+                indexSocietes.retirer(existant);
+            }
+            indexRaisonSociale.ajouter(prospect);
+            vueTriee.ajouter(prospect);
+            indexSocietes.ajouter(prospect);
+            ecouteurs.forEach(e -> e.entiteAjoutee(prospect));
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ajoute un lot de prospects sous une seule prise du verrou d'écriture.
+     * <p>
+     * Équivaut à {@link #add(Prospect)} pour chaque prospect, dans l'ordre, mais une
+     * lecture concurrente n'observe jamais un lot partiellement ajouté et le
+     * verrou n'est pris qu'une fois (imports en masse).
+     * </p>
+     *
+     * @param prospects les prospects à ajouter
+     */
+    public void addAll(Collection<Prospect> prospects) {
+        verrou.writeLock().lock();
+        try {
+            for (Prospect prospect : prospects) {
+                add(prospect);
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Alimente en masse un repository vide (rechargement des données persistées).
+     * <p>
+     * Équivaut à {@link #addAll(Collection)}, mais la vue triée et les index
+     * secondaires sont construits d'un bloc : les prospects sont triés une fois par
+     * vue au lieu d'être insérés un à un. Sur un repository non vide, délègue
+     * à {@link #addAll(Collection)}.
+     * </p>
+     *
+     * @param prospects les prospects à ajouter
+     */
+    public void charger(Collection<Prospect> prospects) {
+        verrou.writeLock().lock();
+        try {
+            if (this.prospects.size() > 0) {
+                addAll(prospects);
+                return;
+            }
+            for (Prospect prospect : prospects) {
+                this.prospects.put(prospect.getId(), prospect);
+            }
+            // Un identifiant répété ne garde que sa dernière instance, comme add
+            List<Prospect> charges = this.prospects.valeurs();
+            indexRaisonSociale.ajouterTous(charges);
+            vueTriee.charger(charges);
+            indexSocietes.charger(charges);
+            for (Prospect prospect : charges) {
+                ecouteurs.forEach(e -> e.entiteAjoutee(prospect));
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
     }
 
     /**
      * Met à jour un prospect existant dans le repository.
      * <p>
-     * Recherche le prospect par son identifiant et remplace l'ancienne instance
-     * par la nouvelle.
+     * Remplace l'ancienne instance par la nouvelle en temps constant, sans
+     * modifier l'ordre d'insertion. Un prospect inconnu est ignoré.
      * </p>
      *
      * @param prospect le prospect avec les nouvelles données (doit avoir un ID valide)
      */
     public void update(Prospect prospect) {
-        for (int i = 0; i < this.prospects.size(); i++) {
-            if (this.prospects.get(i).getId() == prospect.getId()) {
-                this.prospects.set(i, prospect);
-                return;
+        verrou.writeLock().lock();
+        try {
+            Prospect existant = this.prospects.replace(prospect.getId(), prospect);
+            if (existant != null) {
+                indexRaisonSociale.retirer(existant);
+                indexRaisonSociale.ajouter(prospect);
+                vueTriee.retirer(existant);
+                indexSocietes.retirer(existant);
+                vueTriee.ajouter(prospect);
+                indexSocietes.ajouter(prospect);
+                ecouteurs.forEach(e -> e.entiteModifiee(prospect));
             }
+        } finally {
+            verrou.writeLock().unlock();
         }
     }
 
     /**
      * Supprime un prospect du repository par son identifiant.
      * <p>
-     * Utilise {@link List#removeIf} pour supprimer le prospect correspondant.
+     * Le prospect est également retiré de l'index des raisons sociales.
      * </p>
      *
      * @param id identifiant du prospect à supprimer
      * @return true si un prospect a été supprimé, false si aucun prospect ne correspond
      */
     public boolean delete(int id) {
-        return prospects.removeIf(prospect -> prospect.getId() == id);
+        verrou.writeLock().lock();
+        try {
+            Prospect existant = prospects.get(id);
+            if (existant == null) {
+                return false;
+            }
+            indexRaisonSociale.retirer(existant);
+            vueTriee.retirer(existant);
+            indexSocietes.retirer(existant);
+            prospects.remove(id);
+            ecouteurs.forEach(e -> e.entiteSupprimee(id));
+            return true;
+        } finally {
+            verrou.writeLock().unlock();
+        }
     }
 
     /**
      * Recherche un prospect par son identifiant.
      * <p>
-     * Utilise les Streams Java 8 pour rechercher efficacement le prospect.
+     * Accès direct à l'index par identifiant, en temps constant.
      * </p>
      *
      * @param id identifiant du prospect recherché
      * @return le prospect trouvé ou null si aucun prospect ne correspond
      */
     public Prospect findById(int id) {
-        return prospects.stream()
-                .filter(prospect -> prospect.getId() == id)
-                .findFirst()
-                .orElse(null);
+        long debut = System.nanoTime();
+        verrou.readLock().lock();
+        try {
+            return prospects.get(id);
+        } finally {
+            verrou.readLock().unlock();
+            LATENCE_FIND_BY_ID.enregistrerDepuis(debut);
+        }
     }
 
     /**
      * Retourne tous les prospects triés alphabétiquement par raison sociale.
      * <p>
-     * Crée une copie défensive de la liste pour éviter les modifications non
-     * contrôlées, puis applique le tri via le comparateur {@link #BY_RAISON_SOCIALE}.
-     * Les valeurs nulles sont gérées en les traitant comme des chaînes vides.
+     * L'ordre est maintenu incrémentalement par une vue triée (voir
+     * {@link #BY_RAISON_SOCIALE}) : aucun tri n'est effectué à l'appel.
+     * La liste retournée est un instantané non modifiable, partagé entre
+     * les appelants jusqu'à la prochaine modification du repository.
      * </p>
      *
-     * @return liste de tous les prospects triés par raison sociale (A-Z)
+     * @return liste non modifiable de tous les prospects triés par raison sociale (A-Z)
      */
     public List<Prospect> findAll() {
-        List<Prospect> copy = new ArrayList<>(prospects);
-        copy.sort(BY_RAISON_SOCIALE);
-        return copy;
+        verrou.readLock().lock();
+        try {
+            return vueTriee.liste();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retourne le nombre de prospects, en temps constant.
+     *
+     * @return nombre de prospects du repository
+     */
+    public int count() {
+        verrou.readLock().lock();
+        try {
+            return prospects.size();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recherche les prospects dont la raison sociale commence par un préfixe.
+     * <p>
+     * La recherche est insensible à la casse et s'appuie sur l'index de préfixes :
+     * seuls les {@code max} premiers résultats sont parcourus et retournés, quel
+     * que soit le nombre de prospects. Adaptée à la saisie incrémentale.
+     * </p>
+     *
+     * @param prefixe début de la raison sociale (vide pour les premiers prospects)
+     * @param max nombre maximal de résultats
+     * @return nouvelle liste d'au plus {@code max} prospects, par raison sociale pliée puis identifiant
+     */
+    public List<Prospect> rechercherParPrefixe(String prefixe, int max) {
+        verrou.readLock().lock();
+        try {
+            return indexSocietes.prefixes(prefixe, max);
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recherche les prospects satisfaisant un filtre, triés selon un critère.
+     * <p>
+     * Seule la collecte des candidats s'effectue sous le verrou de lecture : ils
+     * proviennent de l'index secondaire le plus sélectif du filtre, ou de la
+     * version figée de la vue triée si le filtre est vide. Le filtrage et le tri
+     * sur clés pré-calculées ont lieu ensuite, sans verrou. Destinée à être
+     * appelée hors EDT ; abandonnée si le thread est interrompu.
+     * </p>
+     *
+     * @param filtre critères de filtrage ({@link FiltreSocietes#AUCUN} pour tous)
+     * @param tri critère de tri
+     * @param croissant true pour l'ordre croissant
+     * @return le résultat filtré et trié, avec les clés de tri de chaque ligne
+     * @throws java.util.concurrent.CancellationException si le thread est interrompu
+     */
+    public ResultatRecherche<Prospect> rechercher(FiltreSocietes filtre, TriSocietes tri, boolean croissant) {
+        long debut = System.nanoTime();
+        List<Prospect> candidats;
+        verrou.readLock().lock();
+        try {
+            candidats = filtre.estVide() ? null : indexSocietes.candidats(filtre);
+            if (candidats == null) {
+                candidats = vueTriee.liste();
+            }
+        } finally {
+            verrou.readLock().unlock();
+        }
+        try {
+            return ResultatRecherche.calculer(candidats, filtre.estVide(), filtre, tri, croissant);
+        } finally {
+            LATENCE_RECHERCHER.enregistrerDepuis(debut);
+        }
     }
 
     /**
@@ -155,7 +410,7 @@ public class ProspectRepository {
         Adresse adresse1 = new Adresse("10", "Metz", "54390", "Frouard");
         Adresse adresse2 = new Adresse("101", "De La Resistance", "54390", "Frouard");
 
-        prospects.add(
+        add(
                 new Prospect(
                         "Boulangerie", adresse1,
                         "0696589632",
@@ -165,7 +420,7 @@ public class ProspectRepository {
                         Interesse.OUI
                 )
         );
-        prospects.add(
+        add(
                 new Prospect(
                         "Supermarché", adresse2,
                         "0123456789",
@@ -0,0 +1,199 @@
+package main.com.julio.repository;
+
+import main.com.julio.model.Societe;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index des raisons sociales partagé entre clients et prospects.
+ * <p>
+ * Chaque société indexée est rangée sous sa raison sociale « pliée »
+ * (insensible à la casse, voir {@link #plier(String)}), ce qui permet de
+ * détecter un doublon en temps constant au lieu de parcourir toutes les
+ * sociétés. L'index écoute les sociétés qu'il contient et se met à jour
+ * lorsque {@link Societe#setRaisonSociale(String)} les renomme.
+ * </p>
+ * <p>
+ * Une même instance est injectée dans {@link ClientRepository} et
+ * {@link ProspectRepository} afin que l'unicité soit vérifiée à travers
+ * les deux types d'entités.
+ * </p>
+ * <p>
+ * L'index est protégé par son propre {@link ReentrantReadWriteLock} : les
+ * vérifications d'unicité s'exécutent en parallèle et ne sont bloquées que
+ * pendant un ajout, un retrait ou un renommage.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see main.com.julio.service.UnicityService
+ */
+public class RaisonSocialeIndex {
+
+    /** Raison sociale pliée vers les sociétés qui la portent (une seule en temps normal) */
+    private final Map<String, List<Societe>> societesParCle = new HashMap<>();
+
+    /** Clé courante de chaque société indexée, pour la retirer même renommée entre-temps */
+    private final Map<Societe, String> cles = new IdentityHashMap<>();
+
+    /** Verrou lecteurs/écrivain protégeant les deux maps ci-dessus */
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    /** Écouteur déplaçant une société dans l'index lorsqu'elle est renommée */
+    private final PropertyChangeListener ecouteurRaisonSociale = this::onRaisonSocialeModifiee;
+
+    /**
+     * Ajoute une société à l'index et écoute ses changements de raison sociale.
+     *
+     * @param societe la société à indexer
+     */
+    public void ajouter(Societe societe) {
+        verrou.writeLock().lock();
+        try {
+            rattacher(societe, plier(societe.getRaisonSociale()));
+        } finally {
+            verrou.writeLock().unlock();
+        }
+        societe.addPropertyChangeListener(ecouteurRaisonSociale);
+    }
+
+    /**
+     * Ajoute des sociétés à l'index sous une seule prise du verrou d'écriture.
+     * <p>
+     * Équivaut à {@link #ajouter(Societe)} pour chaque société (chargement en masse).
+     * </p>
+     *
+     * @param societes les sociétés à indexer
+     */
+    public void ajouterTous(Collection<? extends Societe> societes) {
+        verrou.writeLock().lock();
+        try {
+            for (Societe societe : societes) {
+                rattacher(societe, plier(societe.getRaisonSociale()));
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
+        for (Societe societe : societes) {
+            societe.addPropertyChangeListener(ecouteurRaisonSociale);
+        }
+    }
+
+    /**
+     * Retire une société de l'index et cesse d'écouter ses changements.
+     *
+     * @param societe la société à retirer
+     */
+    public void retirer(Societe societe) {
+        societe.removePropertyChangeListener(ecouteurRaisonSociale);
+        verrou.writeLock().lock();
+        try {
+            detacher(societe);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Vérifie si une raison sociale est déjà portée par une société indexée.
+     * <p>
+     * La comparaison est équivalente à {@link String#equalsIgnoreCase(String)}.
+     * Les sociétés dont l'identifiant vaut {@code idExclu} sont ignorées.
+     * </p>
+     *
+     * @param raisonSociale la raison sociale à vérifier
+     * @param idExclu l'identifiant de la société à exclure de la vérification
+     * @return true si une autre société porte déjà cette raison sociale
+     */
+    public boolean contient(String raisonSociale, int idExclu) {
+        if (raisonSociale == null) {
+            return false;
+        }
+        String cle = plier(raisonSociale);
+        verrou.readLock().lock();
+        try {
+            List<Societe> societes = societesParCle.get(cle);
+            if (societes == null) {
+                return false;
+            }
+            for (Societe societe : societes) {
+                if (societe.getId() != idExclu) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Plie une raison sociale pour la rendre insensible à la casse.
+     * <p>
+     * Chaque caractère est passé en majuscule puis en minuscule, exactement
+     * comme le fait {@link String#equalsIgnoreCase(String)} : deux chaînes
+     * sont égales sans tenir compte de la casse si et seulement si leurs
+     * formes pliées sont égales.
+     * </p>
+     *
+     * @param raisonSociale la raison sociale à plier (non null)
+     * @return la clé d'index correspondante
+     */
+    public static String plier(String raisonSociale) {
+        char[] cle = new char[raisonSociale.length()];
+        for (int i = 0; i < cle.length; i++) {
+            cle[i] = Character.toLowerCase(Character.toUpperCase(raisonSociale.charAt(i)));
+        }
+        return new String(cle);
+    }
+
+    /**
+     * Déplace une société renommée via {@link Societe#setRaisonSociale(String)}.
+     *
+     * @param evt l'événement de changement de propriété émis par la société
+     */
+    private void onRaisonSocialeModifiee(PropertyChangeEvent evt) {
+        if (!Societe.PROPRIETE_RAISON_SOCIALE.equals(evt.getPropertyName())) {
+            return;
+        }
+        Societe societe = (Societe) evt.getSource();
+        verrou.writeLock().lock();
+        try {
+            // Société retirée entre la notification et la prise du verrou : rien à déplacer
+            if (detacher(societe)) {
+                rattacher(societe, plier(societe.getRaisonSociale()));
+            }
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    private void rattacher(Societe societe, String cle) {
+        societesParCle.computeIfAbsent(cle, k -> new ArrayList<>(1)).add(societe);
+        cles.put(societe, cle);
+    }
+
+    private boolean detacher(Societe societe) {
+        String cle = cles.remove(societe);
+        if (cle == null) {
+            return false;
+        }
+        List<Societe> societes = societesParCle.get(cle);
+        if (societes != null) {
+            societes.removeIf(s -> s == societe);
+            if (societes.isEmpty()) {
+                societesParCle.remove(cle);
+            }
+        }
+        return true;
+    }
+}
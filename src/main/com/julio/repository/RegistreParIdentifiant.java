@@ -0,0 +1,183 @@
+package main.com.julio.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index principal d'un repository : valeurs par identifiant, dans l'ordre d'insertion.
+ * <p>
+ * Remplace une {@code LinkedHashMap<Integer, V>} sans boxer les identifiants ni
+ * allouer un nœud chaîné par entrée : la recherche passe par une
+ * {@link TableParIdentifiant} (pages indexées par les bits de poids fort de
+ * l'identifiant), et l'ordre d'insertion est un tableau de rangs. Une
+ * suppression libère son rang sans décaler les suivants ; le tableau est
+ * compacté dès que plus de la moitié des rangs attribués sont libres.
+ * </p>
+ * <p>
+ * Comme avec une {@code LinkedHashMap}, remplacer la valeur d'un identifiant
+ * présent conserve son rang. La table n'est pas synchronisée : le repository
+ * propriétaire l'utilise sous son verrou.
+ * </p>
+ *
+ * @param <V> type des valeurs
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ClientRepository
+ * @see ProspectRepository
+ */
+final class RegistreParIdentifiant<V> {
+
+    private static final int CAPACITE_INITIALE = 16;
+
+    /**
+     * Valeur d'un identifiant et son rang dans l'ordre d'insertion.
+     */
+    private static final class Entree<V> {
+        private final int id;
+        private V valeur;
+        private int rang;
+
+        private Entree(int id, V valeur, int rang) {
+            this.id = id;
+            this.valeur = valeur;
+            this.rang = rang;
+        }
+    }
+
+    private final TableParIdentifiant<Entree<V>> entrees = new TableParIdentifiant<>();
+    private Entree<V>[] ordre = nouveauTableau(CAPACITE_INITIALE);
+    private int fin;  // Rangs attribués, libres compris
+    private int taille;
+
+    /**
+     * Retourne la valeur associée à un identifiant.
+     *
+     * @param id identifiant
+     * @return la valeur, ou null si aucune
+     */
+    V get(int id) {
+        Entree<V> entree = entrees.get(id);
+        return entree == null ? null : entree.valeur;
+    }
+
+    /**
+     * Associe une valeur à un identifiant, en fin d'ordre s'il est nouveau.
+     *
+     * @param id identifiant
+     * @param valeur valeur (non null)
+     * @return la valeur remplacée, ou null si l'identifiant était absent
+     */
+    V put(int id, V valeur) {
+        Entree<V> entree = entrees.get(id);
+        if (entree != null) {
+            V ancienne = entree.valeur;
+            entree.valeur = valeur;
+            return ancienne;
+        }
+        if (fin == ordre.length) {
+            if (taille > ordre.length / 2) {
+                ordre = Arrays.copyOf(ordre, ordre.length * 2);
+            } else {
+                compacter();
+            }
+        }
+        entree = new Entree<>(id, valeur, fin);
+        ordre[fin++] = entree;
+        entrees.put(id, entree);
+        taille++;
+        return null;
+    }
+
+    /**
+     * Remplace la valeur d'un identifiant présent, sans changer son rang.
+     *
+     * @param id identifiant
+     * @param valeur nouvelle valeur (non null)
+     * @return la valeur remplacée, ou null si l'identifiant est absent (rien n'est ajouté)
+     */
+    V replace(int id, V valeur) {
+        Entree<V> entree = entrees.get(id);
+        if (entree == null) {
+            return null;
+        }
+        V ancienne = entree.valeur;
+        entree.valeur = valeur;
+        return ancienne;
+    }
+
+    /**
+     * Retire un identifiant.
+     *
+     * @param id identifiant
+     * @return la valeur retirée, ou null si l'identifiant était absent
+     */
+    V remove(int id) {
+        Entree<V> entree = entrees.get(id);
+        if (entree == null) {
+            return null;
+        }
+        entrees.put(id, null);
+        ordre[entree.rang] = null;
+        taille--;
+        if (taille < fin / 2) {
+            compacter();
+        }
+        return entree.valeur;
+    }
+
+    int size() {
+        return taille;
+    }
+
+    /**
+     * Retourne les valeurs dans l'ordre d'insertion.
+     *
+     * @return une nouvelle liste modifiable
+     */
+    List<V> valeurs() {
+        List<V> valeurs = new ArrayList<>(taille);
+        for (int rang = 0; rang < fin; rang++) {
+            if (ordre[rang] != null) {
+                valeurs.add(ordre[rang].valeur);
+            }
+        }
+        return valeurs;
+    }
+
+    /**
+     * Retire toutes les valeurs.
+     */
+    void clear() {
+        for (int rang = 0; rang < fin; rang++) {
+            if (ordre[rang] != null) {
+                entrees.put(ordre[rang].id, null);
+            }
+        }
+        ordre = nouveauTableau(CAPACITE_INITIALE);
+        fin = 0;
+        taille = 0;
+    }
+
+    /**
+     * Resserre les rangs occupés en tête du tableau, dans leur ordre.
+     */
+    private void compacter() {
+        int suivant = 0;
+        for (int rang = 0; rang < fin; rang++) {
+            Entree<V> entree = ordre[rang];
+            if (entree != null) {
+                entree.rang = suivant;
+                ordre[suivant++] = entree;
+            }
+        }
+        Arrays.fill(ordre, suivant, fin, null);
+        fin = suivant;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Entree<V>[] nouveauTableau(int capacite) {
+        return (Entree<V>[]) new Entree<?>[capacite];
+    }
+}
@@ -0,0 +1,165 @@
+package main.com.julio.repository;
+
+import main.com.julio.model.Societe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Résultat d'une recherche filtrée et triée dans un repository de sociétés.
+ * <p>
+ * Calculé hors EDT par {@link ClientRepository#rechercher(FiltreSocietes, TriSocietes, boolean)}
+ * ou {@link ProspectRepository#rechercher(FiltreSocietes, TriSocietes, boolean)} :
+ * les candidats sont vérifiés par le filtre, leur clé de tri ({@link CleTri})
+ * est calculée une fois par ligne, puis ils sont triés sur ces clés. Le résultat
+ * transmet ces clés au modèle de table, qui s'en sert pour placer les mises à
+ * jour incrémentales sans les recalculer.
+ * </p>
+ * <p>
+ * Le calcul vérifie régulièrement l'interruption du thread : une recherche
+ * devenue obsolète (nouvelle saisie) est abandonnée par
+ * {@link CancellationException} au lieu d'être menée à terme.
+ * </p>
+ *
+ * @param <T> type de société
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class ResultatRecherche<T extends Societe> {
+
+    /** Nombre de lignes traitées entre deux vérifications d'interruption */
+    private static final int PAS_VERIFICATION = 4_096;
+
+    private final FiltreSocietes filtre;
+    private final TriSocietes tri;
+    private final boolean croissant;
+    private final List<T> societes;
+    private final Map<Integer, CleTri> cles;
+
+    private ResultatRecherche(FiltreSocietes filtre, TriSocietes tri, boolean croissant,
+                              List<T> societes, Map<Integer, CleTri> cles) {
+        this.filtre = filtre;
+        this.tri = tri;
+        this.croissant = croissant;
+        this.societes = societes;
+        this.cles = cles;
+    }
+
+    /**
+     * Filtre et trie des candidats.
+     * <p>
+     * Des candidats issus de la vue triée du repository sont déjà dans l'ordre
+     * croissant des raisons sociales : pour ce tri, ils sont seulement filtrés.
+     * </p>
+     *
+     * @param candidats sociétés à filtrer (non modifiée)
+     * @param triesParRaisonSociale true si les candidats sont dans l'ordre de la vue triée
+     * @param filtre critères de filtrage
+     * @param tri critère de tri
+     * @param croissant true pour l'ordre croissant
+     * @param <T> type de société
+     * @return le résultat
+     * @throws CancellationException si le thread est interrompu pendant le calcul
+     */
+    static <T extends Societe> ResultatRecherche<T> calculer(List<T> candidats, boolean triesParRaisonSociale,
+                                                             FiltreSocietes filtre, TriSocietes tri,
+                                                             boolean croissant) {
+        return calculer(candidats, triesParRaisonSociale, filtre, tri, croissant, TriSocietes.SANS_CONTRATS);
+    }
+
+    /**
+     * Filtre et trie des candidats, le total des contrats étant lu dans une source donnée.
+     *
+     * @param candidats sociétés à filtrer (non modifiée)
+     * @param triesParRaisonSociale true si les candidats sont dans l'ordre de la vue triée
+     * @param filtre critères de filtrage
+     * @param tri critère de tri
+     * @param croissant true pour l'ordre croissant
+     * @param totalContrats total des contrats en centimes par identifiant de client
+     * @param <T> type de société
+     * @return le résultat
+     * @throws CancellationException si le thread est interrompu pendant le calcul
+     * @see TriSocietes#cle(Societe, IntToLongFunction)
+     */
+    static <T extends Societe> ResultatRecherche<T> calculer(List<T> candidats, boolean triesParRaisonSociale,
+                                                             FiltreSocietes filtre, TriSocietes tri,
+                                                             boolean croissant, IntToLongFunction totalContrats) {
+        @SuppressWarnings("unchecked")
+        Ligne<T>[] lignes = (Ligne<T>[]) new Ligne<?>[candidats.size()];
+        int nb = 0;
+        for (int i = 0; i < candidats.size(); i++) {
+            if (i % PAS_VERIFICATION == 0) {
+                verifierInterruption();
+            }
+            T societe = candidats.get(i);
+            if (filtre.accepte(societe)) {
+                lignes[nb++] = new Ligne<>(tri.cle(societe, totalContrats), societe);
+            }
+        }
+
+        if (!(triesParRaisonSociale && tri == TriSocietes.RAISON_SOCIALE && croissant)) {
+            Comparator<Ligne<T>> ordre = Comparator.comparing(Ligne::cle);
+            Arrays.sort(lignes, 0, nb, croissant ? ordre : ordre.reversed());
+            verifierInterruption();
+        }
+
+        List<T> societes = new ArrayList<>(nb);
+        Map<Integer, CleTri> cles = new HashMap<>(Math.max(16, (int) (nb / 0.75f) + 1));
+        for (int i = 0; i < nb; i++) {
+            societes.add(lignes[i].societe());
+            cles.put(lignes[i].societe().getId(), lignes[i].cle());
+        }
+        return new ResultatRecherche<>(filtre, tri, croissant, Collections.unmodifiableList(societes), cles);
+    }
+
+    public FiltreSocietes getFiltre() {
+        return filtre;
+    }
+
+    public TriSocietes getTri() {
+        return tri;
+    }
+
+    public boolean isCroissant() {
+        return croissant;
+    }
+
+    /**
+     * Retourne les sociétés retenues, dans l'ordre du tri.
+     *
+     * @return liste non modifiable
+     */
+    public List<T> getSocietes() {
+        return societes;
+    }
+
+    /**
+     * Retourne la clé de tri de chaque société retenue, par identifiant.
+     * <p>
+     * La table est remise telle quelle au modèle qui adopte le résultat et la
+     * maintient ensuite : elle ne doit pas être partagée entre plusieurs modèles.
+     * </p>
+     *
+     * @return table modifiable des clés de tri
+     */
+    public Map<Integer, CleTri> getCles() {
+        return cles;
+    }
+
+    private static void verifierInterruption() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Recherche abandonnée");
+        }
+    }
+
+    private record Ligne<T>(CleTri cle, T societe) {
+    }
+}
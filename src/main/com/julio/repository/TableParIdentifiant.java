@@ -0,0 +1,146 @@
+package main.com.julio.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Table associant une valeur à un identifiant, capable de figer des versions immuables.
+ * <p>
+ * Les identifiants étant attribués séquentiellement, les valeurs sont rangées
+ * dans des pages de {@link #TAILLE_PAGE} cases indexées par les bits de poids
+ * fort de l'identifiant. {@link #figer()} ne copie que la table des pages : une
+ * page figée n'est plus jamais modifiée, la première écriture qui la touche
+ * ensuite en travaille une copie. Le principe est celui de {@link VueTriee}.
+ * </p>
+ * <p>
+ * La table n'est pas synchronisée : le repository propriétaire appelle
+ * {@link #figer()} sous son verrou de lecture et le reste sous son verrou d'écriture.
+ * </p>
+ *
+ * @param <V> type des valeurs
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ContratRepository
+ * @see RegistreParIdentifiant
+ */
+final class TableParIdentifiant<V> {
+
+    /** Nombre de bits de l'identifiant adressant une case dans sa page */
+    private static final int BITS_PAGE = 10;
+
+    /** Nombre de cases d'une page */
+    static final int TAILLE_PAGE = 1 << BITS_PAGE;
+
+    /**
+     * Page de valeurs. Comme les blocs de {@link VueTriee}, une page d'une
+     * génération antérieure appartient à une version figée.
+     */
+    private static final class Page {
+        private final Object[] valeurs;
+        private int occupees;
+        private final int generation;
+
+        private Page(int generation) {
+            this.valeurs = new Object[TAILLE_PAGE];
+            this.generation = generation;
+        }
+
+        private Page copier(int generation) {
+            Page copie = new Page(generation);
+            System.arraycopy(valeurs, 0, copie.valeurs, 0, TAILLE_PAGE);
+            copie.occupees = occupees;
+            return copie;
+        }
+    }
+
+    private final Map<Integer, Page> pages = new HashMap<>();
+    private int generation;
+    private volatile Version<V> version;
+
+    /**
+     * Retourne la valeur associée à un identifiant.
+     *
+     * @param id identifiant
+     * @return la valeur, ou null si aucune
+     */
+    V get(int id) {
+        return lire(pages.get(id >>> BITS_PAGE), id);
+    }
+
+    /**
+     * Associe une valeur à un identifiant ; une valeur null retire l'association.
+     *
+     * @param id identifiant
+     * @param valeur nouvelle valeur, ou null
+     */
+    void put(int id, V valeur) {
+        int numero = id >>> BITS_PAGE;
+        int indice = id & (TAILLE_PAGE - 1);
+        Page page = pages.get(numero);
+        if (page == null) {
+            if (valeur == null) {
+                return;
+            }
+            page = new Page(generation);
+            pages.put(numero, page);
+        } else if (page.generation != generation) {
+            page = page.copier(generation);
+            pages.put(numero, page);
+        }
+        version = null;
+        if (page.valeurs[indice] == null) {
+            page.occupees += valeur == null ? 0 : 1;
+        } else if (valeur == null) {
+            page.occupees--;
+        }
+        page.valeurs[indice] = valeur;
+        if (page.occupees == 0) {
+            pages.remove(numero);
+        }
+    }
+
+    /**
+     * Fige l'état courant ; la version est partagée jusqu'à la prochaine modification.
+     *
+     * @return la version immuable de la table
+     */
+    synchronized Version<V> figer() {
+        Version<V> resultat = version;
+        if (resultat == null) {
+            resultat = new Version<>(new HashMap<>(pages));
+            generation++;
+            version = resultat;
+        }
+        return resultat;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V lire(Page page, int id) {
+        return page == null ? null : (V) page.valeurs[id & (TAILLE_PAGE - 1)];
+    }
+
+    /**
+     * Version figée de la table, en lecture seule.
+     *
+     * @param <V> type des valeurs
+     */
+    static final class Version<V> {
+
+        private final Map<Integer, Page> pages;
+
+        private Version(Map<Integer, Page> pages) {
+            this.pages = pages;
+        }
+
+        /**
+         * Retourne la valeur associée à un identifiant dans cette version.
+         *
+         * @param id identifiant
+         * @return la valeur, ou null si aucune
+         */
+        V get(int id) {
+            return lire(pages.get(id >>> BITS_PAGE), id);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package main.com.julio.repository;
+
+import main.com.julio.model.Client;
+import main.com.julio.model.Prospect;
+import main.com.julio.model.Societe;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Critères de tri d'une liste de sociétés, un par colonne affichable.
+ * <p>
+ * Chaque critère calcule la {@link CleTri} d'une société : les colonnes
+ * numériques (identifiant, chiffre d'affaires, date...) alimentent la partie
+ * numérique, les colonnes textuelles la partie textuelle, comparée telle quelle
+ * comme l'ordre de la vue triée des repositories. Un critère propre à un type
+ * de société (chiffre d'affaires pour les clients, date de prospection pour les
+ * prospects) place les autres sociétés en tête.
+ * </p>
+ * <p>
+ * Le total des contrats d'un client n'est pas une propriété de la société :
+ * il est lu dans une source fournie par l'appelant (agrégats de
+ * {@link ContratRepository}), en temps constant.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ResultatRecherche
+ */
+public enum TriSocietes {
+
+    /** Identifiant */
+    ID,
+    /** Raison sociale : ordre de la vue triée du repository */
+    RAISON_SOCIALE,
+    /** Adresse formatée */
+    ADRESSE,
+    /** Téléphone */
+    TELEPHONE,
+    /** Email */
+    EMAIL,
+    /** Chiffre d'affaires (clients) */
+    CHIFFRE_AFFAIRES,
+    /** Nombre d'employés (clients) */
+    NB_EMPLOYES,
+    /** Montant total des contrats (clients) */
+    TOTAL_CONTRATS,
+    /** Date de prospection (prospects) */
+    DATE_PROSPECTION,
+    /** Intérêt (prospects) */
+    INTERESSE;
+
+    /** Source de totaux pour les sociétés sans contrat : 0 pour toutes */
+    public static final IntToLongFunction SANS_CONTRATS = id -> 0;
+
+    /**
+     * Calcule la clé de tri d'une société selon ce critère, sans contrat.
+     *
+     * @param societe la société
+     * @return sa clé de tri
+     */
+    public CleTri cle(Societe societe) {
+        return cle(societe, SANS_CONTRATS);
+    }
+
+    /**
+     * Calcule la clé de tri d'une société selon ce critère.
+     *
+     * @param societe la société
+     * @param totalContrats total des contrats en centimes par identifiant de client,
+     *                      lu seulement pour {@link #TOTAL_CONTRATS}
+     * @return sa clé de tri
+     */
+    public CleTri cle(Societe societe, IntToLongFunction totalContrats) {
+        int id = societe.getId();
+        return switch (this) {
+            case ID -> new CleTri(id, "", id);
+            case RAISON_SOCIALE -> new CleTri(0, societe.getRaisonSociale(), id);
+            case ADRESSE -> new CleTri(0, societe.getAdresse().toString(), id);
+            case TELEPHONE -> new CleTri(0, societe.getTelephone(), id);
+            case EMAIL -> new CleTri(0, societe.getEmail(), id);
+            case CHIFFRE_AFFAIRES -> new CleTri(societe instanceof Client c ? c.getChiffreAffaires() : Long.MIN_VALUE, "", id);
+            case NB_EMPLOYES -> new CleTri(societe instanceof Client c ? c.getNbEmployes() : Long.MIN_VALUE, "", id);
+            case TOTAL_CONTRATS -> new CleTri(societe instanceof Client ? totalContrats.applyAsLong(id) : Long.MIN_VALUE,
+                    "", id);
+            case DATE_PROSPECTION -> new CleTri(societe instanceof Prospect p && p.getDateProspection() != null
+                    ? p.getDateProspection().toEpochDay() : Long.MIN_VALUE, "", id);
+            case INTERESSE -> new CleTri(0, societe instanceof Prospect p && p.getInteresse() != null
+                    ? p.getInteresse().getLibelle() : "", id);
+        };
+    }
+}
@@ -0,0 +1,494 @@
+package main.com.julio.repository;
+
+import main.com.julio.model.Societe;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Vue triée par raison sociale maintenue de manière incrémentale.
+ * <p>
+ * Les sociétés sont rangées par (raison sociale, identifiant) dans une suite de
+ * blocs triés d'au plus {@link #TAILLE_BLOC} entrées : un ajout, un retrait ou
+ * un renommage localise son bloc par dichotomie puis ne décale que ce bloc.
+ * Le parcours trié ne nécessite ni copie ni tri.
+ * </p>
+ * <p>
+ * La clé de tri est par défaut la raison sociale ; une autre clé peut être
+ * calculée à partir de la société par une fonction fournie à la construction.
+ * La vue sert alors d'index secondaire (voir {@link IndexSocietes}) : recherche
+ * par préfixe ({@link #rechercher(String, int)}) ou par intervalle
+ * ({@link #entre(String, String, int)}), qui ne parcourent que les entrées retournées.
+ * </p>
+ *
+ * <p><b>Versions (lectures multi-versions) :</b></p>
+ * <p>
+ * {@link #liste()} fige l'état courant en une {@link Version} immuable : seule la
+ * table des blocs est copiée, les blocs eux-mêmes sont partagés. Un bloc figé
+ * n'est plus jamais modifié : la première écriture qui le touche ensuite en
+ * travaille une copie (copie sur écriture), les autres blocs restant partagés.
+ * Une version obtenue reste donc cohérente aussi longtemps qu'on la parcourt,
+ * quelles que soient les modifications ultérieures, et les écritures sans lecteur
+ * intercalé (chargement en masse) modifient les blocs en place.
+ * </p>
+ * <p>
+ * La vue n'est pas synchronisée : le repository propriétaire appelle ses méthodes
+ * sous son propre verrou (lecture pour {@link #liste()}, écriture pour le reste).
+ * Les renommages, notifiés hors de tout repository, prennent le verrou d'écriture
+ * fourni à la construction.
+ * </p>
+ *
+ * @param <T> type de société indexée (Client ou Prospect)
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ClientRepository#findAll()
+ * @see ProspectRepository#findAll()
+ */
+class VueTriee<T extends Societe> {
+
+    /** Nombre maximal d'entrées d'un bloc ; un bloc plein est scindé en deux */
+    static final int TAILLE_BLOC = 512;
+
+    /**
+     * Remplissage des blocs construits par {@link #charger(List)} : la marge laissée
+     * absorbe les ajouts suivants (rejeu du journal) sans scinder aussitôt les blocs
+     */
+    static final int REMPLISSAGE_CHARGEMENT = TAILLE_BLOC * 3 / 4;
+
+    /**
+     * Entrée de la vue : clé de tri (raison sociale transformée, null traitée
+     * comme vide, puis identifiant) et société associée.
+     *
+     * @param cle clé issue de la raison sociale au moment de l'indexation
+     * @param id identifiant de la société
+     * @param societe la société
+     */
+    private record Entree<T>(String cle, int id, T societe) implements Comparable<Entree<T>> {
+
+        @Override
+        public int compareTo(Entree<T> autre) {
+            int cmp = cle.compareTo(autre.cle);
+            return cmp != 0 ? cmp : Integer.compare(id, autre.id);
+        }
+    }
+
+    /**
+     * Bloc d'entrées triées. Un bloc créé pendant la génération courante peut être
+     * modifié en place ; un bloc d'une génération antérieure appartient à une
+     * version figée et doit être copié avant modification.
+     */
+    private static final class Bloc<T> {
+        private final Entree<T>[] entrees;
+        private int taille;
+        private final int generation;
+
+        @SuppressWarnings("unchecked")
+        private Bloc(int generation) {
+            this.entrees = (Entree<T>[]) new Entree<?>[TAILLE_BLOC];
+            this.generation = generation;
+        }
+
+        private Bloc<T> copier(int generation) {
+            Bloc<T> copie = new Bloc<>(generation);
+            System.arraycopy(entrees, 0, copie.entrees, 0, taille);
+            copie.taille = taille;
+            return copie;
+        }
+
+        private Entree<T> derniere() {
+            return entrees[taille - 1];
+        }
+    }
+
+    /** Blocs triés, non vides, couvrant l'ensemble des sociétés de la vue */
+    private final List<Bloc<T>> blocs = new ArrayList<>();
+
+    /**
+     * Entrée courante de chaque société présente, pour la retirer même si elle a
+     * été renommée entre-temps (renommage notifié mais pas encore répercuté).
+     */
+    private Map<T, Entree<T>> entrees = new IdentityHashMap<>();
+
+    /** Écouteur repositionnant une société lorsqu'elle est renommée */
+    private final PropertyChangeListener ecouteurRaisonSociale = this::onRaisonSocialeModifiee;
+
+    /** Génération des blocs modifiables en place ; incrémentée à chaque version figée */
+    private int generation;
+
+    /** Version figée de l'état courant, invalidée à chaque modification */
+    private volatile Version<T> version;
+
+    /** Verrou d'écriture du repository propriétaire, pris lors d'un renommage */
+    private final Lock verrouEcriture;
+
+    /** Calcul de la clé de tri (non null) d'une société */
+    private final Function<? super T, String> cle;
+
+    /** true si la clé dépend de la raison sociale : les renommages sont alors suivis */
+    private final boolean suiviRenommages;
+
+    /**
+     * Constructeur d'une vue triée sur la raison sociale telle quelle.
+     *
+     * @param verrouEcriture verrou d'écriture du repository propriétaire
+     */
+    VueTriee(Lock verrouEcriture) {
+        this(verrouEcriture, s -> s.getRaisonSociale() == null ? "" : s.getRaisonSociale(), true);
+    }
+
+    /**
+     * Constructeur d'une vue triée sur une clé calculée.
+     * <p>
+     * Une clé ne dépendant pas de la raison sociale n'est recalculée qu'au retrait
+     * puis à l'ajout de la société par le repository (mise à jour).
+     * </p>
+     *
+     * @param verrouEcriture verrou d'écriture du repository propriétaire
+     * @param cle calcul de la clé de tri d'une société (jamais null)
+     * @param suiviRenommages true si la clé dépend de la raison sociale
+     */
+    VueTriee(Lock verrouEcriture, Function<? super T, String> cle, boolean suiviRenommages) {
+        this.verrouEcriture = verrouEcriture;
+        this.cle = cle;
+        this.suiviRenommages = suiviRenommages;
+    }
+
+    /**
+     * Ajoute une société à la vue et écoute ses changements de raison sociale.
+     *
+     * @param societe la société à ajouter
+     */
+    void ajouter(T societe) {
+        Entree<T> entree = entree(societe);
+        inserer(entree);
+        entrees.put(societe, entree);
+        if (suiviRenommages) {
+            societe.addPropertyChangeListener(ecouteurRaisonSociale);
+        }
+    }
+
+    /**
+     * Ajoute des sociétés en masse à une vue vide.
+     * <p>
+     * Les entrées sont triées une seule fois puis réparties directement en blocs
+     * remplis à {@link #REMPLISSAGE_CHARGEMENT}, au lieu d'être insérées une à une
+     * (dichotomie et décalage par société). Sur une vue non vide, équivaut à
+     * {@link #ajouter(Societe)} pour chaque société.
+     * </p>
+     *
+     * @param societes les sociétés à ajouter, d'identifiants distincts
+     */
+    void charger(List<T> societes) {
+        if (!entrees.isEmpty()) {
+            for (T societe : societes) {
+                ajouter(societe);
+            }
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Entree<T>[] triees = (Entree<T>[]) new Entree<?>[societes.size()];
+        entrees = new IdentityHashMap<>(triees.length);
+        for (int i = 0; i < triees.length; i++) {
+            T societe = societes.get(i);
+            triees[i] = entree(societe);
+            entrees.put(societe, triees[i]);
+            if (suiviRenommages) {
+                societe.addPropertyChangeListener(ecouteurRaisonSociale);
+            }
+        }
+        Arrays.sort(triees);
+        version = null;
+        blocs.clear();
+        for (int debut = 0; debut < triees.length; debut += REMPLISSAGE_CHARGEMENT) {
+            Bloc<T> bloc = new Bloc<>(generation);
+            bloc.taille = Math.min(REMPLISSAGE_CHARGEMENT, triees.length - debut);
+            System.arraycopy(triees, debut, bloc.entrees, 0, bloc.taille);
+            blocs.add(bloc);
+        }
+    }
+
+    /**
+     * Retire une société de la vue et cesse d'écouter ses changements.
+     *
+     * @param societe la société à retirer
+     * @return la clé sous laquelle la société était rangée, ou null si elle était absente
+     */
+    String retirer(T societe) {
+        if (suiviRenommages) {
+            societe.removePropertyChangeListener(ecouteurRaisonSociale);
+        }
+        Entree<T> entree = entrees.remove(societe);
+        if (entree == null) {
+            return null;
+        }
+        supprimer(entree);
+        return entree.cle();
+    }
+
+    /**
+     * Vide la vue et cesse d'écouter toutes les sociétés.
+     * Les versions déjà obtenues ne sont pas affectées.
+     */
+    void vider() {
+        if (suiviRenommages) {
+            for (T societe : entrees.keySet()) {
+                societe.removePropertyChangeListener(ecouteurRaisonSociale);
+            }
+        }
+        blocs.clear();
+        entrees.clear();
+        version = null;
+    }
+
+    /**
+     * Retourne les sociétés triées sous forme de version immuable.
+     * <p>
+     * La version est figée une seule fois après chaque modification puis partagée
+     * par tous les appelants. Plusieurs lecteurs (verrou de lecture) pouvant la
+     * demander en même temps, le figeage est synchronisé.
+     * </p>
+     *
+     * @return liste triée non modifiable, inchangée par les modifications ultérieures
+     */
+    List<T> liste() {
+        Version<T> resultat = version;
+        return resultat != null ? resultat : figer();
+    }
+
+    /**
+     * Retourne les premières sociétés dont la clé commence par un préfixe, dans l'ordre de la vue.
+     * <p>
+     * Le premier candidat est localisé par dichotomie, puis seules les entrées
+     * retournées sont parcourues : le coût ne dépend pas du nombre de sociétés.
+     * Appelée sous le verrou de lecture du repository.
+     * </p>
+     *
+     * @param prefixe préfixe recherché, exprimé comme les clés de la vue
+     * @param max nombre maximal de résultats
+     * @return nouvelle liste d'au plus {@code max} sociétés
+     */
+    List<T> rechercher(String prefixe, int max) {
+        return parcourir(prefixe, c -> c.startsWith(prefixe), max);
+    }
+
+    /**
+     * Retourne les premières sociétés dont la clé est comprise entre deux bornes incluses.
+     * Appelée sous le verrou de lecture du repository.
+     *
+     * @param min borne inférieure, exprimée comme les clés de la vue
+     * @param max borne supérieure, exprimée comme les clés de la vue
+     * @param nbMax nombre maximal de résultats
+     * @return nouvelle liste d'au plus {@code nbMax} sociétés, dans l'ordre de la vue
+     */
+    List<T> entre(String min, String max, int nbMax) {
+        return parcourir(min, c -> c.compareTo(max) <= 0, nbMax);
+    }
+
+    /**
+     * Parcourt la vue à partir de la première clé supérieure ou égale à une borne,
+     * tant que les clés satisfont une condition.
+     */
+    private List<T> parcourir(String depuis, Predicate<String> dansPlage, int max) {
+        List<T> resultats = new ArrayList<>(Math.min(max, 64));
+        if (blocs.isEmpty() || max <= 0) {
+            return resultats;
+        }
+        Entree<T> borne = new Entree<>(depuis, Integer.MIN_VALUE, null);
+        int rang = rangBloc(borne);
+        Bloc<T> bloc = blocs.get(rang);
+        int position = -Arrays.binarySearch(bloc.entrees, 0, bloc.taille, borne) - 1;  // Borne jamais présente
+        while (resultats.size() < max) {
+            if (position == bloc.taille) {
+                if (++rang == blocs.size()) {
+                    break;
+                }
+                bloc = blocs.get(rang);
+                position = 0;
+            }
+            Entree<T> entree = bloc.entrees[position++];
+            if (!dansPlage.test(entree.cle())) {
+                break;
+            }
+            resultats.add(entree.societe());
+        }
+        return resultats;
+    }
+
+    private synchronized Version<T> figer() {
+        Version<T> resultat = version;
+        if (resultat == null) {
+            @SuppressWarnings("unchecked")
+            Bloc<T>[] tableau = (Bloc<T>[]) blocs.toArray(new Bloc<?>[0]);
+            resultat = new Version<>(tableau);
+            generation++;
+            version = resultat;
+        }
+        return resultat;
+    }
+
+    private Entree<T> entree(T societe) {
+        return new Entree<>(cle.apply(societe), societe.getId(), societe);
+    }
+
+    /**
+     * Insère une entrée dans son bloc, scindé en deux s'il est plein.
+     */
+    private void inserer(Entree<T> entree) {
+        version = null;
+        if (blocs.isEmpty()) {
+            blocs.add(new Bloc<>(generation));
+        }
+        int rang = rangBloc(entree);
+        Bloc<T> bloc = modifiable(rang);
+        if (bloc.taille == TAILLE_BLOC) {
+            Bloc<T> suite = new Bloc<>(generation);
+            int moitie = TAILLE_BLOC / 2;
+            System.arraycopy(bloc.entrees, moitie, suite.entrees, 0, TAILLE_BLOC - moitie);
+            Arrays.fill(bloc.entrees, moitie, TAILLE_BLOC, null);
+            suite.taille = TAILLE_BLOC - moitie;
+            bloc.taille = moitie;
+            blocs.add(rang + 1, suite);
+            if (entree.compareTo(bloc.derniere()) > 0) {
+                bloc = suite;
+            }
+        }
+        int position = Arrays.binarySearch(bloc.entrees, 0, bloc.taille, entree);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        System.arraycopy(bloc.entrees, position, bloc.entrees, position + 1, bloc.taille - position);
+        bloc.entrees[position] = entree;
+        bloc.taille++;
+    }
+
+    /**
+     * Supprime une entrée de son bloc ; un bloc devenu vide est retiré.
+     */
+    private void supprimer(Entree<T> entree) {
+        version = null;
+        int rang = rangBloc(entree);
+        Bloc<T> bloc = blocs.get(rang);
+        int position = Arrays.binarySearch(bloc.entrees, 0, bloc.taille, entree);
+        if (position < 0) {
+            return;
+        }
+        if (bloc.taille == 1) {
+            blocs.remove(rang);
+            return;
+        }
+        bloc = modifiable(rang);
+        System.arraycopy(bloc.entrees, position + 1, bloc.entrees, position, bloc.taille - position - 1);
+        bloc.entrees[--bloc.taille] = null;
+    }
+
+    /**
+     * Rang du premier bloc dont la dernière entrée est supérieure ou égale à
+     * l'entrée donnée (le dernier bloc si aucun). La liste ne doit pas être vide.
+     */
+    private int rangBloc(Entree<T> entree) {
+        int bas = 0;
+        int haut = blocs.size() - 1;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (blocs.get(milieu).derniere().compareTo(entree) < 0) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /**
+     * Retourne le bloc de rang donné, copié au préalable s'il appartient à une version figée.
+     */
+    private Bloc<T> modifiable(int rang) {
+        Bloc<T> bloc = blocs.get(rang);
+        if (bloc.generation != generation) {
+            bloc = bloc.copier(generation);
+            blocs.set(rang, bloc);
+        }
+        return bloc;
+    }
+
+    /**
+     * Repositionne une société renommée via {@link Societe#setRaisonSociale(String)}.
+     *
+     * @param evt l'événement de changement de propriété émis par la société
+     */
+    @SuppressWarnings("unchecked")
+    private void onRaisonSocialeModifiee(PropertyChangeEvent evt) {
+        if (!Societe.PROPRIETE_RAISON_SOCIALE.equals(evt.getPropertyName())) {
+            return;
+        }
+        T societe = (T) evt.getSource();
+        verrouEcriture.lock();
+        try {
+            Entree<T> ancienne = entrees.get(societe);
+            if (ancienne == null) {
+                return;
+            }
+            supprimer(ancienne);
+            Entree<T> nouvelle = entree(societe);
+            inserer(nouvelle);
+            entrees.put(societe, nouvelle);
+        } finally {
+            verrouEcriture.unlock();
+        }
+    }
+
+    /**
+     * Version figée de la vue : liste non modifiable partageant les blocs figés.
+     * <p>
+     * L'accès au i-ème élément localise son bloc par dichotomie sur les positions
+     * de début de bloc.
+     * </p>
+     *
+     * @param <T> type de société
+     */
+    private static final class Version<T> extends AbstractList<T> implements RandomAccess {
+
+        private final Bloc<T>[] blocs;
+        private final int[] debuts;
+        private final int taille;
+
+        private Version(Bloc<T>[] blocs) {
+            this.blocs = blocs;
+            this.debuts = new int[blocs.length];
+            int total = 0;
+            for (int i = 0; i < blocs.length; i++) {
+                debuts[i] = total;
+                total += blocs[i].taille;
+            }
+            this.taille = total;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= taille) {
+                throw new IndexOutOfBoundsException("Index " + index + " hors de [0, " + taille + ")");
+            }
+            int rang = Arrays.binarySearch(debuts, index);
+            if (rang < 0) {
+                rang = -rang - 2;
+            }
+            return blocs[rang].entrees[index - debuts[rang]].societe();
+        }
+
+        @Override
+        public int size() {
+            return taille;
+        }
+    }
+}
@@ -14,7 +14,9 @@
  *   <li>{@link main.com.julio.repository.ProspectRepository} - Gestion des prospects
  *       avec tri par raison sociale via comparateur statique</li>
  *   <li>{@link main.com.julio.repository.ContratRepository} - Gestion des contrats
- *       avec recherche par client via findByClientId()</li>
+ *       avec recherche par client via findByClientId() et agrégats par client
+ *       ({@link main.com.julio.repository.AgregatContrats} : nombre, total et plus gros
+ *       montant en centimes exacts) tenus à jour à chaque modification</li>
  * </ul>
  *
  * <h2>Pattern Repository</h2>
@@ -46,19 +48,42 @@
  *   <li><b>delete(int id)</b> - Supprime une entité par ID (retourne boolean)</li>
  *   <li><b>findById(int id)</b> - Recherche une entité par ID</li>
  *   <li><b>findAll()</b> - Retourne toutes les entités (triées)</li>
+ *   <li><b>rechercherParPrefixe(String, int)</b> - Premières sociétés dont la raison
+ *       sociale commence par un préfixe, insensible à la casse (clients et prospects)</li>
+ *   <li><b>rechercher(FiltreSocietes, TriSocietes, boolean)</b> - Sociétés filtrées
+ *       et triées, calculées hors EDT (clients et prospects)</li>
  * </ul>
  *
+ * <h2>Filtrage et tri</h2>
+ * <p>
+ * Les critères de {@link main.com.julio.repository.FiltreSocietes} (raison sociale,
+ * ville, code postal, domaine email, chiffre d'affaires) sont servis par des index
+ * secondaires maintenus à chaque modification ; seuls les candidats de l'index le
+ * plus sélectif sont vérifiés. Le tri porte sur des clés pré-calculées
+ * ({@link main.com.julio.repository.CleTri}) et le
+ * {@link main.com.julio.repository.ResultatRecherche} les transmet au modèle de table.
+ * </p>
+ *
  * <h2>Spécificités par repository</h2>
  *
+ * <h2>Accès concurrents</h2>
+ * <p>
+ * Chaque repository est protégé par un
+ * {@link java.util.concurrent.locks.ReentrantReadWriteLock} : les lectures
+ * s'exécutent en parallèle, les modifications sont sérialisées et leurs
+ * écouteurs notifiés dans l'ordre. L'index des raisons sociales partagé possède
+ * son propre verrou.
+ * </p>
+ *
  * <h2>Gestion des identifiants</h2>
  * <p>
- * Les entités utilisent des compteurs statiques auto-incrémentés :
+ * Les entités obtiennent leur identifiant dans leur constructeur auprès de
+ * {@link main.com.julio.service.GenerateurIdService} (compteurs atomiques) :
  * </p>
  * <ul>
- *   <li>Client : compteurId initialisé à 1, incrémenté dans constructeur</li>
- *   <li>Prospect : compteurId initialisé à 1, incrémenté dans constructeur</li>
- *   <li>Contrat : compteurId initialisé à 1, incrémenté dans constructeur</li>
- *   <li>Adresse : compteurId initialisé à 1, incrémenté dans constructeur</li>
+ *   <li>Client et Prospect : séquence SOCIETE partagée, initialisée à 1</li>
+ *   <li>Contrat : séquence CONTRAT, initialisée à 1</li>
+ *   <li>Adresse : séquence ADRESSE, initialisée à 1</li>
  * </ul>
  * <p>
  * Méthodes resetCompteur() disponibles pour tests et réinitialisation.
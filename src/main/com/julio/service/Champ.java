@@ -0,0 +1,203 @@
+package main.com.julio.service;
+
+import main.com.julio.model.Interesse;
+
+import java.util.function.Predicate;
+
+/**
+ * Champs des enregistrements bruts (texte) validés en masse par {@link ValidateurLot}.
+ * <p>
+ * Chaque champ porte sa règle, qui reprend la validation du setter
+ * correspondant du modèle ({@link ValidationService} pour les formats et les
+ * bornes) avec le même message d'erreur, précédée pour les valeurs non textuelles
+ * de la lecture du texte brut. Une règle retourne le message d'erreur au lieu de
+ * lever une {@link main.com.julio.exception.ValidationException} : aucune
+ * exception ni pile d'appels n'est créée pour une valeur invalide.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see TypeEnregistrement
+ */
+public enum Champ {
+
+    RAISON_SOCIALE("Raison sociale", obligatoire("La raison sociale est obligatoire.")),
+    NUMERO_RUE("Numéro de rue", obligatoire("Le numéro de rue est obligatoire")),
+    NOM_RUE("Nom de rue", obligatoire("Le nom de rue est obligatoire")),
+    CODE_POSTAL("Code postal", format(ValidationService::isValidCodePostal,
+            "Le code postal doit contenir exactement 5 chiffres")),
+    VILLE("Ville", obligatoire("Le ville est obligatoire")),
+    TELEPHONE("Téléphone", format(ValidationService::isValidTelephone, "Le format du téléphone est invalide.")),
+    EMAIL("Email", format(ValidationService::isValidEmail, "Le format de l'email est invalide.")),
+    COMMENTAIRES("Commentaires", valeur -> null),
+    CHIFFRE_AFFAIRES("Chiffre d'affaires", valeur -> {
+        long chiffreAffaires = Champ.lireEntier(valeur);
+        if (chiffreAffaires == Champ.INVALIDE) {
+            return "Le chiffre d'affaires doit être un nombre entier.";
+        }
+        return ValidationService.isValidChiffreAffaires(chiffreAffaires) ? null
+                : "Le chiffre d'affaires doit être >= 200.";
+    }),
+    NB_EMPLOYES("Nombre d'employés", valeur -> {
+        long nbEmployes = Champ.lireEntier(valeur);
+        if (nbEmployes == Champ.INVALIDE || nbEmployes != (int) nbEmployes) {
+            return "Le nombre d'employés doit être un nombre entier.";
+        }
+        return ValidationService.isValidNbEmployes((int) nbEmployes) ? null
+                : "Le nombre d'employés doit être >= 1";
+    }),
+    DATE_PROSPECTION("Date de prospection", valeur -> {
+        if (ValidationService.isNullOrEmpty(valeur)) {
+            return "La date de prospection est obligatoire.";
+        }
+        return ValidationService.isValidDate(valeur) ? null
+                : "La date de prospection doit être une date valide au format jj/mm/aaaa.";
+    }),
+    INTERESSE("Intéressé", valeur -> {
+        if (ValidationService.isNullOrEmpty(valeur)) {
+            return "Le champ 'intéressé' est obligatoire.";
+        }
+        return Champ.lireInteresse(valeur) != null ? null : "Le champ 'intéressé' doit valoir Oui ou Non.";
+    }),
+    CLIENT_ID("ID client", valeur -> {
+        long clientId = Champ.lireEntier(valeur);
+        if (clientId == Champ.INVALIDE || clientId != (int) clientId) {
+            return "L'ID du client doit être un nombre entier.";
+        }
+        return ValidationService.isValidClientId((int) clientId) ? null : "L'ID du client est obligatoire.";
+    }),
+    NOM_CONTRAT("Nom du contrat", obligatoire("Le nom du contrat est obligatoire.")),
+    MONTANT("Montant", valeur -> {
+        double montant = Champ.lireDecimal(valeur);
+        if (Double.isNaN(montant)) {
+            return "Le montant doit être un nombre.";
+        }
+        if (ValidationService.isValidMontant(montant)) {
+            return null;
+        }
+        return montant > 0 ? "Le montant ne doit pas dépasser 1 000 milliards d'euros."
+                : "Le montant doit être positif.";
+    });
+
+    /** Valeur retournée par {@link #lireEntier(String)} pour un texte qui n'est pas un entier */
+    public static final long INVALIDE = Long.MIN_VALUE;
+
+    /** Nombre maximal de chiffres lus par {@link #lireEntier(String)} (sans dépassement de long) */
+    private static final int NB_CHIFFRES_MAX = 18;
+
+    /**
+     * Règle d'un champ : message d'erreur pour une valeur brute, ou null si elle est valide.
+     */
+    @FunctionalInterface
+    private interface Regle {
+        String verifier(String valeur);
+    }
+
+    private final String libelle;
+    private final Regle regle;
+
+    Champ(String libelle, Regle regle) {
+        this.libelle = libelle;
+        this.regle = regle;
+    }
+
+    public String getLibelle() {
+        return libelle;
+    }
+
+    /**
+     * Vérifie une valeur brute de ce champ.
+     *
+     * @param valeur la valeur brute (null si absente)
+     * @return le message d'erreur, ou null si la valeur est valide
+     */
+    public String verifier(String valeur) {
+        return regle.verifier(valeur);
+    }
+
+    /**
+     * Lit un entier décimal ({@code -?[0-9]{1,18}}) sans lever d'exception.
+     *
+     * @param valeur le texte à lire
+     * @return l'entier, ou {@link #INVALIDE} si le texte n'est pas un entier
+     */
+    public static long lireEntier(String valeur) {
+        if (valeur == null) {
+            return INVALIDE;
+        }
+        int debut = valeur.startsWith("-") ? 1 : 0;
+        int longueur = valeur.length();
+        if (longueur == debut || longueur - debut > NB_CHIFFRES_MAX) {
+            return INVALIDE;
+        }
+        long resultat = 0;
+        for (int i = debut; i < longueur; i++) {
+            char c = valeur.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALIDE;
+            }
+            resultat = resultat * 10 + (c - '0');
+        }
+        return debut == 1 ? -resultat : resultat;
+    }
+
+    /**
+     * Lit un nombre décimal ({@code -?[0-9]+} suivi éventuellement d'un point ou d'une
+     * virgule et de chiffres) sans lever d'exception.
+     *
+     * @param valeur le texte à lire
+     * @return le nombre, ou {@link Double#NaN} si le texte n'est pas un nombre
+     */
+    public static double lireDecimal(String valeur) {
+        if (valeur == null) {
+            return Double.NaN;
+        }
+        int longueur = valeur.length();
+        int i = valeur.startsWith("-") ? 1 : 0;
+        int debutChiffres = i;
+        while (i < longueur && valeur.charAt(i) >= '0' && valeur.charAt(i) <= '9') {
+            i++;
+        }
+        if (i == debutChiffres) {
+            return Double.NaN;
+        }
+        if (i < longueur) {
+            char separateur = valeur.charAt(i);
+            if (separateur != '.' && separateur != ',') {
+                return Double.NaN;
+            }
+            int debutDecimales = ++i;
+            while (i < longueur && valeur.charAt(i) >= '0' && valeur.charAt(i) <= '9') {
+                i++;
+            }
+            if (i == debutDecimales || i < longueur) {
+                return Double.NaN;
+            }
+        }
+        return Double.parseDouble(valeur.replace(',', '.'));
+    }
+
+    /**
+     * Lit une valeur de {@link Interesse} par son libellé ou son nom, sans tenir compte de la casse.
+     *
+     * @param valeur le texte à lire
+     * @return la valeur, ou null si le texte ne correspond à aucune
+     */
+    public static Interesse lireInteresse(String valeur) {
+        for (Interesse interesse : Interesse.values()) {
+            if (interesse.getLibelle().equalsIgnoreCase(valeur) || interesse.name().equalsIgnoreCase(valeur)) {
+                return interesse;
+            }
+        }
+        return null;
+    }
+
+    private static Regle obligatoire(String message) {
+        return valeur -> ValidationService.isNullOrEmpty(valeur) ? message : null;
+    }
+
+    private static Regle format(Predicate<String> valide, String message) {
+        return valeur -> valide.test(valeur) ? null : message;
+    }
+}
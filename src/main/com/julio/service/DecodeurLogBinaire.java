@@ -0,0 +1,202 @@
+package main.com.julio.service;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Décodeur hors ligne des fichiers écrits par {@link HandlerBinaire}.
+ * <p>
+ * Chaque enregistrement est reconstruit ({@link LogRecord} : niveau, instant,
+ * source, modèle de message et arguments) puis restitué au format texte de
+ * {@link FormatterLog}, identique à celui du handler texte. Un fichier tronqué
+ * (arrêt brutal pendant une écriture) est décodé jusqu'à la dernière entrée complète ;
+ * une référence à une entrée de dictionnaire absente est en revanche une corruption,
+ * signalée par une {@link IOException}.
+ * </p>
+ *
+ * <p><b>Utilisation :</b></p>
+ * <pre>
+ * java main.com.julio.service.DecodeurLogBinaire logs/            (tous les fichiers .blog, dans l'ordre)
+ * java main.com.julio.service.DecodeurLogBinaire app-000003.blog  (fichiers désignés)
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class DecodeurLogBinaire {
+
+    private DecodeurLogBinaire() {
+    }
+
+    /**
+     * Décode les fichiers ou répertoires donnés sur la sortie standard.
+     *
+     * @param args fichiers {@code .blog} ou répertoires les contenant
+     * @throws IOException si un fichier ne peut pas être lu ou n'est pas un log binaire
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage : DecodeurLogBinaire <fichier.blog | répertoire>...");
+            System.exit(2);
+        }
+        Writer sortie = new OutputStreamWriter(new PrintStream(System.out, false, StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+        for (String arg : args) {
+            for (Path fichier : aDecoder(Path.of(arg))) {
+                decoder(fichier, sortie);
+            }
+        }
+        sortie.flush();
+    }
+
+    /**
+     * Décode un fichier et écrit ses enregistrements au format de {@link FormatterLog}.
+     *
+     * @param fichier fichier de log binaire
+     * @param sortie destination du texte
+     * @throws IOException si le fichier ne peut pas être lu ou n'est pas un log binaire
+     */
+    public static void decoder(Path fichier, Appendable sortie) throws IOException {
+        FormatterLog formatter = new FormatterLog();
+        StringBuilder ligne = new StringBuilder(256);
+        IOException[] erreur = new IOException[1];
+        lire(fichier, record -> {
+            if (erreur[0] != null) {
+                return;
+            }
+            ligne.setLength(0);
+            formatter.formater(record, ligne);
+            try {
+                sortie.append(ligne);
+            } catch (IOException e) {
+                erreur[0] = e;
+            }
+        });
+        if (erreur[0] != null) {
+            throw erreur[0];
+        }
+    }
+
+    /**
+     * Reconstruit les enregistrements d'un fichier.
+     *
+     * @param fichier fichier de log binaire
+     * @param reception reçoit chaque enregistrement, dans l'ordre d'écriture
+     * @throws IOException si le fichier ne peut pas être lu, n'est pas un log binaire ou est corrompu
+     */
+    public static void lire(Path fichier, Consumer<LogRecord> reception) throws IOException {
+        ByteBuffer entree = ByteBuffer.wrap(Files.readAllBytes(fichier));
+        byte[] magique = new byte[FormatLogBinaire.MAGIQUE.length];
+        if (entree.remaining() < FormatLogBinaire.TAILLE_EN_TETE
+                || !Arrays.equals(lireMagique(entree, magique), FormatLogBinaire.MAGIQUE)) {
+            throw new IOException("Pas un fichier de log binaire : " + fichier);
+        }
+        byte version = entree.get();
+        if (version != FormatLogBinaire.VERSION) {
+            throw new IOException("Version de log binaire non prise en charge (" + version + ") : " + fichier);
+        }
+        long instant = entree.getLong();
+        List<String> dictionnaire = new ArrayList<>();
+
+        try {
+            while (entree.hasRemaining()) {
+                int type = entree.get() & 0xFF;
+                if (type == FormatLogBinaire.FIN) {
+                    return;
+                }
+                if (type == FormatLogBinaire.DICO) {
+                    dictionnaire.add(FormatLogBinaire.lireTexte(entree));
+                    continue;
+                }
+                int code = type - FormatLogBinaire.ENREGISTREMENT;
+                if (code < 0) {
+                    throw new IOException("Entrée inconnue (" + type + ") à la position "
+                            + (entree.position() - 1) + " : " + fichier);
+                }
+                Level niveau = FormatLogBinaire.niveau(code,
+                        code == 0 ? (int) FormatLogBinaire.lireZigzag(entree) : 0);
+                instant += FormatLogBinaire.lireZigzag(entree);
+                String classe = reference(entree, dictionnaire, fichier);
+                String methode = reference(entree, dictionnaire, fichier);
+                String message = reference(entree, dictionnaire, fichier);
+
+                int nb = Math.toIntExact(FormatLogBinaire.lireVarint(entree));
+                Object[] parametres = nb == 0 ? null : new Object[nb];
+                for (int i = 0; i < nb; i++) {
+                    byte argument = entree.get();
+                    parametres[i] = switch (argument) {
+                        case FormatLogBinaire.ARGUMENT_NUL -> null;
+                        case FormatLogBinaire.ARGUMENT_ENTIER -> FormatLogBinaire.lireZigzag(entree);
+                        case FormatLogBinaire.ARGUMENT_TEXTE -> FormatLogBinaire.lireTexte(entree);
+                        default -> throw new IOException("Argument inconnu (" + argument + ") : " + fichier);
+                    };
+                }
+
+                LogRecord record = new LogRecord(niveau, message);
+                record.setInstant(Instant.ofEpochMilli(instant));
+                record.setSourceClassName(classe);
+                record.setSourceMethodName(methode);
+                record.setParameters(parametres);
+                reception.accept(record);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            // Dernière entrée incomplète (arrêt pendant l'écriture) : fin du décodage
+        }
+    }
+
+    private static byte[] lireMagique(ByteBuffer entree, byte[] magique) {
+        entree.get(magique);
+        return magique;
+    }
+
+    /**
+     * Lit une référence de texte : absent, texte en ligne ou entrée du dictionnaire.
+     *
+     * @throws IOException si la référence désigne une entrée du dictionnaire non encore lue
+     */
+    private static String reference(ByteBuffer entree, List<String> dictionnaire, Path fichier)
+            throws IOException {
+        int reference = Math.toIntExact(FormatLogBinaire.lireVarint(entree));
+        return switch (reference) {
+            case 0 -> null;
+            case 1 -> FormatLogBinaire.lireTexte(entree);
+            default -> {
+                int indice = reference - HandlerBinaire.PREMIER_ID;
+                if (indice >= dictionnaire.size()) {
+                    throw new IOException("Référence de dictionnaire inconnue (" + reference
+                            + ") à la position " + entree.position() + " : " + fichier);
+                }
+                yield dictionnaire.get(indice);
+            }
+        };
+    }
+
+    /**
+     * Fichiers désignés par un argument : le fichier lui-même, ou les fichiers .blog d'un répertoire dans l'ordre.
+     */
+    private static List<Path> aDecoder(Path chemin) throws IOException {
+        if (!Files.isDirectory(chemin)) {
+            return List.of(chemin);
+        }
+        try (var contenu = Files.list(chemin)) {
+            return contenu.filter(f -> f.getFileName().toString().endsWith(HandlerBinaire.EXTENSION))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
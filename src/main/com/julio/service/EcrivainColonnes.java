@@ -0,0 +1,237 @@
+package main.com.julio.service;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Écriture en flux d'un fichier au format {@link FormatColonnes}.
+ * <p>
+ * Les valeurs d'une ligne sont fournies dans l'ordre des colonnes puis la ligne
+ * est terminée par {@link #finLigne()}. Elles sont accumulées, colonne par
+ * colonne, dans un tampon par colonne ; toutes les {@link FormatColonnes#TAILLE_GROUPE}
+ * lignes, le groupe est écrit et les tampons et dictionnaires sont réutilisés.
+ * La mémoire occupée est donc celle d'un groupe, quel que soit le nombre de lignes.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see LecteurColonnes
+ */
+public final class EcrivainColonnes implements Closeable {
+
+    private static final int TAILLE_INITIALE = 64 * 1024;
+
+    private final OutputStream sortie;
+    private final FormatColonnes.Type[] types;
+    private final ByteBuffer[] blocs;
+    private final ByteBuffer[] entrees;  // Entrées du dictionnaire du groupe (colonnes DICTIONNAIRE)
+    private final Map<String, Integer>[] dictionnaires;
+    private final ByteBuffer taille = ByteBuffer.allocate(10);
+    private final ByteBuffer nbEntrees = ByteBuffer.allocate(10);
+    private int colonne;
+    private int nbLignesGroupe;
+    private long nbLignes;
+
+    /**
+     * Crée (ou remplace) un fichier et écrit son en-tête.
+     *
+     * @param fichier chemin du fichier
+     * @param noms noms des colonnes
+     * @param types type de chaque colonne
+     * @throws IOException si le fichier ne peut pas être écrit
+     */
+    @SuppressWarnings("unchecked")
+    public EcrivainColonnes(Path fichier, List<String> noms, List<FormatColonnes.Type> types) throws IOException {
+        if (noms.size() != types.size()) {
+            throw new IllegalArgumentException("Autant de noms que de types de colonnes attendus");
+        }
+        this.types = types.toArray(new FormatColonnes.Type[0]);
+        this.blocs = new ByteBuffer[this.types.length];
+        this.entrees = new ByteBuffer[this.types.length];
+        this.dictionnaires = (Map<String, Integer>[]) new Map<?, ?>[this.types.length];
+        for (int i = 0; i < this.types.length; i++) {
+            blocs[i] = ByteBuffer.allocate(TAILLE_INITIALE);
+            if (this.types[i] == FormatColonnes.Type.DICTIONNAIRE) {
+                entrees[i] = ByteBuffer.allocate(TAILLE_INITIALE);
+                dictionnaires[i] = new HashMap<>();
+            }
+        }
+
+        ByteBuffer entete = ByteBuffer.allocate(TAILLE_INITIALE);
+        entete.put(FormatColonnes.MAGIQUE).put(FormatColonnes.VERSION);
+        FormatLogBinaire.ecrireVarint(entete, noms.size());
+        for (int i = 0; i < noms.size(); i++) {
+            entete.put((byte) this.types[i].ordinal());
+            FormatLogBinaire.ecrireTexte(entete, noms.get(i));
+        }
+        this.sortie = new BufferedOutputStream(Files.newOutputStream(fichier), TAILLE_INITIALE);
+        sortie.write(entete.array(), 0, entete.position());
+    }
+
+    /**
+     * Écrit la valeur d'une colonne ENTIER.
+     *
+     * @param valeur valeur de la colonne
+     * @return cet écrivain, pour chaîner les appels
+     */
+    public EcrivainColonnes entier(long valeur) {
+        FormatLogBinaire.ecrireZigzag(bloc(FormatColonnes.Type.ENTIER, 10), valeur);
+        return this;
+    }
+
+    /**
+     * Écrit la valeur d'une colonne DECIMAL.
+     *
+     * @param valeur valeur de la colonne
+     * @return cet écrivain, pour chaîner les appels
+     */
+    public EcrivainColonnes decimal(double valeur) {
+        bloc(FormatColonnes.Type.DECIMAL, Double.BYTES).putDouble(valeur);
+        return this;
+    }
+
+    /**
+     * Écrit la valeur d'une colonne DATE.
+     *
+     * @param date valeur de la colonne
+     * @return cet écrivain, pour chaîner les appels
+     */
+    public EcrivainColonnes date(LocalDate date) {
+        FormatLogBinaire.ecrireZigzag(bloc(FormatColonnes.Type.DATE, 10), date.toEpochDay());
+        return this;
+    }
+
+    /**
+     * Écrit la valeur d'une colonne TEXTE ou DICTIONNAIRE.
+     *
+     * @param valeur valeur de la colonne (null écrit comme une chaîne vide)
+     * @return cet écrivain, pour chaîner les appels
+     */
+    public EcrivainColonnes texte(String valeur) {
+        String texte = valeur == null ? "" : valeur;
+        int indice = colonne;
+        if (indice == types.length || types[indice] != FormatColonnes.Type.DICTIONNAIRE) {
+            FormatLogBinaire.ecrireTexte(bloc(FormatColonnes.Type.TEXTE, tailleMax(texte)), texte);
+            return this;
+        }
+        ByteBuffer rangs = bloc(FormatColonnes.Type.DICTIONNAIRE, 5);
+        Map<String, Integer> dictionnaire = dictionnaires[indice];
+        Integer rang = dictionnaire.get(texte);
+        if (rang == null) {
+            rang = dictionnaire.size();
+            dictionnaire.put(texte, rang);
+            entrees[indice] = place(entrees[indice], tailleMax(texte));
+            FormatLogBinaire.ecrireTexte(entrees[indice], texte);
+        }
+        FormatLogBinaire.ecrireVarint(rangs, rang);
+        return this;
+    }
+
+    /**
+     * Termine la ligne courante ; écrit le groupe s'il est complet.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     * @throws IllegalStateException si toutes les colonnes n'ont pas reçu de valeur
+     */
+    public void finLigne() throws IOException {
+        if (colonne != types.length) {
+            throw new IllegalStateException("Ligne incomplète : " + colonne + " colonne(s) sur " + types.length);
+        }
+        colonne = 0;
+        nbLignes++;
+        if (++nbLignesGroupe == FormatColonnes.TAILLE_GROUPE) {
+            ecrireGroupe();
+        }
+    }
+
+    /**
+     * Retourne le nombre de lignes terminées.
+     *
+     * @return nombre de lignes écrites depuis la création
+     */
+    public long getNbLignes() {
+        return nbLignes;
+    }
+
+    /**
+     * Écrit le dernier groupe et la fin de fichier, puis ferme le fichier.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    @Override
+    public void close() throws IOException {
+        try (sortie) {
+            ecrireGroupe();
+            ecrireVarint(0);
+        }
+    }
+
+    private void ecrireGroupe() throws IOException {
+        if (nbLignesGroupe == 0) {
+            return;
+        }
+        ecrireVarint(nbLignesGroupe);
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == FormatColonnes.Type.DICTIONNAIRE) {
+                nbEntrees.clear();
+                FormatLogBinaire.ecrireVarint(nbEntrees, dictionnaires[i].size());
+                ecrireVarint(nbEntrees.position() + entrees[i].position() + blocs[i].position());
+                sortie.write(nbEntrees.array(), 0, nbEntrees.position());
+                sortie.write(entrees[i].array(), 0, entrees[i].position());
+                entrees[i].clear();
+                dictionnaires[i].clear();
+            } else {
+                ecrireVarint(blocs[i].position());
+            }
+            sortie.write(blocs[i].array(), 0, blocs[i].position());
+            blocs[i].clear();
+        }
+        nbLignesGroupe = 0;
+    }
+
+    private void ecrireVarint(long valeur) throws IOException {
+        taille.clear();
+        FormatLogBinaire.ecrireVarint(taille, valeur);
+        sortie.write(taille.array(), 0, taille.position());
+    }
+
+    /**
+     * Retourne le tampon de la colonne courante, de type attendu, avec au moins
+     * {@code octets} octets libres, et passe à la colonne suivante.
+     */
+    private ByteBuffer bloc(FormatColonnes.Type type, int octets) {
+        if (colonne == types.length) {
+            throw new IllegalStateException("Toutes les colonnes de la ligne ont déjà reçu une valeur");
+        }
+        if (type != types[colonne]) {
+            throw new IllegalStateException("Colonne " + colonne + " de type " + types[colonne] + ", valeur " + type);
+        }
+        blocs[colonne] = place(blocs[colonne], octets);
+        return blocs[colonne++];
+    }
+
+    /**
+     * Taille maximale d'un texte encodé : longueur varint et 3 octets UTF-8 par caractère.
+     */
+    private static int tailleMax(String texte) {
+        return 5 + 3 * texte.length();
+    }
+
+    private static ByteBuffer place(ByteBuffer tampon, int octets) {
+        if (tampon.remaining() >= octets) {
+            return tampon;
+        }
+        ByteBuffer agrandi = ByteBuffer.allocate(Math.max(tampon.capacity() * 2, tampon.position() + octets));
+        return agrandi.put(tampon.flip());
+    }
+}
@@ -0,0 +1,28 @@
+package main.com.julio.service;
+
+import java.util.Map;
+
+/**
+ * Enregistrement à valider, avant conversion : valeurs textuelles par champ.
+ * <p>
+ * La table des valeurs n'est pas copiée ; un champ absent vaut null.
+ * </p>
+ *
+ * @param ligne numéro de l'enregistrement dans sa source (ligne d'un fichier importé...)
+ * @param valeurs valeurs brutes par champ (une {@link java.util.EnumMap} de préférence)
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public record EnregistrementBrut(int ligne, Map<Champ, String> valeurs) {
+
+    /**
+     * Retourne la valeur brute d'un champ.
+     *
+     * @param champ le champ
+     * @return la valeur, ou null si absente
+     */
+    public String valeur(Champ champ) {
+        return valeurs.get(champ);
+    }
+}
@@ -0,0 +1,20 @@
+package main.com.julio.service;
+
+/**
+ * Erreur de validation d'un champ d'un enregistrement brut.
+ *
+ * @param ligne numéro de l'enregistrement dans sa source
+ * @param champ le champ invalide
+ * @param valeur la valeur brute refusée (null si absente)
+ * @param message le message d'erreur, identique à celui du setter du modèle
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public record ErreurChamp(int ligne, Champ champ, String valeur, String message) {
+
+    @Override
+    public String toString() {
+        return "Ligne " + ligne + ", " + champ.getLibelle() + " : " + message;
+    }
+}
@@ -0,0 +1,348 @@
+package main.com.julio.service;
+
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Prospect;
+import main.com.julio.model.Societe;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.InstantaneClients;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.util.EcrivainCsv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Export des clients, prospects ou contrats vers un fichier CSV ou en colonnes.
+ * <p>
+ * Les entités sont lues dans un instantané des repositories
+ * ({@link ClientRepository#instantane()}, version figée de
+ * {@link ProspectRepository#findAll()}) : aucune copie des listes ni modèle de
+ * table n'est construit, et l'export, destiné à être appelé hors EDT, ne bloque
+ * pas les modifications concurrentes. Chaque entité est écrite dès qu'elle est
+ * lue ; les contrats sont parcourus client par client. La mémoire utilisée ne
+ * dépend donc pas du nombre d'entités.
+ * </p>
+ *
+ * <p><b>Formats :</b></p>
+ * <ul>
+ *   <li><b>CSV</b> ({@link #exporterCsv}) : pour les tableurs, séparateur ';',
+ *       en-tête aux libellés des {@link Champ} (fichier réimportable par
+ *       {@link ImportCsvService}) précédé de l'identifiant</li>
+ *   <li><b>En colonnes</b> ({@link #exporterColonnes}) : pour les traitements
+ *       d'analyse, format compact {@link FormatColonnes} (ville, code postal et
+ *       intérêt codés par dictionnaire), colonnes nommées d'après les {@link Champ}
+ *       en minuscules</li>
+ * </ul>
+ * <p>
+ * Le fichier est écrit sous un nom temporaire puis renommé atomiquement : un
+ * export interrompu ou en erreur ne laisse pas de fichier partiel.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ImportCsvService
+ */
+public class ExportService {
+
+    /** Séparateur des fichiers CSV exportés */
+    public static final char SEPARATEUR_CSV = ';';
+
+    /** Nombre de lignes écrites entre deux vérifications de l'interruption du thread */
+    private static final int PERIODE_INTERRUPTION = 4_096;
+
+    private static final List<Colonne<Client>> COLONNES_CLIENT = colonnesSociete(List.of(
+            entier(Champ.CHIFFRE_AFFAIRES, Client::getChiffreAffaires),
+            entier(Champ.NB_EMPLOYES, Client::getNbEmployes)));
+
+    private static final List<Colonne<Prospect>> COLONNES_PROSPECT = colonnesSociete(List.of(
+            date(Champ.DATE_PROSPECTION, Prospect::getDateProspection),
+            dictionnaire(Champ.INTERESSE, p -> p.getInteresse().getLibelle())));
+
+    private static final List<Colonne<Contrat>> COLONNES_CONTRAT = List.of(
+            entier(null, Contrat::getId),
+            entier(Champ.CLIENT_ID, Contrat::getClientId),
+            texte(Champ.NOM_CONTRAT, Contrat::getNomContrat),
+            decimal(Champ.MONTANT, Contrat::getMontant));
+
+    private final ClientRepository clientRepo;
+    private final ProspectRepository prospectRepo;
+
+    /**
+     * Constructeur.
+     *
+     * @param clientRepo repository des clients (et, par lui, des contrats)
+     * @param prospectRepo repository des prospects
+     */
+    public ExportService(ClientRepository clientRepo, ProspectRepository prospectRepo) {
+        this.clientRepo = clientRepo;
+        this.prospectRepo = prospectRepo;
+    }
+
+    /**
+     * Exporte les entités d'un type vers un fichier CSV (UTF-8 avec BOM, séparateur ';').
+     *
+     * @param fichier le fichier à créer ou remplacer
+     * @param type type des entités à exporter
+     * @return nombre de lignes exportées (en-tête exclu)
+     * @throws InterruptedIOException si le thread est interrompu (aucun fichier écrit)
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public long exporterCsv(Path fichier, TypeEnregistrement type) throws IOException {
+        return exporter(fichier, type, "CSV", temporaire -> new SortieCsv(temporaire, colonnes(type)));
+    }
+
+    /**
+     * Exporte les entités d'un type vers un fichier au format {@link FormatColonnes}.
+     *
+     * @param fichier le fichier à créer ou remplacer
+     * @param type type des entités à exporter
+     * @return nombre de lignes exportées
+     * @throws InterruptedIOException si le thread est interrompu (aucun fichier écrit)
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public long exporterColonnes(Path fichier, TypeEnregistrement type) throws IOException {
+        return exporter(fichier, type, "colonnes", temporaire -> new SortieColonnes(temporaire, colonnes(type)));
+    }
+
+    private long exporter(Path fichier, TypeEnregistrement type, String format, Ouverture ouverture)
+            throws IOException {
+        long debut = System.nanoTime();
+        Path temporaire = fichier.resolveSibling(fichier.getFileName() + ".tmp");
+        long nbLignes;
+        try (Sortie sortie = ouverture.ouvrir(temporaire)) {
+            switch (type) {
+                case CLIENT -> ecrire(sortie, COLONNES_CLIENT, clientRepo.instantane().getClients());
+                case PROSPECT -> ecrire(sortie, COLONNES_PROSPECT, prospectRepo.findAll());
+                case CONTRAT -> {
+                    InstantaneClients instantane = clientRepo.instantane();
+                    for (Client client : instantane.getClients()) {
+                        ecrire(sortie, COLONNES_CONTRAT, instantane.getContrats(client.getId()));
+                    }
+                }
+            }
+            nbLignes = sortie.nbLignes;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaire);
+            throw e;
+        }
+        Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long duree = System.nanoTime() - debut;
+        LOGGER.log(Level.INFO, "Export {0} {1} ({2}) : {3,number,#} lignes en {4,number,#} ms ({5,number,#} lignes/s)",
+                new Object[]{type, format, fichier.getFileName(), nbLignes, duree / 1_000_000,
+                        duree == 0 ? 0 : Math.round(nbLignes * 1e9 / duree)});
+        return nbLignes;
+    }
+
+    private static <T> void ecrire(Sortie sortie, List<Colonne<T>> colonnes, List<? extends T> entites)
+            throws IOException {
+        for (T entite : entites) {
+            for (Colonne<T> colonne : colonnes) {
+                colonne.valeur().ecrire(sortie, entite);
+            }
+            sortie.finLigne();
+        }
+    }
+
+    private static List<? extends Colonne<?>> colonnes(TypeEnregistrement type) {
+        return switch (type) {
+            case CLIENT -> COLONNES_CLIENT;
+            case PROSPECT -> COLONNES_PROSPECT;
+            case CONTRAT -> COLONNES_CONTRAT;
+        };
+    }
+
+    // ============================================================
+    // DESCRIPTION DES COLONNES
+    // ============================================================
+
+    /**
+     * Colonne exportée : champ (null pour l'identifiant), encodage et écriture de la valeur.
+     */
+    private record Colonne<T>(Champ champ, FormatColonnes.Type type, Valeur<T> valeur) {
+
+        String libelle() {
+            return champ == null ? "Identifiant" : champ.getLibelle();
+        }
+
+        String nom() {
+            return champ == null ? "id" : champ.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Valeur<T> {
+        void ecrire(Sortie sortie, T entite) throws IOException;
+    }
+
+    /**
+     * Colonnes communes aux clients et prospects, suivies des colonnes spécifiques.
+     */
+    private static <T extends Societe> List<Colonne<T>> colonnesSociete(List<Colonne<T>> specifiques) {
+        List<Colonne<T>> colonnes = new ArrayList<>(List.of(
+                entier(null, Societe::getId),
+                texte(Champ.RAISON_SOCIALE, Societe::getRaisonSociale),
+                texte(Champ.NUMERO_RUE, s -> s.getAdresse().getNumeroRue()),
+                texte(Champ.NOM_RUE, s -> s.getAdresse().getNomRue()),
+                dictionnaire(Champ.CODE_POSTAL, s -> s.getAdresse().getCodePostal()),
+                dictionnaire(Champ.VILLE, s -> s.getAdresse().getVille()),
+                texte(Champ.TELEPHONE, Societe::getTelephone),
+                texte(Champ.EMAIL, Societe::getEmail),
+                texte(Champ.COMMENTAIRES, Societe::getCommentaires)));
+        colonnes.addAll(specifiques);
+        return List.copyOf(colonnes);
+    }
+
+    private static <T> Colonne<T> entier(Champ champ, ToLongFunction<T> valeur) {
+        return new Colonne<>(champ, FormatColonnes.Type.ENTIER, (s, e) -> s.entier(valeur.applyAsLong(e)));
+    }
+
+    private static <T> Colonne<T> decimal(Champ champ, ToDoubleFunction<T> valeur) {
+        return new Colonne<>(champ, FormatColonnes.Type.DECIMAL, (s, e) -> s.decimal(valeur.applyAsDouble(e)));
+    }
+
+    private static <T> Colonne<T> texte(Champ champ, Function<T, String> valeur) {
+        return new Colonne<>(champ, FormatColonnes.Type.TEXTE, (s, e) -> s.texte(valeur.apply(e)));
+    }
+
+    private static <T> Colonne<T> dictionnaire(Champ champ, Function<T, String> valeur) {
+        return new Colonne<>(champ, FormatColonnes.Type.DICTIONNAIRE, (s, e) -> s.texte(valeur.apply(e)));
+    }
+
+    private static <T> Colonne<T> date(Champ champ, Function<T, LocalDate> valeur) {
+        return new Colonne<>(champ, FormatColonnes.Type.DATE, (s, e) -> s.date(valeur.apply(e)));
+    }
+
+    // ============================================================
+    // FORMATS DE SORTIE
+    // ============================================================
+
+    @FunctionalInterface
+    private interface Ouverture {
+        Sortie ouvrir(Path fichier) throws IOException;
+    }
+
+    /**
+     * Destination des lignes exportées ; compte les lignes et vérifie périodiquement l'interruption.
+     */
+    private abstract static class Sortie implements Closeable {
+
+        long nbLignes;
+
+        abstract void entier(long valeur) throws IOException;
+
+        abstract void decimal(double valeur) throws IOException;
+
+        abstract void texte(String valeur) throws IOException;
+
+        abstract void date(LocalDate valeur) throws IOException;
+
+        abstract void terminerLigne() throws IOException;
+
+        final void finLigne() throws IOException {
+            terminerLigne();
+            if (++nbLignes % PERIODE_INTERRUPTION == 0 && Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Export interrompu après " + nbLignes + " lignes");
+            }
+        }
+    }
+
+    private static final class SortieCsv extends Sortie {
+
+        private final EcrivainCsv ecrivain;
+
+        SortieCsv(Path fichier, List<? extends Colonne<?>> colonnes) throws IOException {
+            ecrivain = new EcrivainCsv(fichier, SEPARATEUR_CSV);
+            for (Colonne<?> colonne : colonnes) {
+                ecrivain.champ(colonne.libelle());
+            }
+            ecrivain.finLigne();
+        }
+
+        @Override
+        void entier(long valeur) throws IOException {
+            ecrivain.champ(valeur);
+        }
+
+        @Override
+        void decimal(double valeur) throws IOException {
+            ecrivain.champ(valeur);
+        }
+
+        @Override
+        void texte(String valeur) throws IOException {
+            ecrivain.champ(valeur);
+        }
+
+        @Override
+        void date(LocalDate valeur) throws IOException {
+            ecrivain.champ(valeur);
+        }
+
+        @Override
+        void terminerLigne() throws IOException {
+            ecrivain.finLigne();
+        }
+
+        @Override
+        public void close() throws IOException {
+            ecrivain.close();
+        }
+    }
+
+    private static final class SortieColonnes extends Sortie {
+
+        private final EcrivainColonnes ecrivain;
+
+        SortieColonnes(Path fichier, List<? extends Colonne<?>> colonnes) throws IOException {
+            ecrivain = new EcrivainColonnes(fichier, colonnes.stream().map(Colonne::nom).toList(),
+                    colonnes.stream().<FormatColonnes.Type>map(Colonne::type).toList());
+        }
+
+        @Override
+        void entier(long valeur) {
+            ecrivain.entier(valeur);
+        }
+
+        @Override
+        void decimal(double valeur) {
+            ecrivain.decimal(valeur);
+        }
+
+        @Override
+        void texte(String valeur) {
+            ecrivain.texte(valeur);
+        }
+
+        @Override
+        void date(LocalDate valeur) {
+            ecrivain.date(valeur);
+        }
+
+        @Override
+        void terminerLigne() throws IOException {
+            ecrivain.finLigne();
+        }
+
+        @Override
+        public void close() throws IOException {
+            ecrivain.close();
+        }
+    }
+}
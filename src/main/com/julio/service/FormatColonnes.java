@@ -0,0 +1,63 @@
+package main.com.julio.service;
+
+/**
+ * Description du format d'export en colonnes, partagée par
+ * {@link EcrivainColonnes} et {@link LecteurColonnes}.
+ *
+ * <p><b>Fichier :</b></p>
+ * <pre>
+ * en-tête : "JCOL" | version (1 octet) | nombre de colonnes | colonnes
+ * colonne : type (1 octet, rang dans {@link Type}) | nom (texte)
+ * groupes : suite de groupes d'au plus {@link #TAILLE_GROUPE} lignes, terminée par un 0
+ * groupe  : nombre de lignes | pour chaque colonne, dans l'ordre : taille du bloc en octets | bloc
+ * </pre>
+ *
+ * <p><b>Blocs :</b></p>
+ * <pre>
+ * ENTIER, DATE : valeurs zigzag (DATE : jour epoch)
+ * DECIMAL      : valeurs IEEE 754 sur 8 octets
+ * TEXTE        : textes
+ * DICTIONNAIRE : nombre d'entrées | entrées (textes) | rang de l'entrée de chaque ligne
+ * texte        : longueur en octets | UTF-8 (null s'écrit comme une chaîne vide)
+ * </pre>
+ * <p>
+ * Les entiers sont codés en varint comme dans {@link FormatLogBinaire}. Chaque
+ * bloc ne contient que les valeurs d'une colonne pour un groupe : un traitement
+ * peut sauter les colonnes qui ne l'intéressent pas. Le dictionnaire est propre à
+ * chaque groupe, ce qui borne la mémoire de l'écriture comme de la lecture.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class FormatColonnes {
+
+    /** Nombre maximal de lignes d'un groupe */
+    public static final int TAILLE_GROUPE = 65_536;
+
+    /** Extension des fichiers d'export en colonnes */
+    public static final String EXTENSION = ".jcol";
+
+    static final byte[] MAGIQUE = {'J', 'C', 'O', 'L'};
+    static final byte VERSION = 1;
+
+    /**
+     * Encodage des valeurs d'une colonne.
+     */
+    public enum Type {
+        /** Entier signé */
+        ENTIER,
+        /** Nombre décimal */
+        DECIMAL,
+        /** Texte libre */
+        TEXTE,
+        /** Texte à faible cardinalité, codé par un dictionnaire par groupe (ville, code postal...) */
+        DICTIONNAIRE,
+        /** Date, codée par son jour epoch */
+        DATE
+    }
+
+    private FormatColonnes() {
+    }
+}
@@ -0,0 +1,160 @@
+package main.com.julio.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+
+/**
+ * Description du format binaire des logs, partagée par {@link HandlerBinaire}
+ * et {@link DecodeurLogBinaire}.
+ *
+ * <p><b>Fichier :</b></p>
+ * <pre>
+ * en-tête  : "JLOG" | version (1 octet) | instant de référence (8 octets, ms epoch)
+ * entrées  : suite d'entrées, terminée par un octet 0 ou la fin du fichier
+ * </pre>
+ *
+ * <p><b>Entrées :</b></p>
+ * <pre>
+ * DICO           : 0x01 | texte              (prend l'identifiant suivant, à partir de 2)
+ * ENREGISTREMENT : 0x10 + code niveau [| niveau zigzag si code 0]
+ *                | écart en ms avec l'enregistrement précédent (zigzag)
+ *                | réf. classe | réf. méthode | réf. message
+ *                | nombre d'arguments | arguments
+ * référence      : 0 (absent) | 1 texte (en ligne, dictionnaire plein) | identifiant
+ * argument       : 'N' | 'L' entier zigzag | 'S' texte
+ * texte          : longueur en octets (varint) | UTF-8
+ * </pre>
+ * <p>
+ * Les entiers sont codés en varint (7 bits par octet) ; l'écart du premier
+ * enregistrement est relatif à l'instant de l'en-tête. Le dictionnaire est propre
+ * à chaque fichier : un fichier se décode indépendamment des autres.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+final class FormatLogBinaire {
+
+    static final byte[] MAGIQUE = {'J', 'L', 'O', 'G'};
+    static final byte VERSION = 1;
+    static final int TAILLE_EN_TETE = MAGIQUE.length + 1 + Long.BYTES;
+
+    static final byte FIN = 0x00;
+    static final byte DICO = 0x01;
+    static final byte ENREGISTREMENT = 0x10;
+
+    static final byte ARGUMENT_NUL = 'N';
+    static final byte ARGUMENT_ENTIER = 'L';
+    static final byte ARGUMENT_TEXTE = 'S';
+
+    /** Niveaux standard, codés par leur rang à partir de 1 (0 : niveau personnalisé) */
+    private static final Level[] NIVEAUX = {Level.SEVERE, Level.WARNING, Level.INFO, Level.CONFIG,
+            Level.FINE, Level.FINER, Level.FINEST, Level.ALL, Level.OFF};
+
+    private FormatLogBinaire() {
+    }
+
+    static int codeNiveau(Level niveau) {
+        for (int i = 0; i < NIVEAUX.length; i++) {
+            if (NIVEAUX[i] == niveau) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    static Level niveau(int code, int valeur) {
+        return code == 0 ? Level.parse(Integer.toString(valeur)) : NIVEAUX[code - 1];
+    }
+
+    static void ecrireVarint(ByteBuffer sortie, long valeur) {
+        while ((valeur & ~0x7FL) != 0) {
+            sortie.put((byte) ((valeur & 0x7F) | 0x80));
+            valeur >>>= 7;
+        }
+        sortie.put((byte) valeur);
+    }
+
+    static void ecrireZigzag(ByteBuffer sortie, long valeur) {
+        ecrireVarint(sortie, (valeur << 1) ^ (valeur >> 63));
+    }
+
+    static long lireVarint(ByteBuffer entree) {
+        long valeur = 0;
+        for (int decalage = 0; decalage < 64; decalage += 7) {
+            byte octet = entree.get();
+            valeur |= (long) (octet & 0x7F) << decalage;
+            if (octet >= 0) {
+                return valeur;
+            }
+        }
+        throw new IllegalStateException("Entier varint invalide à la position " + entree.position());
+    }
+
+    static long lireZigzag(ByteBuffer entree) {
+        long valeur = lireVarint(entree);
+        return (valeur >>> 1) ^ -(valeur & 1);
+    }
+
+    /**
+     * Écrit un texte (longueur puis UTF-8) sans allocation intermédiaire.
+     *
+     * @throws java.nio.BufferOverflowException si la place manque
+     */
+    static void ecrireTexte(ByteBuffer sortie, CharSequence texte) {
+        int longueur = texte.length();
+        int octets = 0;
+        for (int i = 0; i < longueur; i++) {
+            char c = texte.charAt(i);
+            if (c < 0x80) {
+                octets++;
+            } else if (c < 0x800) {
+                octets += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < longueur
+                    && Character.isLowSurrogate(texte.charAt(i + 1))) {
+                octets += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                octets++;  // Surrogate isolé : remplacé par '?'
+            } else {
+                octets += 3;
+            }
+        }
+        ecrireVarint(sortie, octets);
+        for (int i = 0; i < longueur; i++) {
+            char c = texte.charAt(i);
+            if (c < 0x80) {
+                sortie.put((byte) c);
+            } else if (c < 0x800) {
+                sortie.put((byte) (0xC0 | (c >> 6)));
+                sortie.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < longueur
+                    && Character.isLowSurrogate(texte.charAt(i + 1))) {
+                int point = Character.toCodePoint(c, texte.charAt(++i));
+                sortie.put((byte) (0xF0 | (point >> 18)));
+                sortie.put((byte) (0x80 | ((point >> 12) & 0x3F)));
+                sortie.put((byte) (0x80 | ((point >> 6) & 0x3F)));
+                sortie.put((byte) (0x80 | (point & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                sortie.put((byte) '?');
+            } else {
+                sortie.put((byte) (0xE0 | (c >> 12)));
+                sortie.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                sortie.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Lit un texte écrit par {@link #ecrireTexte(ByteBuffer, CharSequence)}.
+     */
+    static String lireTexte(ByteBuffer entree) {
+        int octets = Math.toIntExact(lireVarint(entree));
+        String texte = new String(entree.array(), entree.arrayOffset() + entree.position(), octets,
+                StandardCharsets.UTF_8);
+        entree.position(entree.position() + octets);
+        return texte;
+    }
+}
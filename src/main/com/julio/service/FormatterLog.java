@@ -1,8 +1,8 @@
 package main.com.julio.service;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
@@ -25,6 +25,17 @@ import java.util.logging.LogRecord;
  * 20/11/2025 09:15:32 Level : INFO / Message : Client créé avec succès / Classe :main.com.julio.service.ClientService / Methode :createClient
  * </pre>
  *
+ * <p><b>Performances :</b></p>
+ * <p>
+ * Le formatage ne crée ni formateur de date ni tampon par enregistrement :
+ * l'horodatage, à la seconde, est mis en cache et n'est reformaté qu'au
+ * changement de seconde, et chaque thread réutilise son propre
+ * {@link StringBuilder}. {@link #formater(LogRecord, StringBuilder)} écrit dans
+ * un tampon fourni par l'appelant, sans aucune allocation :
+ * {@link HandlerFichier} l'utilise pour écrire directement les octets dans le
+ * fichier. Seul {@link #format(LogRecord)}, imposé par l'API, alloue la chaîne retournée.
+ * </p>
+ *
  * <p><b>Utilisation :</b></p>
  * <pre>
  * FileHandler fileHandler = new FileHandler("application.log");
@@ -41,13 +52,26 @@ import java.util.logging.LogRecord;
  */
 public class FormatterLog extends Formatter {
 
+    /** Format de l'horodatage, à la seconde */
+    private static final DateTimeFormatter FORMAT_DATE =
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    /** Tampon réutilisé par {@link #format(LogRecord)}, un par thread */
+    private static final ThreadLocal<StringBuilder> TAMPON = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    /** Capacité au-delà de laquelle le tampon d'un thread n'est pas conservé (message exceptionnel) */
+    private static final int CAPACITE_CONSERVEE = 16 * 1024;
+
+    /** Dernier horodatage formaté, remplacé au changement de seconde */
+    private volatile Horodatage horodatage = new Horodatage(Long.MIN_VALUE, "");
+
     /**
      * Formate un enregistrement de log selon le format personnalisé de l'application.
      * <p>
      * Construit une chaîne de caractères structurée contenant :
      * </p>
      * <ol>
-     *   <li><b>Date/Heure</b> : horodatage au format "dd/MM/yyyy HH:mm:ss"</li>
+     *   <li><b>Date/Heure</b> : horodatage de l'enregistrement au format "dd/MM/yyyy HH:mm:ss"</li>
      *   <li><b>Niveau</b> : gravité du log (INFO, WARNING, SEVERE, etc.)</li>
      *   <li><b>Message</b> : contenu descriptif du log</li>
      *   <li><b>Classe</b> : nom complet de la classe source de l'événement</li>
@@ -63,22 +87,56 @@ public class FormatterLog extends Formatter {
      */
     @Override
     public String format(LogRecord record) {
-        // Format de date français avec heure complète
-        DateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss");
+        StringBuilder result = TAMPON.get();
+        result.setLength(0);
+        formater(record, result);
+        String entree = result.toString();
+        if (result.capacity() > CAPACITE_CONSERVEE) {
+            TAMPON.remove();
+        }
+        return entree;
+    }
+
+    /**
+     * Ajoute l'entrée de log d'un enregistrement à un tampon, sans allocation.
+     * <p>
+     * Un message à arguments est formaté par {@link #formatMessage(LogRecord)}
+     * ({@link java.text.MessageFormat}), qui alloue.
+     * </p>
+     *
+     * @param record l'enregistrement de log à formater
+     * @param sortie tampon recevant l'entrée, retour à la ligne compris
+     */
+    public void formater(LogRecord record, StringBuilder sortie) {
+        sortie.append(horodatage(record.getInstant()));
+        sortie.append(" Level : ");
+        sortie.append(record.getLevel().getName());
+        sortie.append(" / Message : ");
+        // Modèle à arguments (LOGGER.log(niveau, modèle, arguments)) : substitution au formatage
+        sortie.append(record.getParameters() == null ? record.getMessage() : formatMessage(record));
+        sortie.append(" / Classe :");
+        sortie.append(record.getSourceClassName());
+        sortie.append(" / Methode :");
+        sortie.append(record.getSourceMethodName());
+        sortie.append('\n');
+    }
 
-        // Construction du message de log structuré
-        StringBuilder result = new StringBuilder();
-        result.append(dateFormat.format(new Date()));
-        result.append(" Level : ");
-        result.append(record.getLevel());
-        result.append(" / Message : ");
-        result.append(record.getMessage());
-        result.append(" / Classe :");
-        result.append(record.getSourceClassName());
-        result.append(" / Methode :");
-        result.append(record.getSourceMethodName());
-        result.append("\n");
+    /**
+     * Retourne l'horodatage formaté d'un instant, reformaté seulement au changement de seconde.
+     */
+    private String horodatage(Instant instant) {
+        long seconde = instant.getEpochSecond();
+        Horodatage courant = horodatage;
+        if (courant.seconde() != seconde) {
+            courant = new Horodatage(seconde, FORMAT_DATE.format(Instant.ofEpochSecond(seconde)));
+            horodatage = courant;
+        }
+        return courant.texte();
+    }
 
-        return result.toString();
+    /**
+     * Horodatage formaté d'une seconde, publié d'un bloc entre threads.
+     */
+    private record Horodatage(long seconde, String texte) {
     }
 }
@@ -0,0 +1,382 @@
+package main.com.julio.service;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Interesse;
+import main.com.julio.model.Prospect;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.service.GenerateurIdService.Reservation;
+import main.com.julio.service.GenerateurIdService.Sequence;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+import java.util.stream.IntStream;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Générateur déterministe de jeux de données volumineux, pour les tests de charge.
+ * <p>
+ * Produit des clients (avec leurs contrats), des prospects et leurs adresses
+ * valides et réalistes :
+ * </p>
+ * <ul>
+ *   <li>raisons sociales formées d'un nom, d'une activité et d'une forme juridique,
+ *       rendues uniques par un numéro (impair pour les clients, pair pour les prospects)</li>
+ *   <li>adresses dans des villes françaises réelles, pondérées par leur taille, avec
+ *       un code postal cohérent (arrondissements compris)</li>
+ *   <li>téléphones fixes et mobiles dans les différentes écritures acceptées
+ *       ({@code 0383123456}, {@code 03 83 12 34 56}, {@code +33 6 12 34 56 78}...)</li>
+ *   <li>chiffre d'affaires de distribution log-normale (médiane 500 000 €), effectif
+ *       déduit du chiffre d'affaires ; 0 à 10 contrats par client, montants log-normaux</li>
+ *   <li>dates de prospection dans les trois années précédant la date de référence</li>
+ * </ul>
+ * <p>
+ * La génération est découpée en lots de {@link #TAILLE_LOT} entités produits en
+ * parallèle ; chaque lot tire ses valeurs d'un générateur pseudo-aléatoire dérivé
+ * de la graine et de son numéro. Pour une même graine et une même date de
+ * référence, le contenu généré est donc identique quel que soit le nombre de
+ * threads ; seuls les identifiants dépendent de l'ordre d'attribution (chaque
+ * lot en réserve un bloc contigu, voir {@link GenerateurIdService#reserverBloc}).
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * new GenerateurDonnees(42).peupler(clientRepo, contratRepo, prospectRepo, 1_000_000, 500_000);
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class GenerateurDonnees {
+
+    /** Nombre d'entités générées par lot (unité de parallélisme et de réservation d'identifiants) */
+    public static final int TAILLE_LOT = 10_000;
+
+    /** Nombre maximal de contrats générés par client */
+    public static final int NB_CONTRATS_MAX = 10;
+
+    private static final String[] NOMS = {"Martin", "Bernard", "Thomas", "Petit", "Robert", "Richard",
+            "Durand", "Dubois", "Moreau", "Laurent", "Simon", "Michel", "Lefebvre", "Leroy", "Roux", "David",
+            "Bertrand", "Morel", "Fournier", "Girard", "Bonnet", "Dupont", "Lambert", "Fontaine", "Rousseau",
+            "Vincent", "Muller", "Lefevre", "Faure", "Andre", "Mercier", "Blanc", "Guerin", "Boyer", "Garnier",
+            "Chevalier", "Francois", "Legrand", "Gauthier", "Garcia"};
+    private static final String[] ACTIVITES = {"Transports", "Informatique", "Conseil", "Boulangerie",
+            "Menuiserie", "Plomberie", "Électricité", "Bâtiment", "Immobilier", "Imprimerie", "Logistique",
+            "Distribution", "Automobiles", "Assurances", "Restauration", "Pharmacie", "Textile", "Énergie",
+            "Agencement", "Ingénierie"};
+    private static final String[] FORMES = {"SARL", "SAS", "SASU", "EURL", "SA", "SCI"};
+    private static final int[] POIDS_FORMES = {35, 30, 15, 10, 7, 3};
+    private static final String[] VOIES = {"rue de la République", "rue Victor Hugo", "avenue Foch",
+            "rue Jean Jaurès", "boulevard Gambetta", "place de la Gare", "rue de Verdun", "rue Pasteur",
+            "avenue de la Libération", "rue du Général de Gaulle", "chemin des Vignes", "rue des Lilas",
+            "impasse des Tilleuls", "quai de la Seine", "rue de l'Église", "allée des Peupliers"};
+    private static final String[] DOMAINES = {"orange.fr", "gmail.com", "free.fr", "sfr.fr", "laposte.net"};
+    private static final String[] COMMENTAIRES = {"Client historique", "Relancer en janvier",
+            "Contact : service achats", "Paiement à 60 jours", "Interlocuteur : direction technique",
+            "Rendez-vous annuel en septembre"};
+    private static final String[] CONTRATS = {"TMA", "Audit", "Support niveau 2", "Migration Cloud",
+            "Formation", "Licence annuelle", "Refonte site web", "Infogérance", "Conseil", "Maintenance préventive"};
+
+    /** Villes : nom, préfixe départemental de l'indicatif fixe, codes postaux, poids (population relative) */
+    private static final Ville[] VILLES = {
+            new Ville("Paris", '1', codesArrondissements(75001, 20), 210),
+            new Ville("Marseille", '4', codesArrondissements(13001, 16), 87),
+            new Ville("Lyon", '4', codesArrondissements(69001, 9), 52),
+            new Ville("Toulouse", '5', new String[]{"31000", "31100", "31200", "31300", "31400", "31500"}, 50),
+            new Ville("Nice", '4', new String[]{"06000", "06100", "06200", "06300"}, 34),
+            new Ville("Nantes", '2', new String[]{"44000", "44100", "44200", "44300"}, 32),
+            new Ville("Montpellier", '4', new String[]{"34000", "34070", "34080", "34090"}, 30),
+            new Ville("Strasbourg", '3', new String[]{"67000", "67100", "67200"}, 29),
+            new Ville("Bordeaux", '5', new String[]{"33000", "33100", "33200", "33300", "33800"}, 26),
+            new Ville("Lille", '3', new String[]{"59000", "59160", "59260", "59800"}, 23),
+            new Ville("Rennes", '2', new String[]{"35000", "35200", "35700"}, 22),
+            new Ville("Reims", '3', new String[]{"51100"}, 18),
+            new Ville("Grenoble", '4', new String[]{"38000", "38100"}, 16),
+            new Ville("Dijon", '3', new String[]{"21000"}, 16),
+            new Ville("Nancy", '3', new String[]{"54000", "54100"}, 10),
+            new Ville("Metz", '3', new String[]{"57000", "57050", "57070"}, 12),
+            new Ville("Épinal", '3', new String[]{"88000"}, 3),
+            new Ville("Frouard", '3', new String[]{"54390"}, 1),
+            new Ville("Ajaccio", '4', new String[]{"20000", "20090"}, 7),
+            new Ville("Schoelcher", '5', new String[]{"97233"}, 2)};
+
+    private static final int[] POIDS_VILLES;
+
+    static {
+        POIDS_VILLES = new int[VILLES.length];
+        for (int i = 0; i < VILLES.length; i++) {
+            POIDS_VILLES[i] = VILLES[i].poids();
+        }
+    }
+
+    private final long graine;
+    private final LocalDate reference;
+
+    /**
+     * Crée un générateur dont les dates de prospection précèdent la date du jour.
+     *
+     * @param graine graine des tirages pseudo-aléatoires
+     */
+    public GenerateurDonnees(long graine) {
+        this(graine, LocalDate.now());
+    }
+
+    /**
+     * Crée un générateur entièrement reproductible.
+     *
+     * @param graine graine des tirages pseudo-aléatoires
+     * @param reference date de référence : les dates de prospection sont dans les trois années qui la précèdent
+     */
+    public GenerateurDonnees(long graine, LocalDate reference) {
+        this.graine = graine;
+        this.reference = reference;
+    }
+
+    /**
+     * Génère des clients, chacun avec ses contrats ({@link Client#getContrats()}).
+     *
+     * @param nb nombre de clients
+     * @return les clients, dans l'ordre de génération
+     */
+    public List<Client> genererClients(int nb) {
+        return concatener(nb, this::lotClients);
+    }
+
+    /**
+     * Génère des prospects.
+     *
+     * @param nb nombre de prospects
+     * @return les prospects, dans l'ordre de génération
+     */
+    public List<Prospect> genererProspects(int nb) {
+        return concatener(nb, this::lotProspects);
+    }
+
+    /**
+     * Génère des clients, leurs contrats et des prospects et les ajoute aux repositories.
+     * <p>
+     * Chaque lot est ajouté dès qu'il est généré ({@code addAll}, une prise du
+     * verrou d'écriture par lot) : seuls les lots en cours de génération sont en
+     * mémoire en plus des repositories.
+     * </p>
+     *
+     * @param clientRepo repository recevant les clients
+     * @param contratRepo repository recevant les contrats des clients
+     * @param prospectRepo repository recevant les prospects
+     * @param nbClients nombre de clients
+     * @param nbProspects nombre de prospects
+     */
+    public void peupler(ClientRepository clientRepo, ContratRepository contratRepo,
+                        ProspectRepository prospectRepo, int nbClients, int nbProspects) {
+        long debut = System.nanoTime();
+        IntStream.range(0, nbLots(nbClients)).parallel().forEach(lot -> {
+            List<Client> clients = lotClients(lot, taille(nbClients, lot));
+            clientRepo.addAll(clients);
+            List<Contrat> contrats = new ArrayList<>();
+            for (Client client : clients) {
+                contrats.addAll(client.getContrats());
+            }
+            contratRepo.addAll(contrats);
+        });
+        IntStream.range(0, nbLots(nbProspects)).parallel()
+                .forEach(lot -> prospectRepo.addAll(lotProspects(lot, taille(nbProspects, lot))));
+        LOGGER.log(Level.INFO, "Jeu de données généré (graine {0,number,#}) : {1,number,#} clients, "
+                        + "{2,number,#} prospects en {3,number,#} ms",
+                new Object[]{graine, nbClients, nbProspects, (System.nanoTime() - debut) / 1_000_000});
+    }
+
+    // ============================================================
+    // GÉNÉRATION D'UN LOT
+    // ============================================================
+
+    private List<Client> lotClients(int lot, int nb) {
+        SplittableRandom hasard = hasard(1, lot);
+        // Nombre de contrats de chaque client (loi géométrique de moyenne 2) tiré d'abord, pour
+        // réserver leurs identifiants ; générateur distinct, pour qu'un lot incomplet soit le
+        // début du lot complet
+        SplittableRandom hasardContrats = hasard(3, lot);
+        int[] nbContrats = new int[nb];
+        int totalContrats = 0;
+        for (int i = 0; i < nb; i++) {
+            nbContrats[i] = (int) Math.min(NB_CONTRATS_MAX, -Math.log(1 - hasardContrats.nextDouble()) * 2.466);
+            totalContrats += nbContrats[i];
+        }
+        List<Client> clients = new ArrayList<>(nb);
+        Reservation societes = GenerateurIdService.reserverBloc(Sequence.SOCIETE, nb);
+        Reservation adresses = GenerateurIdService.reserverBloc(Sequence.ADRESSE, nb);
+        Reservation contrats = totalContrats == 0 ? null
+                : GenerateurIdService.reserverBloc(Sequence.CONTRAT, totalContrats);
+        try {
+            for (int i = 0; i < nb; i++) {
+                long numero = 2L * ((long) lot * TAILLE_LOT + i) + 1;
+                String nom = tirer(hasard, NOMS);
+                long chiffreAffaires = Math.max(200, Math.min(50_000_000_000L,
+                        Math.round(Math.exp(Math.log(500_000) + 1.6 * hasard.nextGaussian()))));
+                // Effectif : chiffre d'affaires divisé par une productivité de l'ordre de 120 000 € par salarié
+                int nbEmployes = (int) Math.max(1, Math.min(250_000,
+                        chiffreAffaires / Math.exp(Math.log(120_000) + 0.5 * hasard.nextGaussian())));
+                Client client = new Client(societes.suivant(), raisonSociale(hasard, nom, numero),
+                        adresse(adresses.suivant(), hasard),
+                        telephone(hasard), email(hasard, nom, numero), commentaires(hasard),
+                        chiffreAffaires, nbEmployes);
+                for (int c = 0; c < nbContrats[i]; c++) {
+                    double montant = Math.max(100, Math.round(
+                            Math.exp(Math.log(20_000) + 1.2 * hasard.nextGaussian()) * 100) / 100.0);
+                    client.ajouterContrat(new Contrat(contrats.suivant(), client.getId(),
+                            tirer(hasard, CONTRATS) + " " + (reference.getYear() - hasard.nextInt(5)), montant));
+                }
+                clients.add(client);
+            }
+        } catch (ValidationException e) {
+            throw new IllegalStateException("Donnée générée invalide : " + e.getMessage(), e);
+        }
+        return clients;
+    }
+
+    private List<Prospect> lotProspects(int lot, int nb) {
+        SplittableRandom hasard = hasard(2, lot);
+        List<Prospect> prospects = new ArrayList<>(nb);
+        Reservation societes = GenerateurIdService.reserverBloc(Sequence.SOCIETE, nb);
+        Reservation adresses = GenerateurIdService.reserverBloc(Sequence.ADRESSE, nb);
+        try {
+            for (int i = 0; i < nb; i++) {
+                long numero = 2L * ((long) lot * TAILLE_LOT + i) + 2;
+                String nom = tirer(hasard, NOMS);
+                prospects.add(new Prospect(societes.suivant(), raisonSociale(hasard, nom, numero),
+                        adresse(adresses.suivant(), hasard),
+                        telephone(hasard), email(hasard, nom, numero), commentaires(hasard),
+                        reference.minusDays(hasard.nextInt(3 * 365)),
+                        hasard.nextInt(100) < 35 ? Interesse.OUI : Interesse.NON));
+            }
+        } catch (ValidationException e) {
+            throw new IllegalStateException("Donnée générée invalide : " + e.getMessage(), e);
+        }
+        return prospects;
+    }
+
+    private static String raisonSociale(SplittableRandom hasard, String nom, long numero) {
+        String activite = tirer(hasard, ACTIVITES);
+        String forme = FORMES[tirerPondere(hasard, POIDS_FORMES)];
+        return switch (hasard.nextInt(3)) {
+            case 0 -> activite + " " + nom + " " + forme + " " + numero;
+            case 1 -> nom + " " + activite + " " + forme + " " + numero;
+            default -> nom + " & Fils " + forme + " " + numero;
+        };
+    }
+
+    private static Adresse adresse(int id, SplittableRandom hasard) throws ValidationException {
+        Ville ville = VILLES[tirerPondere(hasard, POIDS_VILLES)];
+        // Numéros de rue : les petits numéros sont les plus fréquents
+        int numero = 1 + (int) Math.min(399, -Math.log(1 - hasard.nextDouble()) * 40);
+        String complement = hasard.nextInt(20) == 0 ? " bis" : "";
+        return new Adresse(id, numero + complement, tirer(hasard, VOIES), tirer(hasard, ville.codesPostaux()),
+                ville.nom());
+    }
+
+    /**
+     * Téléphone fixe (indicatif de la région de la ville) ou mobile, dans une écriture tirée au sort.
+     */
+    private static String telephone(SplittableRandom hasard) {
+        char indicatif = hasard.nextBoolean() ? (hasard.nextBoolean() ? '6' : '7')
+                : VILLES[tirerPondere(hasard, POIDS_VILLES)].indicatif();
+        int[] paires = {hasard.nextInt(100), hasard.nextInt(100), hasard.nextInt(100), hasard.nextInt(100)};
+        StringBuilder telephone = new StringBuilder(17);
+        String separateur = switch (hasard.nextInt(4)) {
+            case 0 -> "";
+            case 1 -> " ";
+            case 2 -> ".";
+            default -> "-";
+        };
+        if (hasard.nextInt(10) == 0) {
+            telephone.append("+33 ").append(indicatif);
+            separateur = " ";
+        } else {
+            telephone.append('0').append(indicatif);
+        }
+        for (int paire : paires) {
+            telephone.append(separateur).append((char) ('0' + paire / 10)).append((char) ('0' + paire % 10));
+        }
+        return telephone.toString();
+    }
+
+    private static String email(SplittableRandom hasard, String nom, long numero) {
+        String local = hasard.nextBoolean() ? "contact" : nom.toLowerCase();
+        return local + "." + numero + "@" + tirer(hasard, DOMAINES);
+    }
+
+    private static String commentaires(SplittableRandom hasard) {
+        return hasard.nextInt(100) < 15 ? tirer(hasard, COMMENTAIRES) : "";
+    }
+
+    // ============================================================
+    // OUTILS
+    // ============================================================
+
+    /**
+     * Générateur du lot : dérivé de la graine, du type d'entité et du numéro de lot seulement.
+     */
+    private SplittableRandom hasard(int type, int lot) {
+        return new SplittableRandom(graine * 0x9E3779B97F4A7C15L + type * 0xBF58476D1CE4E5B9L + lot);
+    }
+
+    private static <T> List<T> concatener(int nb, LotGenere<T> generation) {
+        List<List<T>> lots = IntStream.range(0, nbLots(nb)).parallel()
+                .mapToObj(lot -> generation.generer(lot, taille(nb, lot))).toList();
+        List<T> entites = new ArrayList<>(nb);
+        lots.forEach(entites::addAll);
+        return entites;
+    }
+
+    @FunctionalInterface
+    private interface LotGenere<T> {
+        List<T> generer(int lot, int taille);
+    }
+
+    private static int nbLots(int nb) {
+        return (nb + TAILLE_LOT - 1) / TAILLE_LOT;
+    }
+
+    private static int taille(int nb, int lot) {
+        return Math.min(TAILLE_LOT, nb - lot * TAILLE_LOT);
+    }
+
+    private static String tirer(SplittableRandom hasard, String[] valeurs) {
+        return valeurs[hasard.nextInt(valeurs.length)];
+    }
+
+    private static int tirerPondere(SplittableRandom hasard, int[] poids) {
+        int total = 0;
+        for (int p : poids) {
+            total += p;
+        }
+        int tirage = hasard.nextInt(total);
+        for (int i = 0; i < poids.length; i++) {
+            tirage -= poids[i];
+            if (tirage < 0) {
+                return i;
+            }
+        }
+        return poids.length - 1;
+    }
+
+    private static String[] codesArrondissements(int premier, int nb) {
+        String[] codes = new String[nb];
+        for (int i = 0; i < nb; i++) {
+            codes[i] = Integer.toString(premier + i);
+        }
+        return codes;
+    }
+
+    private record Ville(String nom, char indicatif, String[] codesPostaux, int poids) {
+    }
+}
@@ -0,0 +1,265 @@
+package main.com.julio.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.logging.Level;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Service centralisé d'attribution des identifiants des entités.
+ * <p>
+ * Remplace les compteurs statiques propres à chaque classe du modèle. Chaque
+ * {@link Sequence} est un compteur atomique : l'attribution d'un identifiant
+ * ne prend aucun verrou et reste correcte en cas de créations concurrentes.
+ * Clients et prospects partagent la séquence {@link Sequence#SOCIETE}, de sorte
+ * qu'un identifiant désigne une seule société (ce sur quoi s'appuie
+ * {@link UnicityService#isRaisonSocialDuplique(String, int)}).
+ * </p>
+ *
+ * <p><b>Réservation par blocs :</b></p>
+ * <p>
+ * {@link #reserverBloc(Sequence, int)} réserve en une seule opération atomique une
+ * plage d'identifiants, distribuée ensuite sans aucune synchronisation par
+ * {@link Reservation#suivant()} et passée explicitement aux constructeurs qui
+ * acceptent un identifiant (imports en masse). Les identifiants non consommés
+ * d'un bloc sont perdus, ce qui ne crée que des trous dans la numérotation.
+ * </p>
+ *
+ * <p><b>Persistance du plafond (hi/lo) :</b></p>
+ * <p>
+ * Lorsque la persistance est activée ({@link #activerPersistance(Path)}), un
+ * plafond par séquence est écrit sur disque par tranches de {@link #TAILLE_TRANCHE}.
+ * Aucun identifiant n'est attribué au-delà du plafond persisté : au redémarrage,
+ * les compteurs reprennent au plafond, sans collision même après un arrêt brutal.
+ * Seul le franchissement d'un plafond (une fois par tranche) passe par un verrou.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class GenerateurIdService {
+
+    /** Séquences d'identifiants indépendantes */
+    public enum Sequence {
+        /** Clients et prospects */
+        SOCIETE,
+        /** Contrats */
+        CONTRAT,
+        /** Adresses */
+        ADRESSE
+    }
+
+    /** Nombre d'identifiants réservés sur disque à chaque franchissement de plafond */
+    public static final int TAILLE_TRANCHE = 1024;
+
+    private static final Sequence[] SEQUENCES = Sequence.values();
+
+    /** Prochain identifiant à attribuer, par séquence */
+    private static final AtomicInteger[] PROCHAINS = new AtomicInteger[SEQUENCES.length];
+
+    /** Plafond persisté (exclu), par séquence ; sans objet si la persistance est inactive */
+    private static final AtomicIntegerArray PLAFONDS = new AtomicIntegerArray(SEQUENCES.length);
+
+    /** Fichier des plafonds, null si la persistance est inactive */
+    private static volatile Path fichier;
+
+    static {
+        for (Sequence sequence : SEQUENCES) {
+            PROCHAINS[sequence.ordinal()] = new AtomicInteger(1);
+        }
+    }
+
+    private GenerateurIdService() {
+    }
+
+    /**
+     * Attribue le prochain identifiant d'une séquence.
+     *
+     * @param sequence la séquence concernée
+     * @return un identifiant jamais attribué auparavant
+     * @throws IllegalStateException si le plafond ne peut pas être persisté
+     */
+    public static int prochain(Sequence sequence) {
+        int id = PROCHAINS[sequence.ordinal()].getAndIncrement();
+        garantirPlafond(sequence, id);
+        return id;
+    }
+
+    /**
+     * Réserve un bloc d'identifiants consécutifs.
+     * <p>
+     * Les identifiants sont distribués par {@link Reservation#suivant()} ; les
+     * appels à {@link #prochain(Sequence)} n'y puisent pas.
+     * </p>
+     *
+     * @param sequence la séquence concernée
+     * @param taille nombre d'identifiants à réserver (strictement positif)
+     * @return la réservation
+     * @throws IllegalArgumentException si la taille n'est pas strictement positive
+     * @throws IllegalStateException si le plafond ne peut pas être persisté
+     */
+    public static Reservation reserverBloc(Sequence sequence, int taille) {
+        if (taille <= 0) {
+            throw new IllegalArgumentException("La taille du bloc doit être strictement positive");
+        }
+        int debut = PROCHAINS[sequence.ordinal()].getAndAdd(taille);
+        garantirPlafond(sequence, debut + taille - 1);
+        return new Reservation(debut, debut + taille);
+    }
+
+    /**
+     * Garantit que les prochains identifiants d'une séquence seront strictement supérieurs à {@code id}.
+     * <p>
+     * Utilisée après le rechargement d'entités persistées.
+     * </p>
+     *
+     * @param sequence la séquence concernée
+     * @param id le plus grand identifiant déjà attribué
+     */
+    public static void avancer(Sequence sequence, int id) {
+        PROCHAINS[sequence.ordinal()].accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Remet une séquence à 1 (tests et réinitialisation).
+     *
+     * @param sequence la séquence concernée
+     */
+    public static void reinitialiser(Sequence sequence) {
+        PROCHAINS[sequence.ordinal()].set(1);
+    }
+
+    /**
+     * Active la persistance des plafonds dans le fichier donné.
+     * <p>
+     * Les compteurs sont avancés jusqu'aux plafonds déjà persistés, puis de
+     * nouveaux plafonds couvrant les compteurs courants sont écrits.
+     * </p>
+     *
+     * @param fichierPlafonds fichier des plafonds (créé s'il n'existe pas)
+     * @throws IOException si le fichier ne peut pas être lu ou écrit
+     */
+    public static synchronized void activerPersistance(Path fichierPlafonds) throws IOException {
+        if (Files.exists(fichierPlafonds)) {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(fichierPlafonds))) {
+                for (Sequence sequence : SEQUENCES) {
+                    avancer(sequence, in.readInt() - 1);
+                }
+            }
+        }
+        int[] plafonds = new int[SEQUENCES.length];
+        for (Sequence sequence : SEQUENCES) {
+            plafonds[sequence.ordinal()] = PROCHAINS[sequence.ordinal()].get() + TAILLE_TRANCHE;
+        }
+        ecrirePlafonds(fichierPlafonds, plafonds);
+        publier(plafonds);
+        fichier = fichierPlafonds;
+    }
+
+    /**
+     * Désactive la persistance des plafonds ; les compteurs sont conservés.
+     */
+    public static synchronized void desactiverPersistance() {
+        fichier = null;
+    }
+
+    /**
+     * Fait en sorte que le plafond persisté de la séquence dépasse {@code id}.
+     */
+    private static void garantirPlafond(Sequence sequence, int id) {
+        if (fichier == null || id < PLAFONDS.get(sequence.ordinal())) {
+            return;
+        }
+        synchronized (GenerateurIdService.class) {
+            Path courant = fichier;
+            if (courant == null || id < PLAFONDS.get(sequence.ordinal())) {
+                return;
+            }
+            // Le nouveau plafond n'est publié qu'une fois écrit sur disque
+            int[] plafonds = new int[SEQUENCES.length];
+            for (Sequence s : SEQUENCES) {
+                plafonds[s.ordinal()] = PLAFONDS.get(s.ordinal());
+            }
+            plafonds[sequence.ordinal()] = id + TAILLE_TRANCHE;
+            try {
+                ecrirePlafonds(courant, plafonds);
+                publier(plafonds);
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Persistance des identifiants impossible : " + e.getMessage(), e);
+                throw new IllegalStateException("Impossible de réserver de nouveaux identifiants", e);
+            }
+        }
+    }
+
+    private static void publier(int[] plafonds) {
+        for (Sequence sequence : SEQUENCES) {
+            PLAFONDS.set(sequence.ordinal(), plafonds[sequence.ordinal()]);
+        }
+    }
+
+    /**
+     * Écrit les plafonds de manière atomique (fichier temporaire puis renommage).
+     */
+    private static void ecrirePlafonds(Path cible, int[] plafonds) throws IOException {
+        Path temporaire = cible.resolveSibling(cible.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporaire, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(Channels.newOutputStream(canal));
+            for (int plafond : plafonds) {
+                out.writeInt(plafond);
+            }
+            out.flush();
+            canal.force(true);
+        }
+        Files.move(temporaire, cible, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Bloc d'identifiants réservé, plage [suivant, fin).
+     * <p>
+     * Non synchronisée : une réservation est consommée par un seul thread.
+     * </p>
+     */
+    public static final class Reservation {
+        private int suivant;
+        private final int fin;
+
+        private Reservation(int debut, int fin) {
+            this.suivant = debut;
+            this.fin = fin;
+        }
+
+        /**
+         * Distribue le prochain identifiant du bloc.
+         *
+         * @return un identifiant jamais attribué auparavant
+         * @throws IllegalStateException si le bloc est épuisé
+         */
+        public int suivant() {
+            if (suivant >= fin) {
+                throw new IllegalStateException("Bloc d'identifiants épuisé");
+            }
+            return suivant++;
+        }
+
+        /**
+         * Retourne le nombre d'identifiants encore disponibles dans le bloc.
+         *
+         * @return le nombre d'identifiants restants
+         */
+        public int getRestants() {
+            return fin - suivant;
+        }
+    }
+}
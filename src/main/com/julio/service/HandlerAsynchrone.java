@@ -0,0 +1,310 @@
+package main.com.julio.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Handler de logs asynchrone : l'écriture est confiée à un thread dédié.
+ * <p>
+ * {@link #publish(LogRecord)} se contente de déposer l'enregistrement dans un
+ * tampon circulaire borné et sans verrou ({@link TamponCirculaire}) : l'appelant,
+ * souvent l'EDT, ne fait aucune entrée/sortie. Le thread {@code journalisation}
+ * vide le tampon par lots d'au plus {@link #TAILLE_LOT} enregistrements, les
+ * transmet au handler cible (typiquement un {@link java.util.logging.FileHandler})
+ * puis vide ce dernier une seule fois par lot.
+ * </p>
+ * <p>
+ * Lorsque le tampon est plein, la {@link PolitiqueDebordement} choisie décide
+ * d'attendre ou d'écarter des enregistrements ; le nombre d'enregistrements
+ * écartés est écrit dans le log au lot suivant.
+ * </p>
+ * <p>
+ * {@link #close()} arrête le thread après l'écriture de tous les enregistrements
+ * reçus, puis ferme le handler cible ; entre-temps, les enregistrements publiés
+ * sont écrits directement, sous verrou. {@link LoggingService} l'appelle à
+ * l'arrêt de la JVM, y compris après {@code System.exit}, après les tâches
+ * d'arrêt qui journalisent ({@link LoggingService#avantArret(Runnable)}).
+ * </p>
+ *
+ * <p><b>Utilisation :</b></p>
+ * <pre>
+ * FileHandler fichier = new FileHandler("logs/application.log", true);
+ * fichier.setFormatter(new FormatterLog());
+ * logger.addHandler(new HandlerAsynchrone(fichier, 8192, PolitiqueDebordement.BLOQUER));
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see LoggingService
+ */
+public class HandlerAsynchrone extends Handler {
+
+    /** Nombre maximal d'enregistrements écrits entre deux vidages du handler cible */
+    public static final int TAILLE_LOT = 256;
+
+    /** Politique {@link PolitiqueDebordement#ECHANTILLONNER} : un enregistrement conservé sur ce nombre */
+    public static final int TAUX_ECHANTILLONNAGE = 10;
+
+    /** Attente maximale du thread d'écriture sans nouvel enregistrement */
+    private static final long ATTENTE_MAX_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Pause d'un producteur en attente de place */
+    private static final long PAUSE_PRODUCTEUR_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /** Attente maximale de l'écriture des enregistrements par flush() et close() */
+    private static final long DELAI_VIDAGE_MS = 5_000;
+
+    private final Handler cible;
+    private final PolitiqueDebordement politique;
+    private final TamponCirculaire<LogRecord> tampon;
+    private final Thread ecrivain;
+
+    private final AtomicLong termines = new AtomicLong();  // Enregistrements du tampon écrits ou écartés
+    private final AtomicInteger publicationsEnCours = new AtomicInteger();
+    private final LongAdder ecartes = new LongAdder();
+    private final AtomicLong compteurEchantillon = new AtomicLong();
+    private volatile boolean enAttente;  // Thread d'écriture endormi faute d'enregistrement
+    private volatile boolean ferme;
+
+    // Sérialise les écritures dans le handler cible ; cibleFermee est protégé par ce verrou
+    private final Object verrouCible = new Object();
+    private boolean cibleFermee;
+
+    /**
+     * Constructeur démarrant le thread d'écriture.
+     *
+     * @param cible handler recevant les enregistrements, depuis le thread d'écriture uniquement
+     * @param capacite nombre d'enregistrements en attente (arrondi à la puissance de deux supérieure)
+     * @param politique comportement lorsque le tampon est plein
+     */
+    public HandlerAsynchrone(Handler cible, int capacite, PolitiqueDebordement politique) {
+        this.cible = cible;
+        this.politique = politique;
+        this.tampon = new TamponCirculaire<>(capacite);
+        this.ecrivain = new Thread(this::ecrire, "journalisation");
+        ecrivain.setDaemon(true);
+        ecrivain.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // Classe et méthode source sont déduites de la pile : à figer sur le thread appelant
+        record.getSourceClassName();
+        if (Thread.currentThread() == ecrivain) {
+            cible.publish(record);  // Log émis par le handler cible lui-même
+            return;
+        }
+        // Compté pour que close() attende la fin d'une publication commencée avant lui
+        publicationsEnCours.incrementAndGet();
+        try {
+            if (ferme) {
+                publierDirectement(record);
+                return;
+            }
+            if (!tampon.offrir(record)) {
+                deborder(record);
+            }
+            if (enAttente) {
+                LockSupport.unpark(ecrivain);
+            }
+            if (ferme) {
+                // Fermeture pendant le dépôt : l'enregistrement a pu manquer le dernier lot
+                publierDirectement(null);
+            }
+        } finally {
+            publicationsEnCours.decrementAndGet();
+        }
+    }
+
+    /**
+     * Attend l'écriture des enregistrements reçus avant l'appel, puis vide le handler cible.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() == ecrivain) {
+            cible.flush();
+            return;
+        }
+        attendreEcriture(tampon.ajoutes());
+        cible.flush();
+    }
+
+    /**
+     * Écrit tous les enregistrements en attente, arrête le thread d'écriture et ferme le handler cible.
+     * <p>
+     * Dès l'appel, les enregistrements publiés sont écrits directement dans le
+     * handler cible, sous verrou ; la cible n'est fermée qu'une fois terminées les
+     * publications en cours. Les enregistrements publiés après la fermeture sont
+     * ignorés. Les appels suivants sont sans effet.
+     * </p>
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (ferme) {
+                return;
+            }
+            ferme = true;
+        }
+        LockSupport.unpark(ecrivain);
+        try {
+            ecrivain.join(DELAI_VIDAGE_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Publications commencées avant la fermeture : écrites directement avant de fermer la cible
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DELAI_VIDAGE_MS);
+        while (publicationsEnCours.get() > 0 && System.nanoTime() < limite) {
+            LockSupport.parkNanos(this, PAUSE_PRODUCTEUR_NANOS);
+        }
+        // Thread d'écriture arrêté ou bloqué : le reste est écrit par l'appelant
+        synchronized (verrouCible) {
+            ecrireLot(Integer.MAX_VALUE);
+            signalerEcartes();
+            cible.flush();
+            cible.close();
+            cibleFermee = true;
+        }
+    }
+
+    /**
+     * Retourne le nombre d'enregistrements écartés depuis le dernier signalement dans le log.
+     *
+     * @return nombre d'enregistrements écartés non encore signalés
+     */
+    public long getEcartes() {
+        return ecartes.sum();
+    }
+
+    // ============================================================
+    // DÉBORDEMENT
+    // ============================================================
+
+    private void deborder(LogRecord record) {
+        switch (politique) {
+            case BLOQUER -> attendrePlace(record);
+            case SUPPRIMER_PLUS_ANCIEN -> {
+                while (!tampon.offrir(record)) {
+                    if (tampon.retirer() != null) {
+                        termines.incrementAndGet();
+                        ecartes.increment();
+                    }
+                }
+            }
+            case ECHANTILLONNER -> {
+                if (record.getLevel().intValue() >= Level.SEVERE.intValue()
+                        || compteurEchantillon.incrementAndGet() % TAUX_ECHANTILLONNAGE == 0) {
+                    attendrePlace(record);
+                } else {
+                    ecartes.increment();
+                }
+            }
+        }
+    }
+
+    private void attendrePlace(LogRecord record) {
+        while (!tampon.offrir(record)) {
+            if (ferme) {
+                publierDirectement(record);  // Plus de thread d'écriture : écriture directe
+                return;
+            }
+            LockSupport.unpark(ecrivain);
+            LockSupport.parkNanos(this, PAUSE_PRODUCTEUR_NANOS);
+        }
+    }
+
+    // ============================================================
+    // THREAD D'ÉCRITURE
+    // ============================================================
+
+    private void ecrire() {
+        while (!ferme) {
+            int nb;
+            synchronized (verrouCible) {
+                nb = ecrireLot(TAILLE_LOT);
+                if (nb > 0) {
+                    signalerEcartes();
+                    cible.flush();
+                }
+            }
+            if (nb > 0) {
+                continue;
+            }
+            enAttente = true;
+            if (tampon.estVide() && !ferme) {
+                LockSupport.parkNanos(this, ATTENTE_MAX_NANOS);
+            }
+            enAttente = false;
+        }
+    }
+
+    /**
+     * Après la fermeture, écrit un enregistrement (s'il n'est pas null) précédé de ceux
+     * restés dans le tampon, tant que le handler cible n'est pas fermé.
+     */
+    private void publierDirectement(LogRecord record) {
+        synchronized (verrouCible) {
+            if (cibleFermee) {
+                return;
+            }
+            ecrireLot(Integer.MAX_VALUE);
+            if (record != null) {
+                cible.publish(record);
+            }
+            cible.flush();
+        }
+    }
+
+    /**
+     * Transmet au handler cible au plus {@code max} enregistrements du tampon.
+     *
+     * @return nombre d'enregistrements transmis
+     */
+    private int ecrireLot(int max) {
+        int nb = 0;
+        LogRecord record;
+        while (nb < max && (record = tampon.retirer()) != null) {
+            try {
+                cible.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Écriture du log impossible", e, ErrorManager.WRITE_FAILURE);
+            }
+            termines.incrementAndGet();
+            nb++;
+        }
+        return nb;
+    }
+
+    private void signalerEcartes() {
+        long nb = ecartes.sumThenReset();
+        if (nb > 0) {
+            LogRecord avertissement = new LogRecord(Level.WARNING,
+                    nb + " enregistrement(s) de log écarté(s) : tampon plein (" + politique + ")");
+            avertissement.setSourceClassName(HandlerAsynchrone.class.getName());
+            avertissement.setSourceMethodName("publish");
+            cible.publish(avertissement);
+        }
+    }
+
+    /**
+     * Attend que les enregistrements ajoutés jusqu'à une position soient écrits ou écartés.
+     */
+    private void attendreEcriture(long position) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DELAI_VIDAGE_MS);
+        while (termines.get() < position && ecrivain.isAlive() && System.nanoTime() < limite) {
+            LockSupport.unpark(ecrivain);
+            LockSupport.parkNanos(this, PAUSE_PRODUCTEUR_NANOS);
+        }
+    }
+}
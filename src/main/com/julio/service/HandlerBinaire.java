@@ -0,0 +1,328 @@
+package main.com.julio.service;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Stream;
+
+/**
+ * Handler écrivant les logs dans un format binaire compact, en fichiers projetés en mémoire.
+ * <p>
+ * Chaque enregistrement est réduit à ses données structurées (voir {@link FormatLogBinaire}) :
+ * niveau sur un octet, instant en écart avec l'enregistrement précédent, classe,
+ * méthode et message remplacés par l'identifiant de leur entrée dans un
+ * dictionnaire écrit une seule fois par fichier, arguments du message
+ * ({@link LogRecord#getParameters()}) codés selon leur type. Les messages
+ * répétés (messages de validation, modèles à arguments) ne sont donc écrits
+ * qu'une fois.
+ * </p>
+ * <p>
+ * Les fichiers {@code <nom>-NNNNNN.blog} sont projetés en mémoire
+ * ({@link MappedByteBuffer}) : une écriture n'est qu'une copie dans le cache du
+ * système, sans appel système par enregistrement ; la partie non écrite, à zéro,
+ * termine le fichier. Un fichier plein est fermé et
+ * le suivant ouvert ; seuls les {@code nbFichiers} plus récents sont conservés.
+ * {@link #flush()} n'impose pas l'écriture sur disque (les données projetées
+ * survivent à l'arrêt du processus) ; {@link #close()} l'impose.
+ * </p>
+ * <p>
+ * Les fichiers se relisent avec {@link DecodeurLogBinaire}, qui restitue le format de
+ * {@link FormatterLog}. Comme ce dernier, le handler ignore l'exception associée.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see LoggingService#intFichierLog(PolitiqueDebordement, boolean)
+ */
+public class HandlerBinaire extends Handler {
+
+    /** Taille par défaut d'un fichier */
+    public static final int TAILLE_FICHIER_DEFAUT = 8 * 1024 * 1024;
+
+    /** Nombre par défaut de fichiers conservés */
+    public static final int NB_FICHIERS_DEFAUT = 10;
+
+    /** Extension des fichiers de log binaires */
+    public static final String EXTENSION = ".blog";
+
+    /** Nombre maximal d'entrées du dictionnaire d'un fichier ; au-delà, les textes sont écrits en ligne */
+    private static final int TAILLE_DICTIONNAIRE_MAX = 65_536;
+
+    /** Premier identifiant du dictionnaire (0 : absent, 1 : texte en ligne) */
+    static final int PREMIER_ID = 2;
+
+    private final Path dossier;
+    private final String nom;
+    private final int tailleFichier;
+    private final int nbFichiers;
+
+    private final Map<String, Integer> dictionnaire = new HashMap<>();
+    private final List<String> ajoutsEnCours = new ArrayList<>();
+    private ByteBuffer tampon = ByteBuffer.allocate(4096);  // Entrée en cours d'encodage
+    private FileChannel canal;
+    private MappedByteBuffer zone;
+    private long numero;
+    private long dernierInstant;
+    private boolean ferme;
+
+    /**
+     * Constructeur avec la taille et le nombre de fichiers par défaut.
+     *
+     * @param dossier répertoire des fichiers (doit exister)
+     * @param nom préfixe des noms de fichiers
+     * @throws IOException si le premier fichier ne peut pas être créé
+     */
+    public HandlerBinaire(Path dossier, String nom) throws IOException {
+        this(dossier, nom, TAILLE_FICHIER_DEFAUT, NB_FICHIERS_DEFAUT);
+    }
+
+    /**
+     * Constructeur.
+     * <p>
+     * Un nouveau fichier est toujours créé, à la suite des fichiers existants.
+     * </p>
+     *
+     * @param dossier répertoire des fichiers (doit exister)
+     * @param nom préfixe des noms de fichiers
+     * @param tailleFichier taille de chaque fichier, en octets
+     * @param nbFichiers nombre de fichiers conservés
+     * @throws IOException si le premier fichier ne peut pas être créé
+     */
+    public HandlerBinaire(Path dossier, String nom, int tailleFichier, int nbFichiers) throws IOException {
+        this.dossier = dossier;
+        this.nom = nom;
+        this.tailleFichier = tailleFichier;
+        this.nbFichiers = nbFichiers;
+        for (Path fichier : fichiers(dossier, nom)) {
+            numero = Math.max(numero, numero(fichier, nom));
+        }
+        ouvrirSuivant();
+    }
+
+    /**
+     * Retourne les fichiers de log binaires d'un répertoire, du plus ancien au plus récent.
+     *
+     * @param dossier répertoire des fichiers
+     * @param nom préfixe des noms de fichiers
+     * @return les fichiers, triés par numéro
+     * @throws IOException si le répertoire ne peut pas être lu
+     */
+    public static List<Path> fichiers(Path dossier, String nom) throws IOException {
+        try (Stream<Path> contenu = Files.list(dossier)) {
+            return contenu.filter(f -> numero(f, nom) > 0)
+                    .sorted((a, b) -> Long.compare(numero(a, nom), numero(b, nom)))
+                    .toList();
+        }
+    }
+
+    @Override
+    public synchronized void publish(LogRecord record) {
+        if (ferme || !isLoggable(record)) {
+            return;
+        }
+        try {
+            if (!encoder(record)) {
+                rouler();
+                if (!encoder(record)) {
+                    reportError("Enregistrement de log plus grand qu'un fichier", null, ErrorManager.WRITE_FAILURE);
+                    return;
+                }
+            }
+            // Premier octet écrit en dernier : tant qu'il vaut 0, l'entrée partielle marque la fin
+            int debut = zone.position();
+            tampon.flip();
+            byte premier = tampon.get();
+            zone.position(debut + 1);
+            zone.put(tampon);
+            zone.put(debut, premier);
+            dernierInstant = record.getMillis();
+        } catch (IOException e) {
+            reportError("Écriture du log impossible", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Sans effet : les données projetées sont déjà dans le cache du système.
+     */
+    @Override
+    public void flush() {
+        // Écriture sur disque imposée uniquement à la fermeture (msync coûteux)
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ferme) {
+            return;
+        }
+        ferme = true;
+        try {
+            fermerFichier();
+        } catch (IOException e) {
+            reportError("Fermeture du log impossible", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    // ============================================================
+    // ENCODAGE
+    // ============================================================
+
+    /**
+     * Encode un enregistrement et les entrées de dictionnaire qu'il introduit dans le tampon.
+     * <p>
+     * Si l'entrée n'est pas retenue, les textes qu'elle ajoutait sont retirés du
+     * dictionnaire : aucun enregistrement ultérieur ne référence une entrée DICO
+     * jamais écrite.
+     * </p>
+     *
+     * @return false si l'entrée ne tient pas dans la place restante du fichier
+     */
+    private boolean encoder(LogRecord record) {
+        while (true) {
+            tampon.clear();
+            ajoutsEnCours.clear();
+            try {
+                encoderDans(record);
+                if (tampon.position() <= zone.remaining()) {
+                    return true;
+                }
+                ajoutsEnCours.forEach(dictionnaire::remove);  // Entrées DICO non écrites : identifiants rendus
+                return false;
+            } catch (BufferOverflowException e) {
+                ajoutsEnCours.forEach(dictionnaire::remove);  // Entrées perdues avec le tampon
+                if (tampon.capacity() >= tailleFichier) {
+                    return false;
+                }
+                tampon = ByteBuffer.allocate(Math.min(tailleFichier, tampon.capacity() * 2));
+            }
+        }
+    }
+
+    private void encoderDans(LogRecord record) {
+        int classe = reference(record.getSourceClassName());
+        int methode = reference(record.getSourceMethodName());
+        int message = reference(record.getMessage());
+
+        Level niveau = record.getLevel();
+        int code = FormatLogBinaire.codeNiveau(niveau);
+        tampon.put((byte) (FormatLogBinaire.ENREGISTREMENT + code));
+        if (code == 0) {
+            FormatLogBinaire.ecrireZigzag(tampon, niveau.intValue());
+        }
+        FormatLogBinaire.ecrireZigzag(tampon, record.getMillis() - dernierInstant);
+        ecrireReference(classe, record.getSourceClassName());
+        ecrireReference(methode, record.getSourceMethodName());
+        ecrireReference(message, record.getMessage());
+
+        Object[] parametres = record.getParameters();
+        int nb = parametres == null ? 0 : parametres.length;
+        FormatLogBinaire.ecrireVarint(tampon, nb);
+        for (int i = 0; i < nb; i++) {
+            Object parametre = parametres[i];
+            if (parametre == null) {
+                tampon.put(FormatLogBinaire.ARGUMENT_NUL);
+            } else if (parametre instanceof Integer || parametre instanceof Long
+                    || parametre instanceof Short || parametre instanceof Byte) {
+                tampon.put(FormatLogBinaire.ARGUMENT_ENTIER);
+                FormatLogBinaire.ecrireZigzag(tampon, ((Number) parametre).longValue());
+            } else {
+                tampon.put(FormatLogBinaire.ARGUMENT_TEXTE);
+                FormatLogBinaire.ecrireTexte(tampon, String.valueOf(parametre));
+            }
+        }
+    }
+
+    /**
+     * Retourne la référence d'un texte, en l'ajoutant au dictionnaire (entrée DICO écrite) s'il est nouveau.
+     *
+     * @return 0 si absent, 1 si le dictionnaire est plein (texte en ligne), sinon l'identifiant
+     */
+    private int reference(String texte) {
+        if (texte == null) {
+            return 0;
+        }
+        Integer id = dictionnaire.get(texte);
+        if (id != null) {
+            return id;
+        }
+        if (dictionnaire.size() >= TAILLE_DICTIONNAIRE_MAX) {
+            return 1;
+        }
+        tampon.put(FormatLogBinaire.DICO);
+        FormatLogBinaire.ecrireTexte(tampon, texte);
+        int nouveau = PREMIER_ID + dictionnaire.size();
+        dictionnaire.put(texte, nouveau);
+        ajoutsEnCours.add(texte);
+        return nouveau;
+    }
+
+    private void ecrireReference(int reference, String texte) {
+        FormatLogBinaire.ecrireVarint(tampon, reference);
+        if (reference == 1) {
+            FormatLogBinaire.ecrireTexte(tampon, texte);
+        }
+    }
+
+    // ============================================================
+    // FICHIERS
+    // ============================================================
+
+    private void rouler() throws IOException {
+        fermerFichier();
+        ouvrirSuivant();
+    }
+
+    private void ouvrirSuivant() throws IOException {
+        numero++;
+        Path fichier = dossier.resolve(String.format("%s-%06d%s", nom, numero, EXTENSION));
+        canal = FileChannel.open(fichier, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        zone = canal.map(FileChannel.MapMode.READ_WRITE, 0, tailleFichier);
+        dernierInstant = System.currentTimeMillis();
+        zone.put(FormatLogBinaire.MAGIQUE).put(FormatLogBinaire.VERSION).putLong(dernierInstant);
+        dictionnaire.clear();
+
+        List<Path> existants = fichiers(dossier, nom);
+        for (int i = 0; i < existants.size() - nbFichiers; i++) {
+            Files.deleteIfExists(existants.get(i));
+        }
+    }
+
+    private void fermerFichier() throws IOException {
+        zone.force();
+        try {
+            canal.truncate(zone.position());  // Fin de fichier inutilisée rendue au système
+        } catch (IOException e) {
+            // Troncature d'un fichier projeté refusée par certains systèmes : fin laissée à zéro (FIN)
+        }
+        canal.close();
+    }
+
+    /**
+     * Numéro d'un fichier de log binaire, ou 0 si son nom ne correspond pas.
+     */
+    private static long numero(Path fichier, String nom) {
+        String nomFichier = fichier.getFileName().toString();
+        if (!nomFichier.startsWith(nom + "-") || !nomFichier.endsWith(EXTENSION)) {
+            return 0;
+        }
+        String chiffres = nomFichier.substring(nom.length() + 1, nomFichier.length() - EXTENSION.length());
+        if (chiffres.isEmpty() || !chiffres.chars().allMatch(Character::isDigit)) {
+            return 0;
+        }
+        return Long.parseLong(chiffres);
+    }
+}
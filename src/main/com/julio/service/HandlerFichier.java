@@ -0,0 +1,142 @@
+package main.com.julio.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Handler écrivant les logs dans un fichier, en octets, sans allocation par enregistrement.
+ * <p>
+ * Chaque enregistrement est formaté par {@link FormatterLog#formater(LogRecord, StringBuilder)}
+ * dans un tampon de caractères réutilisé, encodé en UTF-8 dans un tampon d'octets
+ * réutilisé, puis écrit sur le {@link FileChannel} du fichier lorsque ce tampon est
+ * plein ou au {@link #flush()}. Aucune chaîne intermédiaire n'est créée, contrairement
+ * à un {@link java.util.logging.StreamHandler} qui passe par {@code Formatter.format}
+ * puis par un {@link java.io.Writer}.
+ * </p>
+ * <p>
+ * Le fichier est ouvert en ajout. Les méthodes sont synchronisées : le handler
+ * peut être partagé, mais il est destiné à être alimenté par le seul thread
+ * d'écriture de {@link HandlerAsynchrone}.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see LoggingService
+ */
+public class HandlerFichier extends Handler {
+
+    /** Taille du tampon d'octets, écrit sur le fichier lorsqu'il est plein */
+    private static final int TAILLE_TAMPON = 64 * 1024;
+
+    private final FileChannel canal;
+    private final FormatterLog formatter;
+    private final StringBuilder texte = new StringBuilder(512);
+    private char[] caracteres = new char[512];
+    private CharBuffer entree = CharBuffer.wrap(caracteres);
+    private final ByteBuffer octets = ByteBuffer.allocateDirect(TAILLE_TAMPON);
+    private final CharsetEncoder encodeur = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private boolean ferme;
+
+    /**
+     * Constructeur ouvrant le fichier en ajout (créé s'il n'existe pas).
+     *
+     * @param fichier chemin du fichier de log (son répertoire doit exister)
+     * @param formatter formateur des entrées
+     * @throws IOException si le fichier ne peut pas être ouvert
+     */
+    public HandlerFichier(Path fichier, FormatterLog formatter) throws IOException {
+        this.canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.formatter = formatter;
+        setFormatter(formatter);
+    }
+
+    @Override
+    public synchronized void publish(LogRecord record) {
+        if (ferme || !isLoggable(record)) {
+            return;
+        }
+        texte.setLength(0);
+        formatter.formater(record, texte);
+        int longueur = texte.length();
+        if (longueur > caracteres.length) {
+            caracteres = new char[Math.max(longueur, caracteres.length * 2)];
+            entree = CharBuffer.wrap(caracteres);
+        }
+        texte.getChars(0, longueur, caracteres, 0);
+        entree.clear().limit(longueur);
+        try {
+            encodeur.reset();
+            encoder();
+            while (encodeur.flush(octets).isOverflow()) {
+                vider();
+            }
+        } catch (IOException e) {
+            reportError("Écriture du log impossible", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Écrit sur le fichier les octets en attente.
+     */
+    @Override
+    public synchronized void flush() {
+        if (ferme) {
+            return;
+        }
+        try {
+            vider();
+        } catch (IOException e) {
+            reportError("Vidage du log impossible", e, ErrorManager.FLUSH_FAILURE);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ferme) {
+            return;
+        }
+        flush();
+        ferme = true;
+        try {
+            canal.close();
+        } catch (IOException e) {
+            reportError("Fermeture du log impossible", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Encode l'entrée, en vidant le tampon d'octets autant que nécessaire.
+     */
+    private void encoder() throws IOException {
+        CoderResult resultat;
+        while ((resultat = encodeur.encode(entree, octets, true)).isOverflow()) {
+            vider();
+        }
+        if (resultat.isError()) {
+            resultat.throwException();
+        }
+    }
+
+    private void vider() throws IOException {
+        octets.flip();
+        while (octets.hasRemaining()) {
+            canal.write(octets);
+        }
+        octets.clear();
+    }
+}
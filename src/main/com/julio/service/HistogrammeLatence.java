@@ -0,0 +1,178 @@
+package main.com.julio.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de latences à précision relative bornée, enregistrable sans verrou.
+ * <p>
+ * Reprend le découpage d'un histogramme HDR : les valeurs (en nanosecondes)
+ * inférieures à 128 ont chacune leur case ; au-delà, chaque puissance de deux est
+ * découpée en 64 cases de même largeur. Une valeur est donc restituée à moins de
+ * 1/64 (1,6 %) près, de la nanoseconde à {@link #VALEUR_MAX}, avec {@link #NB_CASES}
+ * (2 368) compteurs seulement (les valeurs plus grandes sont comptées dans la dernière
+ * case ; le maximum reste exact).
+ * </p>
+ * <p>
+ * Un enregistrement incrémente atomiquement une case, ajoute la valeur à un
+ * {@link LongAdder} et ne met à jour le maximum que s'il est dépassé : ni verrou
+ * ni allocation, quel que soit le nombre de threads. La lecture
+ * ({@link #statistiques()}) parcourt les cases sans bloquer les enregistrements
+ * concurrents ; elle peut donc inclure une partie seulement des enregistrements
+ * en cours, ce qui est sans conséquence pour des percentiles.
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * long debut = System.nanoTime();
+ * try {
+ *     ...
+ * } finally {
+ *     latence.enregistrerDepuis(debut);
+ * }
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see Metriques#histogramme(String)
+ */
+public final class HistogrammeLatence {
+
+    /** Plus grande valeur distinguée (une heure) ; les valeurs supérieures sont rangées avec elle */
+    public static final long VALEUR_MAX = TimeUnit.HOURS.toNanos(1);
+
+    /** Nombre de cases par demi-plage d'une puissance de deux (précision relative 1/64) */
+    private static final int DEMI_PLAGE = 64;
+
+    /** Nombre de cases couvrant les valeurs de 0 à {@link #VALEUR_MAX} */
+    public static final int NB_CASES = indice(VALEUR_MAX) + 1;
+
+    /**
+     * Statistiques d'un histogramme à un instant donné (durées en nanosecondes).
+     *
+     * @param nom nom de l'histogramme
+     * @param nombre nombre de valeurs enregistrées
+     * @param moyenne moyenne des valeurs (0 si aucune)
+     * @param p50 médiane
+     * @param p90 90e percentile
+     * @param p99 99e percentile
+     * @param p999 99,9e percentile
+     * @param max plus grande valeur enregistrée
+     */
+    public record Statistiques(String nom, long nombre, double moyenne, long p50, long p90, long p99, long p999,
+                               long max) {
+    }
+
+    private final String nom;
+    private final AtomicLongArray cases = new AtomicLongArray(NB_CASES);
+    private final LongAdder somme = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Crée un histogramme vide.
+     *
+     * @param nom nom de la mesure (ex. {@code client.creer})
+     */
+    public HistogrammeLatence(String nom) {
+        this.nom = nom;
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    /**
+     * Enregistre une durée.
+     *
+     * @param nanos durée en nanosecondes (une valeur négative compte pour 0)
+     */
+    public void enregistrer(long nanos) {
+        long valeur = Math.max(0, nanos);
+        cases.getAndIncrement(indice(Math.min(valeur, VALEUR_MAX)));
+        somme.add(valeur);
+        max.accumulate(valeur);
+    }
+
+    /**
+     * Enregistre la durée écoulée depuis un instant mesuré par {@link System#nanoTime()}.
+     *
+     * @param debutNanos valeur de {@link System#nanoTime()} au début de l'opération
+     */
+    public void enregistrerDepuis(long debutNanos) {
+        enregistrer(System.nanoTime() - debutNanos);
+    }
+
+    /**
+     * Calcule nombre, moyenne, percentiles et maximum des durées enregistrées.
+     * <p>
+     * Un percentile est la plus grande valeur de la case qui le contient, bornée
+     * par le maximum : il n'est jamais sous-estimé, et surestimé de 1/64 au plus.
+     * </p>
+     *
+     * @return les statistiques depuis la création ou la dernière réinitialisation
+     */
+    public Statistiques statistiques() {
+        long[] copie = new long[NB_CASES];
+        long nombre = 0;
+        for (int i = 0; i < NB_CASES; i++) {
+            copie[i] = cases.get(i);
+            nombre += copie[i];
+        }
+        long plusGrande = max.get();
+        if (nombre == 0) {
+            return new Statistiques(nom, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new Statistiques(nom, nombre, (double) somme.sum() / nombre,
+                percentile(copie, nombre, 0.50, plusGrande), percentile(copie, nombre, 0.90, plusGrande),
+                percentile(copie, nombre, 0.99, plusGrande), percentile(copie, nombre, 0.999, plusGrande),
+                plusGrande);
+    }
+
+    /**
+     * Remet l'histogramme à zéro.
+     * <p>
+     * Un enregistrement concurrent peut être compté en partie seulement (case
+     * remise à zéro mais pas la somme, par exemple).
+     * </p>
+     */
+    public void reinitialiser() {
+        for (int i = 0; i < NB_CASES; i++) {
+            cases.set(i, 0);
+        }
+        somme.reset();
+        max.reset();
+    }
+
+    private static long percentile(long[] copie, long nombre, double rang, long plusGrande) {
+        long cible = Math.max(1, (long) Math.ceil(rang * nombre));
+        long cumul = 0;
+        for (int i = 0; i < copie.length; i++) {
+            cumul += copie[i];
+            if (cumul >= cible) {
+                // La dernière case contient aussi les valeurs au-delà de VALEUR_MAX
+                return i == copie.length - 1 ? plusGrande : Math.min(borneSuperieure(i), plusGrande);
+            }
+        }
+        return plusGrande;
+    }
+
+    /**
+     * Case d'une valeur : la valeur elle-même sous 128, puis 64 cases par puissance de deux.
+     */
+    private static int indice(long valeur) {
+        int decalage = Math.max(0, 57 - Long.numberOfLeadingZeros(valeur));
+        return decalage * DEMI_PLAGE + (int) (valeur >>> decalage);
+    }
+
+    /**
+     * Plus grande valeur rangée dans une case.
+     */
+    private static long borneSuperieure(int indice) {
+        int decalage = Math.max(0, indice / DEMI_PLAGE - 1);
+        long mantisse = indice - (long) decalage * DEMI_PLAGE;
+        return ((mantisse + 1) << decalage) - 1;
+    }
+}
@@ -0,0 +1,307 @@
+package main.com.julio.service;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Prospect;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.GenerateurIdService.Reservation;
+import main.com.julio.service.GenerateurIdService.Sequence;
+import main.com.julio.util.DateUtils;
+import main.com.julio.util.LecteurCsv;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Import en masse de clients, prospects ou contrats depuis un fichier CSV.
+ * <p>
+ * La première ligne du fichier nomme les colonnes, par le libellé ou le nom du
+ * {@link Champ} (casse, accents, espaces et apostrophes ignorés : « Code postal »,
+ * « CODE_POSTAL »...) ; le séparateur (',' ou ';') est déterminé d'après elle.
+ * Les colonnes inconnues sont ignorées, les valeurs débarrassées de leurs espaces
+ * de début et de fin.
+ * </p>
+ *
+ * <p><b>Traitement par lots de {@link #TAILLE_LOT} lignes :</b></p>
+ * <ol>
+ *   <li>Lecture en flux ({@link LecteurCsv}) : la mémoire utilisée ne dépend pas de la taille du fichier</li>
+ *   <li>Validation de tous les champs en parallèle ({@link ValidateurLot})</li>
+ *   <li>Contrôle des doublons de raison sociale avec {@link UnicityService} et dans le
+ *       fichier lui-même ; pour un contrat, existence du client</li>
+ *   <li>Construction des entités avec des identifiants réservés par bloc
+ *       ({@link GenerateurIdService#reserverBloc(Sequence, int)})</li>
+ *   <li>Ajout du lot au repository sous une seule prise de son verrou ({@code addAll})</li>
+ * </ol>
+ * <p>
+ * Une ligne invalide est écartée avec toutes ses erreurs, sans interrompre
+ * l'import. Les lots déjà ajoutés sont conservés si l'import est interrompu
+ * (interruption du thread, erreur de lecture). Le bilan ({@link RapportImport}),
+ * débit compris, est journalisé.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public class ImportCsvService {
+
+    /** Nombre de lignes validées et ajoutées ensemble */
+    public static final int TAILLE_LOT = 10_000;
+
+    /** Nombre maximal d'erreurs conservées dans le bilan */
+    public static final int NB_ERREURS_MAX = 10_000;
+
+    private final ClientRepository clientRepo;
+    private final ProspectRepository prospectRepo;
+    private final ContratRepository contratRepo;
+    private final UnicityService unicityService;
+
+    /**
+     * Constructeur.
+     *
+     * @param clientRepo repository des clients
+     * @param prospectRepo repository des prospects
+     * @param contratRepo repository des contrats
+     * @param unicityService service de vérification d'unicité des raisons sociales
+     */
+    public ImportCsvService(ClientRepository clientRepo, ProspectRepository prospectRepo,
+                            ContratRepository contratRepo, UnicityService unicityService) {
+        this.clientRepo = clientRepo;
+        this.prospectRepo = prospectRepo;
+        this.contratRepo = contratRepo;
+        this.unicityService = unicityService;
+    }
+
+    /**
+     * Importe un fichier CSV.
+     *
+     * @param fichier le fichier à importer (UTF-8)
+     * @param type type des enregistrements du fichier
+     * @return le bilan de l'import
+     * @throws ValidationException si le fichier est vide ou s'il manque une colonne obligatoire
+     * @throws InterruptedIOException si le thread est interrompu (lots déjà ajoutés conservés)
+     * @throws IOException si le fichier ne peut pas être lu ou n'est pas en UTF-8
+     */
+    public RapportImport importer(Path fichier, TypeEnregistrement type) throws IOException, ValidationException {
+        long debut = System.nanoTime();
+        Bilan bilan = new Bilan();
+        try (LecteurCsv lecteur = new LecteurCsv(fichier, LecteurCsv.detecterSeparateur(fichier))) {
+            if (!lecteur.suivant()) {
+                throw new ValidationException("Le fichier à importer est vide : " + fichier.getFileName());
+            }
+            Champ[] colonnes = colonnes(lecteur, type);
+
+            List<EnregistrementBrut> lot = new ArrayList<>(TAILLE_LOT);
+            while (lecteur.suivant()) {
+                Map<Champ, String> valeurs = new EnumMap<>(Champ.class);
+                for (int i = 0; i < colonnes.length; i++) {
+                    String valeur = lecteur.champ(i);
+                    if (colonnes[i] != null && valeur != null) {
+                        valeurs.put(colonnes[i], valeur.strip());
+                    }
+                }
+                lot.add(new EnregistrementBrut(Math.toIntExact(lecteur.ligne()), valeurs));
+                if (lot.size() == TAILLE_LOT) {
+                    traiterLot(type, lot, bilan);
+                    lot.clear();
+                }
+            }
+            traiterLot(type, lot, bilan);
+        }
+
+        RapportImport rapport = new RapportImport(type, bilan.nbLignes, bilan.nbImportes,
+                bilan.nbLignes - bilan.nbImportes, List.copyOf(bilan.erreurs), System.nanoTime() - debut);
+        LOGGER.log(Level.INFO, "Import {0} ({1}) : {2,number,#} lignes, {3,number,#} importées, "
+                        + "{4,number,#} rejetées en {5,number,#} ms ({6,number,#} lignes/s)",
+                new Object[]{type, fichier.getFileName(), rapport.nbLignes(), rapport.nbImportes(),
+                        rapport.nbRejetes(), rapport.dureeNanos() / 1_000_000,
+                        Math.round(rapport.lignesParSeconde())});
+        return rapport;
+    }
+
+    /**
+     * Associe chaque colonne de l'en-tête à un champ du type (null pour une colonne ignorée).
+     */
+    private static Champ[] colonnes(LecteurCsv entete, TypeEnregistrement type) throws ValidationException {
+        Champ[] colonnes = new Champ[entete.nbChamps()];
+        Set<Champ> manquants = new HashSet<>(type.getChamps());
+        for (int i = 0; i < colonnes.length; i++) {
+            String nom = normaliser(entete.champ(i));
+            for (Champ champ : type.getChamps()) {
+                if (nom.equals(normaliser(champ.name())) || nom.equals(normaliser(champ.getLibelle()))) {
+                    colonnes[i] = champ;
+                    manquants.remove(champ);
+                    break;
+                }
+            }
+        }
+        manquants.remove(Champ.COMMENTAIRES);  // Seule colonne facultative
+        if (!manquants.isEmpty()) {
+            throw new ValidationException("Colonnes manquantes dans le fichier à importer : "
+                    + type.getChamps().stream().filter(manquants::contains).map(Champ::getLibelle).toList());
+        }
+        return colonnes;
+    }
+
+    /**
+     * Nom de colonne sans casse, accents, espaces, tirets bas ni apostrophes.
+     */
+    private static String normaliser(String nom) {
+        return Normalizer.normalize(nom.strip(), Normalizer.Form.NFD)
+                .replaceAll("[\\p{M}\\s_'’-]", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Valide, construit et ajoute un lot de lignes.
+     */
+    private void traiterLot(TypeEnregistrement type, List<EnregistrementBrut> lot, Bilan bilan)
+            throws IOException, ValidationException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Import interrompu après " + bilan.nbLignes + " lignes");
+        }
+        bilan.nbLignes += lot.size();
+        ResultatValidation resultat = ValidateurLot.valider(type, lot);
+        resultat.getErreurs().forEach(bilan::erreur);
+
+        List<EnregistrementBrut> valides = new ArrayList<>(resultat.getNbValides());
+        for (int i = 0; i < lot.size(); i++) {
+            if (resultat.estValide(i)) {
+                valides.add(lot.get(i));
+            }
+        }
+        switch (type) {
+            case CLIENT -> {
+                List<EnregistrementBrut> retenus = uniques(valides, bilan);
+                List<Client> clients = new ArrayList<>(retenus.size());
+                Reservation societes = reserver(Sequence.SOCIETE, retenus.size());
+                Reservation adresses = reserver(Sequence.ADRESSE, retenus.size());
+                for (EnregistrementBrut e : retenus) {
+                    clients.add(new Client(societes.suivant(), e.valeur(Champ.RAISON_SOCIALE),
+                            adresse(adresses.suivant(), e),
+                            e.valeur(Champ.TELEPHONE), e.valeur(Champ.EMAIL), e.valeur(Champ.COMMENTAIRES),
+                            Champ.lireEntier(e.valeur(Champ.CHIFFRE_AFFAIRES)),
+                            (int) Champ.lireEntier(e.valeur(Champ.NB_EMPLOYES))));
+                }
+                clientRepo.addAll(clients);
+                bilan.nbImportes += clients.size();
+            }
+            case PROSPECT -> {
+                List<EnregistrementBrut> retenus = uniques(valides, bilan);
+                List<Prospect> prospects = new ArrayList<>(retenus.size());
+                Reservation societes = reserver(Sequence.SOCIETE, retenus.size());
+                Reservation adresses = reserver(Sequence.ADRESSE, retenus.size());
+                for (EnregistrementBrut e : retenus) {
+                    prospects.add(new Prospect(societes.suivant(), e.valeur(Champ.RAISON_SOCIALE),
+                            adresse(adresses.suivant(), e),
+                            e.valeur(Champ.TELEPHONE), e.valeur(Champ.EMAIL), e.valeur(Champ.COMMENTAIRES),
+                            DateUtils.parseDate(e.valeur(Champ.DATE_PROSPECTION)),
+                            Champ.lireInteresse(e.valeur(Champ.INTERESSE))));
+                }
+                prospectRepo.addAll(prospects);
+                bilan.nbImportes += prospects.size();
+            }
+            case CONTRAT -> {
+                List<Contrat> contrats = new ArrayList<>(valides.size());
+                List<Client> proprietaires = new ArrayList<>(valides.size());
+                Reservation reservation = reserver(Sequence.CONTRAT, valides.size());
+                for (EnregistrementBrut e : valides) {
+                    int clientId = (int) Champ.lireEntier(e.valeur(Champ.CLIENT_ID));
+                    Client client = clientRepo.findById(clientId);
+                    if (client == null) {
+                        bilan.erreur(new ErreurChamp(e.ligne(), Champ.CLIENT_ID, e.valeur(Champ.CLIENT_ID),
+                                "Client introuvable"));
+                        continue;
+                    }
+                    contrats.add(new Contrat(reservation.suivant(), clientId, e.valeur(Champ.NOM_CONTRAT),
+                            Champ.lireDecimal(e.valeur(Champ.MONTANT))));
+                    proprietaires.add(client);
+                }
+                contratRepo.addAll(contrats);
+                // Synchronisation bidirectionnelle, comme ContratViewModel.creerContrat
+                for (int i = 0; i < contrats.size(); i++) {
+                    proprietaires.get(i).ajouterContrat(contrats.get(i));
+                }
+                bilan.nbImportes += contrats.size();
+            }
+        }
+        bilan.terminerLot();
+    }
+
+    /**
+     * Écarte les lignes dont la raison sociale existe déjà, dans l'application ou plus haut dans le lot.
+     */
+    private List<EnregistrementBrut> uniques(List<EnregistrementBrut> valides, Bilan bilan) {
+        List<EnregistrementBrut> retenus = new ArrayList<>(valides.size());
+        Set<String> vues = new HashSet<>();
+        for (EnregistrementBrut e : valides) {
+            String raisonSociale = e.valeur(Champ.RAISON_SOCIALE);
+            // Les lots précédents, déjà ajoutés, sont couverts par l'index des raisons sociales
+            if (!vues.add(RaisonSocialeIndex.plier(raisonSociale))
+                    || unicityService.isRaisonSocialDuplique(raisonSociale, -1)) {
+                bilan.erreur(new ErreurChamp(e.ligne(), Champ.RAISON_SOCIALE, raisonSociale,
+                        "Cette raison sociale existe déjà"));
+            } else {
+                retenus.add(e);
+            }
+        }
+        return retenus;
+    }
+
+    private static Adresse adresse(int id, EnregistrementBrut e) throws ValidationException {
+        return new Adresse(id, e.valeur(Champ.NUMERO_RUE), e.valeur(Champ.NOM_RUE),
+                e.valeur(Champ.CODE_POSTAL), e.valeur(Champ.VILLE));
+    }
+
+    /**
+     * Réserve un bloc d'identifiants, ou aucun (null) pour un lot vide.
+     */
+    private static Reservation reserver(Sequence sequence, int taille) {
+        return taille == 0 ? null : GenerateurIdService.reserverBloc(sequence, taille);
+    }
+
+    /**
+     * Compteurs et erreurs de l'import en cours.
+     */
+    private static final class Bilan {
+        private long nbLignes;
+        private long nbImportes;
+        private final List<ErreurChamp> erreurs = new ArrayList<>();
+        private final List<ErreurChamp> erreursLot = new ArrayList<>();
+
+        private void erreur(ErreurChamp erreur) {
+            erreursLot.add(erreur);
+        }
+
+        /**
+         * Verse les erreurs du lot dans le bilan, dans l'ordre des lignes.
+         */
+        private void terminerLot() {
+            erreursLot.sort(Comparator.comparingInt(ErreurChamp::ligne));  // Tri stable : ordre des champs conservé
+            for (ErreurChamp erreur : erreursLot) {
+                if (erreurs.size() < NB_ERREURS_MAX) {
+                    erreurs.add(erreur);
+                }
+            }
+            erreursLot.clear();
+        }
+    }
+}
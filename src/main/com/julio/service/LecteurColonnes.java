@@ -0,0 +1,293 @@
+package main.com.julio.service;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Lecture groupe par groupe d'un fichier au format {@link FormatColonnes}.
+ * <p>
+ * Chaque appel à {@link #suivant()} charge le groupe suivant et décode ses
+ * colonnes dans des tableaux réutilisés d'un groupe à l'autre ; les valeurs
+ * d'une colonne DICTIONNAIRE partagent la même chaîne par entrée. La mémoire
+ * occupée est celle d'un groupe, quelle que soit la taille du fichier.
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * try (LecteurColonnes lecteur = new LecteurColonnes(fichier)) {
+ *     int ville = lecteur.colonne("ville");
+ *     while (lecteur.suivant()) {
+ *         for (int ligne = 0; ligne &lt; lecteur.nbLignes(); ligne++) {
+ *             String nom = lecteur.texte(ville, ligne);
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see EcrivainColonnes
+ */
+public final class LecteurColonnes implements Closeable {
+
+    private final DataInputStream entree;
+    private final String[] noms;
+    private final FormatColonnes.Type[] types;
+    private final long[][] entiers;
+    private final double[][] decimaux;
+    private final String[][] textes;
+    private byte[] bloc = new byte[64 * 1024];
+    private int nbLignes;
+    private boolean termine;
+
+    /**
+     * Ouvre un fichier et lit son en-tête.
+     *
+     * @param fichier chemin du fichier
+     * @throws IOException si le fichier est illisible ou n'est pas au format attendu
+     */
+    public LecteurColonnes(Path fichier) throws IOException {
+        this.entree = new DataInputStream(new BufferedInputStream(Files.newInputStream(fichier), 64 * 1024));
+        try {
+            byte[] magique = new byte[FormatColonnes.MAGIQUE.length];
+            entree.readFully(magique);
+            if (!Arrays.equals(magique, FormatColonnes.MAGIQUE)) {
+                throw new IOException("Fichier en colonnes invalide : " + fichier);
+            }
+            byte version = entree.readByte();
+            if (version != FormatColonnes.VERSION) {
+                throw new IOException("Version de fichier en colonnes non supportée : " + version);
+            }
+            int nbColonnes = Math.toIntExact(lireVarint());
+            noms = new String[nbColonnes];
+            types = new FormatColonnes.Type[nbColonnes];
+            for (int i = 0; i < nbColonnes; i++) {
+                int type = entree.readUnsignedByte();
+                if (type >= FormatColonnes.Type.values().length) {
+                    throw new IOException("Type de colonne inconnu : " + type);
+                }
+                types[i] = FormatColonnes.Type.values()[type];
+                byte[] nom = new byte[Math.toIntExact(lireVarint())];
+                entree.readFully(nom);
+                noms[i] = new String(nom, StandardCharsets.UTF_8);
+            }
+        } catch (IOException | RuntimeException e) {
+            entree.close();
+            throw e;
+        }
+        entiers = new long[noms.length][];
+        decimaux = new double[noms.length][];
+        textes = new String[noms.length][];
+    }
+
+    /**
+     * Retourne le nombre de colonnes.
+     *
+     * @return nombre de colonnes du fichier
+     */
+    public int nbColonnes() {
+        return noms.length;
+    }
+
+    /**
+     * Retourne le nom d'une colonne.
+     *
+     * @param colonne indice de la colonne
+     * @return nom de la colonne
+     */
+    public String nom(int colonne) {
+        return noms[colonne];
+    }
+
+    /**
+     * Retourne le type d'une colonne.
+     *
+     * @param colonne indice de la colonne
+     * @return type de la colonne
+     */
+    public FormatColonnes.Type type(int colonne) {
+        return types[colonne];
+    }
+
+    /**
+     * Recherche une colonne par son nom.
+     *
+     * @param nom nom de la colonne
+     * @return indice de la colonne, ou -1 si absente
+     */
+    public int colonne(String nom) {
+        for (int i = 0; i < noms.length; i++) {
+            if (noms[i].equals(nom)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Charge le groupe suivant.
+     *
+     * @return true si un groupe a été chargé, false en fin de fichier
+     * @throws IOException si le fichier est illisible, tronqué ou corrompu
+     */
+    public boolean suivant() throws IOException {
+        if (termine) {
+            return false;
+        }
+        nbLignes = Math.toIntExact(lireVarint());
+        if (nbLignes == 0) {
+            termine = true;
+            return false;
+        }
+        for (int i = 0; i < noms.length; i++) {
+            int taille = Math.toIntExact(lireVarint());
+            if (bloc.length < taille) {
+                bloc = new byte[Math.max(taille, bloc.length * 2)];
+            }
+            entree.readFully(bloc, 0, taille);
+            try {
+                decoder(i, ByteBuffer.wrap(bloc, 0, taille));
+            } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException
+                     | IndexOutOfBoundsException e) {
+                throw new IOException("Bloc de la colonne " + noms[i] + " corrompu", e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retourne le nombre de lignes du groupe courant.
+     *
+     * @return nombre de lignes chargées par le dernier {@link #suivant()}
+     */
+    public int nbLignes() {
+        return nbLignes;
+    }
+
+    /**
+     * Retourne la valeur d'une colonne ENTIER (ou le jour epoch d'une colonne DATE).
+     *
+     * @param colonne indice de la colonne
+     * @param ligne indice de la ligne dans le groupe courant
+     * @return la valeur
+     */
+    public long entier(int colonne, int ligne) {
+        return entiers[colonne][ligne];
+    }
+
+    /**
+     * Retourne la valeur d'une colonne DECIMAL.
+     *
+     * @param colonne indice de la colonne
+     * @param ligne indice de la ligne dans le groupe courant
+     * @return la valeur
+     */
+    public double decimal(int colonne, int ligne) {
+        return decimaux[colonne][ligne];
+    }
+
+    /**
+     * Retourne la valeur d'une colonne DATE.
+     *
+     * @param colonne indice de la colonne
+     * @param ligne indice de la ligne dans le groupe courant
+     * @return la valeur
+     */
+    public LocalDate date(int colonne, int ligne) {
+        return LocalDate.ofEpochDay(entiers[colonne][ligne]);
+    }
+
+    /**
+     * Retourne la valeur d'une colonne TEXTE ou DICTIONNAIRE.
+     *
+     * @param colonne indice de la colonne
+     * @param ligne indice de la ligne dans le groupe courant
+     * @return la valeur
+     */
+    public String texte(int colonne, int ligne) {
+        return textes[colonne][ligne];
+    }
+
+    @Override
+    public void close() throws IOException {
+        entree.close();
+    }
+
+    private void decoder(int colonne, ByteBuffer valeurs) throws IOException {
+        switch (types[colonne]) {
+            case ENTIER, DATE -> {
+                long[] cible = entiers[colonne] = agrandir(entiers[colonne]);
+                for (int ligne = 0; ligne < nbLignes; ligne++) {
+                    cible[ligne] = FormatLogBinaire.lireZigzag(valeurs);
+                }
+            }
+            case DECIMAL -> {
+                double[] cible = decimaux[colonne] = agrandir(decimaux[colonne]);
+                for (int ligne = 0; ligne < nbLignes; ligne++) {
+                    cible[ligne] = valeurs.getDouble();
+                }
+            }
+            case TEXTE -> {
+                String[] cible = textes[colonne] = agrandir(textes[colonne]);
+                for (int ligne = 0; ligne < nbLignes; ligne++) {
+                    cible[ligne] = FormatLogBinaire.lireTexte(valeurs);
+                }
+            }
+            case DICTIONNAIRE -> {
+                String[] entrees = new String[Math.toIntExact(FormatLogBinaire.lireVarint(valeurs))];
+                for (int i = 0; i < entrees.length; i++) {
+                    entrees[i] = FormatLogBinaire.lireTexte(valeurs);
+                }
+                String[] cible = textes[colonne] = agrandir(textes[colonne]);
+                for (int ligne = 0; ligne < nbLignes; ligne++) {
+                    long rang = FormatLogBinaire.lireVarint(valeurs);
+                    if (rang >= entrees.length) {
+                        throw new IOException("Rang de dictionnaire invalide dans la colonne " + noms[colonne]);
+                    }
+                    cible[ligne] = entrees[(int) rang];
+                }
+            }
+        }
+        if (valeurs.hasRemaining()) {
+            throw new IOException("Octets inattendus en fin de bloc de la colonne " + noms[colonne]);
+        }
+    }
+
+    private long[] agrandir(long[] tableau) {
+        return tableau != null && tableau.length >= nbLignes ? tableau : new long[nbLignes];
+    }
+
+    private double[] agrandir(double[] tableau) {
+        return tableau != null && tableau.length >= nbLignes ? tableau : new double[nbLignes];
+    }
+
+    private String[] agrandir(String[] tableau) {
+        return tableau != null && tableau.length >= nbLignes ? tableau : new String[nbLignes];
+    }
+
+    private long lireVarint() throws IOException {
+        long valeur = 0;
+        for (int decalage = 0; decalage < 64; decalage += 7) {
+            int octet = entree.read();
+            if (octet < 0) {
+                throw new EOFException("Fichier en colonnes tronqué");
+            }
+            valeur |= (long) (octet & 0x7F) << decalage;
+            if ((octet & 0x80) == 0) {
+                return valeur;
+            }
+        }
+        throw new IOException("Entier varint invalide");
+    }
+}
@@ -1,7 +1,12 @@
 package main.com.julio.service;
 
 import java.io.IOException;
-import java.util.logging.FileHandler;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Handler;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -17,7 +22,10 @@ import java.util.logging.Logger;
  *   <li>Logger statique accessible depuis toute l'application</li>
  *   <li>Écriture dans le fichier {@code logs/application.log}</li>
  *   <li>Mode append (true) : les logs sont ajoutés sans écraser les précédents</li>
- *   <li>Format personnalisé via {@link FormatterLog}</li>
+ *   <li>Écriture asynchrone ({@link HandlerAsynchrone}) : l'appelant, souvent l'EDT,
+ *       ne fait aucune entrée/sortie ; le fichier est écrit et vidé par lots</li>
+ *   <li>Format personnalisé via {@link FormatterLog}, ou format binaire compact
+ *       ({@link HandlerBinaire}) relu par {@link DecodeurLogBinaire}</li>
  *   <li>Désactivation des handlers parents pour éviter les doublons</li>
  * </ul>
  *
@@ -35,13 +43,20 @@ import java.util.logging.Logger;
  * @since 19/11/2025
  * @see FormatterLog
  * @see Logger
- * @see FileHandler
+ * @see HandlerAsynchrone
  */
 public class LoggingService {
 
     /** Chemin du fichier de log dans le répertoire logs/ */
     private static final String LOG_FILE = "logs/application.log";
 
+    /** Répertoire et préfixe des fichiers de log binaires */
+    private static final String LOG_DIR = "logs";
+    private static final String LOG_BINAIRE = "application";
+
+    /** Nombre d'enregistrements en attente d'écriture avant débordement */
+    public static final int CAPACITE_TAMPON = 8_192;
+
     /**
      * Logger statique global utilisé par toute l'application.
      * <p>
@@ -52,17 +67,44 @@ public class LoggingService {
      */
     public static final Logger LOGGER = Logger.getLogger(LoggingService.class.getName());
 
+    /** Tâches d'arrêt exécutées avant la fermeture du handler, dans l'ordre d'enregistrement */
+    private static final List<Runnable> TACHES_ARRET = new CopyOnWriteArrayList<>();
+
+    /** Vrai dès que le hook d'arrêt unique est enregistré auprès de la JVM */
+    private static final AtomicBoolean ARRET_INSTALLE = new AtomicBoolean();
+
+    /** Handler asynchrone installé par {@link #intFichierLog(PolitiqueDebordement, boolean)}, fermé en dernier */
+    private static volatile Handler handlerArret;
+
     /**
      * Initialise le système de logging avec écriture dans un fichier.
      * <p>
+     * Équivaut à {@link #intFichierLog(PolitiqueDebordement)} avec
+     * {@link PolitiqueDebordement#BLOQUER} : aucun enregistrement n'est perdu,
+     * l'appelant n'attend que si l'écriture ne suit plus.
+     * </p>
+     *
+     * @throws IOException si le fichier de log ne peut pas être créé ou ouvert
+     *                     (permissions insuffisantes, répertoire inexistant, etc.)
+     */
+    public static void intFichierLog() throws IOException {
+        intFichierLog(PolitiqueDebordement.BLOQUER);
+    }
+
+    /**
+     * Initialise le système de logging avec écriture asynchrone dans un fichier.
+     * <p>
      * Cette méthode doit être appelée au démarrage de l'application, généralement
      * dans la méthode {@code main()} ou dans un bloc d'initialisation. Elle configure :
      * </p>
      * <ol>
-     *   <li>Un {@link FileHandler} pointant vers {@code logs/application.log}</li>
-     *   <li>Le mode append (true) pour conserver l'historique des logs</li>
+     *   <li>Un {@link HandlerFichier} vers {@code logs/application.log}, en mode append pour
+     *       conserver l'historique des logs, vidé une fois par lot d'enregistrements</li>
      *   <li>Le formateur personnalisé {@link FormatterLog}</li>
+     *   <li>Un {@link HandlerAsynchrone} qui écrit depuis son propre thread</li>
      *   <li>La désactivation des handlers parents pour éviter les logs en double</li>
+     *   <li>L'écriture des enregistrements en attente à l'arrêt de la JVM, après les
+     *       tâches enregistrées par {@link #avantArret(Runnable)}</li>
      * </ol>
      *
      * <p><b>Note importante :</b></p>
@@ -73,20 +115,84 @@ public class LoggingService {
      *   <li>Les logs existants seront préservés grâce au mode append</li>
      * </ul>
      *
+     * @param politique comportement lorsque l'écriture ne suit plus ({@link #CAPACITE_TAMPON} atteinte)
      * @throws IOException si le fichier de log ne peut pas être créé ou ouvert
      *                     (permissions insuffisantes, répertoire inexistant, etc.)
      */
-    public static void intFichierLog() throws IOException {
-        // Configuration du handler de fichier en mode append
-        FileHandler fh = new FileHandler(LOG_FILE, true);
+    public static void intFichierLog(PolitiqueDebordement politique) throws IOException {
+        intFichierLog(politique, false);
+    }
+
+    /**
+     * Initialise le système de logging, au format texte ou binaire.
+     * <p>
+     * Au format binaire, les enregistrements sont écrits dans
+     * {@code logs/application-NNNNNN.blog} par un {@link HandlerBinaire} (fichiers
+     * projetés en mémoire, tournants) au lieu de {@code logs/application.log} ;
+     * ils se relisent avec {@link DecodeurLogBinaire}. Le reste de la configuration
+     * est celui de {@link #intFichierLog(PolitiqueDebordement)}.
+     * </p>
+     *
+     * @param politique comportement lorsque l'écriture ne suit plus ({@link #CAPACITE_TAMPON} atteinte)
+     * @param binaire true pour le format binaire, false pour le format texte
+     * @throws IOException si le fichier de log ne peut pas être créé ou ouvert
+     *                     (permissions insuffisantes, répertoire inexistant, etc.)
+     */
+    public static void intFichierLog(PolitiqueDebordement politique, boolean binaire) throws IOException {
+        // Fichier texte en mode append, écrit en octets et vidé par le handler asynchrone à chaque lot,
+        // ou fichiers binaires projetés en mémoire
+        Handler cible = binaire
+                ? new HandlerBinaire(Path.of(LOG_DIR), LOG_BINAIRE)
+                : new HandlerFichier(Path.of(LOG_FILE), new FormatterLog());
+        HandlerAsynchrone handler = new HandlerAsynchrone(cible, CAPACITE_TAMPON, politique);
 
         // Désactivation des handlers parents pour éviter les doublons dans la console
         LOGGER.setUseParentHandlers(false);
 
         // Association du handler au logger
-        LOGGER.addHandler(fh);
+        LOGGER.addHandler(handler);
+
+        // Garantit l'écriture des derniers enregistrements, y compris après System.exit
+        handlerArret = handler;
+        installerArret();
+    }
+
+    /**
+     * Enregistre une tâche exécutée à l'arrêt de la JVM, avant la fermeture du log.
+     * <p>
+     * Les hooks d'arrêt de la JVM s'exécutant en parallèle, une tâche qui journalise
+     * (fermeture de la persistance, par exemple) ne doit pas avoir son propre hook :
+     * ses logs pourraient arriver après la fermeture du handler. Les tâches
+     * enregistrées ici s'exécutent dans le hook unique de la journalisation, dans
+     * l'ordre d'enregistrement, puis le handler écrit tous les enregistrements reçus
+     * et se ferme. Une tâche qui lève une exception est journalisée (SEVERE) sans
+     * empêcher les suivantes.
+     * </p>
+     *
+     * @param tache la tâche d'arrêt
+     */
+    public static void avantArret(Runnable tache) {
+        TACHES_ARRET.add(tache);
+        installerArret();
+    }
+
+    private static void installerArret() {
+        if (ARRET_INSTALLE.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(LoggingService::arreter, "arret-journalisation"));
+        }
+    }
 
-        // Application du format personnalisé
-        fh.setFormatter(new FormatterLog());
+    private static void arreter() {
+        for (Runnable tache : TACHES_ARRET) {
+            try {
+                tache.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Tâche d'arrêt en échec : " + e.getMessage(), e);
+            }
+        }
+        Handler handler = handlerArret;
+        if (handler != null) {
+            handler.close();
+        }
     }
 }
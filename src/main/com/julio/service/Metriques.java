@@ -0,0 +1,219 @@
+package main.com.julio.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Registre des métriques de l'application : compteurs, jauges et histogrammes de latence.
+ * <p>
+ * Les mesures sont nommées par leur domaine et leur opération
+ * ({@code client.creer}, {@code clientRepository.findById}...) et obtenues une
+ * fois pour toutes, en général dans un champ statique de la classe instrumentée :
+ * </p>
+ * <ul>
+ *   <li>{@link #compteur(String)} - {@link LongAdder} incrémenté sans verrou ni contention</li>
+ *   <li>{@link #jauge(String, LongSupplier)} - valeur lue au moment du relevé (taille d'un
+ *       repository, mémoire utilisée...)</li>
+ *   <li>{@link #histogramme(String)} - {@link HistogrammeLatence} des durées d'une opération</li>
+ * </ul>
+ * <p>
+ * Le chemin critique ne fait qu'enregistrer ; les relevés ({@link #instantane()})
+ * sont calculés à la demande, par le panneau de diagnostic ou par l'export
+ * périodique ({@link #demarrerExport(Duration, Path)}) vers les logs ou un fichier.
+ * Les valeurs sont cumulées depuis le démarrage ou la dernière {@link #reinitialiser()}.
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * private static final HistogrammeLatence LATENCE_CREER = Metriques.histogramme("client.creer");
+ * private static final LongAdder ECHECS_CREER = Metriques.compteur("client.creer.echecs");
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see HistogrammeLatence
+ */
+public final class Metriques {
+
+    // Triés par nom pour des relevés stables ; les enregistrements sont rares (champs statiques)
+    private static final Map<String, LongAdder> COMPTEURS = new ConcurrentSkipListMap<>();
+    private static final Map<String, LongSupplier> JAUGES = new ConcurrentSkipListMap<>();
+    private static final Map<String, HistogrammeLatence> HISTOGRAMMES = new ConcurrentSkipListMap<>();
+
+    /** Export périodique en cours, null si aucun */
+    private static ScheduledExecutorService export;
+
+    /**
+     * Relevé de toutes les métriques à un instant donné.
+     *
+     * @param date date du relevé
+     * @param compteurs valeur de chaque compteur, par nom
+     * @param jauges valeur de chaque jauge, par nom
+     * @param latences statistiques de chaque histogramme, par nom croissant
+     */
+    public record Instantane(LocalDateTime date, Map<String, Long> compteurs, Map<String, Long> jauges,
+                             List<HistogrammeLatence.Statistiques> latences) {
+    }
+
+    private Metriques() {
+    }
+
+    /**
+     * Retourne le compteur d'un nom donné, créé au premier appel.
+     *
+     * @param nom nom du compteur
+     * @return le compteur, partagé par tous les appelants de ce nom
+     */
+    public static LongAdder compteur(String nom) {
+        return COMPTEURS.computeIfAbsent(nom, n -> new LongAdder());
+    }
+
+    /**
+     * Enregistre (ou remplace) une jauge.
+     *
+     * @param nom nom de la jauge
+     * @param valeur calcul de la valeur, appelé à chaque relevé depuis le thread du relevé
+     */
+    public static void jauge(String nom, LongSupplier valeur) {
+        JAUGES.put(nom, valeur);
+    }
+
+    /**
+     * Retourne l'histogramme de latence d'un nom donné, créé au premier appel.
+     *
+     * @param nom nom de l'opération mesurée
+     * @return l'histogramme, partagé par tous les appelants de ce nom
+     */
+    public static HistogrammeLatence histogramme(String nom) {
+        return HISTOGRAMMES.computeIfAbsent(nom, HistogrammeLatence::new);
+    }
+
+    /**
+     * Relève toutes les métriques.
+     * <p>
+     * Une jauge dont le calcul échoue est omise du relevé.
+     * </p>
+     *
+     * @return le relevé
+     */
+    public static Instantane instantane() {
+        Map<String, Long> compteurs = new LinkedHashMap<>();
+        COMPTEURS.forEach((nom, compteur) -> compteurs.put(nom, compteur.sum()));
+        Map<String, Long> jauges = new LinkedHashMap<>();
+        JAUGES.forEach((nom, jauge) -> {
+            try {
+                jauges.put(nom, jauge.getAsLong());
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.FINE, "Jauge " + nom + " illisible : " + e.getMessage(), e);
+            }
+        });
+        List<HistogrammeLatence.Statistiques> latences = new ArrayList<>(HISTOGRAMMES.size());
+        HISTOGRAMMES.values().forEach(h -> latences.add(h.statistiques()));
+        return new Instantane(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS),
+                Collections.unmodifiableMap(compteurs), Collections.unmodifiableMap(jauges),
+                Collections.unmodifiableList(latences));
+    }
+
+    /**
+     * Remet à zéro les compteurs et les histogrammes (les jauges ne sont pas cumulées).
+     */
+    public static void reinitialiser() {
+        COMPTEURS.values().forEach(LongAdder::reset);
+        HISTOGRAMMES.values().forEach(HistogrammeLatence::reinitialiser);
+    }
+
+    /**
+     * Met en forme un relevé en texte, une ligne par métrique, latences en microsecondes.
+     * <p>
+     * Les histogrammes sans enregistrement sont omis.
+     * </p>
+     *
+     * @param instantane le relevé
+     * @return le texte, terminé par un saut de ligne
+     */
+    public static String formater(Instantane instantane) {
+        StringBuilder texte = new StringBuilder(128 * (1 + instantane.latences().size()));
+        texte.append(String.format("Métriques au %s%n", instantane.date()));
+        texte.append(String.format("  %-40s %10s %10s %10s %10s %10s %10s %10s%n", "latences (µs)", "nombre",
+                "moyenne", "p50", "p90", "p99", "p99,9", "max"));
+        for (HistogrammeLatence.Statistiques s : instantane.latences()) {
+            if (s.nombre() > 0) {
+                texte.append(String.format("  %-40s %10d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n", s.nom(),
+                        s.nombre(), s.moyenne() / 1e3, s.p50() / 1e3, s.p90() / 1e3, s.p99() / 1e3,
+                        s.p999() / 1e3, s.max() / 1e3));
+            }
+        }
+        instantane.compteurs().forEach((nom, valeur) -> texte.append(String.format("  %-40s %10d%n", nom, valeur)));
+        instantane.jauges().forEach((nom, valeur) -> texte.append(String.format("  %-40s %10d%n", nom, valeur)));
+        return texte.toString();
+    }
+
+    /**
+     * Démarre l'export périodique des relevés (remplace l'export en cours éventuel).
+     * <p>
+     * Les relevés sont écrits depuis un thread démon dédié, dans les logs (niveau
+     * INFO) ou ajoutés à la fin d'un fichier texte.
+     * </p>
+     *
+     * @param periode intervalle entre deux relevés
+     * @param fichier fichier de destination, ou null pour les logs
+     */
+    public static synchronized void demarrerExport(Duration periode, Path fichier) {
+        arreterExport();
+        export = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "export-metriques");
+            t.setDaemon(true);
+            return t;
+        });
+        long nanos = periode.toNanos();
+        export.scheduleAtFixedRate(() -> exporter(fichier), nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Arrête l'export périodique en cours éventuel.
+     */
+    public static synchronized void arreterExport() {
+        if (export != null) {
+            export.shutdownNow();
+            export = null;
+        }
+    }
+
+    /**
+     * Écrit un relevé ; une erreur est journalisée sans interrompre l'export périodique.
+     */
+    private static void exporter(Path fichier) {
+        String texte = formater(instantane());
+        if (fichier == null) {
+            LOGGER.log(Level.INFO, "{0}", texte);
+            return;
+        }
+        try {
+            Files.writeString(fichier, texte, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Export des métriques impossible : " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package main.com.julio.service;
+
+/**
+ * Comportement de {@link HandlerAsynchrone} lorsque son tampon est plein.
+ * <p>
+ * Le tampon ne se remplit que si l'écriture sur disque ne suit plus le rythme
+ * des enregistrements (rafale de logs, disque lent) : la politique choisit
+ * entre ralentir l'appelant et perdre des enregistrements. Les enregistrements
+ * écartés sont comptés et signalés dans le fichier de log.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see HandlerAsynchrone
+ */
+public enum PolitiqueDebordement {
+
+    /** L'appelant attend qu'une place se libère : aucun enregistrement n'est perdu */
+    BLOQUER,
+
+    /** L'enregistrement le plus ancien du tampon est écarté au profit du nouveau */
+    SUPPRIMER_PLUS_ANCIEN,
+
+    /**
+     * Seul un enregistrement sur {@link HandlerAsynchrone#TAUX_ECHANTILLONNAGE} est
+     * conservé (l'appelant attend alors une place), les autres sont écartés ;
+     * les enregistrements de niveau SEVERE sont toujours conservés
+     */
+    ECHANTILLONNER
+}
@@ -0,0 +1,30 @@
+package main.com.julio.service;
+
+import java.util.List;
+
+/**
+ * Bilan d'un import CSV.
+ *
+ * @param type type des enregistrements importés
+ * @param nbLignes nombre d'enregistrements lus (en-tête exclu)
+ * @param nbImportes nombre d'enregistrements ajoutés aux repositories
+ * @param nbRejetes nombre d'enregistrements refusés (validation, doublon, client inconnu)
+ * @param erreurs erreurs des enregistrements refusés, limitées aux {@link ImportCsvService#NB_ERREURS_MAX} premières
+ * @param dureeNanos durée de l'import, en nanosecondes
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ImportCsvService
+ */
+public record RapportImport(TypeEnregistrement type, long nbLignes, long nbImportes, long nbRejetes,
+                            List<ErreurChamp> erreurs, long dureeNanos) {
+
+    /**
+     * Retourne le débit de l'import.
+     *
+     * @return nombre d'enregistrements lus par seconde
+     */
+    public double lignesParSeconde() {
+        return dureeNanos == 0 ? 0 : nbLignes * 1e9 / dureeNanos;
+    }
+}
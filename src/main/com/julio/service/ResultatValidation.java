@@ -0,0 +1,105 @@
+package main.com.julio.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Résultat de la validation d'un lot d'enregistrements bruts.
+ * <p>
+ * Regroupe toutes les erreurs de champ du lot, dans l'ordre des enregistrements
+ * puis des champs, accessibles globalement, par enregistrement (position dans le
+ * lot) ou en nombre par champ.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ValidateurLot
+ */
+public class ResultatValidation {
+
+    private final List<ErreurChamp>[] erreursParEnregistrement;  // null pour un enregistrement valide
+    private final List<ErreurChamp> erreurs;
+    private final int nbInvalides;
+
+    ResultatValidation(List<ErreurChamp>[] erreursParEnregistrement) {
+        this.erreursParEnregistrement = erreursParEnregistrement;
+        List<ErreurChamp> toutes = new ArrayList<>();
+        int invalides = 0;
+        for (List<ErreurChamp> erreursEnregistrement : erreursParEnregistrement) {
+            if (erreursEnregistrement != null) {
+                toutes.addAll(erreursEnregistrement);
+                invalides++;
+            }
+        }
+        this.erreurs = Collections.unmodifiableList(toutes);
+        this.nbInvalides = invalides;
+    }
+
+    public int getNbEnregistrements() {
+        return erreursParEnregistrement.length;
+    }
+
+    public int getNbValides() {
+        return erreursParEnregistrement.length - nbInvalides;
+    }
+
+    public int getNbInvalides() {
+        return nbInvalides;
+    }
+
+    /**
+     * Indique si le lot ne contient aucune erreur.
+     *
+     * @return true si tous les enregistrements sont valides
+     */
+    public boolean estValide() {
+        return nbInvalides == 0;
+    }
+
+    /**
+     * Indique si un enregistrement du lot est valide.
+     *
+     * @param index position de l'enregistrement dans le lot
+     * @return true si aucun de ses champs n'est en erreur
+     */
+    public boolean estValide(int index) {
+        return erreursParEnregistrement[index] == null;
+    }
+
+    /**
+     * Retourne toutes les erreurs du lot.
+     *
+     * @return liste non modifiable, dans l'ordre des enregistrements puis des champs
+     */
+    public List<ErreurChamp> getErreurs() {
+        return erreurs;
+    }
+
+    /**
+     * Retourne les erreurs d'un enregistrement du lot.
+     *
+     * @param index position de l'enregistrement dans le lot
+     * @return liste non modifiable, vide si l'enregistrement est valide
+     */
+    public List<ErreurChamp> getErreurs(int index) {
+        List<ErreurChamp> erreursEnregistrement = erreursParEnregistrement[index];
+        return erreursEnregistrement == null ? List.of() : Collections.unmodifiableList(erreursEnregistrement);
+    }
+
+    /**
+     * Retourne le nombre d'erreurs par champ.
+     *
+     * @return nombre d'erreurs de chaque champ en erreur au moins une fois
+     */
+    public Map<Champ, Integer> getNbErreursParChamp() {
+        Map<Champ, Integer> parChamp = new EnumMap<>(Champ.class);
+        for (ErreurChamp erreur : erreurs) {
+            parChamp.merge(erreur.champ(), 1, Integer::sum);
+        }
+        return parChamp;
+    }
+}
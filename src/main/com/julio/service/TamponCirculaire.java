@@ -0,0 +1,119 @@
+package main.com.julio.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * File bornée sans verrou, à producteurs et consommateurs multiples.
+ * <p>
+ * Tampon circulaire dont chaque case porte un numéro de séquence : un
+ * producteur réserve une case par compare-and-set sur la position d'écriture,
+ * y dépose l'élément puis publie la séquence ; un consommateur procède de même
+ * sur la position de lecture. Aucun thread n'attend un verrou et aucune
+ * allocation n'a lieu par élément.
+ * </p>
+ *
+ * @param <E> type des éléments
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see HandlerAsynchrone
+ */
+final class TamponCirculaire<E> {
+
+    private final int masque;
+    private final AtomicReferenceArray<E> cases;
+    private final AtomicLongArray sequences;
+    private final AtomicLong ecriture = new AtomicLong();
+    private final AtomicLong lecture = new AtomicLong();
+
+    /**
+     * Constructeur.
+     *
+     * @param capacite capacité minimale, arrondie à la puissance de deux supérieure
+     */
+    TamponCirculaire(int capacite) {
+        int taille = capacite <= 2 ? 2 : Integer.highestOneBit(capacite - 1) << 1;
+        masque = taille - 1;
+        cases = new AtomicReferenceArray<>(taille);
+        sequences = new AtomicLongArray(taille);
+        for (int i = 0; i < taille; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Ajoute un élément s'il reste de la place.
+     *
+     * @param element l'élément (non null)
+     * @return false si le tampon est plein
+     */
+    boolean offrir(E element) {
+        long position = ecriture.get();
+        while (true) {
+            int index = (int) position & masque;
+            long ecart = sequences.get(index) - position;
+            if (ecart == 0) {
+                if (ecriture.compareAndSet(position, position + 1)) {
+                    cases.set(index, element);
+                    sequences.set(index, position + 1);  // Publication au consommateur
+                    return true;
+                }
+                position = ecriture.get();
+            } else if (ecart < 0) {
+                return false;  // Case pas encore libérée : tampon plein
+            } else {
+                position = ecriture.get();  // Case prise par un autre producteur
+            }
+        }
+    }
+
+    /**
+     * Retire l'élément le plus ancien.
+     *
+     * @return l'élément, ou null si le tampon est vide
+     */
+    E retirer() {
+        long position = lecture.get();
+        while (true) {
+            int index = (int) position & masque;
+            long ecart = sequences.get(index) - (position + 1);
+            if (ecart == 0) {
+                if (lecture.compareAndSet(position, position + 1)) {
+                    E element = cases.get(index);
+                    cases.set(index, null);
+                    sequences.set(index, position + masque + 1);  // Case rendue aux producteurs
+                    return element;
+                }
+                position = lecture.get();
+            } else if (ecart < 0) {
+                return null;  // Case pas encore publiée : tampon vide
+            } else {
+                position = lecture.get();
+            }
+        }
+    }
+
+    /**
+     * Indique si le tampon est vide.
+     *
+     * @return true si aucun élément n'est publié
+     */
+    boolean estVide() {
+        return ecriture.get() == lecture.get();
+    }
+
+    /**
+     * Retourne le nombre d'éléments déjà ajoutés depuis la création.
+     *
+     * @return position d'écriture
+     */
+    long ajoutes() {
+        return ecriture.get();
+    }
+
+    int capacite() {
+        return masque + 1;
+    }
+}
@@ -0,0 +1,39 @@
+package main.com.julio.service;
+
+import java.util.List;
+
+/**
+ * Types d'enregistrements validés en masse, avec leurs champs.
+ * <p>
+ * Les champs sont ceux des constructeurs du modèle, dans l'ordre de saisie du
+ * formulaire ; c'est aussi l'ordre des erreurs d'un enregistrement.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ValidateurLot
+ */
+public enum TypeEnregistrement {
+
+    CLIENT(List.of(Champ.RAISON_SOCIALE, Champ.NUMERO_RUE, Champ.NOM_RUE, Champ.CODE_POSTAL, Champ.VILLE,
+            Champ.TELEPHONE, Champ.EMAIL, Champ.COMMENTAIRES, Champ.CHIFFRE_AFFAIRES, Champ.NB_EMPLOYES)),
+    PROSPECT(List.of(Champ.RAISON_SOCIALE, Champ.NUMERO_RUE, Champ.NOM_RUE, Champ.CODE_POSTAL, Champ.VILLE,
+            Champ.TELEPHONE, Champ.EMAIL, Champ.COMMENTAIRES, Champ.DATE_PROSPECTION, Champ.INTERESSE)),
+    CONTRAT(List.of(Champ.CLIENT_ID, Champ.NOM_CONTRAT, Champ.MONTANT));
+
+    private final List<Champ> champs;
+
+    TypeEnregistrement(List<Champ> champs) {
+        this.champs = champs;
+    }
+
+    /**
+     * Retourne les champs de ce type d'enregistrement.
+     *
+     * @return liste non modifiable des champs, dans l'ordre de saisie
+     */
+    public List<Champ> getChamps() {
+        return champs;
+    }
+}
@@ -1,16 +1,16 @@
 package main.com.julio.service;
 
-import main.com.julio.model.Client;
-import main.com.julio.model.Prospect;
 import main.com.julio.repository.ClientRepository;
 import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
 
 /**
  * Service de vérification de l'unicité des données métier.
  * <p>
  * Cette classe fournit des méthodes pour garantir l'unicité des raisons sociales
- * des sociétés (clients et prospects). Elle interroge les repositories pour
- * détecter les doublons potentiels avant la création ou la modification d'entités.
+ * des sociétés (clients et prospects). Elle interroge l'index des raisons sociales
+ * des repositories ({@link RaisonSocialeIndex}) pour détecter les doublons potentiels
+ * avant la création ou la modification d'entités.
  * </p>
  *
  * <p><b>Règles métier appliquées :</b></p>
@@ -25,9 +25,12 @@ import main.com.julio.repository.ProspectRepository;
  * @since 19/11/2025
  * @see ClientRepository
  * @see ProspectRepository
+ * @see RaisonSocialeIndex
  */
 public class UnicityService {
 
+    private static final HistogrammeLatence LATENCE = Metriques.histogramme("unicite.isRaisonSocialDuplique");
+
     /** Repository des clients pour vérifier l'unicité parmi les clients */
     private final ClientRepository clientRepo;
 
@@ -52,18 +55,17 @@ public class UnicityService {
     /**
      * Vérifie si une raison sociale existe déjà dans le système.
      * <p>
-     * Cette méthode parcourt tous les prospects et clients pour détecter
-     * si la raison sociale fournie est déjà utilisée. La vérification est
-     * insensible à la casse grâce à {@link String#equalsIgnoreCase(String)}.
+     * Cette méthode interroge l'index des raisons sociales au lieu de parcourir
+     * tous les prospects et clients. La vérification est insensible à la casse,
+     * avec la même sémantique que {@link String#equalsIgnoreCase(String)}.
      * </p>
      *
      * <p><b>Algorithme de vérification :</b></p>
      * <ol>
-     *   <li>Parcourt tous les prospects en excluant celui dont l'ID correspond à {@code idExcluire}</li>
-     *   <li>Si une correspondance est trouvée, retourne immédiatement true (doublon détecté)</li>
-     *   <li>Parcourt tous les clients en excluant celui dont l'ID correspond à {@code idExcluire}</li>
-     *   <li>Si une correspondance est trouvée, retourne immédiatement true (doublon détecté)</li>
-     *   <li>Si aucune correspondance n'est trouvée, retourne false (raison sociale unique)</li>
+     *   <li>Recherche la raison sociale pliée dans l'index des prospects (temps constant)</li>
+     *   <li>Ignore la société dont l'ID correspond à {@code idExcluire}</li>
+     *   <li>Si l'index des clients est distinct, effectue la même recherche</li>
+     *   <li>Retourne true dès qu'une autre société porte cette raison sociale, false sinon</li>
      * </ol>
      *
      * @param raisonSociale la raison sociale à vérifier (ne devrait pas être null ou vide)
@@ -72,20 +74,20 @@ public class UnicityService {
      * @return true si la raison sociale existe déjà (doublon détecté), false si elle est unique
      */
     public boolean isRaisonSocialDuplique(String raisonSociale, int idExcluire) {
-        // Vérification dans les prospects
-        for (Prospect prospect : prospectRepo.findAll()) {
-            if (prospect.getId() != idExcluire && prospect.getRaisonSociale().equalsIgnoreCase(raisonSociale)) {
-                return true; // Doublon trouvé dans les prospects
-            }
-        }
+        long debut = System.nanoTime();
+        try {
+            RaisonSocialeIndex indexProspects = prospectRepo.getIndexRaisonSociale();
+            RaisonSocialeIndex indexClients = clientRepo.getIndexRaisonSociale();
 
-        // Vérification dans les clients
-        for (Client client : clientRepo.findAll()) {
-            if (client.getId() != idExcluire && client.getRaisonSociale().equalsIgnoreCase(raisonSociale)) {
-                return true; // Doublon trouvé dans les clients
+            // Vérification dans les prospects (et les clients si l'index est partagé)
+            if (indexProspects.contient(raisonSociale, idExcluire)) {
+                return true;
             }
-        }
 
-        return false; // Aucun doublon : raison sociale unique
+            // Vérification dans les clients lorsque chaque repository a son propre index
+            return indexClients != indexProspects && indexClients.contient(raisonSociale, idExcluire);
+        } finally {
+            LATENCE.enregistrerDepuis(debut);
+        }
     }
 }
@@ -0,0 +1,84 @@
+package main.com.julio.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Validation en masse d'enregistrements bruts, avant import.
+ * <p>
+ * Contrairement aux setters du modèle, qui s'arrêtent à la première erreur en
+ * levant une {@link main.com.julio.exception.ValidationException}, le validateur
+ * vérifie tous les champs de chaque enregistrement avec les règles de
+ * {@link Champ} et regroupe toutes les erreurs dans un {@link ResultatValidation}.
+ * Aucune exception n'est levée pour une valeur invalide, et un enregistrement
+ * valide n'alloue rien.
+ * </p>
+ * <p>
+ * Au-delà de {@link #SEUIL_PARALLELE} enregistrements, le lot est validé en
+ * parallèle (pool commun fork/join) : chaque enregistrement est indépendant et
+ * ses erreurs sont rangées à sa position, l'ordre du résultat ne dépend donc pas
+ * du découpage. Les règles sont sans état et peuvent être appelées de plusieurs threads.
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * ResultatValidation resultat = ValidateurLot.valider(TypeEnregistrement.CLIENT, lignes);
+ * resultat.getErreurs().forEach(erreur -&gt; LOGGER.warning(erreur.toString()));
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see Champ
+ * @see ValidationService
+ */
+public final class ValidateurLot {
+
+    /** Nombre d'enregistrements à partir duquel le lot est validé en parallèle */
+    public static final int SEUIL_PARALLELE = 1_024;
+
+    private ValidateurLot() {
+    }
+
+    /**
+     * Valide un lot d'enregistrements bruts.
+     *
+     * @param type type des enregistrements, qui détermine les champs vérifiés
+     * @param lot les enregistrements
+     * @return toutes les erreurs du lot
+     */
+    public static ResultatValidation valider(TypeEnregistrement type, List<EnregistrementBrut> lot) {
+        List<Champ> champs = type.getChamps();
+        @SuppressWarnings("unchecked")
+        List<ErreurChamp>[] erreurs = (List<ErreurChamp>[]) new List<?>[lot.size()];
+        IntStream indices = IntStream.range(0, lot.size());
+        if (lot.size() >= SEUIL_PARALLELE) {
+            indices = indices.parallel();
+        }
+        // Chaque tâche n'écrit que la case de son enregistrement
+        indices.forEach(i -> erreurs[i] = valider(champs, lot.get(i)));
+        return new ResultatValidation(erreurs);
+    }
+
+    /**
+     * Vérifie tous les champs d'un enregistrement.
+     *
+     * @return les erreurs, ou null si l'enregistrement est valide
+     */
+    private static List<ErreurChamp> valider(List<Champ> champs, EnregistrementBrut enregistrement) {
+        List<ErreurChamp> erreurs = null;
+        for (int i = 0; i < champs.size(); i++) {
+            Champ champ = champs.get(i);
+            String valeur = enregistrement.valeur(champ);
+            String message = champ.verifier(valeur);
+            if (message != null) {
+                if (erreurs == null) {
+                    erreurs = new ArrayList<>(2);
+                }
+                erreurs.add(new ErreurChamp(enregistrement.ligne(), champ, valeur, message));
+            }
+        }
+        return erreurs;
+    }
+}
@@ -2,6 +2,10 @@ package main.com.julio.service;
 
 import main.com.julio.util.RegexPatterns;
 
+import java.time.YearMonth;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Service utilitaire centralisé pour la validation des données métier.
  * <p>
@@ -17,6 +21,8 @@ import main.com.julio.util.RegexPatterns;
  *   <li>Codes postaux français (5 chiffres)</li>
  *   <li>Adresses email (format standard)</li>
  *   <li>Numéros de téléphone français (format mobile et fixe)</li>
+ *   <li>Dates au format "dd/MM/yyyy"</li>
+ *   <li>Bornes métier des valeurs numériques (chiffre d'affaires, employés, montant, client)</li>
  * </ul>
  *
  * <p><b>Architecture :</b></p>
@@ -27,6 +33,19 @@ import main.com.julio.util.RegexPatterns;
  *   <li>Utilisée par les setters des classes du modèle pour valider les données</li>
  * </ul>
  *
+ * <p><b>Performances :</b></p>
+ * <p>
+ * Les validations sont appelées par chaque constructeur et setter de
+ * {@link main.com.julio.model.Societe} et {@link main.com.julio.model.Adresse},
+ * y compris au chargement et à l'import. Aucune n'appelle {@link String#matches(String)},
+ * qui recompile l'expression à chaque appel : l'email utilise un {@link Pattern}
+ * compilé une fois et un {@link Matcher} réutilisé par thread ; le code postal et
+ * le téléphone, de grammaire simple, sont reconnus par un parcours caractère par
+ * caractère sans allocation, qui accepte exactement le même langage que
+ * {@link RegexPatterns#CODE_POSTAL} et {@link RegexPatterns#TELEPHONE} (vérifié
+ * par comparaison aléatoire avec les expressions dans les tests).
+ * </p>
+ *
  * @author Julio FERMIN
  * @version 1.0
  * @since 19/11/2025
@@ -35,6 +54,22 @@ import main.com.julio.util.RegexPatterns;
  */
 public class ValidationService {
 
+    /**
+     * Plus grand montant de contrat accepté, en euros (1 000 milliards).
+     * <p>
+     * Un {@code double} de cet ordre garde la précision du centime, et les
+     * montants cumulés en centimes ({@link main.com.julio.repository.AgregatContrats})
+     * restent loin de la capacité d'un {@code long}.
+     * </p>
+     */
+    public static final double MONTANT_MAX = 1e12;
+
+    /** Expression des emails, compilée une fois */
+    private static final Pattern EMAIL = Pattern.compile(RegexPatterns.EMAIL);
+
+    /** Matcher des emails réutilisé, un par thread */
+    private static final ThreadLocal<Matcher> MATCHER_EMAIL = ThreadLocal.withInitial(() -> EMAIL.matcher(""));
+
     /**
      * Vérifie si une chaîne de caractères est null ou vide.
      * <p>
@@ -54,8 +89,8 @@ public class ValidationService {
      * Vérifie si un code postal respecte le format français.
      * <p>
      * Un code postal valide doit contenir exactement 5 chiffres consécutifs.
-     * La validation utilise l'expression régulière définie dans
-     * {@link RegexPatterns#CODE_POSTAL}.
+     * La validation reconnaît le même langage que l'expression régulière
+     * {@link RegexPatterns#CODE_POSTAL}, par un parcours sans allocation.
      * </p>
      *
      * <p><b>Exemples valides :</b></p>
@@ -78,7 +113,15 @@ public class ValidationService {
      * @see RegexPatterns#CODE_POSTAL
      */
     public static boolean isValidCodePostal(String codePostal) {
-        return codePostal != null && codePostal.matches(RegexPatterns.CODE_POSTAL);
+        if (codePostal == null || codePostal.length() != 5) {
+            return false;
+        }
+        for (int i = 0; i < 5; i++) {
+            if (!estChiffre(codePostal.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -86,7 +129,7 @@ public class ValidationService {
      * <p>
      * Un email valide doit contenir un nom d'utilisateur, le symbole @,
      * un nom de domaine et une extension. La validation utilise l'expression
-     * régulière définie dans {@link RegexPatterns#EMAIL}.
+     * régulière définie dans {@link RegexPatterns#EMAIL}, compilée une seule fois.
      * </p>
      *
      * <p><b>Exemples valides :</b></p>
@@ -109,15 +152,15 @@ public class ValidationService {
      * @see RegexPatterns#EMAIL
      */
     public static boolean isValidEmail(String email) {
-        return email != null && email.matches(RegexPatterns.EMAIL);
+        return email != null && MATCHER_EMAIL.get().reset(email).matches();
     }
 
     /**
      * Vérifie si un numéro de téléphone respecte le format français.
      * <p>
      * Un téléphone valide peut être au format mobile (06, 07) ou fixe (01-05, 09).
-     * La validation utilise l'expression régulière définie dans
-     * {@link RegexPatterns#TELEPHONE}.
+     * La validation reconnaît le même langage que l'expression régulière
+     * {@link RegexPatterns#TELEPHONE}, par un parcours sans allocation.
      * </p>
      *
      * <p><b>Exemples valides :</b></p>
@@ -142,6 +185,126 @@ public class ValidationService {
      * @see RegexPatterns#TELEPHONE
      */
     public static boolean isValidTelephone(String telephone) {
-        return telephone != null && telephone.matches(RegexPatterns.TELEPHONE);
+        if (telephone == null) {
+            return false;
+        }
+        int longueur = telephone.length();
+        // Indicatif : "+33", "0033" ou "0" (alternatives exclusives, sans retour arrière)
+        int i;
+        if (telephone.startsWith("+33")) {
+            i = 3;
+        } else if (telephone.startsWith("0033")) {
+            i = 4;
+        } else if (telephone.startsWith("0")) {
+            i = 1;
+        } else {
+            return false;
+        }
+        while (i < longueur && estEspace(telephone.charAt(i))) {
+            i++;
+        }
+        if (i >= longueur || telephone.charAt(i) < '1' || telephone.charAt(i) > '9') {
+            return false;
+        }
+        i++;
+        // Quatre paires de chiffres, chacune précédée de séparateurs facultatifs
+        for (int paire = 0; paire < 4; paire++) {
+            while (i < longueur && (estEspace(telephone.charAt(i))
+                    || telephone.charAt(i) == '.' || telephone.charAt(i) == '-')) {
+                i++;
+            }
+            if (i + 2 > longueur || !estChiffre(telephone.charAt(i)) || !estChiffre(telephone.charAt(i + 1))) {
+                return false;
+            }
+            i += 2;
+        }
+        return i == longueur;
+    }
+
+    /**
+     * Vérifie si un chiffre d'affaires respecte le minimum métier (200 €).
+     *
+     * @param chiffreAffaires le chiffre d'affaires en euros
+     * @return true si le chiffre d'affaires est supérieur ou égal à 200
+     */
+    public static boolean isValidChiffreAffaires(long chiffreAffaires) {
+        return chiffreAffaires >= 200;
+    }
+
+    /**
+     * Vérifie si un nombre d'employés est au moins égal à 1.
+     *
+     * @param nbEmployes le nombre d'employés
+     * @return true si le nombre d'employés est supérieur ou égal à 1
+     */
+    public static boolean isValidNbEmployes(int nbEmployes) {
+        return nbEmployes >= 1;
+    }
+
+    /**
+     * Vérifie si un montant de contrat est strictement positif et au plus égal à {@link #MONTANT_MAX}.
+     *
+     * @param montant le montant en euros
+     * @return true si le montant est supérieur à zéro et fini (NaN et infinis refusés)
+     */
+    public static boolean isValidMontant(double montant) {
+        return montant > 0 && montant <= MONTANT_MAX;
+    }
+
+    /**
+     * Vérifie si un identifiant de client est renseigné (strictement positif).
+     *
+     * @param clientId l'identifiant du client
+     * @return true si l'identifiant est supérieur à zéro
+     */
+    public static boolean isValidClientId(int clientId) {
+        return clientId > 0;
+    }
+
+    /**
+     * Vérifie si une date respecte le format "dd/MM/yyyy" et existe dans le calendrier.
+     * <p>
+     * Contrairement à {@link main.com.julio.util.DateUtils#parseDate(String)}, aucune
+     * exception n'est levée pour une date invalide : adapté à la validation en masse.
+     * Toute date acceptée est lue sans erreur par {@code DateUtils.parseDate}.
+     * </p>
+     *
+     * <p><b>Exemples :</b></p>
+     * <ul>
+     *   <li>"29/02/2024" → true</li>
+     *   <li>"29/02/2025" → false (année non bissextile)</li>
+     *   <li>"1/2/2025" → false (format)</li>
+     * </ul>
+     *
+     * @param date la date à valider
+     * @return true si la date est valide, false sinon
+     */
+    public static boolean isValidDate(String date) {
+        if (date == null || date.length() != 10 || date.charAt(2) != '/' || date.charAt(5) != '/') {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (i != 2 && i != 5 && !estChiffre(date.charAt(i))) {
+                return false;
+            }
+        }
+        int jour = (date.charAt(0) - '0') * 10 + (date.charAt(1) - '0');
+        int mois = (date.charAt(3) - '0') * 10 + (date.charAt(4) - '0');
+        int annee = Integer.parseInt(date, 6, 10, 10);
+        return mois >= 1 && mois <= 12 && jour >= 1 && jour <= YearMonth.of(annee, mois).lengthOfMonth();
+    }
+
+    /**
+     * Chiffre au sens de {@code \d} (ASCII uniquement, comme {@link Pattern} par défaut).
+     */
+    private static boolean estChiffre(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Espace au sens de {@code \s} : {@code [ \t\n\x0B\f\r]}.
+     */
+    private static boolean estEspace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
@@ -10,12 +10,37 @@
  * <ul>
  *   <li>{@link main.com.julio.service.ValidationService} - Validation des données métier
  *       (formats email, téléphone, code postal, etc.)</li>
+ *   <li>{@link main.com.julio.service.ValidateurLot} - Validation en masse d'enregistrements
+ *       bruts ({@link main.com.julio.service.Champ}), en parallèle, avec toutes les erreurs
+ *       par champ regroupées dans un {@link main.com.julio.service.ResultatValidation}</li>
+ *   <li>{@link main.com.julio.service.ImportCsvService} - Import en flux de fichiers CSV
+ *       de clients, prospects ou contrats, par lots validés, avec un
+ *       {@link main.com.julio.service.RapportImport} des lignes rejetées</li>
+ *   <li>{@link main.com.julio.service.ExportService} - Export en flux des clients, prospects
+ *       ou contrats en CSV ou au format en colonnes {@link main.com.julio.service.FormatColonnes}
+ *       ({@link main.com.julio.service.EcrivainColonnes}, {@link main.com.julio.service.LecteurColonnes})</li>
+ *   <li>{@link main.com.julio.service.GenerateurDonnees} - Génération déterministe et parallèle
+ *       de jeux de données volumineux et réalistes (tests de charge, mesures)</li>
  *   <li>{@link main.com.julio.service.FormatterLog} - Formatage personnalisé des logs
  *       pour la traçabilité applicative</li>
  *   <li>{@link main.com.julio.service.UnicityService} - Vérification de l'unicité des raisons
  *       sociales à travers clients et prospects</li>
  *   <li>{@link main.com.julio.service.LoggingService} - Configuration centralisée du système
  *       de logging avec écriture dans fichier</li>
+ *   <li>{@link main.com.julio.service.HandlerAsynchrone} - Écriture des logs depuis un
+ *       thread dédié, par lots, via un tampon circulaire borné sans verrou</li>
+ *   <li>{@link main.com.julio.service.HandlerFichier} - Écriture des logs en octets
+ *       dans le fichier, sans allocation par enregistrement</li>
+ *   <li>{@link main.com.julio.service.HandlerBinaire} - Écriture des logs dans un format
+ *       binaire compact (dictionnaire de messages, arguments typés), en fichiers
+ *       tournants projetés en mémoire</li>
+ *   <li>{@link main.com.julio.service.DecodeurLogBinaire} - Relecture hors ligne des logs
+ *       binaires au format texte de {@code FormatterLog}</li>
+ *   <li>{@link main.com.julio.service.GenerateurIdService} - Attribution sans verrou des
+ *       identifiants des entités, avec plafond persisté entre deux lancements</li>
+ *   <li>{@link main.com.julio.service.Metriques} - Registre des compteurs, jauges et
+ *       histogrammes de latence ({@link main.com.julio.service.HistogrammeLatence}),
+ *       avec export périodique vers les logs ou un fichier</li>
  * </ul>
  *
  * <h2>Architecture en couches</h2>
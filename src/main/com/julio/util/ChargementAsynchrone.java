@@ -0,0 +1,163 @@
+package main.com.julio.util;
+
+import javax.swing.*;
+import java.awt.Window;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Chargement de données hors de l'Event Dispatch Thread, transmises à la vue par lots.
+ * <p>
+ * Le pipeline comporte trois étapes :
+ * </p>
+ * <ol>
+ *   <li><b>Source</b> (thread d'arrière-plan) : appel au ViewModel/repository</li>
+ *   <li><b>Préparation</b> (thread d'arrière-plan) : transformation de chaque élément
+ *       (formatage d'une ligne, d'un libellé...)</li>
+ *   <li><b>Réception</b> (EDT) : les éléments préparés sont remis à la vue par lots
+ *       d'au plus {@link #TAILLE_LOT}, au fur et à mesure, puis l'action de fin est exécutée</li>
+ * </ol>
+ * <p>
+ * L'avancement (0 à 100) est publié via la propriété {@code progress} du
+ * {@link SwingWorker} et peut être affiché par une barre de progression
+ * ({@link #suivre(JProgressBar)}). Le chargement est annulé dès la fermeture de
+ * la fenêtre qui l'affiche ({@link #annulerALaFermeture(Window)}) : aucun lot
+ * n'est plus transmis et l'action de fin n'est pas exécutée. Une erreur de la
+ * source est journalisée et signalée à l'utilisateur.
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * new ChargementAsynchrone&lt;&gt;(() -&gt; contratVM.getContratsParClient(clientId),
+ *         contratVM::construireLigne, this::ajouterLignes, () -&gt; { })
+ *         .suivre(barre)
+ *         .annulerALaFermeture(this)
+ *         .execute();
+ * </pre>
+ *
+ * @param <T> type des éléments fournis par la source
+ * @param <R> type des éléments préparés remis à la vue
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public class ChargementAsynchrone<T, R> extends SwingWorker<Void, R> {
+
+    /** Nombre maximal d'éléments remis à la vue en une fois */
+    public static final int TAILLE_LOT = 1_000;
+
+    private final Supplier<List<T>> source;
+    private final Function<T, R> preparation;
+    private final Consumer<List<R>> reception;
+    private final Runnable fin;
+
+    /**
+     * Constructeur.
+     *
+     * @param source fournit les éléments à charger (appelée hors EDT)
+     * @param preparation transforme chaque élément (appelée hors EDT)
+     * @param reception reçoit chaque lot d'éléments préparés (appelée sur l'EDT)
+     * @param fin exécutée sur l'EDT une fois tous les lots reçus, sauf annulation ou erreur
+     */
+    public ChargementAsynchrone(Supplier<List<T>> source, Function<T, R> preparation,
+                                Consumer<List<R>> reception, Runnable fin) {
+        this.source = source;
+        this.preparation = preparation;
+        this.reception = reception;
+        this.fin = fin;
+    }
+
+    /**
+     * Affiche l'avancement dans une barre de progression, masquée à la fin du chargement.
+     *
+     * @param barre la barre de progression (rendue visible immédiatement)
+     * @return ce chargement, pour chaîner les appels
+     */
+    public ChargementAsynchrone<T, R> suivre(JProgressBar barre) {
+        barre.setValue(0);
+        barre.setVisible(true);
+        addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                barre.setValue((Integer) evt.getNewValue());
+            } else if ("state".equals(evt.getPropertyName()) && evt.getNewValue() == StateValue.DONE) {
+                barre.setVisible(false);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Annule le chargement lorsque la fenêtre est fermée (dispose).
+     *
+     * @param fenetre la fenêtre affichant les données
+     * @return ce chargement, pour chaîner les appels
+     */
+    public ChargementAsynchrone<T, R> annulerALaFermeture(Window fenetre) {
+        WindowAdapter ecouteur = new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                cancel(true);
+            }
+        };
+        fenetre.addWindowListener(ecouteur);
+        // Détaché une fois le chargement terminé : pas d'accumulation sur une fenêtre réutilisée
+        addPropertyChangeListener(evt -> {
+            if ("state".equals(evt.getPropertyName()) && evt.getNewValue() == StateValue.DONE) {
+                fenetre.removeWindowListener(ecouteur);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    protected Void doInBackground() {
+        List<T> elements = source.get();
+        int total = elements.size();
+        for (int i = 0; i < total; i++) {
+            if (isCancelled()) {
+                return null;
+            }
+            publish(preparation.apply(elements.get(i)));
+            if ((i + 1) % TAILLE_LOT == 0) {
+                setProgress((int) ((i + 1) * 100L / total));
+            }
+        }
+        setProgress(100);
+        return null;
+    }
+
+    @Override
+    protected void process(List<R> prepares) {
+        if (isCancelled()) {
+            return;
+        }
+        // SwingWorker regroupe les publications : redécoupage en lots de taille bornée
+        for (int debut = 0; debut < prepares.size(); debut += TAILLE_LOT) {
+            reception.accept(prepares.subList(debut, Math.min(prepares.size(), debut + TAILLE_LOT)));
+        }
+    }
+
+    @Override
+    protected void done() {
+        try {
+            get();
+            fin.run();
+        } catch (CancellationException e) {
+            LOGGER.log(Level.FINE, "Chargement annulé");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Chargement des données impossible : " + e.getCause().getMessage(), e.getCause());
+            DisplayDialog.messageError("Erreur", "Chargement des données impossible : " + e.getCause().getMessage());
+        }
+    }
+}
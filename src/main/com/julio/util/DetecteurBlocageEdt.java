@@ -0,0 +1,124 @@
+package main.com.julio.util;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Détecteur des appels aux repositories qui bloquent l'Event Dispatch Thread.
+ * <p>
+ * Une fois installé, le détecteur remplace la file d'événements AWT et mesure la
+ * durée de traitement de chaque événement. Un thread de surveillance examine
+ * périodiquement l'EDT : si l'événement en cours dépasse le seuil et que la pile
+ * de l'EDT traverse le package surveillé (par défaut {@code main.com.julio.repository}),
+ * un avertissement est journalisé avec la méthode appelée, une seule fois par événement.
+ * </p>
+ * <p>
+ * La détection est un échantillonnage : un appel plus court que la période de
+ * surveillance (la moitié du seuil) peut passer inaperçu, mais aucun coût n'est
+ * ajouté aux repositories eux-mêmes.
+ * </p>
+ *
+ * <p><b>Utilisation :</b></p>
+ * <pre>
+ * DetecteurBlocageEdt.installer(DetecteurBlocageEdt.SEUIL_DEFAUT);
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ChargementAsynchrone
+ */
+public final class DetecteurBlocageEdt extends EventQueue {
+
+    /** Seuil par défaut au-delà duquel un appel sur l'EDT est signalé */
+    public static final Duration SEUIL_DEFAUT = Duration.ofMillis(100);
+
+    /** Package dont les appels sur l'EDT sont surveillés */
+    public static final String PACKAGE_SURVEILLE = "main.com.julio.repository";
+
+    private final long seuilNanos;
+    private final ScheduledExecutorService surveillance;
+
+    // Événement en cours sur l'EDT, écrit par l'EDT et lu par la surveillance
+    private volatile Thread edt;
+    private volatile long debutEvenement;  // 0 si aucun événement en cours
+    private volatile long numeroEvenement;
+    private long dernierSignale = -1;  // accédé uniquement par la surveillance
+
+    private DetecteurBlocageEdt(Duration seuil) {
+        this.seuilNanos = seuil.toNanos();
+        this.surveillance = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "surveillance-edt");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Installe le détecteur sur la file d'événements du système.
+     *
+     * @param seuil durée au-delà de laquelle un appel aux repositories sur l'EDT est signalé
+     * @return le détecteur installé, à passer à {@link #desinstaller()} pour l'arrêter
+     */
+    public static DetecteurBlocageEdt installer(Duration seuil) {
+        DetecteurBlocageEdt detecteur = new DetecteurBlocageEdt(seuil);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(detecteur);
+        long periode = Math.max(1, detecteur.seuilNanos / 2);
+        detecteur.surveillance.scheduleAtFixedRate(detecteur::examiner, periode, periode, TimeUnit.NANOSECONDS);
+        return detecteur;
+    }
+
+    /**
+     * Arrête la surveillance et restaure la file d'événements précédente.
+     */
+    public void desinstaller() {
+        surveillance.shutdownNow();
+        pop();
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        edt = Thread.currentThread();
+        numeroEvenement++;
+        debutEvenement = System.nanoTime();
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            // Un événement imbriqué (boîte de dialogue modale) termine aussi la mesure englobante
+            debutEvenement = 0;
+        }
+    }
+
+    /**
+     * Examine l'événement en cours et signale un appel bloquant aux repositories.
+     */
+    private void examiner() {
+        long debut = debutEvenement;
+        long numero = numeroEvenement;
+        Thread thread = edt;
+        if (debut == 0 || thread == null || numero == dernierSignale) {
+            return;
+        }
+        long duree = System.nanoTime() - debut;
+        if (duree < seuilNanos) {
+            return;
+        }
+        for (StackTraceElement frame : thread.getStackTrace()) {
+            if (frame.getClassName().startsWith(PACKAGE_SURVEILLE)) {
+                dernierSignale = numero;
+                LOGGER.log(Level.WARNING, "EDT bloqué depuis " + TimeUnit.NANOSECONDS.toMillis(duree)
+                        + " ms dans " + frame.getClassName() + "." + frame.getMethodName()
+                        + " : déplacer l'appel hors EDT (ChargementAsynchrone)");
+                return;
+            }
+        }
+    }
+}
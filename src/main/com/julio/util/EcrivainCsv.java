@@ -0,0 +1,198 @@
+package main.com.julio.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Écrivain CSV en flux, champ par champ.
+ * <p>
+ * Pendant de {@link LecteurCsv} : le fichier est écrit en UTF-8 précédé d'un BOM
+ * (reconnu par les tableurs), fins de ligne CRLF (RFC 4180). Un champ contenant
+ * le séparateur, un guillemet ou un retour à la ligne est mis entre guillemets,
+ * ses guillemets doublés. Les nombres et les dates sont écrits chiffre par
+ * chiffre dans le tampon de sortie, sans chaîne intermédiaire : la mémoire
+ * occupée ne dépend pas du nombre de lignes.
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * try (EcrivainCsv ecrivain = new EcrivainCsv(fichier, ';')) {
+ *     ecrivain.champ("Raison sociale").champ("Chiffre d'affaires").finLigne();
+ *     ecrivain.champ(client.getRaisonSociale()).champ(client.getChiffreAffaires()).finLigne();
+ * }
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see LecteurCsv
+ */
+public final class EcrivainCsv implements Closeable {
+
+    /** Taille du tampon d'écriture, en caractères */
+    public static final int TAILLE_TAMPON = 64 * 1024;
+
+    private final Writer sortie;
+    private final char separateur;
+    private final char[] chiffres = new char[20];
+    private boolean debutLigne = true;
+
+    /**
+     * Crée (ou remplace) un fichier CSV.
+     *
+     * @param fichier chemin du fichier
+     * @param separateur séparateur de champs (';' ou ',')
+     * @throws IOException si le fichier ne peut pas être créé
+     */
+    public EcrivainCsv(Path fichier, char separateur) throws IOException {
+        this(new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(fichier), StandardCharsets.UTF_8),
+                TAILLE_TAMPON), separateur);
+        sortie.write('\uFEFF');
+    }
+
+    /**
+     * Écrit dans un flux de caractères fourni (sans BOM).
+     *
+     * @param sortie flux de sortie, fermé avec l'écrivain
+     * @param separateur séparateur de champs
+     */
+    public EcrivainCsv(Writer sortie, char separateur) {
+        this.sortie = sortie;
+        this.separateur = separateur;
+    }
+
+    /**
+     * Écrit un champ texte (vide si null).
+     *
+     * @param valeur valeur du champ
+     * @return cet écrivain, pour chaîner les appels
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public EcrivainCsv champ(CharSequence valeur) throws IOException {
+        separer();
+        if (valeur == null) {
+            return this;
+        }
+        int longueur = valeur.length();
+        boolean guillemets = false;
+        for (int i = 0; i < longueur && !guillemets; i++) {
+            char c = valeur.charAt(i);
+            guillemets = c == separateur || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!guillemets) {
+            sortie.append(valeur);
+            return this;
+        }
+        sortie.write('"');
+        for (int i = 0; i < longueur; i++) {
+            char c = valeur.charAt(i);
+            if (c == '"') {
+                sortie.write('"');
+            }
+            sortie.write(c);
+        }
+        sortie.write('"');
+        return this;
+    }
+
+    /**
+     * Écrit un champ entier.
+     *
+     * @param valeur valeur du champ
+     * @return cet écrivain, pour chaîner les appels
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public EcrivainCsv champ(long valeur) throws IOException {
+        separer();
+        entier(valeur, 1);
+        return this;
+    }
+
+    /**
+     * Écrit un champ décimal arrondi à deux décimales, point décimal (ex. {@code 1250.50}).
+     *
+     * @param valeur valeur du champ (finie)
+     * @return cet écrivain, pour chaîner les appels
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public EcrivainCsv champ(double valeur) throws IOException {
+        separer();
+        long centimes = Math.round(valeur * 100);
+        if (centimes < 0) {
+            sortie.write('-');
+            centimes = -centimes;
+        }
+        entier(centimes / 100, 1);
+        sortie.write('.');
+        entier(centimes % 100, 2);
+        return this;
+    }
+
+    /**
+     * Écrit un champ date au format dd/MM/yyyy (vide si null).
+     *
+     * @param date valeur du champ
+     * @return cet écrivain, pour chaîner les appels
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public EcrivainCsv champ(LocalDate date) throws IOException {
+        separer();
+        if (date != null) {
+            entier(date.getDayOfMonth(), 2);
+            sortie.write('/');
+            entier(date.getMonthValue(), 2);
+            sortie.write('/');
+            entier(date.getYear(), 4);
+        }
+        return this;
+    }
+
+    /**
+     * Termine l'enregistrement courant.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void finLigne() throws IOException {
+        sortie.write("\r\n");
+        debutLigne = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sortie.close();
+    }
+
+    private void separer() throws IOException {
+        if (!debutLigne) {
+            sortie.write(separateur);
+        }
+        debutLigne = false;
+    }
+
+    /**
+     * Écrit un entier en décimal, complété par des zéros à gauche jusqu'à {@code largeur} chiffres.
+     */
+    private void entier(long valeur, int largeur) throws IOException {
+        if (valeur == Long.MIN_VALUE) {
+            sortie.write(Long.toString(valeur));
+            return;
+        }
+        if (valeur < 0) {
+            sortie.write('-');
+            valeur = -valeur;
+        }
+        int i = chiffres.length;
+        do {
+            chiffres[--i] = (char) ('0' + valeur % 10);
+            valeur /= 10;
+        } while (valeur != 0 || chiffres.length - i < largeur);
+        sortie.write(chiffres, i, chiffres.length - i);
+    }
+}
@@ -0,0 +1,279 @@
+package main.com.julio.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lecteur CSV en flux, enregistrement par enregistrement.
+ * <p>
+ * Le fichier est lu par blocs de {@link #TAILLE_TAMPON} octets depuis un canal
+ * NIO et décodé en UTF-8 (BOM ignoré) dans un tampon de caractères réutilisé : la
+ * mémoire occupée ne dépend pas de la taille du fichier. Chaque enregistrement est
+ * découpé en un seul parcours, sans {@link String#split(String)} ni chaîne
+ * intermédiaire : les caractères des champs sont copiés dans un tableau réutilisé
+ * et seules les valeurs demandées par {@link #champ(int)} deviennent des chaînes.
+ * </p>
+ * <p>
+ * Format accepté (RFC 4180) : séparateur configurable, fins de ligne LF ou CRLF,
+ * champs entre guillemets pouvant contenir séparateurs, guillemets doublés et
+ * retours à la ligne. Les lignes vides sont ignorées. Un octet UTF-8 invalide
+ * lève une {@link java.nio.charset.CharacterCodingException}.
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * try (LecteurCsv lecteur = new LecteurCsv(fichier, ';')) {
+ *     while (lecteur.suivant()) {
+ *         String raisonSociale = lecteur.champ(0);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public final class LecteurCsv implements Closeable {
+
+    /** Taille du tampon de lecture du canal, en octets */
+    public static final int TAILLE_TAMPON = 64 * 1024;
+
+    private static final int FIN = -1;
+
+    private final ReadableByteChannel canal;
+    private final char separateur;
+    private final CharsetDecoder decodeur = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    private final ByteBuffer octets = ByteBuffer.allocate(TAILLE_TAMPON);
+    private final CharBuffer caracteres = CharBuffer.allocate(TAILLE_TAMPON);
+    private boolean finCanal;
+    private boolean decodageTermine;
+    private boolean debut = true;
+
+    // Enregistrement courant : caractères des champs bout à bout et fin de chaque champ
+    private char[] contenu = new char[256];
+    private int longueur;
+    private int[] fins = new int[16];
+    private int nbChamps;
+
+    private long ligne = 1;           // Ligne physique du prochain caractère
+    private long ligneEnregistrement;  // Ligne physique du début de l'enregistrement courant
+
+    /**
+     * Ouvre un fichier CSV.
+     *
+     * @param fichier le fichier à lire
+     * @param separateur séparateur de champs (',' ou ';' en général)
+     * @throws IOException si le fichier ne peut pas être ouvert
+     */
+    public LecteurCsv(Path fichier, char separateur) throws IOException {
+        this(FileChannel.open(fichier, StandardOpenOption.READ), separateur);
+    }
+
+    /**
+     * Lit un CSV depuis un canal, fermé avec le lecteur.
+     *
+     * @param canal le canal à lire
+     * @param separateur séparateur de champs
+     */
+    public LecteurCsv(ReadableByteChannel canal, char separateur) {
+        this.canal = canal;
+        this.separateur = separateur;
+        caracteres.flip();  // Vide, prêt à être lu
+    }
+
+    /**
+     * Détermine le séparateur d'un fichier CSV d'après sa première ligne.
+     *
+     * @param fichier le fichier à examiner
+     * @return ';' si la première ligne en contient, ',' sinon
+     * @throws IOException si le fichier ne peut pas être lu
+     */
+    public static char detecterSeparateur(Path fichier) throws IOException {
+        try (BufferedReader lecteur = Files.newBufferedReader(fichier, StandardCharsets.UTF_8)) {
+            String premiereLigne = lecteur.readLine();
+            return premiereLigne != null && premiereLigne.indexOf(';') >= 0 ? ';' : ',';
+        }
+    }
+
+    /**
+     * Passe à l'enregistrement suivant.
+     *
+     * @return false à la fin du fichier
+     * @throws IOException si la lecture échoue ou si le fichier n'est pas en UTF-8
+     */
+    public boolean suivant() throws IOException {
+        int c;
+        do {
+            c = lire();
+            if (c == '\r') {
+                c = lire();
+            }
+        } while (c == '\n');  // Lignes vides ignorées
+        if (c == FIN) {
+            nbChamps = 0;
+            return false;
+        }
+
+        ligneEnregistrement = ligne;
+        longueur = 0;
+        nbChamps = 0;
+        while (true) {
+            if (c == '"') {
+                c = lireChampEntreGuillemets();
+            }
+            while (c != separateur && c != '\n' && c != FIN) {
+                if (c == '\r') {
+                    int suivant = lire();
+                    if (suivant == '\n' || suivant == FIN) {
+                        c = suivant;
+                        break;
+                    }
+                    ajouter('\r');
+                    c = suivant;
+                    continue;
+                }
+                ajouter((char) c);
+                c = lire();
+            }
+            terminerChamp();
+            if (c != separateur) {
+                return true;
+            }
+            c = lire();
+        }
+    }
+
+    /**
+     * Retourne le nombre de champs de l'enregistrement courant.
+     *
+     * @return le nombre de champs
+     */
+    public int nbChamps() {
+        return nbChamps;
+    }
+
+    /**
+     * Retourne un champ de l'enregistrement courant.
+     *
+     * @param index position du champ (à partir de 0)
+     * @return la valeur du champ, ou null si l'enregistrement a moins de champs
+     */
+    public String champ(int index) {
+        if (index < 0 || index >= nbChamps) {
+            return null;
+        }
+        int debutChamp = index == 0 ? 0 : fins[index - 1];
+        return new String(contenu, debutChamp, fins[index] - debutChamp);
+    }
+
+    /**
+     * Retourne le numéro de la ligne physique où commence l'enregistrement courant.
+     *
+     * @return le numéro de ligne, à partir de 1
+     */
+    public long ligne() {
+        return ligneEnregistrement;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Lit un champ entre guillemets (guillemet ouvrant déjà lu) et retourne le caractère qui le suit.
+     */
+    private int lireChampEntreGuillemets() throws IOException {
+        while (true) {
+            int c = lire();
+            if (c == FIN) {
+                return FIN;  // Guillemet non fermé : champ jusqu'à la fin du fichier
+            }
+            if (c == '"') {
+                c = lire();
+                if (c != '"') {
+                    return c;  // Fin du champ ; caractères éventuels avant le séparateur conservés
+                }
+            }
+            ajouter((char) c);
+        }
+    }
+
+    private void ajouter(char c) {
+        if (longueur == contenu.length) {
+            contenu = Arrays.copyOf(contenu, contenu.length * 2);
+        }
+        contenu[longueur++] = c;
+    }
+
+    private void terminerChamp() {
+        if (nbChamps == fins.length) {
+            fins = Arrays.copyOf(fins, fins.length * 2);
+        }
+        fins[nbChamps++] = longueur;
+    }
+
+    /**
+     * Retourne le caractère suivant, ou {@link #FIN}.
+     */
+    private int lire() throws IOException {
+        if (!caracteres.hasRemaining() && !remplir()) {
+            return FIN;
+        }
+        char c = caracteres.get();
+        if (c == '\n') {
+            ligne++;
+        }
+        return c;
+    }
+
+    /**
+     * Décode le bloc suivant du canal.
+     *
+     * @return false si le fichier est entièrement lu
+     */
+    private boolean remplir() throws IOException {
+        if (decodageTermine) {
+            return false;
+        }
+        caracteres.clear();
+        while (caracteres.position() == 0 && !decodageTermine) {
+            if (!finCanal && canal.read(octets) < 0) {
+                finCanal = true;
+            }
+            octets.flip();
+            CoderResult resultat = decodeur.decode(octets, caracteres, finCanal);
+            if (resultat.isError()) {
+                resultat.throwException();
+            }
+            octets.compact();
+            if (finCanal && resultat.isUnderflow()) {  // Tous les octets décodés
+                decodeur.flush(caracteres);
+                decodageTermine = true;
+            }
+        }
+        caracteres.flip();
+        if (debut) {
+            debut = false;
+            if (caracteres.hasRemaining() && caracteres.get(caracteres.position()) == '\uFEFF') {
+                caracteres.get();  // BOM
+            }
+        }
+        return caracteres.hasRemaining();
+    }
+}
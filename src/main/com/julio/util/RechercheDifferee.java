@@ -0,0 +1,142 @@
+package main.com.julio.util;
+
+import javax.swing.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+
+/**
+ * Requête relancée à chaque saisie, exécutée hors EDT après un délai de regroupement.
+ * <p>
+ * Chaque {@link #relancer()} (frappe dans un champ de filtre) redémarre le
+ * délai : seule la dernière saisie d'une rafale déclenche une requête. Au
+ * lancement, la requête précédente encore en cours est annulée (thread
+ * interrompu) et son résultat, s'il arrive malgré tout, est ignoré : la vue
+ * ne reçoit que le résultat de la requête la plus récente.
+ * </p>
+ * <p>
+ * La préparation s'exécute sur l'EDT (lecture des champs saisis) et fournit la
+ * tâche exécutée en arrière-plan ; la réception s'exécute sur l'EDT. Une erreur
+ * de la tâche est journalisée et signalée à l'utilisateur.
+ * </p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * RechercheDifferee&lt;ResultatRecherche&lt;Client&gt;&gt; recherche = new RechercheDifferee&lt;&gt;(250,
+ *         () -&gt; { FiltreSocietes f = lireFiltre(); return () -&gt; clientVM.filtrerClients(f, tri, true); },
+ *         model::setResultat);
+ * champ.getDocument().addDocumentListener(... recherche.relancer() ...);
+ * </pre>
+ *
+ * @param <R> type du résultat
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ChargementAsynchrone
+ */
+public class RechercheDifferee<R> {
+
+    private final Timer temporisation;
+    private final Supplier<Callable<R>> preparation;
+    private final Consumer<R> reception;
+    private JProgressBar indicateur;
+    private SwingWorker<R, Void> enCours;
+
+    /**
+     * Constructeur.
+     *
+     * @param delaiMs délai de regroupement des saisies, en millisecondes
+     * @param preparation appelée sur l'EDT au lancement, fournit la tâche à exécuter hors EDT
+     * @param reception reçoit sur l'EDT le résultat de la requête la plus récente
+     */
+    public RechercheDifferee(int delaiMs, Supplier<Callable<R>> preparation, Consumer<R> reception) {
+        this.preparation = preparation;
+        this.reception = reception;
+        this.temporisation = new Timer(delaiMs, e -> lancer());
+        temporisation.setRepeats(false);
+    }
+
+    /**
+     * Affiche une barre de progression indéterminée pendant l'exécution des requêtes.
+     *
+     * @param barre la barre de progression
+     * @return cette recherche, pour chaîner les appels
+     */
+    public RechercheDifferee<R> suivre(JProgressBar barre) {
+        this.indicateur = barre;
+        return this;
+    }
+
+    /**
+     * Demande une requête après le délai de regroupement, qui repart de zéro à chaque appel.
+     */
+    public void relancer() {
+        temporisation.restart();
+    }
+
+    /**
+     * Lance immédiatement une requête (changement de tri, premier affichage).
+     */
+    public void lancer() {
+        temporisation.stop();
+        annuler();
+        Callable<R> tache = preparation.get();
+        SwingWorker<R, Void> requete = new SwingWorker<>() {
+            @Override
+            protected R doInBackground() throws Exception {
+                return tache.call();
+            }
+
+            @Override
+            protected void done() {
+                if (enCours != this) {
+                    return;  // Requête remplacée entre-temps : résultat obsolète
+                }
+                enCours = null;
+                afficherIndicateur(false);
+                try {
+                    reception.accept(get());
+                } catch (CancellationException e) {
+                    LOGGER.log(Level.FINE, "Recherche annulée");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof CancellationException) {
+                        LOGGER.log(Level.FINE, "Recherche abandonnée");
+                        return;
+                    }
+                    LOGGER.log(Level.SEVERE, "Recherche impossible : " + e.getCause().getMessage(), e.getCause());
+                    DisplayDialog.messageError("Erreur", "Recherche impossible : " + e.getCause().getMessage());
+                }
+            }
+        };
+        enCours = requete;
+        afficherIndicateur(true);
+        requete.execute();
+    }
+
+    /**
+     * Annule la requête en attente ou en cours ; son résultat ne sera pas transmis.
+     */
+    public void annuler() {
+        temporisation.stop();
+        if (enCours != null) {
+            SwingWorker<R, Void> precedente = enCours;
+            enCours = null;
+            precedente.cancel(true);
+            afficherIndicateur(false);
+        }
+    }
+
+    private void afficherIndicateur(boolean visible) {
+        if (indicateur != null) {
+            indicateur.setIndeterminate(visible);
+            indicateur.setVisible(visible);
+        }
+    }
+}
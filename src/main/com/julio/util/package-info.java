@@ -14,6 +14,16 @@
  *       régulières pour la validation des formats (email, téléphone, code postal)</li>
  *   <li>{@link main.com.julio.util.DisplayDialog} - Affichage simplifié de boîtes
  *       de dialogue Swing (info, warning, error)</li>
+ *   <li>{@link main.com.julio.util.ChargementAsynchrone} - Chargement des données
+ *       des vues hors EDT, transmises par lots avec progression et annulation</li>
+ *   <li>{@link main.com.julio.util.DetecteurBlocageEdt} - Signalement des appels
+ *       aux repositories qui bloquent l'EDT au-delà d'un seuil</li>
+ *   <li>{@link main.com.julio.util.RechercheDifferee} - Requête relancée à chaque
+ *       saisie après un délai, exécutée hors EDT, les requêtes obsolètes annulées</li>
+ *   <li>{@link main.com.julio.util.LecteurCsv} - Lecture en flux de fichiers CSV
+ *       (RFC 4180, UTF-8) par blocs, sans matérialiser le fichier</li>
+ *   <li>{@link main.com.julio.util.EcrivainCsv} - Écriture en flux de fichiers CSV,
+ *       nombres et dates écrits sans chaîne intermédiaire</li>
  * </ul>
  *
  * <h2>Séparation des responsabilités</h2>
@@ -21,6 +31,9 @@
  *   <li><b>DateUtils</b> : manipulation temporelle (parsing, formatage)</li>
  *   <li><b>RegexPatterns</b> : validation de formats (règles métier)</li>
  *   <li><b>DisplayDialog</b> : interaction utilisateur (présentation)</li>
+ *   <li><b>ChargementAsynchrone</b>, <b>DetecteurBlocageEdt</b>, <b>RechercheDifferee</b> : réactivité de
+ *       l'interface (threads Swing)</li>
+ *   <li><b>LecteurCsv</b>, <b>EcrivainCsv</b> : fichiers d'import et d'export</li>
  * </ul>
  *
  * @author Julio FERMIN
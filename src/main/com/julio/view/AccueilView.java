@@ -5,11 +5,11 @@ import main.com.julio.model.Prospect;
 import main.com.julio.util.DisplayDialog;
 import main.com.julio.viewmodel.ClientViewModel;
 import main.com.julio.viewmodel.ContratViewModel;
+import main.com.julio.viewmodel.DiagnosticsViewModel;
 import main.com.julio.viewmodel.ProspectViewModel;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
 import java.util.logging.Level;
 
 import static main.com.julio.service.LoggingService.LOGGER;
@@ -35,7 +35,8 @@ public class AccueilView extends JFrame {
     private JRadioButton rbProspects;
     private JButton btnVoirContrats;
     private JPanel selectPanel;
-    private JComboBox<Object> comboSelect;
+    private SelecteurSociete selecteur;
+    private JButton[] boutonsActions;
 
     // Gestion de l'état de l'interface
     private String currentAction = null;  // Action en cours: "modifier", "supprimer", "voirContrats"
@@ -112,10 +113,12 @@ public class AccueilView extends JFrame {
         btnVoirContrats = new JButton("Voir Contrats");
         JButton btnAfficher = new JButton("Afficher");
         JButton btnQuitter = new JButton("Quitter");
+        JButton btnDiagnostics = new JButton("Diagnostics");
 
         // Uniformisation taille des boutons
         Dimension btnSize = new Dimension(140, 36);
-        for (JButton b : new JButton[]{btnCreer, btnModifier, btnSupprimer, btnVoirContrats, btnAfficher}) {
+        boutonsActions = new JButton[]{btnCreer, btnModifier, btnSupprimer, btnVoirContrats, btnAfficher};
+        for (JButton b : boutonsActions) {
             b.setPreferredSize(btnSize);
             actions.add(b);
         }
@@ -131,12 +134,11 @@ public class AccueilView extends JFrame {
         gs.insets = new Insets(8, 8, 8, 8);
         gs.anchor = GridBagConstraints.WEST;
 
-        comboSelect = new JComboBox<>();
-        comboSelect.setPreferredSize(new Dimension(420, 28));
+        selecteur = new SelecteurSociete();
         gs.gridy = 0;
         gs.weightx = 0;
         gs.fill = GridBagConstraints.HORIZONTAL;
-        selectPanel.add(comboSelect, gs);
+        selectPanel.add(selecteur, gs);
 
         // Boutons Valider/Annuler pour la sélection
         JPanel buttonSelect = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
@@ -156,8 +158,9 @@ public class AccueilView extends JFrame {
         centerPanel.add(selectPanel, gbc);
         mainPanel.add(centerPanel, BorderLayout.CENTER);
 
-        // Panel inférieur avec bouton Quitter
+        // Panel inférieur avec boutons Diagnostics et Quitter
         JPanel bottonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        bottonPanel.add(btnDiagnostics);
         bottonPanel.add(btnQuitter);
         mainPanel.add(bottonPanel, BorderLayout.SOUTH);
 
@@ -218,6 +221,9 @@ public class AccueilView extends JFrame {
             else ouvrirGestionProspects();
         });
 
+        // Action Diagnostics: fenêtre indépendante des métriques, l'accueil reste ouvert
+        btnDiagnostics.addActionListener(e -> new DiagnosticsView(new DiagnosticsViewModel()).setVisible(true));
+
         // Action Quitter: log et fermeture application
         btnQuitter.addActionListener(e -> {
             LOGGER.log(Level.INFO, "Application terminée (Quitter)");
@@ -237,6 +243,29 @@ public class AccueilView extends JFrame {
         setContentPane(mainPanel);
     }
 
+    /**
+     * Indique le chargement des données en arrière-plan.
+     * <p>
+     * Pendant le chargement, la fenêtre est affichée mais seules les actions
+     * sans accès aux données (Quitter) restent disponibles.
+     * </p>
+     *
+     * @param enCours true tant que les données ne sont pas entièrement chargées
+     */
+    public void setChargementEnCours(boolean enCours) {
+        for (JButton b : boutonsActions) {
+            b.setEnabled(!enCours);
+        }
+        rbClients.setEnabled(!enCours);
+        rbProspects.setEnabled(!enCours);
+        if (enCours) {
+            titre.setText("Chargement des données...");
+        } else {
+            cancelSelection();
+            updateVoirContratsEnabled();
+        }
+    }
+
     /**
      * Active/désactive le bouton "Voir Contrats" selon le type d'entité sélectionné.
      * Les contrats ne sont disponibles que pour les clients.
@@ -278,58 +307,36 @@ public class AccueilView extends JFrame {
     }
 
     /**
-     * Prépare la liste de sélection pour une action donnée.
-     * Charge les entités disponibles dans la ComboBox.
+     * Prépare la sélection d'une société pour une action donnée.
+     * <p>
+     * Le sélecteur n'affiche que les premières correspondances de la saisie,
+     * obtenues par l'index de préfixes : aucune liste complète n'est chargée.
+     * </p>
      *
      * @param action l'action à effectuer (modifier/supprimer/voirContrats)
      */
     private void prepareSelection(String action) {
         this.currentAction = action;
-        comboSelect.removeAllItems();  // Vider la combo
 
         if (isClientSelected()) {
-            // Charger les clients
-            List<Client> clients = clientVM.getTousLesClients();
-            if (clients.isEmpty()) {
+            // Rechercher parmi les clients
+            if (!selecteur.setRecherche(clientVM::rechercherClients)) {
                 DisplayDialog.messageInfo("Info", "Aucun client disponible");
                 this.currentAction = null;
                 setSelectPanelVisible(false);
                 return;
             }
-            for (Client c : clients) {
-                comboSelect.addItem(c);
-            }
         } else {
-            // Charger les prospects
-            List<Prospect> prospects = prospectVM.getTousLesProspects();
-            if (prospects.isEmpty()) {
+            // Rechercher parmi les prospects
+            if (!selecteur.setRecherche(prospectVM::rechercherProspects)) {
                 DisplayDialog.messageInfo("Info", "Aucun prospect disponible");
                 this.currentAction = null;
                 setSelectPanelVisible(false);
                 return;
             }
-            for (Prospect p : prospects) {
-                comboSelect.addItem(p);
-            }
         }
-
-        // Renderer personnalisé pour afficher: "Raison Sociale (ID x)"
-        comboSelect.setRenderer(new DefaultListCellRenderer() {
-            @Override
-            public Component getListCellRendererComponent(JList<?> list, Object value,
-                                                          int index, boolean isSelected,
-                                                          boolean cellHasFocus) {
-                Component c = super.getListCellRendererComponent(list, value, index,
-                        isSelected, cellHasFocus);
-                if (value instanceof Client cli) {
-                    setText(cli.getRaisonSociale() + " (ID " + cli.getId() + ")");
-                } else if (value instanceof Prospect pro) {
-                    setText(pro.getRaisonSociale() + " (ID " + pro.getId() + ")");
-                }
-                return c;
-            }
-        });
         setSelectPanelVisible(true);
+        selecteur.activerSaisie();
     }
 
     /**
@@ -351,7 +358,7 @@ public class AccueilView extends JFrame {
             setSelectPanelVisible(false);
             return;
         }
-        Object selected = comboSelect.getSelectedItem();
+        Object selected = selecteur.getSelection();
         if (selected == null) {
             DisplayDialog.messageInfo("Info", "Veuillez sélectionner un élément");
             return;
@@ -0,0 +1,139 @@
+package main.com.julio.view;
+
+import main.com.julio.viewmodel.DiagnosticsViewModel;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Panneau de diagnostic : percentiles de latence, compteurs et jauges en direct.
+ * <p>
+ * Fenêtre indépendante de la navigation (elle reste ouverte quand l'accueil est
+ * fermé) ; la table est rafraîchie chaque seconde par un {@link Timer} Swing,
+ * cellule par cellule lorsque les lignes n'ont pas changé, pour conserver la
+ * sélection. Le relevé ne lit que des compteurs et la taille des repositories :
+ * il reste bref sur l'EDT.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public class DiagnosticsView extends JFrame {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Intervalle de rafraîchissement de la table */
+    private static final int PERIODE_MS = 1_000;
+
+    // ViewModel - Pattern MVVM
+    private final DiagnosticsViewModel diagnosticsVM;
+
+    // Composants UI
+    private DefaultTableModel tableModel;
+    private final Timer rafraichissement;
+
+    /**
+     * Constructeur initialisant la vue et démarrant le rafraîchissement.
+     *
+     * @param diagnosticsVM ViewModel des métriques
+     */
+    public DiagnosticsView(DiagnosticsViewModel diagnosticsVM) {
+        this.diagnosticsVM = diagnosticsVM;
+
+        initialiserInterface();
+        rafraichir();
+
+        // Rafraîchissement périodique, arrêté à la fermeture
+        rafraichissement = new Timer(PERIODE_MS, e -> rafraichir());
+        rafraichissement.start();
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent windowEvent) {
+                rafraichissement.stop();
+            }
+        });
+    }
+
+    /**
+     * Initialise l'interface graphique : table des métriques et boutons.
+     */
+    private void initialiserInterface() {
+        setTitle("Diagnostics - Métriques");
+        setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        setSize(900, 500);
+        setLocationRelativeTo(null);
+        setResizable(false);
+
+        JPanel mainPanel = new JPanel(new BorderLayout(10, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        JLabel titre = new JLabel("Latences et compteurs depuis le démarrage ou la réinitialisation");
+        titre.setFont(new Font("Arial", Font.BOLD, 16));
+        mainPanel.add(titre, BorderLayout.NORTH);
+
+        tableModel = diagnosticsVM.construireTableModelVide();
+        JTable table = new JTable(tableModel);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setFont(new Font("Arial", Font.PLAIN, 12));
+        table.setRowHeight(22);
+        table.getColumnModel().getColumn(0).setPreferredWidth(260);
+        mainPanel.add(new JScrollPane(table), BorderLayout.CENTER);
+
+        // Boutons Réinitialiser / Fermer
+        JPanel boutons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 8, 0));
+        JButton btnReinitialiser = new JButton("Réinitialiser");
+        JButton btnFermer = new JButton("Fermer");
+        boutons.add(btnReinitialiser);
+        boutons.add(btnFermer);
+        mainPanel.add(boutons, BorderLayout.SOUTH);
+
+        btnReinitialiser.addActionListener(e -> {
+            diagnosticsVM.reinitialiser();
+            rafraichir();
+        });
+        btnFermer.addActionListener(e -> dispose());
+
+        setContentPane(mainPanel);
+    }
+
+    /**
+     * Met la table à jour avec un nouveau relevé.
+     */
+    private void rafraichir() {
+        List<Object[]> lignes = diagnosticsVM.construireLignes();
+        if (!memesMetriques(lignes)) {
+            tableModel.setRowCount(0);
+            lignes.forEach(tableModel::addRow);
+            return;
+        }
+        for (int ligne = 0; ligne < lignes.size(); ligne++) {
+            Object[] valeurs = lignes.get(ligne);
+            for (int colonne = 1; colonne < valeurs.length; colonne++) {
+                if (!Objects.equals(tableModel.getValueAt(ligne, colonne), valeurs[colonne])) {
+                    tableModel.setValueAt(valeurs[colonne], ligne, colonne);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indique si la table affiche déjà les mêmes métriques, dans le même ordre.
+     */
+    private boolean memesMetriques(List<Object[]> lignes) {
+        if (lignes.size() != tableModel.getRowCount()) {
+            return false;
+        }
+        for (int ligne = 0; ligne < lignes.size(); ligne++) {
+            if (!lignes.get(ligne)[0].equals(tableModel.getValueAt(ligne, 0))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
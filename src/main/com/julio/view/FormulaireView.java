@@ -38,6 +38,7 @@ public class FormulaireView extends JFrame {
     private final Integer entityId;  // null = création, non-null = modification/suppression
     private final String action;     // "Créer", "Modifier", "Supprimer"
     private final String origin;     // Vue d'origine pour navigation retour
+    private final Window vueRetour;  // Vue d'origine masquée à réafficher (null = en recréer une)
 
     // Champs communs (Client + Prospect)
     private JTextField txtId;
@@ -71,6 +72,27 @@ public class FormulaireView extends JFrame {
      */
     public FormulaireView(ClientViewModel clientVM, ProspectViewModel prospectVM, ContratViewModel contratVM,
                           boolean isClient, Integer entityId, String action, String origin) {
+        this(clientVM, prospectVM, contratVM, isClient, entityId, action, origin, null);
+    }
+
+    /**
+     * Constructeur revenant à une vue existante, masquée pendant la saisie.
+     * <p>
+     * La vue d'origine est réaffichée telle quelle au retour : abonnée aux
+     * repositories, elle reflète déjà la modification sans être reconstruite.
+     * </p>
+     *
+     * @param clientVM ViewModel des clients
+     * @param prospectVM ViewModel des prospects
+     * @param contratVM ViewModel des contrats
+     * @param isClient true pour client, false pour prospect
+     * @param entityId ID de l'entité (null pour création)
+     * @param action action à effectuer ("Créer", "Modifier", "Supprimer")
+     * @param origin vue d'origine ("accueil", "listeview")
+     * @param vueRetour vue d'origine à réafficher au retour (null pour en créer une nouvelle)
+     */
+    public FormulaireView(ClientViewModel clientVM, ProspectViewModel prospectVM, ContratViewModel contratVM,
+                          boolean isClient, Integer entityId, String action, String origin, Window vueRetour) {
         this.clientVM = clientVM;
         this.prospectVM = prospectVM;
         this.contratVM = contratVM;
@@ -78,6 +100,7 @@ public class FormulaireView extends JFrame {
         this.entityId = entityId;
         this.action = action;
         this.origin = origin;
+        this.vueRetour = vueRetour;
 
         initialiserInterface();
 
@@ -432,7 +455,10 @@ public class FormulaireView extends JFrame {
      * Retourne à la vue d'origine selon le contexte.
      */
     private void retour() {
-        if (origin.equals("accueil")) {
+        if (vueRetour != null) {
+            vueRetour.setVisible(true);
+            this.dispose();
+        } else if (origin.equals("accueil")) {
             AccueilView accueilView = new AccueilView(clientVM, prospectVM, contratVM);
             accueilView.setVisible(true);
             this.dispose();
@@ -2,6 +2,9 @@ package main.com.julio.view;
 
 import main.com.julio.exception.ValidationException;
 import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.repository.EcouteurRepository;
+import main.com.julio.util.ChargementAsynchrone;
 import main.com.julio.util.DisplayDialog;
 import main.com.julio.viewmodel.ClientViewModel;
 import main.com.julio.viewmodel.ContratViewModel;
@@ -10,6 +13,11 @@ import main.com.julio.viewmodel.ProspectViewModel;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 
 import static main.com.julio.service.LoggingService.LOGGER;
@@ -36,6 +44,31 @@ public class ListeContratsView extends JFrame {
     // Composants UI
     private JTable table;
     private DefaultTableModel tableModelContrats;
+    private JProgressBar progression;
+
+    // Mises à jour incrémentales de la table
+    private final Set<Integer> contratsAffiches = new HashSet<>();
+    private final Set<Integer> contratsSupprimes = new HashSet<>();  // Avant leur arrivée par lot
+    private boolean chargementEnCours;
+    private volatile Set<Integer> contratsACharger;  // Contrats fournis par la source, null avant son appel
+    private final EcouteurRepository<Contrat> ecouteurContrats = new EcouteurRepository<>() {
+        @Override
+        public void entiteAjoutee(Contrat contrat) {
+            entiteModifiee(contrat);
+        }
+
+        @Override
+        public void entiteModifiee(Contrat contrat) {
+            Object[] ligne = contratVM.construireLigne(contrat);
+            boolean duClient = contrat.getClientId() == client.getId();
+            surEdt(() -> appliquerModification(ligne, duClient));
+        }
+
+        @Override
+        public void entiteSupprimee(int id) {
+            surEdt(() -> appliquerSuppression(id));
+        }
+    };
 
     /**
      * Constructeur initialisant la vue avec le client et ses contrats.
@@ -55,7 +88,16 @@ public class ListeContratsView extends JFrame {
         this.origin = origin;
 
         initialiserInterface();
+
+        // Abonnement avant le chargement : chaque opération ne met à jour que la ligne concernée
+        contratVM.ajouterEcouteur(ecouteurContrats);
         chargerDonnees();
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent windowEvent) {
+                contratVM.retirerEcouteur(ecouteurContrats);
+            }
+        });
     }
 
     /**
@@ -73,7 +115,7 @@ public class ListeContratsView extends JFrame {
         mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
         // En-tête: info client (raison sociale, ID, adresse)
-        JPanel headerPanel = new JPanel(new GridLayout(2, 1, 5, 5));
+        JPanel headerPanel = new JPanel(new GridLayout(3, 1, 5, 5));
         JLabel titre = new JLabel("Contrats de " + client.getRaisonSociale());
         titre.setFont(new Font("Arial", Font.BOLD, 18));
         headerPanel.add(titre);
@@ -83,11 +125,15 @@ public class ListeContratsView extends JFrame {
         infos.setFont(new Font("Arial", Font.PLAIN, 12));
         headerPanel.add(infos);
 
+        // Avancement du chargement, visible uniquement pendant celui-ci
+        progression = new JProgressBar(0, 100);
+        progression.setVisible(false);
+        headerPanel.add(progression);
+
         mainPanel.add(headerPanel, BorderLayout.NORTH);
 
-        // Table des contrats avec modèle chargé depuis ViewModel
-        tableModelContrats = contratVM.construireTableModel(client.getId());
-        table = new JTable(tableModelContrats);
+        // Table des contrats vide, alimentée par chargerDonnees()
+        table = new JTable();
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);  // Une seule ligne à la fois
         table.setFont(new Font("Arial", Font.PLAIN, 12));
         table.setRowHeight(25);
@@ -132,16 +178,135 @@ public class ListeContratsView extends JFrame {
     }
 
     /**
-     * Recharge les données de la table depuis le ViewModel.
+     * Charge les données de la table depuis le ViewModel, en arrière-plan.
+     * <p>
+     * Les lignes déjà ajoutées ou supprimées par une notification du repository
+     * pendant le chargement sont ignorées. Les suppressions ne sont retenues que
+     * pendant le chargement, pour les contrats du client restant à recevoir
+     * (tous tant que la source n'a pas répondu), et oubliées à sa fin.
+     * </p>
      */
     private void chargerDonnees() {
-        tableModelContrats = contratVM.construireTableModel(client.getId());
-        table.setModel(tableModelContrats);
+        DefaultTableModel model = contratVM.construireTableModelVide();
+        tableModelContrats = model;
+        table.setModel(model);
+        chargementEnCours = true;
+
+        // Lignes formatées hors EDT, ajoutées par lots
+        new ChargementAsynchrone<>(this::contratsDuClient,
+                contratVM::construireLigne, this::ajouterLignes, this::terminerChargement)
+                .suivre(progression)
+                .annulerALaFermeture(this)
+                .execute();
+    }
+
+    /**
+     * Source du chargement : contrats du client, dont les identifiants sont retenus
+     * pour filtrer les suppressions notifiées avant leur arrivée.
+     */
+    private List<Contrat> contratsDuClient() {
+        List<Contrat> contrats = contratVM.getContratsParClient(client.getId());
+        Set<Integer> ids = new HashSet<>();
+        for (Contrat contrat : contrats) {
+            ids.add(contrat.getId());
+        }
+        contratsACharger = ids;
+        return contrats;
+    }
+
+    /**
+     * Fin du chargement : les suppressions retenues en attente de leur lot sont oubliées.
+     */
+    private void terminerChargement() {
+        chargementEnCours = false;
+        contratsACharger = null;
+        contratsSupprimes.clear();
+    }
+
+    /**
+     * Ajoute en fin de table les lignes reçues par le chargement.
+     *
+     * @param lignes lignes préparées par {@link ContratViewModel#construireLigne(Contrat)}
+     */
+    private void ajouterLignes(List<Object[]> lignes) {
+        for (Object[] ligne : lignes) {
+            int id = (int) ligne[0];
+            if (!contratsSupprimes.remove(id) && contratsAffiches.add(id)) {
+                tableModelContrats.addRow(ligne);
+            }
+        }
+    }
+
+    /**
+     * Applique l'ajout ou la modification d'un contrat à sa seule ligne.
+     *
+     * @param ligne cellules du contrat, formatées à la notification
+     * @param duClient true si le contrat appartient (désormais) au client affiché
+     */
+    private void appliquerModification(Object[] ligne, boolean duClient) {
+        int id = (int) ligne[0];
+        int rang = rangContrat(id);
+        if (!duClient) {
+            if (rang >= 0) {
+                appliquerSuppression(id);  // Contrat transféré à un autre client
+            }
+        } else if (rang < 0) {
+            contratsSupprimes.remove(id);
+            contratsAffiches.add(id);
+            tableModelContrats.addRow(ligne);
+        } else {
+            tableModelContrats.setValueAt(ligne[1], rang, 1);
+            tableModelContrats.setValueAt(ligne[2], rang, 2);
+        }
+    }
+
+    /**
+     * Retire la ligne d'un contrat supprimé.
+     *
+     * @param id identifiant du contrat
+     */
+    private void appliquerSuppression(int id) {
+        int rang = rangContrat(id);
+        if (rang >= 0) {
+            contratsAffiches.remove(id);
+            tableModelContrats.removeRow(rang);
+        } else if (chargementEnCours) {
+            Set<Integer> aCharger = contratsACharger;
+            if (aCharger == null || aCharger.contains(id)) {
+                contratsSupprimes.add(id);  // Pas encore reçu : sera ignoré à son arrivée
+            }
+        }
+    }
+
+    /**
+     * Retourne le rang de la ligne d'un contrat, ou -1 s'il n'est pas affiché.
+     * <p>
+     * Parcours limité aux contrats du client affiché, indépendant du volume total.
+     * </p>
+     */
+    private int rangContrat(int id) {
+        if (!contratsAffiches.contains(id)) {
+            return -1;
+        }
+        for (int rang = 0; rang < tableModelContrats.getRowCount(); rang++) {
+            if ((int) tableModelContrats.getValueAt(rang, 0) == id) {
+                return rang;
+            }
+        }
+        return -1;
+    }
+
+    private static void surEdt(Runnable action) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            action.run();
+        } else {
+            SwingUtilities.invokeLater(action);
+        }
     }
 
     /**
      * Affiche un dialogue pour créer un nouveau contrat.
-     * Valide les données et rafraîchit la table en cas de succès.
+     * Valide les données ; la table est mise à jour par notification du repository.
      */
     private void creerContrat() {
         JTextField txtNom = new JTextField(20);
@@ -165,7 +330,6 @@ public class ListeContratsView extends JFrame {
                 contratVM.creerContrat(client.getId(), nom, montant);
                 JOptionPane.showMessageDialog(this, "Contrat créé avec succès!",
                         "Succès", JOptionPane.INFORMATION_MESSAGE);
-                chargerDonnees();  // Rafraîchir table
 
             } catch (ValidationException ve) {
                 DisplayDialog.messageError("Erreur d'entrée", ve.getMessage());
@@ -219,7 +383,6 @@ public class ListeContratsView extends JFrame {
 
                 contratVM.modifierContrat(contratId, nom, montant);
                 DisplayDialog.messageInfo("Succès", "Contrat modifié avec succès!");
-                chargerDonnees();
 
             } catch (ValidationException ve) {
                 DisplayDialog.messageError("Erreur d'entrée", ve.getMessage());
@@ -257,7 +420,6 @@ public class ListeContratsView extends JFrame {
 
             if (success) {
                 DisplayDialog.messageInfo("Succès", "Contrat supprimé avec succès!");
-                chargerDonnees();
             } else {
                 DisplayDialog.messageError("Erreur", "Erreur lors de la suppression!");
             }
@@ -1,16 +1,29 @@
 package main.com.julio.view;
 
 import main.com.julio.model.Client;
+import main.com.julio.model.Societe;
+import main.com.julio.repository.FiltreSocietes;
+import main.com.julio.repository.ResultatRecherche;
+import main.com.julio.repository.TriSocietes;
 import main.com.julio.util.DisplayDialog;
+import main.com.julio.util.RechercheDifferee;
+import main.com.julio.viewmodel.ClientTableModel;
 import main.com.julio.viewmodel.ClientViewModel;
 import main.com.julio.viewmodel.ContratViewModel;
+import main.com.julio.viewmodel.ProspectTableModel;
 import main.com.julio.viewmodel.ProspectViewModel;
+import main.com.julio.viewmodel.SocieteTableModel;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.TableColumn;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.List;
 import java.util.logging.Level;
 
 import static main.com.julio.service.LoggingService.LOGGER;
@@ -18,6 +31,13 @@ import static main.com.julio.service.LoggingService.LOGGER;
 /**
  * Vue d'affichage en liste (tableau) des clients ou prospects.
  * Permet la sélection et navigation vers les opérations CRUD.
+ * <p>
+ * Une barre de filtres (raison sociale, ville, code postal, domaine email,
+ * chiffre d'affaires pour les clients) et un clic sur un en-tête de colonne
+ * relancent une recherche exécutée par le repository hors EDT, sur ses index :
+ * les saisies rapprochées sont regroupées et une recherche devenue obsolète
+ * est annulée. La table n'effectue elle-même aucun tri.
+ * </p>
  *
  * @author Julio FERMIN
  * @version 1.0
@@ -35,7 +55,36 @@ public class ListeView extends JFrame {
 
     // Composants UI
     private JTable table;
-    private DefaultTableModel tableModel;
+    private SocieteTableModel<?> tableModel;
+    private JProgressBar progression;
+    private Runnable desabonnement = () -> { };  // Retire le modèle des écouteurs du repository
+    private JLabel nbResultats;
+
+    // Filtres (champs du chiffre d'affaires présents uniquement pour les clients)
+    private final JTextField champRaisonSociale = new JTextField(10);
+    private final JTextField champVille = new JTextField(8);
+    private final JTextField champCodePostal = new JTextField(5);
+    private final JTextField champDomaine = new JTextField(8);
+    private final JTextField champCaMin = new JTextField(6);
+    private final JTextField champCaMax = new JTextField(6);
+
+    // Recherche courante : tri demandé et requête différée
+    private TriSocietes triDemande = TriSocietes.RAISON_SOCIALE;
+    private boolean croissantDemande = true;
+    private RechercheDifferee<?> recherche;
+
+    /** Délai de regroupement des frappes dans les filtres */
+    private static final int DELAI_FILTRE_MS = 250;
+
+    /**
+     * Requête filtrée et triée d'un ViewModel.
+     *
+     * @param <T> type de société
+     */
+    @FunctionalInterface
+    private interface Requete<T extends Societe> {
+        ResultatRecherche<T> executer(FiltreSocietes filtre, TriSocietes tri, boolean croissant);
+    }
 
     /**
      * Constructeur initialisant la vue de liste.
@@ -53,6 +102,15 @@ public class ListeView extends JFrame {
 
         initComponents();
         chargerDonnees();
+
+        // Fin des mises à jour incrémentales à la fermeture définitive de la vue
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent windowEvent) {
+                recherche.annuler();
+                desabonnement.run();
+            }
+        });
     }
 
     /**
@@ -75,14 +133,34 @@ public class ListeView extends JFrame {
         JLabel titre = new JLabel("Liste des " + type);
         titre.setFont(new Font("Arial", Font.BOLD, 20));
         headerPanel.add(titre);
-        mainPanel.add(headerPanel, BorderLayout.NORTH);
 
-        // Table avec modèle chargé depuis ViewModel
-        tableModel = isClient ? clientVM.construireTableModel() : prospectVM.construireTableModel();
-        table = new JTable(tableModel);
+        // Recherche en cours, visible uniquement pendant celle-ci
+        progression = new JProgressBar(0, 100);
+        progression.setVisible(false);
+        headerPanel.add(progression);
+        nbResultats = new JLabel(" ");
+        headerPanel.add(nbResultats);
+
+        JPanel nordPanel = new JPanel(new BorderLayout());
+        nordPanel.add(headerPanel, BorderLayout.NORTH);
+        nordPanel.add(creerBarreFiltres(), BorderLayout.SOUTH);
+        mainPanel.add(nordPanel, BorderLayout.NORTH);
+
+        // Table vide, alimentée par chargerDonnees() ; tri délégué au repository
+        table = new JTable();
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);  // Une ligne à la fois
         table.setFont(new Font("Arial", Font.PLAIN, 12));
         table.setRowHeight(25);
+        table.getTableHeader().setReorderingAllowed(false);
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int colonne = table.columnAtPoint(e.getPoint());
+                if (colonne >= 0) {
+                    trierPar(tableModel.getTri(table.convertColumnIndexToModel(colonne)));
+                }
+            }
+        });
 
         JScrollPane scrollPane = new JScrollPane(table);
         mainPanel.add(scrollPane, BorderLayout.CENTER);
@@ -132,12 +210,145 @@ public class ListeView extends JFrame {
     }
 
     /**
-     * Recharge les données de la table depuis le ViewModel.
+     * Crée la barre de filtres ; chaque saisie relance la recherche après un court délai.
+     *
+     * @return le panneau des filtres
+     */
+    private JPanel creerBarreFiltres() {
+        JPanel filtrePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 0));
+        ajouterFiltre(filtrePanel, "Raison sociale :", champRaisonSociale);
+        ajouterFiltre(filtrePanel, "Ville :", champVille);
+        ajouterFiltre(filtrePanel, "Code postal :", champCodePostal);
+        ajouterFiltre(filtrePanel, "Domaine email :", champDomaine);
+        if (isClient) {
+            ajouterFiltre(filtrePanel, "CA min :", champCaMin);
+            ajouterFiltre(filtrePanel, "CA max :", champCaMax);
+        }
+        return filtrePanel;
+    }
+
+    private void ajouterFiltre(JPanel panel, String libelle, JTextField champ) {
+        panel.add(new JLabel(libelle));
+        panel.add(champ);
+        champ.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                recherche.relancer();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                recherche.relancer();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                recherche.relancer();
+            }
+        });
+    }
+
+    /**
+     * Charge les données de la table depuis le ViewModel.
+     * <p>
+     * Le modèle est abonné au repository : chaque création, modification ou
+     * suppression ultérieure ne met à jour que la ligne concernée. Son contenu
+     * est fourni par une première recherche sans filtre, exécutée hors EDT ;
+     * chaque modification des filtres ou du tri relance ensuite une recherche.
+     * </p>
      */
     private void chargerDonnees() {
+        desabonnement.run();
         // Dispatcher selon type d'entité
-        tableModel = isClient ? clientVM.construireTableModel() : prospectVM.construireTableModel();
-        table.setModel(tableModel);
+        if (isClient) {
+            ClientTableModel model = new ClientTableModel(List.of(), clientVM::getAgregatContrats);
+            clientVM.ajouterEcouteur(model);
+            desabonnement = () -> clientVM.retirerEcouteur(model);
+            brancher(model, clientVM::filtrerClients);
+        } else {
+            ProspectTableModel model = new ProspectTableModel(List.of());
+            prospectVM.ajouterEcouteur(model);
+            desabonnement = () -> prospectVM.retirerEcouteur(model);
+            brancher(model, prospectVM::filtrerProspects);
+        }
+        recherche.lancer();
+    }
+
+    /**
+     * Installe un modèle vide et prépare la recherche qui l'alimente.
+     *
+     * @param model modèle de table vide
+     * @param requete recherche filtrée et triée du ViewModel (appelée hors EDT)
+     * @param <T> type de société affichée
+     */
+    private <T extends Societe> void brancher(SocieteTableModel<T> model, Requete<T> requete) {
+        tableModel = model;
+        table.setModel(model);
+        model.addTableModelListener(e -> nbResultats.setText(model.getRowCount() + " résultat(s)"));
+        recherche = new RechercheDifferee<ResultatRecherche<T>>(DELAI_FILTRE_MS,
+                () -> {
+                    // Sur l'EDT : lecture des critères, puis requête hors EDT
+                    FiltreSocietes filtre = lireFiltre();
+                    TriSocietes tri = triDemande;
+                    boolean croissant = croissantDemande;
+                    model.debuterRecherche();
+                    return () -> requete.executer(filtre, tri, croissant);
+                },
+                resultat -> {
+                    model.setResultat(resultat);
+                    marquerTri(resultat.getTri(), resultat.isCroissant());
+                })
+                .suivre(progression);
+    }
+
+    /**
+     * Lit les critères saisis ; un montant invalide est signalé et ignoré.
+     *
+     * @return le filtre correspondant
+     */
+    private FiltreSocietes lireFiltre() {
+        return new FiltreSocietes(champRaisonSociale.getText(), champVille.getText(),
+                champCodePostal.getText(), champDomaine.getText(),
+                isClient ? lireMontant(champCaMin) : null, isClient ? lireMontant(champCaMax) : null);
+    }
+
+    private static Long lireMontant(JTextField champ) {
+        String saisie = champ.getText().replace(" ", "");
+        champ.setBackground(UIManager.getColor("TextField.background"));
+        if (saisie.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(saisie);
+        } catch (NumberFormatException e) {
+            champ.setBackground(Color.PINK);  // Critère ignoré tant qu'il n'est pas corrigé
+            return null;
+        }
+    }
+
+    /**
+     * Trie selon une colonne : un second clic sur la même colonne inverse l'ordre.
+     *
+     * @param tri critère de tri de la colonne cliquée
+     */
+    private void trierPar(TriSocietes tri) {
+        croissantDemande = tri != triDemande || !croissantDemande;
+        triDemande = tri;
+        recherche.lancer();
+    }
+
+    /**
+     * Indique le tri appliqué dans l'en-tête de sa colonne.
+     */
+    private void marquerTri(TriSocietes tri, boolean croissant) {
+        for (int i = 0; i < table.getColumnCount(); i++) {
+            TableColumn colonne = table.getColumnModel().getColumn(i);
+            int indexModele = colonne.getModelIndex();
+            String libelle = tableModel.getColumnName(indexModele);
+            colonne.setHeaderValue(tableModel.getTri(indexModele) == tri
+                    ? libelle + (croissant ? " ▲" : " ▼") : libelle);
+        }
+        table.getTableHeader().repaint();
     }
 
     /**
@@ -147,15 +358,19 @@ public class ListeView extends JFrame {
      * @param action action à effectuer ("Créer", "Modifier", "Supprimer")
      */
     private void ouvrirFormulaire(Integer id, String action) {
-        FormulaireView form = new FormulaireView(clientVM, prospectVM, contratVM, isClient, id, action, "listeview");
+        // Liste masquée et non détruite : sa table est mise à jour pendant la saisie
+        FormulaireView form = new FormulaireView(clientVM, prospectVM, contratVM, isClient, id, action,
+                "listeview", this);
         form.setVisible(true);
-        this.dispose();
+        this.setVisible(false);
 
-        // WindowListener pour recharger données au retour (si nécessaire)
+        // Formulaire quitté vers une autre vue : la liste masquée n'est plus utile
         form.addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosed(WindowEvent windowEvent) {
-                chargerDonnees();
+                if (!isVisible()) {
+                    dispose();
+                }
             }
         });
     }
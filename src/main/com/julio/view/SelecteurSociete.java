@@ -0,0 +1,157 @@
+package main.com.julio.view;
+
+import main.com.julio.model.Societe;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Sélecteur de société à saisie incrémentale.
+ * <p>
+ * Remplace une liste déroulante contenant toutes les sociétés : l'utilisateur
+ * saisit le début de la raison sociale et seules les {@link #NB_RESULTATS}
+ * premières correspondances sont demandées au ViewModel (index de préfixes du
+ * repository) puis affichées. Le coût d'une frappe ne dépend donc pas du nombre
+ * de sociétés, et la liste, de hauteur de cellule fixe, ne mesure ni ne dessine
+ * que les lignes visibles.
+ * </p>
+ * <p>
+ * Les frappes rapprochées sont regroupées ({@link #DELAI_SAISIE_MS}) en une seule
+ * recherche. La première correspondance est présélectionnée ; la flèche bas
+ * depuis la saisie donne le focus à la liste.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see AccueilView
+ */
+public class SelecteurSociete extends JPanel {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Nombre maximal de correspondances affichées */
+    static final int NB_RESULTATS = 50;
+
+    /** Délai de regroupement des frappes avant recherche */
+    static final int DELAI_SAISIE_MS = 120;
+
+    private final JTextField saisie = new JTextField();
+    private final DefaultListModel<Societe> resultats = new DefaultListModel<>();
+    private final JList<Societe> liste = new JList<>(resultats);
+    private final JLabel info = new JLabel(" ");
+    private final Timer temporisation;
+
+    // Recherche courante : (préfixe, nombre maximal) -> sociétés correspondantes
+    private BiFunction<String, Integer, ? extends List<? extends Societe>> recherche = (p, n) -> List.of();
+
+    /**
+     * Constructeur.
+     */
+    SelecteurSociete() {
+        super(new BorderLayout(0, 5));
+
+        // Liste à hauteur/largeur fixes : aucune mesure de l'ensemble des cellules
+        liste.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        liste.setVisibleRowCount(8);
+        liste.setFixedCellHeight(22);
+        liste.setFixedCellWidth(400);
+        liste.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value,
+                                                          int index, boolean isSelected,
+                                                          boolean cellHasFocus) {
+                Component c = super.getListCellRendererComponent(list, value, index,
+                        isSelected, cellHasFocus);
+                // Affichage: "Raison Sociale (ID x)"
+                if (value instanceof Societe societe) {
+                    setText(societe.getRaisonSociale() + " (ID " + societe.getId() + ")");
+                }
+                return c;
+            }
+        });
+
+        temporisation = new Timer(DELAI_SAISIE_MS, e -> rechercher());
+        temporisation.setRepeats(false);
+        saisie.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                temporisation.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                temporisation.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                temporisation.restart();
+            }
+        });
+        saisie.getInputMap().put(KeyStroke.getKeyStroke(KeyEvent.VK_DOWN, 0), "versListe");
+        saisie.getActionMap().put("versListe", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                liste.requestFocusInWindow();
+            }
+        });
+
+        info.setFont(info.getFont().deriveFont(Font.ITALIC, 11f));
+        add(saisie, BorderLayout.NORTH);
+        add(new JScrollPane(liste), BorderLayout.CENTER);
+        add(info, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Change la source des correspondances, vide la saisie et affiche les premières sociétés.
+     *
+     * @param recherche fonction (préfixe, nombre maximal) fournie par le ViewModel
+     * @return true si au moins une société est disponible
+     */
+    boolean setRecherche(BiFunction<String, Integer, ? extends List<? extends Societe>> recherche) {
+        this.recherche = recherche;
+        saisie.setText("");
+        temporisation.stop();  // Recherche immédiate, sans attendre le délai
+        rechercher();
+        return !resultats.isEmpty();
+    }
+
+    /**
+     * Retourne la société sélectionnée.
+     *
+     * @return la société sélectionnée, ou null si aucune
+     */
+    Societe getSelection() {
+        return liste.getSelectedValue();
+    }
+
+    /**
+     * Donne le focus à la zone de saisie.
+     */
+    void activerSaisie() {
+        saisie.requestFocusInWindow();
+    }
+
+    /**
+     * Interroge la source avec la saisie courante et remplace les correspondances affichées.
+     */
+    private void rechercher() {
+        // Une correspondance de plus que l'affichage pour savoir si la liste est tronquée
+        List<? extends Societe> trouvees = recherche.apply(saisie.getText().strip(), NB_RESULTATS + 1);
+        boolean tronquee = trouvees.size() > NB_RESULTATS;
+        resultats.clear();
+        resultats.addAll(tronquee ? trouvees.subList(0, NB_RESULTATS) : trouvees);
+        if (!resultats.isEmpty()) {
+            liste.setSelectedIndex(0);
+        }
+        info.setText(tronquee ? NB_RESULTATS + " premiers résultats, précisez la saisie"
+                : resultats.size() + " résultat(s)");
+    }
+}
@@ -11,11 +11,15 @@
  *   <li>{@link main.com.julio.view.AccueilView} - Écran principal avec sélection
  *       du type d'entité (Client/Prospect) et accès aux opérations</li>
  *   <li>{@link main.com.julio.view.ListeView} - Affichage tabulaire des clients
- *       ou prospects avec actions CRUD</li>
+ *       ou prospects avec actions CRUD, filtres et tri exécutés par le repository</li>
  *   <li>{@link main.com.julio.view.FormulaireView} - Formulaire universel pour
  *       création/modification/suppression de clients et prospects</li>
  *   <li>{@link main.com.julio.view.ListeContratsView} - Affichage et gestion
  *       des contrats d'un client spécifique</li>
+ *   <li>{@link main.com.julio.view.SelecteurSociete} - Sélecteur à saisie
+ *       incrémentale utilisé par l'accueil, limité aux premières correspondances</li>
+ *   <li>{@link main.com.julio.view.DiagnosticsView} - Percentiles de latence, compteurs
+ *       et jauges rafraîchis en direct</li>
  * </ul>
  *
  * <h2>Architecture MVVM</h2>
@@ -58,9 +62,18 @@
  * <ul>
  *   <li><b>Type entité</b> : affiche champs Client ou Prospect</li>
  *   <li><b>Action</b> : Créer (champs vides), Modifier (pré-remplis), Supprimer (lecture seule)</li>
- *   <li><b>Origin</b> : retourne à la vue d'origine après validation</li>
+ *   <li><b>Origin</b> : retourne à la vue d'origine après validation ; ouvert depuis
+ *       ListeView, il réaffiche la liste masquée au lieu d'en recréer une</li>
  * </ul>
  *
+ * <h2>Rafraîchissement des tables</h2>
+ * <p>
+ * Les tables de ListeView et ListeContratsView sont abonnées aux repositories
+ * (via les ViewModels) : une création, modification ou suppression ne met à jour
+ * que la ligne concernée, sans rechargement complet. L'abonnement est retiré à
+ * la fermeture de la vue.
+ * </p>
+ *
  * <h2>Gestion des erreurs</h2>
  * <p>
  * Les vues capturent et affichent les exceptions :
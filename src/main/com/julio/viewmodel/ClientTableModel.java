@@ -0,0 +1,73 @@
+package main.com.julio.viewmodel;
+
+import main.com.julio.model.Client;
+import main.com.julio.repository.AgregatContrats;
+import main.com.julio.repository.TriSocietes;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Modèle de table virtuel des clients.
+ * <p>
+ * Colonnes : ID, Raison Sociale, Adresse, Téléphone, Email, CA (€), Nb Employés,
+ * Total contrats (€).
+ * </p>
+ * <p>
+ * Le total des contrats est lu dans les agrégats maintenus par le repository des
+ * contrats ({@link AgregatContrats}), en temps constant, pour l'affichage comme
+ * pour le tri. Un changement de contrat est notifié au modèle comme une
+ * modification du client ({@link ClientViewModel#ajouterEcouteur}) : la ligne est
+ * redessinée, ou déplacée si la table est triée par total.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ClientViewModel#filtrerClients(main.com.julio.repository.FiltreSocietes, TriSocietes, boolean)
+ */
+public class ClientTableModel extends SocieteTableModel<Client> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] COLONNES = {"ID", "Raison Sociale", "Adresse", "Téléphone",
+            "Email", "CA (€)", "Nb Employés", "Total contrats (€)"};
+
+    private static final TriSocietes[] TRIS = {TriSocietes.ID, TriSocietes.RAISON_SOCIALE,
+            TriSocietes.ADRESSE, TriSocietes.TELEPHONE, TriSocietes.EMAIL,
+            TriSocietes.CHIFFRE_AFFAIRES, TriSocietes.NB_EMPLOYES, TriSocietes.TOTAL_CONTRATS};
+
+    /** Agrégats des contrats par identifiant de client */
+    private final IntFunction<AgregatContrats> agregats;
+
+    /**
+     * Constructeur pour des clients sans contrat (total affiché à 0).
+     *
+     * @param clients clients à afficher, triés (liste non modifiable du repository)
+     */
+    public ClientTableModel(List<Client> clients) {
+        this(clients, AgregatContrats::vide);
+    }
+
+    /**
+     * Constructeur.
+     *
+     * @param clients clients à afficher, triés (liste non modifiable du repository)
+     * @param agregats agrégats des contrats par identifiant de client
+     *                 ({@link ClientViewModel#getAgregatContrats(int)})
+     */
+    public ClientTableModel(List<Client> clients, IntFunction<AgregatContrats> agregats) {
+        super(COLONNES, TRIS, clients, id -> agregats.apply(id).totalCentimes());
+        this.agregats = agregats;
+    }
+
+    @Override
+    protected Object valeurSpecifique(Client client, int colonne) {
+        return switch (colonne) {
+            case 5 -> client.getChiffreAffaires();
+            case 6 -> client.getNbEmployes();
+            case 7 -> agregats.apply(client.getId()).total();
+            default -> throw new IndexOutOfBoundsException("Colonne inconnue : " + colonne);
+        };
+    }
+}
@@ -4,12 +4,27 @@ import main.com.julio.exception.NotFoundException;
 import main.com.julio.exception.ValidationException;
 import main.com.julio.model.Adresse;
 import main.com.julio.model.Client;
+import main.com.julio.repository.AgregatContrats;
 import main.com.julio.repository.ClientRepository;
 import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.EcouteurAgregats;
+import main.com.julio.repository.EcouteurRepository;
+import main.com.julio.repository.FiltreSocietes;
+import main.com.julio.repository.InstantaneClients;
+import main.com.julio.repository.ResultatRecherche;
+import main.com.julio.repository.TriSocietes;
+import main.com.julio.service.HistogrammeLatence;
+import main.com.julio.service.Metriques;
 import main.com.julio.service.UnicityService;
 
-import javax.swing.table.DefaultTableModel;
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
 import static main.com.julio.service.LoggingService.LOGGER;
@@ -28,6 +43,14 @@ import static main.com.julio.service.LoggingService.LOGGER;
  */
 public class ClientViewModel {
 
+    // Métriques - Durée des opérations et nombre d'échecs
+    private static final HistogrammeLatence LATENCE_CREER = Metriques.histogramme("client.creer");
+    private static final HistogrammeLatence LATENCE_MODIFIER = Metriques.histogramme("client.modifier");
+    private static final HistogrammeLatence LATENCE_SUPPRIMER = Metriques.histogramme("client.supprimer");
+    private static final LongAdder ECHECS_CREER = Metriques.compteur("client.creer.echecs");
+    private static final LongAdder ECHECS_MODIFIER = Metriques.compteur("client.modifier.echecs");
+    private static final LongAdder ECHECS_SUPPRIMER = Metriques.compteur("client.supprimer.echecs");
+
     // Repositories - Accès données
     public ClientRepository clientRepo;
     private final ContratRepository contratRepo;
@@ -35,6 +58,9 @@ public class ClientViewModel {
     // Services métier
     private final UnicityService unicityService;
 
+    // Relais des agrégats de contrats de chaque écouteur abonné aux clients
+    private final Map<EcouteurRepository<Client>, RelaisAgregats> relais = new ConcurrentHashMap<>();
+
     /**
      * Constructeur initialisant le ViewModel avec ses dépendances.
      *
@@ -75,6 +101,7 @@ public class ClientViewModel {
                             String commentaires,
                             long chiffreAffaires,
                             int nbEmployes) throws ValidationException {
+        long debut = System.nanoTime();
         try {
             // Vérification unicité raison sociale (-1 = nouvelle entité)
             if (unicityService.isRaisonSocialDuplique(raisonSociale, -1)) {
@@ -88,8 +115,11 @@ public class ClientViewModel {
 
             clientRepo.add(client);
         } catch (Exception e) {
+            ECHECS_CREER.increment();
             LOGGER.log(Level.WARNING, e.getMessage(), e);
             throw e;  // Propagation pour affichage dans la vue
+        } finally {
+            LATENCE_CREER.enregistrerDepuis(debut);
         }
     }
 
@@ -121,6 +151,7 @@ public class ClientViewModel {
                                String commentaires,
                                long chiffreAffaires,
                                int nbEmployes) throws ValidationException, NotFoundException {
+        long debut = System.nanoTime();
         try {
             // Vérification unicité (exclure l'entité en cours de modification)
             if (unicityService.isRaisonSocialDuplique(raisonSociale, id)) {
@@ -148,8 +179,11 @@ public class ClientViewModel {
 
             clientRepo.update(client);
         } catch (Exception e) {
+            ECHECS_MODIFIER.increment();
             LOGGER.log(Level.WARNING, e.getMessage(), e);
             throw e;
+        } finally {
+            LATENCE_MODIFIER.enregistrerDepuis(debut);
         }
     }
 
@@ -164,6 +198,7 @@ public class ClientViewModel {
      * @return true si suppression réussie, false sinon
      */
     public boolean supprimerClient(int id) {
+        long debut = System.nanoTime();
         try {
             // Suppression en cascade des contrats
             contratRepo.findByClientId(id).forEach(c -> {
@@ -172,8 +207,11 @@ public class ClientViewModel {
 
             return clientRepo.delete(id);
         } catch (Exception e) {
+            ECHECS_SUPPRIMER.increment();
             LOGGER.log(Level.WARNING, e.getMessage(), e);
             return false;
+        } finally {
+            LATENCE_SUPPRIMER.enregistrerDepuis(debut);
         }
     }
 
@@ -197,40 +235,124 @@ public class ClientViewModel {
     }
 
     /**
-     * Construit un modèle de table Swing pour affichage des clients.
+     * Recherche les clients dont la raison sociale commence par la saisie (insensible à la casse).
+     *
+     * @param prefixe début de la raison sociale saisi par l'utilisateur
+     * @param max nombre maximal de résultats
+     * @return au plus {@code max} clients correspondants
+     */
+    public List<Client> rechercherClients(String prefixe, int max) {
+        return clientRepo.rechercherParPrefixe(prefixe, max);
+    }
+
+    /**
+     * Filtre et trie les clients via les index du repository (à appeler hors EDT).
+     *
+     * @param filtre critères saisis par l'utilisateur
+     * @param tri colonne de tri
+     * @param croissant true pour l'ordre croissant
+     * @return le résultat à remettre au modèle de table
+     */
+    public ResultatRecherche<Client> filtrerClients(FiltreSocietes filtre, TriSocietes tri, boolean croissant) {
+        return clientRepo.rechercher(filtre, tri, croissant);
+    }
+
+    /**
+     * Capture un instantané cohérent des clients et de leurs contrats.
      * <p>
-     * Crée un DefaultTableModel non-éditable avec colonnes :
-     * ID, Raison Sociale, Adresse, Téléphone, Email, CA (€), Nb Employés
+     * À privilégier pour les parcours longs (tables, rapports) : l'instantané se
+     * parcourt sans verrou et sans bloquer les modifications concurrentes.
      * </p>
      *
-     * @return modèle de table prêt pour JTable
+     * @return l'instantané des clients triés et de leurs contrats
      */
-    public DefaultTableModel construireTableModel() {
-        String[] colonnes = {"ID", "Raison Sociale", "Adresse", "Téléphone",
-                "Email", "CA (€)", "Nb Employés"};
-
-        // Modèle non-éditable via override isCellEditable
-        DefaultTableModel model = new DefaultTableModel(colonnes, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;  // Toutes cellules en lecture seule
+    public InstantaneClients getInstantane() {
+        return clientRepo.instantane();
+    }
+
+    /**
+     * Retourne les agrégats des contrats d'un client (nombre, total, plus gros montant).
+     *
+     * @param clientId identifiant du client
+     * @return les agrégats, lus en temps constant
+     */
+    public AgregatContrats getAgregatContrats(int clientId) {
+        return contratRepo.agregat(clientId);
+    }
+
+    /**
+     * Abonne un écouteur aux modifications des clients (ajout, modification, suppression).
+     * <p>
+     * Utilisé par les vues pour mettre à jour leur affichage ligne par ligne. Les
+     * notifications sont émises dans le thread ayant effectué la modification.
+     * Un changement des agrégats de contrats d'un client est aussi notifié, sur
+     * l'EDT, comme une modification de ce client.
+     * </p>
+     *
+     * @param ecouteur l'écouteur à abonner
+     */
+    public void ajouterEcouteur(EcouteurRepository<Client> ecouteur) {
+        clientRepo.ajouterEcouteur(ecouteur);
+        RelaisAgregats relaisEcouteur = new RelaisAgregats(ecouteur);
+        relais.put(ecouteur, relaisEcouteur);
+        contratRepo.ajouterEcouteurAgregats(relaisEcouteur);
+    }
+
+    /**
+     * Désabonne un écouteur (à appeler à la fermeture de la vue).
+     *
+     * @param ecouteur l'écouteur à désabonner
+     */
+    public void retirerEcouteur(EcouteurRepository<Client> ecouteur) {
+        clientRepo.retirerEcouteur(ecouteur);
+        RelaisAgregats relaisEcouteur = relais.remove(ecouteur);
+        if (relaisEcouteur != null) {
+            contratRepo.retirerEcouteurAgregats(relaisEcouteur);
+        }
+    }
+
+    /**
+     * Relaie les changements d'agrégats de contrats à un écouteur des clients.
+     * <p>
+     * Notifié sous le verrou d'écriture des contrats, le relais ne lit pas le
+     * client sur place : il retient son identifiant et le relit sur l'EDT. Les
+     * clients modifiés entre deux passages (import en masse) sont regroupés en
+     * une seule tâche.
+     * </p>
+     */
+    private final class RelaisAgregats implements EcouteurAgregats {
+
+        private final EcouteurRepository<Client> ecouteur;
+        private final Set<Integer> enAttente = new LinkedHashSet<>();  // Protégé par this
+
+        private RelaisAgregats(EcouteurRepository<Client> ecouteur) {
+            this.ecouteur = ecouteur;
+        }
+
+        @Override
+        public void agregatModifie(AgregatContrats agregat) {
+            boolean planifier;
+            synchronized (this) {
+                planifier = enAttente.isEmpty();
+                enAttente.add(agregat.clientId());
+            }
+            if (planifier) {
+                SwingUtilities.invokeLater(this::relayer);
+            }
+        }
+
+        private void relayer() {
+            List<Integer> ids;
+            synchronized (this) {
+                ids = new ArrayList<>(enAttente);
+                enAttente.clear();
+            }
+            for (int id : ids) {
+                Client client = clientRepo.findById(id);
+                if (client != null) {
+                    ecouteur.entiteModifiee(client);
+                }
             }
-        };
-
-        // Remplissage avec données clients
-        List<Client> clients = getTousLesClients();
-        for (Client client : clients) {
-            Object[] row = {
-                    client.getId(),
-                    client.getRaisonSociale(),
-                    client.getAdresse().toString(),  // Formatage adresse
-                    client.getTelephone(),
-                    client.getEmail(),
-                    client.getChiffreAffaires(),
-                    client.getNbEmployes()
-            };
-            model.addRow(row);
         }
-        return model;
     }
 }
@@ -5,9 +5,13 @@ import main.com.julio.model.Client;
 import main.com.julio.model.Contrat;
 import main.com.julio.repository.ClientRepository;
 import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.EcouteurRepository;
+import main.com.julio.service.HistogrammeLatence;
+import main.com.julio.service.Metriques;
 
 import javax.swing.table.DefaultTableModel;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
 import static main.com.julio.service.LoggingService.LOGGER;
@@ -25,6 +29,10 @@ import static main.com.julio.service.LoggingService.LOGGER;
  */
 public class ContratViewModel {
 
+    // Métriques - Durée des créations et nombre d'échecs
+    private static final HistogrammeLatence LATENCE_CREER = Metriques.histogramme("contrat.creer");
+    private static final LongAdder ECHECS_CREER = Metriques.compteur("contrat.creer.echecs");
+
     // Repositories - Accès données
     private final ContratRepository contratRepo;
     private final ClientRepository clientRepo;  // Nécessaire pour lien bidirectionnel
@@ -53,6 +61,7 @@ public class ContratViewModel {
      * @throws ValidationException si client inexistant ou validation échoue
      */
     public void creerContrat(int clientId, String nomContrat, double montant) throws ValidationException {
+        long debut = System.nanoTime();
         try {
             // Vérification existence client
             Client client = clientRepo.findById(clientId);
@@ -70,10 +79,14 @@ public class ContratViewModel {
             client.ajouterContrat(contrat);
 
         } catch (ValidationException ve) {
+            ECHECS_CREER.increment();
             throw ve;  // Propagation directe pour affichage vue
         } catch (Exception e) {
+            ECHECS_CREER.increment();
             LOGGER.log(Level.WARNING, e.getMessage(), e);
             throw e;
+        } finally {
+            LATENCE_CREER.enregistrerDepuis(debut);
         }
     }
 
@@ -148,36 +161,59 @@ public class ContratViewModel {
     }
 
     /**
-     * Construit un modèle de table Swing pour affichage des contrats d'un client.
+     * Abonne un écouteur aux modifications des contrats (ajout, modification, suppression).
      * <p>
-     * Crée un DefaultTableModel non-éditable avec colonnes :
-     * ID, Nom du Contrat, Montant (€) formaté avec 2 décimales
+     * Utilisé par les vues pour mettre à jour leur affichage ligne par ligne. Les
+     * notifications sont émises dans le thread ayant effectué la modification.
      * </p>
      *
-     * @param clientId identifiant du client dont afficher les contrats
-     * @return modèle de table prêt pour JTable
+     * @param ecouteur l'écouteur à abonner
+     */
+    public void ajouterEcouteur(EcouteurRepository<Contrat> ecouteur) {
+        contratRepo.ajouterEcouteur(ecouteur);
+    }
+
+    /**
+     * Désabonne un écouteur (à appeler à la fermeture de la vue).
+     *
+     * @param ecouteur l'écouteur à désabonner
      */
-    public DefaultTableModel construireTableModel(int clientId) {
+    public void retirerEcouteur(EcouteurRepository<Contrat> ecouteur) {
+        contratRepo.retirerEcouteur(ecouteur);
+    }
+
+    /**
+     * Construit un modèle de table des contrats vide, non-éditable.
+     * <p>
+     * Destiné au chargement en arrière-plan : les lignes préparées par
+     * {@link #construireLigne(Contrat)} y sont ajoutées par lots.
+     * </p>
+     *
+     * @return modèle de table sans ligne, colonnes ID, Nom du Contrat, Montant (€)
+     */
+    public DefaultTableModel construireTableModelVide() {
         String[] colonnes = {"ID", "Nom du Contrat", "Montant (€)"};
 
         // Modèle non-éditable
-        DefaultTableModel model = new DefaultTableModel(colonnes, 0) {
+        return new DefaultTableModel(colonnes, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
                 return false;  // Lecture seule
             }
         };
+    }
 
-        // Remplissage avec contrats filtrés par client
-        List<Contrat> contratList = getContratsParClient(clientId);
-        for (Contrat contrat : contratList) {
-            Object[] row = {
-                    contrat.getId(),
-                    contrat.getNomContrat(),
-                    String.format("%.2f", contrat.getMontant())  // Formatage 2 décimales
-            };
-            model.addRow(row);
-        }
-        return model;
+    /**
+     * Prépare la ligne de table d'un contrat (utilisable hors EDT).
+     *
+     * @param contrat le contrat à afficher
+     * @return cellules ID, nom du contrat, montant formaté avec 2 décimales
+     */
+    public Object[] construireLigne(Contrat contrat) {
+        return new Object[]{
+                contrat.getId(),
+                contrat.getNomContrat(),
+                String.format("%.2f", contrat.getMontant())  // Formatage 2 décimales
+        };
     }
 }
@@ -0,0 +1,69 @@
+package main.com.julio.viewmodel;
+
+import main.com.julio.service.HistogrammeLatence;
+import main.com.julio.service.Metriques;
+
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ViewModel du panneau de diagnostic : met en forme les relevés de {@link Metriques}.
+ * <p>
+ * Une ligne par histogramme de latence (nombre d'appels, moyenne et percentiles
+ * en microsecondes), puis une ligne par compteur et par jauge (valeur seule).
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ */
+public class DiagnosticsViewModel {
+
+    /**
+     * Construit un modèle de table des métriques vide, non-éditable.
+     *
+     * @return modèle de table sans ligne, colonnes Métrique, Nombre, Moyenne, p50, p90, p99, p99,9, Max
+     */
+    public DefaultTableModel construireTableModelVide() {
+        String[] colonnes = {"Métrique", "Nombre / valeur", "Moyenne (µs)", "p50 (µs)", "p90 (µs)",
+                "p99 (µs)", "p99,9 (µs)", "Max (µs)"};
+
+        // Modèle non-éditable
+        return new DefaultTableModel(colonnes, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;  // Lecture seule
+            }
+        };
+    }
+
+    /**
+     * Relève les métriques et prépare les lignes de la table.
+     *
+     * @return une ligne par histogramme, compteur puis jauge, dans l'ordre des noms
+     */
+    public List<Object[]> construireLignes() {
+        Metriques.Instantane instantane = Metriques.instantane();
+        List<Object[]> lignes = new ArrayList<>();
+        for (HistogrammeLatence.Statistiques s : instantane.latences()) {
+            lignes.add(new Object[]{s.nom(), s.nombre(), microsecondes(s.moyenne()), microsecondes(s.p50()),
+                    microsecondes(s.p90()), microsecondes(s.p99()), microsecondes(s.p999()),
+                    microsecondes(s.max())});
+        }
+        instantane.compteurs().forEach((nom, valeur) -> lignes.add(new Object[]{nom, valeur, "", "", "", "", "", ""}));
+        instantane.jauges().forEach((nom, valeur) -> lignes.add(new Object[]{nom, valeur, "", "", "", "", "", ""}));
+        return lignes;
+    }
+
+    /**
+     * Remet à zéro compteurs et histogrammes, pour observer une nouvelle période.
+     */
+    public void reinitialiser() {
+        Metriques.reinitialiser();
+    }
+
+    private static String microsecondes(double nanos) {
+        return String.format("%.1f", nanos / 1_000);
+    }
+}
@@ -0,0 +1,202 @@
+package main.com.julio.viewmodel;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Lignes modifiables d'un modèle de table, rangées par blocs d'au plus
+ * {@link #TAILLE_BLOC} éléments.
+ * <p>
+ * Construite sur la liste partagée fournie par le repository, elle ne la copie
+ * pas : chaque bloc désigne d'abord une plage de cette liste, et n'en copie les
+ * éléments qu'à la première écriture qui le touche. Une insertion ou une
+ * suppression ne décale donc que son bloc (scindé en deux s'il est plein) et
+ * les positions de début des blocs suivants, au lieu de copier puis décaler
+ * toute la liste.
+ * </p>
+ * <p>
+ * L'accès au i-ème élément localise son bloc par dichotomie sur les positions
+ * de début de bloc. Non synchronisée : utilisée sur l'EDT uniquement.
+ * </p>
+ *
+ * @param <T> type des lignes
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see SocieteTableModel
+ */
+final class LignesParBlocs<T> extends AbstractList<T> implements RandomAccess {
+
+    /** Nombre maximal d'éléments d'un bloc ; un bloc plein est scindé en deux */
+    static final int TAILLE_BLOC = 512;
+
+    /**
+     * Bloc de lignes : plage de la liste partagée tant que {@code elements} est
+     * null, tableau propre au modèle après la première écriture.
+     */
+    private static final class Bloc<T> {
+        private final List<T> source;
+        private final int debutSource;
+        private Object[] elements;
+        private int taille;
+
+        private Bloc(List<T> source, int debutSource, int taille) {
+            this.source = source;
+            this.debutSource = debutSource;
+            this.taille = taille;
+        }
+
+        private Bloc(Object[] elements, int taille) {
+            this(null, 0, taille);
+            this.elements = elements;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int position) {
+            return elements != null ? (T) elements[position] : source.get(debutSource + position);
+        }
+
+        private Object[] modifiables() {
+            if (elements == null) {
+                elements = new Object[TAILLE_BLOC];
+                for (int i = 0; i < taille; i++) {
+                    elements[i] = source.get(debutSource + i);
+                }
+            }
+            return elements;
+        }
+    }
+
+    /** Blocs non vides, dans l'ordre des lignes */
+    private final List<Bloc<T>> blocs = new ArrayList<>();
+
+    /** Position de la première ligne de chaque bloc */
+    private int[] debuts;
+
+    private int taille;
+
+    /**
+     * Constructeur : découpe la liste partagée en blocs sans en copier les éléments.
+     *
+     * @param source liste partagée, qui ne doit plus être modifiée
+     */
+    LignesParBlocs(List<T> source) {
+        taille = source.size();
+        for (int debut = 0; debut < taille; debut += TAILLE_BLOC) {
+            blocs.add(new Bloc<>(source, debut, Math.min(TAILLE_BLOC, taille - debut)));
+        }
+        recalculerDebuts();
+    }
+
+    @Override
+    public T get(int index) {
+        verifier(index, taille);
+        int rang = rangBloc(index);
+        return blocs.get(rang).get(index - debuts[rang]);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        verifier(index, taille);
+        int rang = rangBloc(index);
+        Bloc<T> bloc = blocs.get(rang);
+        T ancien = bloc.get(index - debuts[rang]);
+        bloc.modifiables()[index - debuts[rang]] = element;
+        return ancien;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        verifier(index, taille + 1);
+        if (blocs.isEmpty()) {
+            blocs.add(new Bloc<>(new Object[TAILLE_BLOC], 0));
+            recalculerDebuts();
+        }
+        int rang = index == taille ? blocs.size() - 1 : rangBloc(index);
+        Bloc<T> bloc = blocs.get(rang);
+        int position = index - debuts[rang];
+        Object[] elements = bloc.modifiables();
+        if (bloc.taille == TAILLE_BLOC) {
+            int moitie = TAILLE_BLOC / 2;
+            Object[] suite = new Object[TAILLE_BLOC];
+            System.arraycopy(elements, moitie, suite, 0, TAILLE_BLOC - moitie);
+            Arrays.fill(elements, moitie, TAILLE_BLOC, null);
+            bloc.taille = moitie;
+            blocs.add(rang + 1, new Bloc<>(suite, TAILLE_BLOC - moitie));
+            recalculerDebuts();
+            if (position > moitie) {
+                rang++;
+                bloc = blocs.get(rang);
+                elements = suite;
+                position -= moitie;
+            }
+        }
+        System.arraycopy(elements, position, elements, position + 1, bloc.taille - position);
+        elements[position] = element;
+        bloc.taille++;
+        decaler(rang, 1);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        verifier(index, taille);
+        int rang = rangBloc(index);
+        Bloc<T> bloc = blocs.get(rang);
+        int position = index - debuts[rang];
+        T ancien = bloc.get(position);
+        if (bloc.taille == 1) {
+            blocs.remove(rang);
+            taille--;
+            recalculerDebuts();
+        } else {
+            Object[] elements = bloc.modifiables();
+            System.arraycopy(elements, position + 1, elements, position, bloc.taille - position - 1);
+            elements[--bloc.taille] = null;
+            decaler(rang, -1);
+        }
+        modCount++;
+        return ancien;
+    }
+
+    @Override
+    public int size() {
+        return taille;
+    }
+
+    /**
+     * Rang du bloc contenant la ligne d'index donné.
+     */
+    private int rangBloc(int index) {
+        int rang = Arrays.binarySearch(debuts, 0, blocs.size(), index);
+        return rang < 0 ? -rang - 2 : rang;
+    }
+
+    /**
+     * Reporte sur la taille et les débuts des blocs suivants un ajout ou un retrait dans le bloc de rang donné.
+     */
+    private void decaler(int rang, int delta) {
+        taille += delta;
+        for (int i = rang + 1; i < blocs.size(); i++) {
+            debuts[i] += delta;
+        }
+    }
+
+    private void recalculerDebuts() {
+        debuts = new int[blocs.size()];
+        int total = 0;
+        for (int i = 0; i < debuts.length; i++) {
+            debuts[i] = total;
+            total += blocs.get(i).taille;
+        }
+    }
+
+    private static void verifier(int index, int borne) {
+        if (index < 0 || index >= borne) {
+            throw new IndexOutOfBoundsException("Index " + index + " hors de [0, " + borne + ")");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package main.com.julio.viewmodel;
+
+import main.com.julio.model.Prospect;
+import main.com.julio.repository.TriSocietes;
+
+import java.util.List;
+
+/**
+ * Modèle de table virtuel des prospects.
+ * <p>
+ * Colonnes : ID, Raison Sociale, Adresse, Téléphone, Email, Date Prospection, Intéressé.
+ * </p>
+ *
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ProspectViewModel#filtrerProspects(main.com.julio.repository.FiltreSocietes, main.com.julio.repository.TriSocietes, boolean)
+ */
+public class ProspectTableModel extends SocieteTableModel<Prospect> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] COLONNES = {"ID", "Raison Sociale", "Adresse", "Téléphone",
+            "Email", "Date Prospection", "Intéressé"};
+
+    private static final TriSocietes[] TRIS = {TriSocietes.ID, TriSocietes.RAISON_SOCIALE,
+            TriSocietes.ADRESSE, TriSocietes.TELEPHONE, TriSocietes.EMAIL,
+            TriSocietes.DATE_PROSPECTION, TriSocietes.INTERESSE};
+
+    /**
+     * Constructeur.
+     *
+     * @param prospects prospects à afficher, triés (liste non modifiable du repository)
+     */
+    public ProspectTableModel(List<Prospect> prospects) {
+        super(COLONNES, TRIS, prospects);
+    }
+
+    @Override
+    protected Object valeurSpecifique(Prospect prospect, int colonne) {
+        return switch (colonne) {
+            case 5 -> prospect.getDateProspectionFormatee();  // Date formatée dd/MM/yyyy
+            case 6 -> prospect.getInteresse().getLibelle();  // "Oui" ou "Non"
+            default -> throw new IndexOutOfBoundsException("Colonne inconnue : " + colonne);
+        };
+    }
+}
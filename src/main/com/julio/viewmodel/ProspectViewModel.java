@@ -5,10 +5,13 @@ import main.com.julio.exception.ValidationException;
 import main.com.julio.model.Adresse;
 import main.com.julio.model.Interesse;
 import main.com.julio.model.Prospect;
+import main.com.julio.repository.EcouteurRepository;
+import main.com.julio.repository.FiltreSocietes;
 import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.ResultatRecherche;
+import main.com.julio.repository.TriSocietes;
 import main.com.julio.service.UnicityService;
 
-import javax.swing.table.DefaultTableModel;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.logging.Level;
@@ -193,41 +196,47 @@ public class ProspectViewModel {
     }
 
     /**
-     * Construit un modèle de table Swing pour affichage des prospects.
+     * Recherche les prospects dont la raison sociale commence par la saisie (insensible à la casse).
+     *
+     * @param prefixe début de la raison sociale saisi par l'utilisateur
+     * @param max nombre maximal de résultats
+     * @return au plus {@code max} prospects correspondants
+     */
+    public List<Prospect> rechercherProspects(String prefixe, int max) {
+        return prospectRepo.rechercherParPrefixe(prefixe, max);
+    }
+
+    /**
+     * Filtre et trie les prospects via les index du repository (à appeler hors EDT).
+     *
+     * @param filtre critères saisis par l'utilisateur
+     * @param tri colonne de tri
+     * @param croissant true pour l'ordre croissant
+     * @return le résultat à remettre au modèle de table
+     */
+    public ResultatRecherche<Prospect> filtrerProspects(FiltreSocietes filtre, TriSocietes tri, boolean croissant) {
+        return prospectRepo.rechercher(filtre, tri, croissant);
+    }
+
+    /**
+     * Abonne un écouteur aux modifications des prospects (ajout, modification, suppression).
      * <p>
-     * Crée un DefaultTableModel non-éditable avec colonnes :
-     * ID, Raison Sociale, Adresse, Téléphone, Email, Date Prospection, Intéressé
+     * Utilisé par les vues pour mettre à jour leur affichage ligne par ligne. Les
+     * notifications sont émises dans le thread ayant effectué la modification.
      * </p>
      *
-     * @return modèle de table prêt pour JTable
+     * @param ecouteur l'écouteur à abonner
      */
-    public DefaultTableModel construireTableModel() {
-        String[] colonnes = {"ID", "Raison Sociale", "Adresse", "Téléphone",
-                "Email", "Date Prospection", "Intéressé"};
-
-        // Modèle non-éditable via override isCellEditable
-        DefaultTableModel model = new DefaultTableModel(colonnes, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;  // Toutes cellules en lecture seule
-            }
-        };
-
-        // Remplissage avec données prospects
-        List<Prospect> prospects = getTousLesProspects();
-        for (Prospect prospect : prospects) {
-            Object[] row = {
-                    prospect.getId(),
-                    prospect.getRaisonSociale(),
-                    prospect.getAdresse().toString(),  // Formatage adresse
-                    prospect.getTelephone(),
-                    prospect.getEmail(),
-                    prospect.getDateProspectionFormatee(),  // Date formatée dd/MM/yyyy
-                    prospect.getInteresse().getLibelle()  // "Oui" ou "Non"
-            };
-            model.addRow(row);
-        }
+    public void ajouterEcouteur(EcouteurRepository<Prospect> ecouteur) {
+        prospectRepo.ajouterEcouteur(ecouteur);
+    }
 
-        return model;
+    /**
+     * Désabonne un écouteur (à appeler à la fermeture de la vue).
+     *
+     * @param ecouteur l'écouteur à désabonner
+     */
+    public void retirerEcouteur(EcouteurRepository<Prospect> ecouteur) {
+        prospectRepo.retirerEcouteur(ecouteur);
     }
 }
@@ -0,0 +1,401 @@
+package main.com.julio.viewmodel;
+
+import main.com.julio.model.Societe;
+import main.com.julio.repository.CleTri;
+import main.com.julio.repository.EcouteurRepository;
+import main.com.julio.repository.FiltreSocietes;
+import main.com.julio.repository.ResultatRecherche;
+import main.com.julio.repository.TriSocietes;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Modèle de table virtuel pour l'affichage d'une liste de sociétés.
+ * <p>
+ * Contrairement à un DefaultTableModel, aucune ligne n'est construite à l'avance :
+ * le modèle conserve la liste triée fournie par le repository (version figée,
+ * partagée et non copiée) et lit chaque cellule à la demande dans
+ * {@link #getValueAt(int, int)}. La JTable ne demandant que les cellules
+ * visibles, seules celles-ci sont formatées, quelle que soit la taille de la liste.
+ * </p>
+ * <p>
+ * Les colonnes communes (ID, raison sociale, adresse, téléphone, email) sont
+ * gérées ici ; les sous-classes ajoutent leurs colonnes spécifiques.
+ * </p>
+ *
+ * <h2>Mises à jour incrémentales</h2>
+ * <p>
+ * Abonné à son repository (via le ViewModel), le modèle applique chaque ajout,
+ * modification ou suppression à la seule ligne concernée et notifie la table par
+ * {@code fireTableRows*}, sans reconstruire ni reformater les autres lignes.
+ * La ligne est localisée par recherche dichotomique ; la première modification
+ * découpe la liste partagée en blocs ({@link LignesParBlocs}) sans copier ses
+ * éléments, et chaque insertion ou suppression ne décale ensuite que le bloc
+ * concerné (au plus {@value LignesParBlocs#TAILLE_BLOC} lignes). Les lignes
+ * restent triées selon le tri courant, par défaut par raison sociale puis
+ * identifiant comme dans le repository, et seules celles satisfaisant le filtre
+ * courant sont affichées : une société modifiée qui ne le satisfait plus disparaît.
+ * </p>
+ * <p>
+ * Les entités étant modifiées en place avant la notification, le modèle retient
+ * pour chaque ligne la clé de tri ({@link CleTri}) sous laquelle elle est rangée.
+ * Les notifications émises hors EDT sont appliquées sur l'EDT, dans leur ordre
+ * d'émission.
+ * </p>
+ *
+ * <h2>Filtrage et tri</h2>
+ * <p>
+ * Filtrage et tri sont effectués par le repository, hors EDT
+ * ({@link main.com.julio.repository.ClientRepository#rechercher(FiltreSocietes, TriSocietes, boolean)}) ;
+ * le modèle adopte le résultat et ses clés pré-calculées par
+ * {@link #setResultat(ResultatRecherche)}, sans trier ni comparer d'objets boxés
+ * sur l'EDT. Les notifications reçues entre le lancement de la recherche
+ * ({@link #debuterRecherche()}) et l'adoption du résultat sont rejouées sur celui-ci.
+ * </p>
+ *
+ * @param <T> type de société affichée (Client ou Prospect)
+ * @author Julio FERMIN
+ * @version 1.0
+ * @since 19/11/2025
+ * @see ClientTableModel
+ * @see ProspectTableModel
+ */
+public abstract class SocieteTableModel<T extends Societe> extends AbstractTableModel
+        implements EcouteurRepository<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Nombre de colonnes communes à toutes les sociétés */
+    protected static final int NB_COLONNES_COMMUNES = 5;
+
+    private final String[] colonnes;
+    private final TriSocietes[] tris;
+    private final IntToLongFunction totalContrats;  // Source des clés de tri TOTAL_CONTRATS
+    private List<T> lignes;
+    private boolean lignesPropres;  // true si lignes est une liste par blocs appartenant au modèle
+
+    // Filtre et tri des lignes affichées
+    private FiltreSocietes filtre = FiltreSocietes.AUCUN;
+    private TriSocietes tri = TriSocietes.RAISON_SOCIALE;
+    private boolean croissant = true;
+
+    // Clé de tri de chaque ligne affichée (valeur au moment du rangement)
+    private Map<Integer, CleTri> cles = new HashMap<>();
+
+    // Dernier état notifié par identifiant depuis debuterRecherche() (null : suppression), null hors recherche
+    private Map<Integer, T> notificationsPendantRecherche;
+
+    /**
+     * Constructeur.
+     *
+     * @param colonnes libellés de toutes les colonnes, colonnes communes en tête
+     * @param tris critère de tri de chaque colonne
+     * @param lignes sociétés à afficher, triées par raison sociale (liste non modifiable du repository)
+     */
+    protected SocieteTableModel(String[] colonnes, TriSocietes[] tris, List<T> lignes) {
+        this(colonnes, tris, lignes, TriSocietes.SANS_CONTRATS);
+    }
+
+    /**
+     * Constructeur avec source du total des contrats, pour le tri {@link TriSocietes#TOTAL_CONTRATS}.
+     *
+     * @param colonnes libellés de toutes les colonnes, colonnes communes en tête
+     * @param tris critère de tri de chaque colonne
+     * @param lignes sociétés à afficher, triées par raison sociale (liste non modifiable du repository)
+     * @param totalContrats total des contrats en centimes par identifiant de société
+     */
+    protected SocieteTableModel(String[] colonnes, TriSocietes[] tris, List<T> lignes,
+                                IntToLongFunction totalContrats) {
+        this.colonnes = colonnes;
+        this.tris = tris;
+        this.totalContrats = totalContrats;
+        this.lignes = lignes;
+        indexer(lignes);
+    }
+
+    /**
+     * Remplace les sociétés affichées et notifie la table.
+     * <p>
+     * Le filtre est retiré et le tri revient à la raison sociale croissante.
+     * </p>
+     *
+     * @param lignes nouvelle liste de sociétés triées par raison sociale (liste non modifiable du repository)
+     */
+    public void setLignes(List<T> lignes) {
+        this.lignes = lignes;
+        this.lignesPropres = false;
+        filtre = FiltreSocietes.AUCUN;
+        tri = TriSocietes.RAISON_SOCIALE;
+        croissant = true;
+        cles = new HashMap<>();
+        indexer(lignes);
+        fireTableDataChanged();
+    }
+
+    /**
+     * Signale le lancement d'une recherche dont le résultat sera remis par
+     * {@link #setResultat(ResultatRecherche)}.
+     * <p>
+     * Les notifications reçues à partir de cet appel sont retenues pour être
+     * rejouées sur le résultat, calculé à partir d'un état du repository qui
+     * peut les précéder.
+     * </p>
+     */
+    public void debuterRecherche() {
+        notificationsPendantRecherche = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adopte le résultat d'une recherche filtrée et triée, et notifie la table.
+     * <p>
+     * Les lignes et les clés de tri du résultat sont reprises sans copie ni tri ;
+     * les notifications reçues depuis {@link #debuterRecherche()} sont ensuite
+     * appliquées. À appeler sur l'EDT.
+     * </p>
+     *
+     * @param resultat résultat calculé par le repository
+     */
+    public void setResultat(ResultatRecherche<T> resultat) {
+        lignes = resultat.getSocietes();
+        lignesPropres = false;
+        filtre = resultat.getFiltre();
+        tri = resultat.getTri();
+        croissant = resultat.isCroissant();
+        cles = resultat.getCles();
+        fireTableDataChanged();
+
+        Map<Integer, T> rejouees = notificationsPendantRecherche;
+        notificationsPendantRecherche = null;
+        if (rejouees != null) {
+            rejouees.forEach((id, entite) -> {
+                if (entite == null) {
+                    appliquerSuppression(id);
+                } else {
+                    appliquerModification(entite);
+                }
+            });
+        }
+    }
+
+    /**
+     * Retourne la société affichée à une ligne donnée.
+     *
+     * @param ligne index de la ligne dans le modèle
+     * @return la société correspondante
+     */
+    public T getSociete(int ligne) {
+        return lignes.get(ligne);
+    }
+
+    /**
+     * Retourne le critère de tri associé à une colonne.
+     *
+     * @param colonne index de la colonne dans le modèle
+     * @return le critère de tri de la colonne
+     */
+    public TriSocietes getTri(int colonne) {
+        return tris[colonne];
+    }
+
+    public TriSocietes getTriCourant() {
+        return tri;
+    }
+
+    public boolean isCroissant() {
+        return croissant;
+    }
+
+    public FiltreSocietes getFiltre() {
+        return filtre;
+    }
+
+    // ============================================================
+    // NOTIFICATIONS DU REPOSITORY
+    // ============================================================
+
+    @Override
+    public void entiteAjoutee(T entite) {
+        surEdt(() -> {
+            retenir(entite.getId(), entite);
+            appliquerModification(entite);
+        });
+    }
+
+    @Override
+    public void entiteModifiee(T entite) {
+        surEdt(() -> {
+            retenir(entite.getId(), entite);
+            appliquerModification(entite);
+        });
+    }
+
+    @Override
+    public void entiteSupprimee(int id) {
+        surEdt(() -> {
+            retenir(id, null);
+            appliquerSuppression(id);
+        });
+    }
+
+    // ============================================================
+    // MODÈLE DE TABLE
+    // ============================================================
+
+    @Override
+    public int getRowCount() {
+        return lignes.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return colonnes.length;
+    }
+
+    @Override
+    public String getColumnName(int colonne) {
+        return colonnes[colonne];
+    }
+
+    @Override
+    public boolean isCellEditable(int ligne, int colonne) {
+        return false;  // Toutes cellules en lecture seule
+    }
+
+    @Override
+    public Object getValueAt(int ligne, int colonne) {
+        T societe = lignes.get(ligne);
+        return switch (colonne) {
+            case 0 -> societe.getId();
+            case 1 -> societe.getRaisonSociale();
+            case 2 -> societe.getAdresse().toString();  // Formatée uniquement si visible
+            case 3 -> societe.getTelephone();
+            case 4 -> societe.getEmail();
+            default -> valeurSpecifique(societe, colonne);
+        };
+    }
+
+    /**
+     * Retourne la valeur d'une colonne propre au type de société.
+     *
+     * @param societe la société de la ligne
+     * @param colonne index de la colonne (supérieur ou égal à {@link #NB_COLONNES_COMMUNES})
+     * @return la valeur à afficher
+     */
+    protected abstract Object valeurSpecifique(T societe, int colonne);
+
+    // ============================================================
+    // GESTION DES LIGNES
+    // ============================================================
+
+    private void indexer(List<T> societes) {
+        for (T societe : societes) {
+            cles.put(societe.getId(), tri.cle(societe, totalContrats));
+        }
+    }
+
+    private void retenir(int id, T entite) {
+        if (notificationsPendantRecherche != null) {
+            notificationsPendantRecherche.put(id, entite);
+        }
+    }
+
+    /**
+     * Place une société ajoutée ou modifiée selon le filtre et le tri courants.
+     */
+    private void appliquerModification(T entite) {
+        int rang = rangExistant(entite.getId());
+        if (!filtre.accepte(entite)) {
+            if (rang >= 0) {
+                supprimerLigne(rang, entite.getId());  // Ne satisfait plus le filtre
+            }
+            return;
+        }
+        CleTri cle = tri.cle(entite, totalContrats);
+        if (rang >= 0 && cle.equals(cles.get(entite.getId()))) {
+            lignesModifiables().set(rang, entite);  // Même position : seule la ligne est redessinée
+            fireTableRowsUpdated(rang, rang);
+            return;
+        }
+        if (rang >= 0) {
+            supprimerLigne(rang, entite.getId());
+        }
+        int nouveauRang = rangInsertion(cle);
+        inserer(nouveauRang, entite, cle);
+        fireTableRowsInserted(nouveauRang, nouveauRang);
+    }
+
+    private boolean appliquerSuppression(int id) {
+        int rang = rangExistant(id);
+        if (rang < 0) {
+            return false;
+        }
+        supprimerLigne(rang, id);
+        return true;
+    }
+
+    private void inserer(int rang, T societe, CleTri cle) {
+        lignesModifiables().add(rang, societe);
+        cles.put(societe.getId(), cle);
+    }
+
+    private void supprimerLigne(int rang, int id) {
+        lignesModifiables().remove(rang);
+        cles.remove(id);
+        fireTableRowsDeleted(rang, rang);
+    }
+
+    private List<T> lignesModifiables() {
+        if (!lignesPropres) {
+            lignes = new LignesParBlocs<>(lignes);  // Blocs sur la liste partagée, copiés à la première écriture
+            lignesPropres = true;
+        }
+        return lignes;
+    }
+
+    /**
+     * Retourne le rang de la ligne affichant une société, ou -1 si elle est absente.
+     */
+    private int rangExistant(int id) {
+        CleTri cle = cles.get(id);
+        if (cle == null) {
+            return -1;
+        }
+        int rang = rangInsertion(cle);
+        return rang < lignes.size() && lignes.get(rang).getId() == id ? rang : -1;
+    }
+
+    /**
+     * Recherche dichotomique du premier rang dont la clé suit ou égale la clé donnée dans l'ordre courant.
+     */
+    private int rangInsertion(CleTri cle) {
+        int bas = 0;
+        int haut = lignes.size();
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            int cmp = cles.get(lignes.get(milieu).getId()).compareTo(cle);
+            if (!croissant) {
+                cmp = -cmp;
+            }
+            if (cmp < 0) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    private static void surEdt(Runnable action) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            action.run();
+        } else {
+            SwingUtilities.invokeLater(action);
+        }
+    }
+}
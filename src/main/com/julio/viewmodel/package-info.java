@@ -11,12 +11,23 @@
  *   <li>{@link main.com.julio.viewmodel.ClientViewModel} - Gestion des clients</li>
  *   <li>{@link main.com.julio.viewmodel.ProspectViewModel} - Gestion des prospects</li>
  *   <li>{@link main.com.julio.viewmodel.ContratViewModel} - Gestion des contrats</li>
+ *   <li>{@link main.com.julio.viewmodel.DiagnosticsViewModel} - Relevés des métriques</li>
+ * </ul>
+ *
+ * <h2>Modèles de table</h2>
+ * <ul>
+ *   <li>{@link main.com.julio.viewmodel.SocieteTableModel} - Modèle virtuel commun,
+ *       cellules lues à la demande dans la liste triée du repository, mis à jour
+ *       ligne par ligne par les notifications du repository ; filtre et tri
+ *       adoptés depuis un résultat de recherche aux clés pré-calculées</li>
+ *   <li>{@link main.com.julio.viewmodel.ClientTableModel} - Colonnes des clients</li>
+ *   <li>{@link main.com.julio.viewmodel.ProspectTableModel} - Colonnes des prospects</li>
  * </ul>
  *
  * <h2>Responsabilités des ViewModels</h2>
  * <ul>
  *   <li>Orchestrer les validations métier (unicité, formats, règles)</li>
- *   <li>Préparer les données pour affichage (DefaultTableModel, formatage)</li>
+ *   <li>Préparer les données pour affichage (modèles de table, formatage)</li>
  *   <li>Gérer les associations bidirectionnelles (Client ↔ Contrat)</li>
  *   <li>Logger les erreurs et propager les exceptions</li>
  *   <li>Coordonner les appels aux repositories et services</li>
@@ -170,5 +170,22 @@ class ClientTest {
             assertTrue(exception.getMessage().contains("adresse"),
                     "Le message d'erreur devrait mentionner 'adresse'");
         }
+
+        @Test
+        @DisplayName("Une création refusée ne consomme pas d'identifiant")
+        void creationRefuseeSansIdentifiant() throws ValidationException {
+            Client premier = new Client("Entreprise A", adresseParDefault, "0123456789",
+                    "test@test.fr", "", 1000, 10);
+            assertThrows(ValidationException.class, () -> new Client("Entreprise B", adresseParDefault,
+                    "0123456789", "test@test.fr", "", 100, 10));
+            assertThrows(ValidationException.class, () -> new Adresse("1", "Rue", "540", "Nancy"));
+            Client suivant = new Client("Entreprise C", new Adresse("2", "Rue de Metz", "54000", "Nancy"),
+                    "0123456789", "test@test.fr", "", 1000, 10);
+
+            assertAll("Vérification des identifiants",
+                    () -> assertEquals(premier.getId() + 1, suivant.getId()),
+                    () -> assertEquals(adresseParDefault.getId() + 1, suivant.getAdresse().getId())
+            );
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,231 @@
+package test.com.julio.persistence;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Interesse;
+import main.com.julio.model.Prospect;
+import main.com.julio.persistence.PersistanceService;
+import main.com.julio.persistence.Snapshot;
+import main.com.julio.persistence.SnapshotMappe;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.GenerateurIdService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests de la persistance sur disque")
+class PersistanceServiceTest {
+
+    @TempDir
+    Path dossier;
+
+    private ContratRepository contratRepo;
+    private ClientRepository clientRepo;
+    private ProspectRepository prospectRepo;
+
+    @BeforeEach
+    void setUp() throws ValidationException {
+        Adresse.resetCompteur();
+        Client.resetCompteur();
+        Prospect.resetCompteur();
+        creerRepositoriesVides();
+    }
+
+    @AfterEach
+    void tearDown() {
+        GenerateurIdService.desactiverPersistance();
+    }
+
+    private void creerRepositoriesVides() throws ValidationException {
+        RaisonSocialeIndex index = new RaisonSocialeIndex();
+        contratRepo = new ContratRepository();
+        clientRepo = new ClientRepository(contratRepo, index, false);
+        prospectRepo = new ProspectRepository(index, false);
+    }
+
+    private PersistanceService recharger() throws ValidationException, IOException {
+        creerRepositoriesVides();
+        PersistanceService persistance = new PersistanceService(dossier);
+        persistance.charger(clientRepo, prospectRepo, contratRepo);
+        return persistance;
+    }
+
+    private Client nouveauClient(String raisonSociale) throws ValidationException {
+        Adresse adresse = new Adresse("1", "Rue de Metz", "54000", "Nancy");
+        return new Client(raisonSociale, adresse, "0123456789", "contact@test.fr", null, 1000, 10);
+    }
+
+    // ============================================================
+    // TESTS JOURNAL ET SNAPSHOT
+    // ============================================================
+
+    @Nested
+    @DisplayName("Rechargement des données")
+    class RechargementTests {
+
+        @Test
+        @DisplayName("Les opérations journalisées sont rejouées au rechargement")
+        void rejeuJournal() throws Exception {
+            PersistanceService persistance = new PersistanceService(dossier);
+            persistance.attacher(clientRepo, prospectRepo, contratRepo);
+
+            Client client = nouveauClient("Entreprise ABC");
+            clientRepo.add(client);
+            Client supprime = nouveauClient("Entreprise XYZ");
+            clientRepo.add(supprime);
+            clientRepo.delete(supprime.getId());
+            Prospect prospect = new Prospect("Boulangerie", new Adresse("2", "Rue Haute", "54390", "Frouard"),
+                    "0456789012", "pain@test.fr", "", LocalDate.of(2024, 3, 15), Interesse.OUI);
+            prospectRepo.add(prospect);
+            Contrat contrat = new Contrat(client.getId(), "TMA ERP", 45000);
+            contratRepo.add(contrat);
+            contrat.setMontant(50000);
+            contratRepo.update(contrat);
+
+            // Arrêt brutal simulé : le journal n'est ni compacté ni fermé
+            persistance.synchroniser();
+            recharger();
+
+            assertAll("Vérification du rejeu",
+                    () -> assertEquals(1, clientRepo.getClients().size()),
+                    () -> assertEquals("Entreprise ABC", clientRepo.findById(client.getId()).getRaisonSociale()),
+                    () -> assertEquals("Boulangerie", prospectRepo.findById(prospect.getId()).getRaisonSociale()),
+                    () -> assertEquals(50000, contratRepo.findById(contrat.getId()).getMontant()),
+                    () -> assertEquals(1, clientRepo.findById(client.getId()).getContrats().size(),
+                            "Les contrats devraient être rattachés à leur client")
+            );
+        }
+
+        @Test
+        @DisplayName("Un snapshot écrit à la fermeture restaure l'état et les compteurs")
+        void snapshotEtCompteurs() throws Exception {
+            PersistanceService persistance = new PersistanceService(dossier);
+            persistance.attacher(clientRepo, prospectRepo, contratRepo);
+            Client client = nouveauClient("Entreprise ABC");
+            clientRepo.add(client);
+            persistance.fermer();
+
+            Client.resetCompteur();
+            Adresse.resetCompteur();
+            recharger();
+
+            Client suivant = nouveauClient("Entreprise XYZ");
+            assertAll("Vérification du snapshot",
+                    () -> assertTrue(persistance.existe()),
+                    () -> assertEquals(0, Files.size(dossier.resolve(PersistanceService.FICHIER_JOURNAL))),
+                    () -> assertNotNull(clientRepo.findById(client.getId())),
+                    () -> assertTrue(suivant.getId() > client.getId(),
+                            "Les nouveaux identifiants ne devraient pas réutiliser les identifiants rechargés"),
+                    () -> assertTrue(suivant.getAdresse().getId() > client.getAdresse().getId())
+            );
+        }
+
+        @Test
+        @DisplayName("Une fin de journal corrompue est ignorée puis tronquée")
+        void finDeJournalCorrompue() throws Exception {
+            PersistanceService persistance = new PersistanceService(dossier);
+            persistance.attacher(clientRepo, prospectRepo, contratRepo);
+            clientRepo.add(nouveauClient("Entreprise ABC"));
+            clientRepo.add(nouveauClient("Entreprise XYZ"));
+            persistance.synchroniser();
+
+            // Enregistrement tronqué par un arrêt brutal pendant l'écriture
+            Path journal = dossier.resolve(PersistanceService.FICHIER_JOURNAL);
+            long longueurValide = Files.size(journal);
+            Files.write(journal, new byte[]{0, 0, 0, 40, 1, 0, 7}, StandardOpenOption.APPEND);
+
+            recharger();
+
+            assertAll("Vérification de la reprise",
+                    () -> assertEquals(2, clientRepo.getClients().size()),
+                    () -> assertEquals(longueurValide, Files.size(journal))
+            );
+        }
+
+        @Test
+        @DisplayName("Une compaction interrompue est achevée au rechargement")
+        void compactionInterrompue() throws Exception {
+            PersistanceService persistance = new PersistanceService(dossier);
+            persistance.attacher(clientRepo, prospectRepo, contratRepo);
+            Client conserve = nouveauClient("Entreprise ABC");
+            clientRepo.add(conserve);
+            Client supprime = nouveauClient("Entreprise XYZ");
+            clientRepo.add(supprime);
+            persistance.synchroniser();
+
+            // Arrêt brutal simulé juste après la bascule : l'ajout est dans le journal
+            // précédent, la suppression dans le journal courant
+            Path journal = dossier.resolve(PersistanceService.FICHIER_JOURNAL);
+            Path precedent = dossier.resolve(PersistanceService.FICHIER_JOURNAL_PRECEDENT);
+            Files.copy(journal, precedent);
+            Files.write(journal, new byte[0]);
+            clientRepo.delete(supprime.getId());
+            persistance.synchroniser();
+
+            recharger();
+
+            assertAll("Vérification de la reprise",
+                    () -> assertNotNull(clientRepo.findById(conserve.getId())),
+                    () -> assertNull(clientRepo.findById(supprime.getId()),
+                            "Le journal précédent devrait être rejoué avant le journal courant"),
+                    () -> assertFalse(Files.exists(precedent))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot projeté en mémoire")
+    class SnapshotMappeTests {
+
+        @Test
+        @DisplayName("Les entités sont accessibles dans le désordre, décodées à chaque accès")
+        void accesDirect() throws Exception {
+            Client a = nouveauClient("Entreprise A");
+            Client b = nouveauClient("Entreprise B");
+            Client c = nouveauClient("Entreprise C");
+            Contrat contrat = new Contrat(b.getId(), "TMA ERP", 45000);
+            Path fichier = dossier.resolve(PersistanceService.FICHIER_SNAPSHOT);
+            Snapshot.ecrire(fichier, List.of(a, b, c), List.of(), List.of(contrat));
+
+            SnapshotMappe snapshot = SnapshotMappe.ouvrir(fichier);
+            Client dernier = snapshot.getClient(2);
+
+            assertAll("Vérification du snapshot projeté",
+                    () -> assertEquals(3, snapshot.getNbClients()),
+                    () -> assertEquals(0, snapshot.getNbProspects()),
+                    () -> assertEquals("Entreprise C", dernier.getRaisonSociale()),
+                    () -> assertEquals(c.getAdresse().getId(), dernier.getAdresse().getId()),
+                    () -> assertNotSame(dernier, snapshot.getClient(2)),
+                    () -> assertEquals(dernier.getId(), snapshot.getClient(2).getId()),
+                    () -> assertEquals(b.getId(), snapshot.getContrat(0).getClientId()),
+                    () -> assertEquals("Entreprise A", snapshot.getClient(0).getRaisonSociale())
+            );
+        }
+
+        @Test
+        @DisplayName("Un fichier qui n'est pas un snapshot est refusé")
+        void formatInconnu() throws IOException {
+            Path fichier = dossier.resolve("autre.bin");
+            Files.write(fichier, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+            assertThrows(IOException.class, () -> SnapshotMappe.ouvrir(fichier));
+        }
+    }
+}
@@ -0,0 +1,524 @@
+package test.com.julio.repository;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.FiltreSocietes;
+import main.com.julio.repository.InstantaneClients;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.repository.ResultatRecherche;
+import main.com.julio.repository.TriSocietes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du repository des clients")
+class ClientRepositoryTest {
+    private ContratRepository contratRepo;
+    private ClientRepository clientRepo;
+
+    @BeforeEach
+    void setUp() throws ValidationException {
+        Adresse.resetCompteur();
+        Client.resetCompteur();
+
+        contratRepo = new ContratRepository();
+        clientRepo = new ClientRepository(contratRepo);
+    }
+
+    private Client nouveauClient(String raisonSociale) throws ValidationException {
+        Adresse adresse = new Adresse("1", "Rue de Metz", "54000", "Nancy");
+        return new Client(raisonSociale, adresse, "0123456789", "contact@test.fr", "", 1000, 10);
+    }
+
+    // ============================================================
+    // TESTS RECHERCHE ET MISE À JOUR
+    // ============================================================
+
+    @Nested
+    @DisplayName("Recherche par identifiant")
+    class RechercheTests {
+
+        @Test
+        @DisplayName("findById retrouve un client ajouté")
+        void findByIdApresAjout() throws ValidationException {
+            Client client = nouveauClient("Entreprise ABC");
+            clientRepo.add(client);
+
+            assertSame(client, clientRepo.findById(client.getId()),
+                    "Le client ajouté devrait être retrouvé par son ID");
+        }
+
+        @Test
+        @DisplayName("findById retourne null pour un ID inconnu")
+        void findByIdInconnu() {
+            assertNull(clientRepo.findById(9999), "Un ID inconnu devrait retourner null");
+        }
+
+        @Test
+        @DisplayName("update remplace l'instance sans changer l'ordre d'insertion")
+        void updateConserveOrdre() throws ValidationException {
+            Client client = nouveauClient("Entreprise ABC");
+            clientRepo.add(client);
+            List<Client> avant = clientRepo.getClients();
+
+            Client remplacant = nouveauClient("Entreprise XYZ");
+            remplacant.setId(client.getId());
+            clientRepo.update(remplacant);
+
+            List<Client> apres = clientRepo.getClients();
+            assertAll("Vérification de la mise à jour",
+                    () -> assertSame(remplacant, clientRepo.findById(client.getId())),
+                    () -> assertEquals(avant.size(), apres.size()),
+                    () -> assertSame(remplacant, apres.get(apres.size() - 1))
+            );
+        }
+
+        @Test
+        @DisplayName("L'ordre d'insertion survit aux suppressions en masse et aux ajouts suivants")
+        void ordreApresSuppressions() throws ValidationException {
+            List<Client> attendus = new ArrayList<>(clientRepo.getClients());
+            List<Client> ajoutes = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Client client = nouveauClient("Client " + i);
+                clientRepo.add(client);
+                ajoutes.add(client);
+            }
+            for (int i = 0; i < 100; i++) {
+                if (i % 10 != 0) {
+                    clientRepo.delete(ajoutes.get(i).getId());
+                } else {
+                    attendus.add(ajoutes.get(i));
+                }
+            }
+            Client dernier = nouveauClient("Client final");
+            clientRepo.add(dernier);
+            attendus.add(dernier);
+
+            assertAll("Vérification de l'ordre d'insertion",
+                    () -> assertEquals(attendus, clientRepo.getClients()),
+                    () -> assertEquals(attendus.size(), clientRepo.count()),
+                    () -> assertNull(clientRepo.findById(ajoutes.get(1).getId())),
+                    () -> assertSame(ajoutes.get(90), clientRepo.findById(ajoutes.get(90).getId()))
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS SUPPRESSION ET TRI
+    // ============================================================
+
+    @Nested
+    @DisplayName("Suppression et tri")
+    class SuppressionTriTests {
+
+        @Test
+        @DisplayName("delete retire le client de l'index")
+        void deleteRetireClient() throws ValidationException {
+            Client client = nouveauClient("Entreprise ABC");
+            clientRepo.add(client);
+
+            assertTrue(clientRepo.delete(client.getId()));
+            assertNull(clientRepo.findById(client.getId()));
+        }
+
+        @Test
+        @DisplayName("delete retourne false pour un ID inconnu")
+        void deleteInconnu() {
+            assertFalse(clientRepo.delete(9999), "La suppression d'un ID inconnu devrait échouer");
+        }
+
+        @Test
+        @DisplayName("findAll retourne les clients triés par raison sociale")
+        void findAllTrie() {
+            List<Client> clients = clientRepo.findAll();
+
+            for (int i = 1; i < clients.size(); i++) {
+                assertTrue(ClientRepository.BY_RAISON_SOCIALE.compare(clients.get(i - 1), clients.get(i)) <= 0,
+                        "Les clients devraient être triés par raison sociale");
+            }
+        }
+
+        @Test
+        @DisplayName("findAll reflète le renommage d'un client")
+        void findAllApresRenommage() throws ValidationException {
+            Client client = nouveauClient("Zenith");
+            clientRepo.add(client);
+            List<Client> avant = clientRepo.findAll();
+
+            client.setRaisonSociale("Accor");
+            List<Client> apres = clientRepo.findAll();
+
+            assertAll("Vérification du tri après renommage",
+                    () -> assertSame(client, avant.get(avant.size() - 1)),
+                    () -> assertSame(client, apres.get(0)),
+                    () -> assertThrows(UnsupportedOperationException.class, () -> apres.remove(0),
+                            "La liste retournée devrait être non modifiable")
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS INSTANTANÉS (LECTURES MULTI-VERSIONS)
+    // ============================================================
+
+    @Nested
+    @DisplayName("Instantanés")
+    class InstantaneTests {
+
+        @Test
+        @DisplayName("Un instantané n'est pas affecté par les modifications ultérieures")
+        void instantaneFige() throws ValidationException {
+            Client renomme = nouveauClient("Zenith");
+            clientRepo.add(renomme);
+            InstantaneClients instantane = clientRepo.instantane();
+            List<Client> copie = new ArrayList<>(instantane.getClients());
+
+            clientRepo.add(nouveauClient("Accor"));
+            clientRepo.delete(copie.get(0).getId());
+            renomme.setRaisonSociale("Alpha");
+
+            assertAll("Vérification de l'instantané",
+                    () -> assertEquals(copie, instantane.getClients()),
+                    () -> assertNotEquals(copie, clientRepo.findAll()),
+                    () -> assertSame(renomme, clientRepo.findAll().get(1),
+                            "La liste courante devrait refléter le renommage")
+            );
+        }
+
+        @Test
+        @DisplayName("Les contrats d'un instantané sont ceux de l'instant de la capture")
+        void contratsFiges() throws ValidationException {
+            Client client = nouveauClient("Entreprise ABC");
+            clientRepo.add(client);
+            Contrat contrat = new Contrat(client.getId(), "TMA ERP", 45000);
+            contratRepo.add(contrat);
+            InstantaneClients instantane = clientRepo.instantane();
+
+            contratRepo.add(new Contrat(client.getId(), "Audit", 22000));
+            contrat.setClientId(9999);
+
+            assertAll("Vérification des contrats figés",
+                    () -> assertEquals(List.of(contrat), instantane.getContrats(client.getId())),
+                    () -> assertTrue(instantane.getContrats(9999).isEmpty()),
+                    () -> assertEquals(1, clientRepo.instantane().getContrats(client.getId()).size()),
+                    () -> assertEquals(List.of(contrat), clientRepo.instantane().getContrats(9999))
+            );
+        }
+
+        @Test
+        @DisplayName("Les versions restent triées et cohérentes sur plusieurs blocs")
+        void versionsSurPlusieursBlocs() throws ValidationException {
+            int initiale = clientRepo.findAll().size();
+            List<InstantaneClients> instantanes = new ArrayList<>();
+            List<Integer> tailles = new ArrayList<>();
+            for (int i = 0; i < 3000; i++) {
+                // Raisons sociales dans le désordre pour répartir les insertions entre les blocs
+                clientRepo.add(nouveauClient(String.format("Client %04d", (i * 7919) % 3000)));
+                if (i % 700 == 0) {
+                    instantanes.add(clientRepo.instantane());
+                    tailles.add(clientRepo.findAll().size());
+                }
+            }
+            for (Client client : new ArrayList<>(clientRepo.findAll()).subList(0, 1000)) {
+                clientRepo.delete(client.getId());
+            }
+
+            assertEquals(initiale + 2000, clientRepo.findAll().size());
+            for (int v = 0; v < instantanes.size(); v++) {
+                List<Client> clients = instantanes.get(v).getClients();
+                assertEquals(tailles.get(v), clients.size());
+                for (int i = 1; i < clients.size(); i++) {
+                    assertTrue(ClientRepository.BY_RAISON_SOCIALE.compare(clients.get(i - 1), clients.get(i)) <= 0,
+                            "La version " + v + " devrait rester triée");
+                }
+            }
+        }
+    }
+
+    // ============================================================
+    // TESTS CHARGEMENT EN MASSE
+    // ============================================================
+
+    @Nested
+    @DisplayName("Chargement en masse")
+    class ChargementTests {
+
+        private ClientRepository repositoryVide;
+        private RaisonSocialeIndex index;
+
+        @BeforeEach
+        void setUp() throws ValidationException {
+            index = new RaisonSocialeIndex();
+            repositoryVide = new ClientRepository(new ContratRepository(), index, false);
+        }
+
+        private List<Client> clientsDesordonnes(int nb) throws ValidationException {
+            List<Client> clients = new ArrayList<>();
+            for (int i = 0; i < nb; i++) {
+                clients.add(nouveauClient(String.format("Client %04d", (i * 7919) % nb)));
+            }
+            return clients;
+        }
+
+        @Test
+        @DisplayName("Le chargement donne le même état qu'une suite d'ajouts")
+        void equivautAjouts() throws ValidationException {
+            List<Client> clients = clientsDesordonnes(3000);
+            ClientRepository parAjouts = new ClientRepository(new ContratRepository(), new RaisonSocialeIndex(), false);
+            parAjouts.addAll(clients);
+
+            repositoryVide.charger(clients);
+
+            assertAll("Vérification du chargement",
+                    () -> assertEquals(clients, repositoryVide.getClients()),
+                    () -> assertEquals(parAjouts.findAll(), repositoryVide.findAll()),
+                    () -> assertEquals(parAjouts.rechercherParPrefixe("client 1", 2000),
+                            repositoryVide.rechercherParPrefixe("client 1", 2000)),
+                    () -> assertEquals(clients.size(), repositoryVide.rechercher(
+                            new FiltreSocietes("", "nancy", "", "", null, null), TriSocietes.ID, true)
+                            .getSocietes().size()),
+                    () -> assertTrue(index.contient("CLIENT 0042", -1))
+            );
+        }
+
+        @Test
+        @DisplayName("Les index chargés suivent les modifications suivantes")
+        void suitModifications() throws ValidationException {
+            List<Client> clients = clientsDesordonnes(3000);
+            repositoryVide.charger(clients);
+
+            Client renomme = clients.get(0);
+            renomme.setRaisonSociale("Zeta Conseil");
+            repositoryVide.delete(clients.get(1).getId());
+            // Remplit les blocs chargés au-delà de leur marge
+            for (int i = 0; i < 1000; i++) {
+                repositoryVide.add(nouveauClient(String.format("Client %04d bis", i)));
+            }
+
+            List<Client> tries = repositoryVide.findAll();
+            assertEquals(3999, tries.size());
+            for (int i = 1; i < tries.size(); i++) {
+                assertTrue(ClientRepository.BY_RAISON_SOCIALE.compare(tries.get(i - 1), tries.get(i)) < 0,
+                        "La vue devrait rester triée");
+            }
+            assertAll("Vérification des index",
+                    () -> assertSame(renomme, tries.get(tries.size() - 1)),
+                    () -> assertEquals(List.of(renomme), repositoryVide.rechercherParPrefixe("zeta", 10)),
+                    () -> assertTrue(index.contient("zeta conseil", -1)),
+                    () -> assertEquals(2, repositoryVide.rechercherParPrefixe("client 0042", 10).size())
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS RECHERCHE PAR PRÉFIXE
+    // ============================================================
+
+    @Nested
+    @DisplayName("Recherche par préfixe de raison sociale")
+    class RecherchePrefixeTests {
+
+        private List<String> noms(List<Client> clients) {
+            return clients.stream().map(Client::getRaisonSociale).toList();
+        }
+
+        @Test
+        @DisplayName("La recherche est insensible à la casse et limitée au nombre demandé")
+        void insensibleCasseEtLimitee() throws ValidationException {
+            clientRepo.add(nouveauClient("Boulangerie Martin"));
+            clientRepo.add(nouveauClient("boucherie Durand"));
+            clientRepo.add(nouveauClient("BOUQUINISTE"));
+            clientRepo.add(nouveauClient("Brasserie"));
+
+            assertAll("Vérification de la recherche",
+                    () -> assertEquals(List.of("boucherie Durand", "Boulangerie Martin", "BOUQUINISTE"),
+                            noms(clientRepo.rechercherParPrefixe("bou", 10))),
+                    () -> assertEquals(List.of("boucherie Durand", "Boulangerie Martin"),
+                            noms(clientRepo.rechercherParPrefixe("BOU", 2))),
+                    () -> assertTrue(clientRepo.rechercherParPrefixe("zz", 10).isEmpty()),
+                    () -> assertEquals(3, clientRepo.rechercherParPrefixe("", 3).size())
+            );
+        }
+
+        @Test
+        @DisplayName("L'index suit les renommages et les suppressions")
+        void suitRenommagesEtSuppressions() throws ValidationException {
+            Client client = nouveauClient("Alpha Conseil");
+            Client supprime = nouveauClient("Alpha Industrie");
+            clientRepo.add(client);
+            clientRepo.add(supprime);
+
+            client.setRaisonSociale("Omega Conseil");
+            clientRepo.delete(supprime.getId());
+
+            assertAll("Vérification de l'index",
+                    () -> assertTrue(clientRepo.rechercherParPrefixe("alpha", 10).isEmpty()),
+                    () -> assertEquals(List.of(client), clientRepo.rechercherParPrefixe("omega c", 10))
+            );
+        }
+
+        @Test
+        @DisplayName("Les correspondances sont trouvées à travers plusieurs blocs")
+        void plusieursBlocs() throws ValidationException {
+            for (int i = 0; i < 3000; i++) {
+                clientRepo.add(nouveauClient(String.format("Client %04d", (i * 7919) % 3000)));
+            }
+
+            List<Client> trouves = clientRepo.rechercherParPrefixe("client 1", 2000);
+
+            assertAll("Vérification de la plage trouvée",
+                    () -> assertEquals(1000, trouves.size()),
+                    () -> assertEquals("Client 1000", trouves.get(0).getRaisonSociale()),
+                    () -> assertEquals("Client 1999", trouves.get(999).getRaisonSociale())
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS RECHERCHE FILTRÉE ET TRIÉE
+    // ============================================================
+
+    @Nested
+    @DisplayName("Recherche filtrée et triée")
+    class RechercheFiltreeTests {
+
+        private Client ajouter(String raisonSociale, String codePostal, String ville, String email, long ca)
+                throws ValidationException {
+            Client client = new Client(raisonSociale, new Adresse("1", "Rue Haute", codePostal, ville),
+                    "0123456789", email, "", ca, 10);
+            clientRepo.add(client);
+            return client;
+        }
+
+        private List<String> noms(ResultatRecherche<Client> resultat) {
+            return resultat.getSocietes().stream().map(Client::getRaisonSociale).toList();
+        }
+
+        @BeforeEach
+        void setUp() throws ValidationException {
+            clientRepo = new ClientRepository(contratRepo, new RaisonSocialeIndex(), false);
+            ajouter("Garage Nord", "54000", "Nancy", "contact@garage.fr", 20_000);
+            ajouter("Cabinet Durand", "54390", "Frouard", "cabinet@durand.com", 80_000);
+            ajouter("Epicerie", "57000", "Metz", "epicerie@GARAGE.fr", 5_000);
+            ajouter("Atelier", "54000", "nancy", "atelier@atelier.org", 150_000);
+        }
+
+        @Test
+        @DisplayName("Chaque critère filtre par préfixe insensible à la casse")
+        void criteres() {
+            assertAll("Vérification des critères",
+                    () -> assertEquals(List.of("Atelier", "Garage Nord"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("", "NAN", "", "", null, null),
+                                    TriSocietes.RAISON_SOCIALE, true))),
+                    () -> assertEquals(List.of("Atelier", "Cabinet Durand", "Garage Nord"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("", "", "54", "", null, null),
+                                    TriSocietes.RAISON_SOCIALE, true))),
+                    () -> assertEquals(List.of("Epicerie", "Garage Nord"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("", "", "", "garage", null, null),
+                                    TriSocietes.RAISON_SOCIALE, true))),
+                    () -> assertEquals(List.of("Garage Nord"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("g", "", "54", "", null, null),
+                                    TriSocietes.RAISON_SOCIALE, true))),
+                    () -> assertEquals(4, clientRepo.rechercher(FiltreSocietes.AUCUN,
+                            TriSocietes.RAISON_SOCIALE, true).getSocietes().size())
+            );
+        }
+
+        @Test
+        @DisplayName("L'intervalle de chiffre d'affaires inclut ses bornes")
+        void intervalleChiffreAffaires() {
+            assertAll("Vérification de l'intervalle",
+                    () -> assertEquals(List.of("Cabinet Durand", "Garage Nord"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("", "", "", "", 20_000L, 80_000L),
+                                    TriSocietes.RAISON_SOCIALE, true))),
+                    () -> assertEquals(List.of("Atelier"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("", "", "", "", 100_000L, null),
+                                    TriSocietes.RAISON_SOCIALE, true))),
+                    () -> assertEquals(List.of("Epicerie"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("", "", "", "", null, 5_000L),
+                                    TriSocietes.RAISON_SOCIALE, true)))
+            );
+        }
+
+        @Test
+        @DisplayName("Le tri utilise les clés pré-calculées dans les deux sens")
+        void tri() {
+            ResultatRecherche<Client> decroissant = clientRepo.rechercher(FiltreSocietes.AUCUN,
+                    TriSocietes.CHIFFRE_AFFAIRES, false);
+
+            assertAll("Vérification du tri",
+                    () -> assertEquals(List.of("Atelier", "Cabinet Durand", "Garage Nord", "Epicerie"),
+                            noms(decroissant)),
+                    () -> assertEquals(List.of("Epicerie", "Garage Nord", "Cabinet Durand", "Atelier"),
+                            noms(clientRepo.rechercher(FiltreSocietes.AUCUN, TriSocietes.CHIFFRE_AFFAIRES, true))),
+                    () -> assertEquals(150_000L, decroissant.getCles()
+                            .get(decroissant.getSocietes().get(0).getId()).nombre())
+            );
+        }
+
+        @Test
+        @DisplayName("Le tri par total des contrats lit les agrégats du repository des contrats")
+        void triTotalContrats() throws ValidationException {
+            List<Client> clients = clientRepo.rechercher(FiltreSocietes.AUCUN, TriSocietes.RAISON_SOCIALE, true)
+                    .getSocietes();
+            contratRepo.add(new Contrat(clients.get(3).getId(), "Entretien", 1_200));  // Garage Nord
+            contratRepo.add(new Contrat(clients.get(3).getId(), "Flotte", 900));
+            contratRepo.add(new Contrat(clients.get(0).getId(), "Outillage", 1_500));  // Atelier
+
+            ResultatRecherche<Client> decroissant = clientRepo.rechercher(FiltreSocietes.AUCUN,
+                    TriSocietes.TOTAL_CONTRATS, false);
+
+            assertAll("Vérification du tri par total",
+                    () -> assertEquals(List.of("Garage Nord", "Atelier", "Epicerie", "Cabinet Durand"),
+                            noms(decroissant)),
+                    () -> assertEquals(210_000L, decroissant.getCles()
+                            .get(decroissant.getSocietes().get(0).getId()).nombre())
+            );
+        }
+
+        @Test
+        @DisplayName("Les index suivent les modifications de l'adresse et du chiffre d'affaires")
+        void suitModifications() throws ValidationException {
+            Client epicerie = clientRepo.rechercher(new FiltreSocietes("epi", "", "", "", null, null),
+                    TriSocietes.RAISON_SOCIALE, true).getSocietes().get(0);
+
+            epicerie.getAdresse().setVille("Nancy");
+            epicerie.setChiffreAffaires(500_000);
+            clientRepo.update(epicerie);
+
+            assertAll("Vérification des index après mise à jour",
+                    () -> assertEquals(List.of("Atelier", "Epicerie", "Garage Nord"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("", "nancy", "", "", null, null),
+                                    TriSocietes.RAISON_SOCIALE, true))),
+                    () -> assertTrue(clientRepo.rechercher(new FiltreSocietes("", "metz", "", "", null, null),
+                            TriSocietes.RAISON_SOCIALE, true).getSocietes().isEmpty()),
+                    () -> assertEquals(List.of("Epicerie"),
+                            noms(clientRepo.rechercher(new FiltreSocietes("", "", "", "", 200_000L, null),
+                                    TriSocietes.RAISON_SOCIALE, true)))
+            );
+        }
+
+        @Test
+        @DisplayName("Une recherche dont le thread est interrompu est abandonnée")
+        void interruption() {
+            Thread.currentThread().interrupt();
+            try {
+                assertThrows(CancellationException.class,
+                        () -> clientRepo.rechercher(FiltreSocietes.AUCUN, TriSocietes.EMAIL, true));
+            } finally {
+                Thread.interrupted();
+            }
+        }
+    }
+}
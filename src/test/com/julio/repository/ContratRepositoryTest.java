@@ -0,0 +1,191 @@
+package test.com.julio.repository;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Contrat;
+import main.com.julio.repository.AgregatContrats;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.EcouteurRepository;
+import main.com.julio.service.ValidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du repository des contrats")
+class ContratRepositoryTest {
+    private ContratRepository contratRepo;
+
+    @BeforeEach
+    void setUp() {
+        contratRepo = new ContratRepository();
+    }
+
+    @Test
+    @DisplayName("findByClientId ne retourne que les contrats du client")
+    void findByClientIdFiltreParClient() throws ValidationException {
+        Contrat c1 = new Contrat(1, "TMA ERP", 45000);
+        Contrat c2 = new Contrat(2, "Migration Cloud", 150000);
+        Contrat c3 = new Contrat(1, "Projet BI", 82000);
+        contratRepo.add(c1);
+        contratRepo.add(c2);
+        contratRepo.add(c3);
+
+        assertEquals(List.of(c1, c3), contratRepo.findByClientId(1),
+                "Seuls les contrats du client 1 devraient être retournés, dans l'ordre d'ajout");
+        assertTrue(contratRepo.findByClientId(3).isEmpty(),
+                "Un client sans contrat devrait retourner une liste vide");
+    }
+
+    @Test
+    @DisplayName("setClientId déplace le contrat dans l'index du nouveau client et notifie une modification")
+    void setClientIdReindexe() throws ValidationException {
+        Contrat contrat = new Contrat(1, "Audit", 22000);
+        contratRepo.add(contrat);
+        List<Contrat> modifies = new ArrayList<>();
+        contratRepo.ajouterEcouteur(new EcouteurRepository<>() {
+            @Override
+            public void entiteAjoutee(Contrat entite) {
+            }
+
+            @Override
+            public void entiteModifiee(Contrat entite) {
+                modifies.add(entite);
+            }
+
+            @Override
+            public void entiteSupprimee(int id) {
+            }
+        });
+
+        contrat.setClientId(2);
+
+        assertAll("Vérification du réindexage",
+                () -> assertTrue(contratRepo.findByClientId(1).isEmpty()),
+                () -> assertEquals(List.of(contrat), contratRepo.findByClientId(2)),
+                () -> assertEquals(List.of(contrat), modifies)
+        );
+    }
+
+    @Test
+    @DisplayName("delete retire le contrat des deux index")
+    void deleteRetireDesIndex() throws ValidationException {
+        Contrat contrat = new Contrat(1, "Support", 36000);
+        contratRepo.add(contrat);
+
+        assertTrue(contratRepo.delete(contrat.getId()));
+        assertAll("Vérification de la suppression",
+                () -> assertNull(contratRepo.findById(contrat.getId())),
+                () -> assertTrue(contratRepo.findByClientId(1).isEmpty()),
+                () -> assertFalse(contratRepo.delete(contrat.getId()))
+        );
+
+        // Un contrat supprimé n'est plus suivi par le repository
+        contrat.setClientId(2);
+        assertTrue(contratRepo.findByClientId(2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Les agrégats suivent ajouts, mises à jour et suppressions")
+    void agregatsMaintenus() throws ValidationException {
+        Contrat c1 = new Contrat(1, "TMA ERP", 45000);
+        Contrat c2 = new Contrat(1, "Projet BI", 82000.5);
+        contratRepo.add(c1);
+        contratRepo.add(c2);
+        assertEquals(new AgregatContrats(1, 2, 12_700_050, 8_200_050), contratRepo.agregat(1));
+
+        // Montant modifié en place puis mise à jour : l'ancien montant n'est plus compté
+        c2.setMontant(1000);
+        contratRepo.update(c2);
+        assertEquals(new AgregatContrats(1, 2, 4_600_000, 4_500_000), contratRepo.agregat(1));
+
+        contratRepo.delete(c1.getId());
+        assertAll("Vérification après suppression",
+                () -> assertEquals(new AgregatContrats(1, 1, 100_000, 100_000), contratRepo.agregat(1)),
+                () -> assertEquals(AgregatContrats.vide(3), contratRepo.agregat(3))
+        );
+    }
+
+    @Test
+    @DisplayName("Le chargement en masse regroupe les contrats par client et calcule leurs agrégats")
+    void chargementEnMasse() throws ValidationException {
+        Contrat c1 = new Contrat(1, "TMA ERP", 45000);
+        Contrat c2 = new Contrat(2, "Migration Cloud", 150000);
+        Contrat c3 = new Contrat(1, "Projet BI", 82000.5);
+        contratRepo.charger(List.of(c1, c2, c3));
+
+        c3.setClientId(2);
+
+        assertAll("Vérification du chargement",
+                () -> assertEquals(List.of(c1, c2, c3), contratRepo.findAll()),
+                () -> assertEquals(List.of(c1), contratRepo.findByClientId(1)),
+                () -> assertEquals(List.of(c2, c3), contratRepo.findByClientId(2),
+                        "Les contrats chargés devraient suivre leurs changements de client"),
+                () -> assertEquals(new AgregatContrats(1, 1, 4_500_000, 4_500_000), contratRepo.agregat(1)),
+                () -> assertEquals(new AgregatContrats(2, 2, 23_200_050, 15_000_000), contratRepo.agregat(2))
+        );
+    }
+
+    @Test
+    @DisplayName("Un changement de client déplace le montant d'un agrégat à l'autre")
+    void agregatsSuiventChangementClient() throws ValidationException {
+        Contrat contrat = new Contrat(1, "Audit", 22000);
+        contratRepo.add(contrat);
+        List<AgregatContrats> notifies = new ArrayList<>();
+        contratRepo.ajouterEcouteurAgregats(notifies::add);
+
+        contrat.setClientId(2);
+
+        assertAll("Vérification du déplacement",
+                () -> assertEquals(0, contratRepo.agregat(1).nombre()),
+                () -> assertEquals(2_200_000, contratRepo.agregat(2).totalCentimes()),
+                () -> assertEquals(List.of(AgregatContrats.vide(1), new AgregatContrats(2, 1, 2_200_000, 2_200_000)),
+                        notifies)
+        );
+    }
+
+    @Test
+    @DisplayName("Les totaux sont exacts au centime, sans erreur d'arrondi des doubles")
+    void totalExactAuCentime() throws ValidationException {
+        double somme = 0;
+        for (int i = 0; i < 10; i++) {
+            contratRepo.add(new Contrat(1, "Licence " + i, 0.1));
+            somme += 0.1;
+        }
+        contratRepo.add(new Contrat(1, "Arrondi", 1.005));
+
+        assertNotEquals(1.0, somme);  // La somme des doubles dérive
+        assertAll("Vérification des montants",
+                () -> assertEquals(new BigDecimal("2.01"), contratRepo.agregat(1).total()),
+                () -> assertEquals(new BigDecimal("1.01"), contratRepo.agregat(1).montantMax())
+        );
+    }
+
+    @Test
+    @DisplayName("Les plus gros montants acceptés se cumulent exactement")
+    void totalMontantsMaximaux() throws ValidationException {
+        for (int i = 0; i < 3; i++) {
+            contratRepo.add(new Contrat(1, "Concession " + i, ValidationService.MONTANT_MAX));
+        }
+
+        assertAll("Vérification des montants maximaux",
+                () -> assertEquals(new BigDecimal("3000000000000.00"), contratRepo.agregat(1).total()),
+                () -> assertEquals(new BigDecimal("1000000000000.00"), contratRepo.agregat(1).montantMax())
+        );
+    }
+
+    @Test
+    @DisplayName("Les montants non finis ou trop grands sont refusés par le contrat")
+    void montantsHorsLimites() {
+        assertAll("Vérification des montants refusés",
+                () -> assertThrows(ValidationException.class, () -> new Contrat(1, "Audit", 1e20)),
+                () -> assertThrows(ValidationException.class, () -> new Contrat(1, "Audit", Double.NaN)),
+                () -> assertThrows(ValidationException.class,
+                        () -> new Contrat(1, "Audit", Double.POSITIVE_INFINITY))
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package test.com.julio.repository;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Interesse;
+import main.com.julio.model.Prospect;
+import main.com.julio.model.Societe;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests d'accès concurrents aux repositories")
+class RepositoryConcurrenceTest {
+
+    private static final int NB_THREADS = 4;
+    private static final int NB_ITERATIONS = 300;
+
+    private RaisonSocialeIndex index;
+    private ContratRepository contratRepo;
+    private ClientRepository clientRepo;
+    private ProspectRepository prospectRepo;
+
+    @BeforeEach
+    void setUp() throws ValidationException {
+        index = new RaisonSocialeIndex();
+        contratRepo = new ContratRepository();
+        clientRepo = new ClientRepository(contratRepo, index, false);
+        prospectRepo = new ProspectRepository(index, false);
+    }
+
+    // ============================================================
+    // TESTS DE CHARGE CONCURRENTE
+    // ============================================================
+
+    @Test
+    @DisplayName("Ajouts, renommages, suppressions et lectures concurrents laissent des index cohérents")
+    void modificationsConcurrentes() throws Exception {
+        ExecutorService executeur = Executors.newFixedThreadPool(NB_THREADS * 2);
+        List<Future<?>> taches = new ArrayList<>();
+        for (int t = 0; t < NB_THREADS; t++) {
+            int numero = t;
+            taches.add(executeur.submit((Callable<Void>) () -> {
+                ecrire(numero);
+                return null;
+            }));
+            taches.add(executeur.submit((Callable<Void>) () -> {
+                lire();
+                return null;
+            }));
+        }
+        executeur.shutdown();
+        assertTrue(executeur.awaitTermination(1, TimeUnit.MINUTES), "Les threads devraient se terminer");
+        for (Future<?> tache : taches) {
+            // Propage toute exception levée dans un thread (ConcurrentModificationException, etc.)
+            tache.get();
+        }
+
+        List<Client> clients = clientRepo.findAll();
+        List<Prospect> prospects = prospectRepo.findAll();
+        assertAll("Vérification de la cohérence",
+                () -> assertEquals(NB_THREADS * NB_ITERATIONS / 2, clients.size()),
+                () -> assertEquals(clientRepo.getClients().size(), clients.size()),
+                () -> assertEquals(NB_THREADS * NB_ITERATIONS, prospects.size()),
+                () -> assertTrue(estTriee(clients), "La vue des clients devrait rester triée"),
+                () -> assertTrue(estTriee(prospects), "La vue des prospects devrait rester triée"),
+                () -> assertTrue(clients.stream().allMatch(c -> index.contient(c.getRaisonSociale(), -1)),
+                        "Chaque client devrait être indexé sous sa raison sociale actuelle"),
+                () -> assertTrue(prospects.stream().allMatch(p -> !index.contient(p.getRaisonSociale() + " (ancien)", -1)),
+                        "Les anciennes raisons sociales ne devraient plus être indexées"),
+                () -> assertEquals(clients.size(), contratRepo.findAll().size()),
+                () -> assertTrue(clients.stream().allMatch(c -> contratRepo.findByClientId(c.getId()).size() == 1),
+                        "Chaque client restant devrait avoir exactement un contrat indexé")
+        );
+    }
+
+    /**
+     * Un thread écrivain : crée des prospects et des clients avec contrat, renomme,
+     * puis supprime un client sur deux avec son contrat.
+     */
+    private void ecrire(int numero) throws ValidationException {
+        for (int i = 0; i < NB_ITERATIONS; i++) {
+            String suffixe = numero + "-" + i;
+            Prospect prospect = new Prospect("Prospect " + suffixe + " (ancien)", adresse(), "0456789012",
+                    "p@test.fr", "", LocalDate.of(2024, 3, 15), Interesse.OUI);
+            prospectRepo.add(prospect);
+            prospect.setRaisonSociale("Prospect " + suffixe);
+            prospectRepo.update(prospect);
+
+            Client client = new Client("Client " + suffixe, adresse(), "0123456789", "c@test.fr", null, 1000, 10);
+            clientRepo.add(client);
+            Contrat contrat = new Contrat(Integer.MAX_VALUE, "Contrat " + suffixe, 1000);
+            contratRepo.add(contrat);
+            contrat.setClientId(client.getId());
+            client.setRaisonSociale("Client renommé " + suffixe);
+
+            if (i % 2 == 1) {
+                clientRepo.delete(client.getId());
+                contratRepo.delete(contrat.getId());
+            }
+        }
+    }
+
+    /**
+     * Un thread lecteur : parcourt les vues et les index pendant les écritures.
+     * L'ordre n'est pas vérifié ici : un renommage modifie l'entité avant que la
+     * vue ne soit repositionnée.
+     */
+    private void lire() {
+        for (int i = 0; i < NB_ITERATIONS; i++) {
+            for (Client client : clientRepo.findAll()) {
+                contratRepo.findByClientId(client.getId());
+            }
+            prospectRepo.findAll().forEach(p -> prospectRepo.findById(p.getId()));
+            index.contient("Client renommé 0-" + i, -1);
+            contratRepo.findAll();
+        }
+    }
+
+    private static boolean estTriee(List<? extends Societe> societes) {
+        for (int i = 1; i < societes.size(); i++) {
+            if (societes.get(i - 1).getRaisonSociale().compareTo(societes.get(i).getRaisonSociale()) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Adresse adresse() throws ValidationException {
+        return new Adresse("1", "Rue de Metz", "54000", "Nancy");
+    }
+}
@@ -0,0 +1,250 @@
+package test.com.julio.service;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Prospect;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.ExportService;
+import main.com.julio.service.FormatColonnes;
+import main.com.julio.service.ImportCsvService;
+import main.com.julio.service.LecteurColonnes;
+import main.com.julio.service.RapportImport;
+import main.com.julio.service.TypeEnregistrement;
+import main.com.julio.service.UnicityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests de l'export CSV et en colonnes")
+class ExportServiceTest {
+
+    @TempDir
+    Path dossier;
+
+    private ClientRepository clientRepo;
+    private ProspectRepository prospectRepo;
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() throws ValidationException {
+        Adresse.resetCompteur();
+        Client.resetCompteur();
+        Prospect.resetCompteur();
+
+        // Données de démonstration : IBM, Apple, Microsoft (6 contrats) / Boulangerie, Supermarché
+        RaisonSocialeIndex index = new RaisonSocialeIndex();
+        clientRepo = new ClientRepository(new ContratRepository(), index);
+        prospectRepo = new ProspectRepository(index);
+        exportService = new ExportService(clientRepo, prospectRepo);
+    }
+
+    // ============================================================
+    // TESTS EXPORT CSV
+    // ============================================================
+
+    @Nested
+    @DisplayName("Export CSV")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Le fichier CSV a un en-tête aux libellés des champs et des valeurs lisibles")
+        void contenu() throws IOException {
+            Path csv = dossier.resolve("contrats.csv");
+
+            long nb = exportService.exporterCsv(csv, TypeEnregistrement.CONTRAT);
+
+            List<String> lignes = Files.readAllLines(csv, StandardCharsets.UTF_8);
+            int ibm = clientRepo.rechercherParPrefixe("IBM", 1).get(0).getId();
+            assertAll("Vérification du fichier",
+                    () -> assertEquals(6, nb),
+                    () -> assertEquals(7, lignes.size()),
+                    () -> assertEquals("\uFEFFIdentifiant;ID client;Nom du contrat;Montant", lignes.get(0)),
+                    () -> assertTrue(lignes.contains(
+                            clientRepo.rechercherParPrefixe("IBM", 1).get(0).getContrats().get(0).getId()
+                                    + ";" + ibm + ";TMA ERP;45000.00")),
+                    () -> assertFalse(Files.exists(dossier.resolve("contrats.csv.tmp")))
+            );
+        }
+
+        @Test
+        @DisplayName("Un export de clients et de prospects se réimporte à l'identique")
+        void allerRetour() throws Exception {
+            Client client = clientRepo.rechercherParPrefixe("IBM", 1).get(0);
+            client.setCommentaires("Ligne 1; \"important\"\nLigne 2");
+            Path clients = dossier.resolve("clients.csv");
+            Path prospects = dossier.resolve("prospects.csv");
+            exportService.exporterCsv(clients, TypeEnregistrement.CLIENT);
+            exportService.exporterCsv(prospects, TypeEnregistrement.PROSPECT);
+
+            RaisonSocialeIndex index = new RaisonSocialeIndex();
+            ClientRepository autresClients = new ClientRepository(new ContratRepository(), index, false);
+            ProspectRepository autresProspects = new ProspectRepository(index, false);
+            ImportCsvService importCsv = new ImportCsvService(autresClients, autresProspects,
+                    new ContratRepository(), new UnicityService(autresClients, autresProspects));
+            RapportImport rapportClients = importCsv.importer(clients, TypeEnregistrement.CLIENT);
+            RapportImport rapportProspects = importCsv.importer(prospects, TypeEnregistrement.PROSPECT);
+
+            Client relu = autresClients.rechercherParPrefixe("IBM", 1).get(0);
+            Prospect prospect = prospectRepo.findAll().get(0);
+            Prospect prospectRelu = autresProspects.rechercherParPrefixe(prospect.getRaisonSociale(), 1).get(0);
+            assertAll("Vérification de l'import",
+                    () -> assertEquals(3, rapportClients.nbImportes()),
+                    () -> assertEquals(0, rapportClients.nbRejetes()),
+                    () -> assertEquals(2, rapportProspects.nbImportes()),
+                    () -> assertEquals(client.getCommentaires(), relu.getCommentaires()),
+                    () -> assertEquals(client.getAdresse().getNomRue(), relu.getAdresse().getNomRue()),
+                    () -> assertEquals(client.getChiffreAffaires(), relu.getChiffreAffaires()),
+                    () -> assertEquals(prospect.getDateProspection(), prospectRelu.getDateProspection()),
+                    () -> assertEquals(prospect.getInteresse(), prospectRelu.getInteresse())
+            );
+        }
+
+        @Test
+        @DisplayName("Un export interrompu ne laisse aucun fichier")
+        void interruption() throws ValidationException {
+            List<Client> clients = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                clients.add(new Client("Société " + i, new Adresse("1", "rue", "54000", "Nancy"),
+                        "0383000000", "s@x.fr", "", 1_000, 1));
+            }
+            clientRepo.addAll(clients);
+            Path csv = dossier.resolve("clients.csv");
+
+            Thread.currentThread().interrupt();
+            try {
+                assertThrows(InterruptedIOException.class, () -> exportService.exporterCsv(csv, TypeEnregistrement.CLIENT));
+            } finally {
+                Thread.interrupted();
+            }
+            assertAll("Vérification",
+                    () -> assertFalse(Files.exists(csv)),
+                    () -> assertFalse(Files.exists(dossier.resolve("clients.csv.tmp")))
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS EXPORT EN COLONNES
+    // ============================================================
+
+    @Nested
+    @DisplayName("Export en colonnes")
+    class ColonnesTests {
+
+        @Test
+        @DisplayName("Les valeurs relues sur plusieurs groupes sont celles des entités exportées")
+        void plusieursGroupes() throws Exception {
+            int nb = FormatColonnes.TAILLE_GROUPE + 1_000;
+            List<Client> clients = new ArrayList<>();
+            String[] villes = {"Nancy", "Metz", "Épinal"};
+            for (int i = 0; i < nb; i++) {
+                clients.add(new Client("Société " + i, new Adresse(Integer.toString(i % 300 + 1), "rue des Lilas",
+                        "5400" + i % 3, villes[i % 3]), "0383000000", "s" + i + "@x.fr",
+                        i % 2 == 0 ? null : "client n°" + i, 1_000L + i, i % 50 + 1));
+            }
+            clientRepo.addAll(clients);
+            Path fichier = dossier.resolve("clients" + FormatColonnes.EXTENSION);
+
+            long exportes = exportService.exporterColonnes(fichier, TypeEnregistrement.CLIENT);
+
+            List<Integer> taillesGroupes = new ArrayList<>();
+            Set<Long> ids = new HashSet<>();
+            boolean valeursConformes = true;
+            try (LecteurColonnes lecteur = new LecteurColonnes(fichier)) {
+                int id = lecteur.colonne("id");
+                int ville = lecteur.colonne("ville");
+                int codePostal = lecteur.colonne("code_postal");
+                int chiffreAffaires = lecteur.colonne("chiffre_affaires");
+                int commentaires = lecteur.colonne("commentaires");
+                assertAll("Vérification de l'en-tête",
+                        () -> assertEquals(11, lecteur.nbColonnes()),
+                        () -> assertEquals(FormatColonnes.Type.DICTIONNAIRE, lecteur.type(ville)),
+                        () -> assertEquals(FormatColonnes.Type.ENTIER, lecteur.type(chiffreAffaires)),
+                        () -> assertEquals(-1, lecteur.colonne("date_prospection"))
+                );
+                while (lecteur.suivant()) {
+                    taillesGroupes.add(lecteur.nbLignes());
+                    for (int ligne = 0; ligne < lecteur.nbLignes(); ligne++) {
+                        ids.add(lecteur.entier(id, ligne));
+                        Client client = clientRepo.findById((int) lecteur.entier(id, ligne));
+                        String attendu = client.getCommentaires() == null ? "" : client.getCommentaires();
+                        valeursConformes &= client.getAdresse().getVille().equals(lecteur.texte(ville, ligne))
+                                && client.getAdresse().getCodePostal().equals(lecteur.texte(codePostal, ligne))
+                                && client.getChiffreAffaires() == lecteur.entier(chiffreAffaires, ligne)
+                                && attendu.equals(lecteur.texte(commentaires, ligne));
+                    }
+                }
+            }
+
+            boolean conformes = valeursConformes;
+            assertAll("Vérification des valeurs",
+                    () -> assertEquals(nb + 3, exportes),
+                    () -> assertEquals(List.of(FormatColonnes.TAILLE_GROUPE, 1_003), taillesGroupes),
+                    () -> assertEquals(nb + 3, ids.size()),
+                    () -> assertTrue(conformes)
+            );
+        }
+
+        @Test
+        @DisplayName("Prospects et contrats : dates, intérêt et montants relus")
+        void prospectsEtContrats() throws IOException {
+            Path prospects = dossier.resolve("prospects" + FormatColonnes.EXTENSION);
+            Path contrats = dossier.resolve("contrats" + FormatColonnes.EXTENSION);
+            exportService.exporterColonnes(prospects, TypeEnregistrement.PROSPECT);
+            exportService.exporterColonnes(contrats, TypeEnregistrement.CONTRAT);
+
+            Prospect prospect = prospectRepo.findAll().get(0);
+            LocalDate date;
+            String interesse;
+            try (LecteurColonnes lecteur = new LecteurColonnes(prospects)) {
+                assertTrue(lecteur.suivant());
+                date = lecteur.date(lecteur.colonne("date_prospection"), 0);
+                interesse = lecteur.texte(lecteur.colonne("interesse"), 0);
+                assertFalse(lecteur.suivant());
+            }
+            double total = 0;
+            try (LecteurColonnes lecteur = new LecteurColonnes(contrats)) {
+                int montant = lecteur.colonne("montant");
+                while (lecteur.suivant()) {
+                    for (int ligne = 0; ligne < lecteur.nbLignes(); ligne++) {
+                        total += lecteur.decimal(montant, ligne);
+                    }
+                }
+            }
+
+            double totalContrats = total;
+            assertAll("Vérification des valeurs",
+                    () -> assertEquals(prospect.getDateProspection(), date),
+                    () -> assertEquals(prospect.getInteresse().getLibelle(), interesse),
+                    () -> assertEquals(45_000 + 82_000 + 150_000 + 36_000 + 22_000 + 28_000, totalContrats)
+            );
+        }
+
+        @Test
+        @DisplayName("Un fichier qui n'est pas au format en colonnes est refusé")
+        void fichierInvalide() throws IOException {
+            Path fichier = Files.writeString(dossier.resolve("faux.jcol"), "Raison sociale;Ville\n");
+
+            assertThrows(IOException.class, () -> new LecteurColonnes(fichier));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package test.com.julio.service;
+
+import main.com.julio.service.FormatterLog;
+import main.com.julio.service.HandlerFichier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du formatage et de l'écriture des logs")
+class FormatterLogTest {
+
+    @TempDir
+    Path dossier;
+
+    private static LogRecord record(String message, Instant instant) {
+        LogRecord record = new LogRecord(Level.WARNING, message);
+        record.setInstant(instant);
+        record.setSourceClassName("main.com.julio.viewmodel.ClientViewModel");
+        record.setSourceMethodName("creerClient");
+        return record;
+    }
+
+    private static Instant instant(int heure, int minute, int seconde) {
+        return LocalDateTime.of(2025, 11, 20, heure, minute, seconde).atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    @Test
+    @DisplayName("L'entrée est horodatée avec l'instant de l'enregistrement")
+    void horodatageDeLEnregistrement() {
+        FormatterLog formatter = new FormatterLog();
+
+        String premiere = formatter.format(record("Client créé", instant(9, 15, 32).plusMillis(400)));
+        String seconde = formatter.format(record("Client modifié", instant(9, 15, 33)));
+
+        assertAll("Vérification du format",
+                () -> assertEquals("20/11/2025 09:15:32 Level : WARNING / Message : Client créé"
+                        + " / Classe :main.com.julio.viewmodel.ClientViewModel / Methode :creerClient\n", premiere),
+                () -> assertTrue(seconde.startsWith("20/11/2025 09:15:33 Level"))
+        );
+    }
+
+    @Test
+    @DisplayName("Le handler fichier écrit les entrées en UTF-8, au-delà de la taille de son tampon")
+    void ecritureFichier() throws IOException {
+        Path fichier = dossier.resolve("application.log");
+        Files.writeString(fichier, "ancienne ligne\n");
+        HandlerFichier handler = new HandlerFichier(fichier, new FormatterLog());
+        String messageLong = "é".repeat(100_000);
+
+        handler.publish(record("Société créée", instant(10, 0, 0)));
+        handler.publish(record(messageLong, instant(10, 0, 1)));
+        handler.close();
+        handler.publish(record("après fermeture", instant(10, 0, 2)));
+
+        List<String> lignes = Files.readAllLines(fichier, StandardCharsets.UTF_8);
+        assertAll("Vérification du fichier",
+                () -> assertEquals(3, lignes.size()),
+                () -> assertEquals("ancienne ligne", lignes.get(0)),
+                () -> assertTrue(lignes.get(1).contains("Message : Société créée /")),
+                () -> assertTrue(lignes.get(2).contains(messageLong))
+        );
+    }
+}
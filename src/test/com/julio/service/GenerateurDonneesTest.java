@@ -0,0 +1,199 @@
+package test.com.julio.service;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Prospect;
+import main.com.julio.model.Societe;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.GenerateurDonnees;
+import main.com.julio.service.ValidationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du générateur de jeux de données")
+class GenerateurDonneesTest {
+
+    private static final LocalDate REFERENCE = LocalDate.of(2025, 11, 19);
+
+    // Plus d'un lot, pour couvrir la génération parallèle
+    private static final int NB = GenerateurDonnees.TAILLE_LOT * 2 + 500;
+
+    // ============================================================
+    // TESTS DÉTERMINISME
+    // ============================================================
+
+    @Nested
+    @DisplayName("Déterminisme")
+    class Determinisme {
+
+        @Test
+        @DisplayName("Même graine : même contenu, dans le même ordre (hors identifiants)")
+        void testMemeGraine() {
+            GenerateurDonnees generateur = new GenerateurDonnees(7, REFERENCE);
+
+            assertAll(
+                    () -> assertEquals(decrireClients(generateur.genererClients(NB)),
+                            decrireClients(new GenerateurDonnees(7, REFERENCE).genererClients(NB))),
+                    () -> assertEquals(decrireProspects(generateur.genererProspects(NB)),
+                            decrireProspects(new GenerateurDonnees(7, REFERENCE).genererProspects(NB)))
+            );
+        }
+
+        @Test
+        @DisplayName("Graines différentes : contenus différents")
+        void testGrainesDifferentes() {
+            assertNotEquals(decrireClients(new GenerateurDonnees(1, REFERENCE).genererClients(100)),
+                    decrireClients(new GenerateurDonnees(2, REFERENCE).genererClients(100)));
+        }
+
+        @Test
+        @DisplayName("Les premiers lots ne dépendent pas du nombre total demandé")
+        void testPrefixeStable() {
+            List<String> petit = decrireClients(new GenerateurDonnees(7, REFERENCE).genererClients(1_000));
+            List<String> grand = decrireClients(new GenerateurDonnees(7, REFERENCE).genererClients(NB));
+
+            assertEquals(petit, grand.subList(0, 1_000));
+        }
+    }
+
+    // ============================================================
+    // TESTS VALIDITÉ
+    // ============================================================
+
+    @Nested
+    @DisplayName("Validité des données")
+    class Validite {
+
+        @Test
+        @DisplayName("Clients valides, raisons sociales uniques, contrats rattachés à leur client")
+        void testClients() {
+            List<Client> clients = new GenerateurDonnees(3, REFERENCE).genererClients(NB);
+
+            Set<String> raisonsSociales = new HashSet<>();
+            Set<Integer> idsContrats = new HashSet<>();
+            int nbContrats = 0;
+            for (Client client : clients) {
+                verifierSociete(client, raisonsSociales);
+                assertTrue(client.getChiffreAffaires() >= 200);
+                assertTrue(client.getNbEmployes() >= 1);
+                assertTrue(client.getContrats().size() <= GenerateurDonnees.NB_CONTRATS_MAX);
+                for (Contrat contrat : client.getContrats()) {
+                    assertEquals(client.getId(), contrat.getClientId());
+                    assertTrue(contrat.getMontant() > 0);
+                    assertTrue(idsContrats.add(contrat.getId()), "Identifiant de contrat dupliqué");
+                    nbContrats++;
+                }
+            }
+
+            // En moyenne deux contrats par client environ
+            double moyenne = (double) nbContrats / NB;
+            assertTrue(moyenne > 1.5 && moyenne < 2.5, "Moyenne de contrats par client : " + moyenne);
+        }
+
+        @Test
+        @DisplayName("Prospects valides, prospectés dans les trois années précédant la référence")
+        void testProspects() {
+            List<Prospect> prospects = new GenerateurDonnees(3, REFERENCE).genererProspects(NB);
+
+            Set<String> raisonsSociales = new HashSet<>();
+            for (Prospect prospect : prospects) {
+                verifierSociete(prospect, raisonsSociales);
+                assertFalse(prospect.getDateProspection().isAfter(REFERENCE));
+                assertTrue(prospect.getDateProspection().isAfter(REFERENCE.minusYears(3)));
+                assertNotNull(prospect.getInteresse());
+            }
+        }
+
+        @Test
+        @DisplayName("Clients et prospects n'ont jamais la même raison sociale")
+        void testRaisonsSocialesDistinctes() {
+            GenerateurDonnees generateur = new GenerateurDonnees(3, REFERENCE);
+
+            Set<String> raisonsSociales = new HashSet<>();
+            generateur.genererClients(5_000).forEach(c -> raisonsSociales.add(c.getRaisonSociale()));
+            generateur.genererProspects(5_000).forEach(p -> raisonsSociales.add(p.getRaisonSociale()));
+
+            assertEquals(10_000, raisonsSociales.size());
+        }
+
+        private void verifierSociete(Societe societe, Set<String> raisonsSociales) {
+            Adresse adresse = societe.getAdresse();
+            assertAll(
+                    () -> assertTrue(raisonsSociales.add(RaisonSocialeIndex.plier(societe.getRaisonSociale())),
+                            "Raison sociale dupliquée : " + societe.getRaisonSociale()),
+                    () -> assertTrue(ValidationService.isValidTelephone(societe.getTelephone()),
+                            societe.getTelephone()),
+                    () -> assertTrue(ValidationService.isValidEmail(societe.getEmail()), societe.getEmail()),
+                    () -> assertTrue(ValidationService.isValidCodePostal(adresse.getCodePostal()),
+                            adresse.getCodePostal()),
+                    () -> assertFalse(adresse.getVille().isBlank())
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS PEUPLEMENT DES REPOSITORIES
+    // ============================================================
+
+    @Nested
+    @DisplayName("Peuplement des repositories")
+    class Peuplement {
+
+        @Test
+        @DisplayName("Ajoute clients, contrats et prospects, indexés pour l'unicité")
+        void testPeupler() throws ValidationException {
+            RaisonSocialeIndex index = new RaisonSocialeIndex();
+            ContratRepository contratRepo = new ContratRepository();
+            ClientRepository clientRepo = new ClientRepository(contratRepo, index, false);
+            ProspectRepository prospectRepo = new ProspectRepository(index, false);
+
+            new GenerateurDonnees(5, REFERENCE).peupler(clientRepo, contratRepo, prospectRepo, NB, 1_000);
+
+            List<Client> clients = clientRepo.findAll();
+            int nbContrats = clients.stream().mapToInt(c -> c.getContrats().size()).sum();
+            Client client = clients.get(clients.size() / 2);
+            assertAll(
+                    () -> assertEquals(NB, clients.size()),
+                    () -> assertEquals(1_000, prospectRepo.findAll().size()),
+                    () -> assertEquals(nbContrats, contratRepo.findAll().size()),
+                    () -> assertEquals(client.getContrats().size(), contratRepo.findByClientId(client.getId()).size()),
+                    () -> assertSame(client, clientRepo.findById(client.getId())),
+                    () -> assertTrue(index.contient(client.getRaisonSociale(), -1))
+            );
+        }
+    }
+
+    // ============================================================
+    // UTILITAIRES
+    // ============================================================
+
+    private static List<String> decrireClients(List<Client> clients) {
+        return clients.stream().map(c -> decrire(c) + "|" + c.getChiffreAffaires() + "|" + c.getNbEmployes() + "|"
+                + c.getContrats().stream().map(k -> k.getNomContrat() + "=" + k.getMontant()).toList()).toList();
+    }
+
+    private static List<String> decrireProspects(List<Prospect> prospects) {
+        return prospects.stream()
+                .map(p -> decrire(p) + "|" + p.getDateProspection() + "|" + p.getInteresse()).toList();
+    }
+
+    private static String decrire(Societe societe) {
+        Adresse adresse = societe.getAdresse();
+        return String.join("|", societe.getRaisonSociale(), adresse.getNumeroRue(), adresse.getNomRue(),
+                adresse.getCodePostal(), adresse.getVille(), societe.getTelephone(), societe.getEmail(),
+                societe.getCommentaires());
+    }
+}
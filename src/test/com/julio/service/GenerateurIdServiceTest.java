@@ -0,0 +1,125 @@
+package test.com.julio.service;
+
+import main.com.julio.service.GenerateurIdService;
+import main.com.julio.service.GenerateurIdService.Reservation;
+import main.com.julio.service.GenerateurIdService.Sequence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du générateur d'identifiants")
+class GenerateurIdServiceTest {
+
+    @TempDir
+    Path dossier;
+
+    @BeforeEach
+    void setUp() {
+        GenerateurIdService.reinitialiser(Sequence.CONTRAT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GenerateurIdService.desactiverPersistance();
+    }
+
+    // ============================================================
+    // TESTS ATTRIBUTION
+    // ============================================================
+
+    @Nested
+    @DisplayName("Attribution des identifiants")
+    class AttributionTests {
+
+        @Test
+        @DisplayName("Des créations concurrentes n'obtiennent jamais le même identifiant")
+        void attributionConcurrente() throws Exception {
+            int nbThreads = 8;
+            int parThread = 10_000;
+            ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+            try {
+                List<Callable<int[]>> taches = new ArrayList<>();
+                for (int t = 0; t < nbThreads; t++) {
+                    taches.add(() -> {
+                        int[] ids = new int[parThread];
+                        for (int i = 0; i < parThread; i++) {
+                            ids[i] = GenerateurIdService.prochain(Sequence.CONTRAT);
+                        }
+                        return ids;
+                    });
+                }
+                Set<Integer> vus = new HashSet<>();
+                for (Future<int[]> resultat : executor.invokeAll(taches)) {
+                    for (int id : resultat.get()) {
+                        assertTrue(vus.add(id), "L'identifiant " + id + " a été attribué deux fois");
+                    }
+                }
+                assertEquals(nbThreads * parThread, vus.size());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Un bloc réservé distribue ses identifiants, le compteur partagé reprend après le bloc")
+        void reservationBloc() {
+            int avant = GenerateurIdService.prochain(Sequence.CONTRAT);
+            Reservation reservation = GenerateurIdService.reserverBloc(Sequence.CONTRAT, 3);
+            int pendant = GenerateurIdService.prochain(Sequence.CONTRAT);
+            int premier = reservation.suivant();
+            reservation.suivant();
+            int dernier = reservation.suivant();
+
+            assertAll("Vérification du bloc",
+                    () -> assertEquals(avant + 1, premier),
+                    () -> assertEquals(premier + 2, dernier),
+                    () -> assertEquals(dernier + 1, pendant),
+                    () -> assertEquals(0, reservation.getRestants()),
+                    () -> assertThrows(IllegalStateException.class, reservation::suivant)
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS PERSISTANCE DU PLAFOND
+    // ============================================================
+
+    @Nested
+    @DisplayName("Persistance du plafond")
+    class PersistanceTests {
+
+        @Test
+        @DisplayName("Après un redémarrage, les identifiants reprennent au-delà du plafond persisté")
+        void repriseApresRedemarrage() throws Exception {
+            Path fichier = dossier.resolve("identifiants.bin");
+            GenerateurIdService.activerPersistance(fichier);
+            int dernier = 0;
+            for (int i = 0; i < GenerateurIdService.TAILLE_TRANCHE * 2; i++) {
+                dernier = GenerateurIdService.prochain(Sequence.CONTRAT);
+            }
+
+            // Redémarrage simulé : compteurs perdus, seul le fichier subsiste
+            GenerateurIdService.desactiverPersistance();
+            GenerateurIdService.reinitialiser(Sequence.CONTRAT);
+            GenerateurIdService.activerPersistance(fichier);
+
+            assertTrue(GenerateurIdService.prochain(Sequence.CONTRAT) > dernier,
+                    "Un identifiant déjà attribué ne devrait jamais être réattribué");
+        }
+    }
+}
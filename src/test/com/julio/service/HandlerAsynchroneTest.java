@@ -0,0 +1,290 @@
+package test.com.julio.service;
+
+import main.com.julio.service.HandlerAsynchrone;
+import main.com.julio.service.PolitiqueDebordement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du handler de logs asynchrone")
+class HandlerAsynchroneTest {
+
+    private final Cible cible = new Cible();
+    private HandlerAsynchrone handler;
+
+    @AfterEach
+    void tearDown() {
+        cible.debloquer();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    /**
+     * Handler cible mémorisant les messages reçus, bloquable pour simuler un disque lent.
+     */
+    private static final class Cible extends Handler {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch deblocage = new CountDownLatch(1);
+        final CountDownLatch premierRecu = new CountDownLatch(1);
+        volatile boolean bloquee;
+        volatile int vidages;
+        volatile boolean fermee;
+
+        @Override
+        public void publish(LogRecord record) {
+            premierRecu.countDown();
+            if (bloquee) {
+                try {
+                    deblocage.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(record.getMessage());
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void flush() {
+            vidages++;
+        }
+
+        @Override
+        public void close() {
+            fermee = true;
+        }
+
+        void debloquer() {
+            deblocage.countDown();
+        }
+    }
+
+    private static LogRecord record(Level niveau, String message) {
+        return new LogRecord(niveau, message);
+    }
+
+    // ============================================================
+    // TESTS ÉCRITURE ASYNCHRONE
+    // ============================================================
+
+    @Nested
+    @DisplayName("Écriture par le thread dédié")
+    class EcritureTests {
+
+        @Test
+        @DisplayName("Les enregistrements sont écrits dans l'ordre par le thread de journalisation")
+        void ordreEtThread() {
+            handler = new HandlerAsynchrone(cible, 64, PolitiqueDebordement.BLOQUER);
+            for (int i = 0; i < 1000; i++) {
+                handler.publish(record(Level.INFO, "m" + i));
+            }
+            handler.flush();
+
+            assertAll("Vérification de l'écriture",
+                    () -> assertEquals(1000, cible.messages.size()),
+                    () -> assertEquals("m0", cible.messages.get(0)),
+                    () -> assertEquals("m999", cible.messages.get(999)),
+                    () -> assertTrue(cible.threads.stream().allMatch("journalisation"::equals)),
+                    () -> assertTrue(cible.vidages < 1000, "Un vidage par lot, pas par enregistrement")
+            );
+        }
+
+        @Test
+        @DisplayName("La publication ne subit pas la lenteur du handler cible")
+        void publicationNonBloquante() throws InterruptedException {
+            cible.bloquee = true;
+            handler = new HandlerAsynchrone(cible, 64, PolitiqueDebordement.BLOQUER);
+
+            handler.publish(record(Level.INFO, "lent"));
+            assertTrue(cible.premierRecu.await(5, TimeUnit.SECONDS));
+            long debut = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                handler.publish(record(Level.INFO, "m" + i));
+            }
+            long dureeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut);
+
+            assertTrue(dureeMs < 1000, "Publication bloquée " + dureeMs + " ms");
+        }
+
+        @Test
+        @DisplayName("Un enregistrement publié pendant la fermeture est écrit avant la fermeture de la cible")
+        void publicationPendantFermeture() throws InterruptedException {
+            cible.bloquee = true;
+            handler = new HandlerAsynchrone(cible, 64, PolitiqueDebordement.BLOQUER);
+            handler.publish(record(Level.INFO, "lent"));
+            assertTrue(cible.premierRecu.await(5, TimeUnit.SECONDS));
+
+            // Fermeture en attente du thread d'écriture, bloqué dans la cible
+            Thread fermeture = new Thread(handler::close);
+            fermeture.start();
+            attendreEtat(fermeture, Thread.State.TIMED_WAITING);
+            Thread tardif = new Thread(() -> handler.publish(record(Level.SEVERE, "pendant fermeture")));
+            tardif.start();
+            attendreEtat(tardif, Thread.State.BLOCKED);
+            cible.debloquer();
+            fermeture.join(10_000);
+            tardif.join(10_000);
+
+            assertAll("Vérification de l'écriture directe",
+                    () -> assertEquals(List.of("lent", "pendant fermeture"), cible.messages),
+                    () -> assertTrue(cible.fermee)
+            );
+        }
+
+        private void attendreEtat(Thread thread, Thread.State etat) throws InterruptedException {
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (thread.getState() != etat && System.nanoTime() < limite) {
+                Thread.sleep(1);
+            }
+            assertEquals(etat, thread.getState());
+        }
+
+        @Test
+        @DisplayName("La fermeture écrit tous les enregistrements en attente puis ferme la cible")
+        void fermetureVideLeTampon() {
+            handler = new HandlerAsynchrone(cible, 4096, PolitiqueDebordement.BLOQUER);
+            for (int i = 0; i < 3000; i++) {
+                handler.publish(record(Level.INFO, "m" + i));
+            }
+            handler.close();
+            handler.publish(record(Level.INFO, "après fermeture"));
+
+            assertAll("Vérification de la fermeture",
+                    () -> assertEquals(3000, cible.messages.size()),
+                    () -> assertTrue(cible.fermee),
+                    () -> assertFalse(cible.messages.contains("après fermeture"))
+            );
+        }
+
+        @Test
+        @DisplayName("La classe source est déterminée sur le thread appelant")
+        void sourceFigee() {
+            handler = new HandlerAsynchrone(new Handler() {
+                @Override
+                public void publish(LogRecord record) {
+                    cible.messages.add(record.getSourceClassName());
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            }, 64, PolitiqueDebordement.BLOQUER);
+
+            java.util.logging.Logger logger = java.util.logging.Logger.getAnonymousLogger();
+            logger.setUseParentHandlers(false);
+            logger.addHandler(handler);
+            logger.info("source");
+            handler.flush();
+
+            assertEquals(List.of(HandlerAsynchroneTest.EcritureTests.class.getName()), cible.messages);
+        }
+    }
+
+    // ============================================================
+    // TESTS POLITIQUES DE DÉBORDEMENT
+    // ============================================================
+
+    @Nested
+    @DisplayName("Politiques de débordement")
+    class DebordementTests {
+
+        /**
+         * Remplit le tampon derrière un premier enregistrement bloqué dans la cible.
+         */
+        private void saturer(PolitiqueDebordement politique, int nb) throws InterruptedException {
+            cible.bloquee = true;
+            handler = new HandlerAsynchrone(cible, 8, politique);
+            handler.publish(record(Level.INFO, "bloquant"));
+            assertTrue(cible.premierRecu.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < nb; i++) {
+                handler.publish(record(i == nb - 1 ? Level.SEVERE : Level.INFO, "m" + i));
+            }
+        }
+
+        @Test
+        @DisplayName("SUPPRIMER_PLUS_ANCIEN conserve les derniers enregistrements et signale les autres")
+        void supprimerPlusAncien() throws InterruptedException {
+            saturer(PolitiqueDebordement.SUPPRIMER_PLUS_ANCIEN, 20);
+            long ecartes = handler.getEcartes();
+            cible.debloquer();
+            handler.close();
+
+            assertAll("Vérification des enregistrements conservés",
+                    () -> assertEquals(12, ecartes),
+                    () -> assertEquals("bloquant", cible.messages.get(0)),
+                    () -> assertEquals("m12", cible.messages.get(1)),
+                    () -> assertTrue(cible.messages.contains("m19")),
+                    () -> assertTrue(cible.messages.get(cible.messages.size() - 1).startsWith("12 enregistrement(s)"))
+            );
+        }
+
+        @Test
+        @DisplayName("ECHANTILLONNER écarte sans attendre et conserve toujours SEVERE")
+        void echantillonner() throws InterruptedException {
+            cible.bloquee = true;
+            handler = new HandlerAsynchrone(cible, 8, PolitiqueDebordement.ECHANTILLONNER);
+            handler.publish(record(Level.INFO, "bloquant"));
+            assertTrue(cible.premierRecu.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 8; i++) {
+                handler.publish(record(Level.INFO, "m" + i));  // Remplit le tampon
+            }
+            for (int i = 0; i < HandlerAsynchrone.TAUX_ECHANTILLONNAGE - 1; i++) {
+                handler.publish(record(Level.INFO, "écarté" + i));
+            }
+            long ecartes = handler.getEcartes();
+            cible.debloquer();
+            handler.publish(record(Level.SEVERE, "grave"));  // Attend une place
+            handler.close();
+
+            assertAll("Vérification de l'échantillonnage",
+                    () -> assertEquals(HandlerAsynchrone.TAUX_ECHANTILLONNAGE - 1, ecartes),
+                    () -> assertTrue(cible.messages.contains("grave")),
+                    () -> assertTrue(cible.messages.stream().noneMatch(m -> m.startsWith("écarté")))
+            );
+        }
+
+        @Test
+        @DisplayName("BLOQUER ne perd aucun enregistrement avec plusieurs producteurs")
+        void bloquerSansPerte() throws InterruptedException {
+            handler = new HandlerAsynchrone(cible, 16, PolitiqueDebordement.BLOQUER);
+            Thread[] producteurs = new Thread[4];
+            for (int t = 0; t < producteurs.length; t++) {
+                int numero = t;
+                producteurs[t] = new Thread(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        handler.publish(record(Level.INFO, numero + "-" + i));
+                    }
+                });
+                producteurs[t].start();
+            }
+            for (Thread producteur : producteurs) {
+                producteur.join();
+            }
+            handler.close();
+
+            assertAll("Vérification de l'absence de perte",
+                    () -> assertEquals(8000, cible.messages.size()),
+                    () -> assertEquals(0, handler.getEcartes()),
+                    () -> assertEquals(8000, cible.messages.stream().distinct().count())
+            );
+        }
+    }
+}
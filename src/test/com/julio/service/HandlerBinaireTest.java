@@ -0,0 +1,158 @@
+package test.com.julio.service;
+
+import main.com.julio.service.DecodeurLogBinaire;
+import main.com.julio.service.FormatterLog;
+import main.com.julio.service.HandlerBinaire;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du format binaire des logs")
+class HandlerBinaireTest {
+
+    @TempDir
+    Path dossier;
+
+    private static LogRecord record(Level niveau, String message, Instant instant, Object... parametres) {
+        LogRecord record = new LogRecord(niveau, message);
+        record.setInstant(instant);
+        record.setSourceClassName("main.com.julio.persistence.Journal");
+        record.setSourceMethodName("rejouer");
+        record.setParameters(parametres.length == 0 ? null : parametres);
+        return record;
+    }
+
+    private String decoder() throws IOException {
+        StringBuilder texte = new StringBuilder();
+        for (Path fichier : HandlerBinaire.fichiers(dossier, "app")) {
+            DecodeurLogBinaire.decoder(fichier, texte);
+        }
+        return texte.toString();
+    }
+
+    @Test
+    @DisplayName("Le décodage restitue exactement le format texte")
+    void allerRetour() throws IOException {
+        Instant debut = Instant.parse("2025-11-20T09:15:32.400Z");
+        List<LogRecord> records = List.of(
+                record(Level.INFO, "Démarrage de la application", debut),
+                record(Level.WARNING, "Journal : longueur invalide à la position {0,number,#}",
+                        debut.plusMillis(1_500), 123_456_789_012L),
+                record(Level.WARNING, "Journal : longueur invalide à la position {0,number,#}",
+                        debut.minusMillis(20), -7),
+                record(Level.SEVERE, "Société {0} : {1} ({2})", debut.plusSeconds(3_600),
+                        "Café \"Ünïcode\" 😀", null, "\ud800 isolé"),
+                record(Level.parse("850"), null, debut.plusSeconds(3_601)));
+        FormatterLog formatter = new FormatterLog();
+        StringBuilder attendu = new StringBuilder();
+        HandlerBinaire handler = new HandlerBinaire(dossier, "app");
+        for (LogRecord record : records) {
+            handler.publish(record);
+            if (record.getParameters() != null) {
+                // Texte du surrogate isolé remplacé à l'écriture
+                Object[] parametres = record.getParameters().clone();
+                parametres[parametres.length - 1] = parametres[parametres.length - 1] instanceof String s
+                        ? s.replace('\ud800', '?') : parametres[parametres.length - 1];
+                record.setParameters(parametres);
+            }
+            formatter.formater(record, attendu);
+        }
+        handler.close();
+
+        assertEquals(attendu.toString(), decoder());
+    }
+
+    @Test
+    @DisplayName("Les messages répétés ne sont écrits qu'une fois par fichier")
+    void dictionnaire() throws IOException {
+        String message = "Le chiffre d''affaires doit être supérieur à 200 € pour le client {0,number,#}";
+        HandlerBinaire handler = new HandlerBinaire(dossier, "app");
+        for (int i = 0; i < 1_000; i++) {
+            handler.publish(record(Level.WARNING, message, Instant.ofEpochMilli(1_763_630_132_000L + i), i));
+        }
+        handler.close();
+
+        long taille = Files.size(HandlerBinaire.fichiers(dossier, "app").get(0));
+        String texte = decoder();
+        assertAll("Vérification de la compacité",
+                () -> assertTrue(taille < 1_000 * 10L, () -> "taille " + taille),
+                () -> assertEquals(1_000, texte.lines().count()),
+                () -> assertTrue(texte.contains("pour le client 999 /"))
+        );
+    }
+
+    @Test
+    @DisplayName("Les fichiers pleins tournent et seuls les plus récents sont conservés")
+    void rotation() throws IOException {
+        HandlerBinaire handler = new HandlerBinaire(dossier, "app", 4_096, 3);
+        int total = 2_000;
+        for (int i = 0; i < total; i++) {
+            handler.publish(record(Level.INFO, "Contrat {0,number,#} enregistré", Instant.ofEpochMilli(1_763_630_132_000L + i), i));
+        }
+        handler.publish(record(Level.INFO, "x".repeat(10_000), Instant.ofEpochMilli(1_763_630_140_000L)));
+        handler.close();
+        handler.publish(record(Level.INFO, "après fermeture", Instant.ofEpochMilli(1_763_630_150_000L)));
+
+        List<Path> fichiers = HandlerBinaire.fichiers(dossier, "app");
+        List<String> lignes = new ArrayList<>(decoder().lines().toList());
+        assertAll("Vérification de la rotation",
+                () -> assertEquals(3, fichiers.size()),
+                () -> assertTrue(fichiers.stream().allMatch(f -> f.toFile().length() <= 4_096)),
+                () -> assertTrue(lignes.size() < total),
+                () -> assertTrue(lignes.get(lignes.size() - 1).contains("Contrat " + (total - 1) + " enregistré"))
+        );
+
+        // Un nouveau handler poursuit la numérotation
+        new HandlerBinaire(dossier, "app", 4_096, 3).close();
+        List<Path> apres = HandlerBinaire.fichiers(dossier, "app");
+        assertTrue(apres.get(apres.size() - 1).getFileName().toString()
+                .compareTo(fichiers.get(fichiers.size() - 1).getFileName().toString()) > 0);
+    }
+
+    @Test
+    @DisplayName("Un enregistrement refusé ne laisse aucune entrée de dictionnaire non écrite")
+    void enregistrementRefuse() throws IOException {
+        HandlerBinaire handler = new HandlerBinaire(dossier, "app", 4_096, 3);
+        // Tient dans le tampon (taille d'un fichier) mais pas après l'en-tête d'un fichier neuf
+        handler.publish(record(Level.INFO, "x".repeat(4_035), Instant.now()));
+        handler.publish(record(Level.INFO, "Suite du journal", Instant.now()));
+        handler.close();
+
+        List<String> lignes = decoder().lines().toList();
+        assertAll("Vérification des références",
+                () -> assertEquals(1, lignes.size()),
+                () -> assertTrue(lignes.get(0).contains("Suite du journal"))
+        );
+    }
+
+    @Test
+    @DisplayName("Une référence de dictionnaire inconnue est signalée comme corruption")
+    void referenceInconnue() throws IOException {
+        byte[] contenu = {'J', 'L', 'O', 'G', 1, 0, 0, 0, 0, 0, 0, 0, 0,
+                0x10, (byte) 0xC0, 0x0C, 0, 0, 0, 5, 0};  // Niveau 800, message : entrée 5 jamais écrite
+        Path fichier = Files.write(dossier.resolve("app-000001.blog"), contenu);
+
+        IOException erreur = assertThrows(IOException.class,
+                () -> DecodeurLogBinaire.decoder(fichier, new StringBuilder()));
+        assertTrue(erreur.getMessage().contains("dictionnaire"));
+    }
+
+    @Test
+    @DisplayName("Un fichier qui n'est pas un log binaire est refusé")
+    void fichierInvalide() throws IOException {
+        Path fichier = Files.writeString(dossier.resolve("app-000001.blog"), "texte quelconque");
+
+        assertThrows(IOException.class, () -> DecodeurLogBinaire.decoder(fichier, new StringBuilder()));
+    }
+}
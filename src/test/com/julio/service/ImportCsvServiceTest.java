@@ -0,0 +1,184 @@
+package test.com.julio.service;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Interesse;
+import main.com.julio.model.Prospect;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.Champ;
+import main.com.julio.service.ErreurChamp;
+import main.com.julio.service.ImportCsvService;
+import main.com.julio.service.RapportImport;
+import main.com.julio.service.TypeEnregistrement;
+import main.com.julio.service.UnicityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests de l'import CSV")
+class ImportCsvServiceTest {
+
+    private static final String ENTETE_CLIENTS =
+            "Raison sociale;Numéro de rue;Nom de rue;Code postal;Ville;Téléphone;Email;Chiffre d'affaires;NB_EMPLOYES\n";
+
+    @TempDir
+    Path dossier;
+
+    private ClientRepository clientRepo;
+    private ProspectRepository prospectRepo;
+    private ContratRepository contratRepo;
+    private ImportCsvService importCsv;
+
+    @BeforeEach
+    void setUp() throws ValidationException {
+        Adresse.resetCompteur();
+        Client.resetCompteur();
+        Prospect.resetCompteur();
+
+        // Données de démonstration : IBM, Apple, Microsoft / Boulangerie, Supermarché
+        RaisonSocialeIndex index = new RaisonSocialeIndex();
+        contratRepo = new ContratRepository();
+        clientRepo = new ClientRepository(contratRepo, index);
+        prospectRepo = new ProspectRepository(index);
+        importCsv = new ImportCsvService(clientRepo, prospectRepo, contratRepo,
+                new UnicityService(clientRepo, prospectRepo));
+    }
+
+    private Path fichier(String contenu) throws IOException {
+        return Files.writeString(dossier.resolve("import.csv"), contenu, StandardCharsets.UTF_8);
+    }
+
+    // ============================================================
+    // TESTS IMPORT DES SOCIÉTÉS
+    // ============================================================
+
+    @Nested
+    @DisplayName("Import des clients et prospects")
+    class SocietesTests {
+
+        @Test
+        @DisplayName("Les lignes valides sont importées, les autres rejetées avec toutes leurs erreurs")
+        void lignesValidesEtRejetees() throws Exception {
+            int avant = clientRepo.findAll().size();
+            Path csv = fichier(ENTETE_CLIENTS
+                    + "Dupont SA; 12 ;rue des Lilas;54000;Nancy;03 83 12 34 56;contact@dupont.fr;15000;4\n"
+                    + "Martin;1;rue;5400;Metz;12;martin@x.fr;100;2\n"
+                    + "ibm;1;rue;75001;Paris;0123456789;ibm@x.fr;5000;10\n"
+                    + "\"Durand, Fils & Cie\";3;\"rue \"\"Haute\"\"\";57000;Metz;0387000000;d@durand.fr;800;1\n"
+                    + "DUPONT sa;1;rue;54000;Nancy;0383000000;autre@dupont.fr;900;1\n");
+
+            RapportImport rapport = importCsv.importer(csv, TypeEnregistrement.CLIENT);
+
+            Client dupont = clientRepo.rechercherParPrefixe("Dupont", 5).get(0);
+            assertAll("Vérification du bilan",
+                    () -> assertEquals(5, rapport.nbLignes()),
+                    () -> assertEquals(2, rapport.nbImportes()),
+                    () -> assertEquals(3, rapport.nbRejetes()),
+                    () -> assertEquals(avant + 2, clientRepo.findAll().size()),
+                    () -> assertEquals(List.of(
+                                    new ErreurChamp(3, Champ.CODE_POSTAL, "5400",
+                                            "Le code postal doit contenir exactement 5 chiffres"),
+                                    new ErreurChamp(3, Champ.TELEPHONE, "12", "Le format du téléphone est invalide."),
+                                    new ErreurChamp(3, Champ.CHIFFRE_AFFAIRES, "100",
+                                            "Le chiffre d'affaires doit être >= 200."),
+                                    new ErreurChamp(4, Champ.RAISON_SOCIALE, "ibm", "Cette raison sociale existe déjà"),
+                                    new ErreurChamp(6, Champ.RAISON_SOCIALE, "DUPONT sa",
+                                            "Cette raison sociale existe déjà")),
+                            rapport.erreurs()),
+                    () -> assertEquals("12", dupont.getAdresse().getNumeroRue()),
+                    () -> assertEquals(15_000, dupont.getChiffreAffaires()),
+                    () -> assertEquals("rue \"Haute\"",
+                            clientRepo.rechercherParPrefixe("Durand", 1).get(0).getAdresse().getNomRue()),
+                    () -> assertTrue(rapport.lignesParSeconde() > 0)
+            );
+        }
+
+        @Test
+        @DisplayName("Un fichier de plusieurs lots est entièrement importé, avec des identifiants uniques")
+        void plusieursLots() throws Exception {
+            int nb = ImportCsvService.TAILLE_LOT * 2 + 123;
+            StringBuilder csv = new StringBuilder("raison_sociale,numero_rue,nom_rue,code_postal,ville,"
+                    + "telephone,email,commentaires,date_prospection,interesse\n");
+            for (int i = 0; i < nb; i++) {
+                csv.append("Prospect ").append(i).append(",1,rue,54000,Nancy,0383000000,p").append(i)
+                        .append("@x.fr,,0").append(i % 9 + 1).append("/02/2025,").append(i % 2 == 0 ? "Oui" : "non")
+                        .append('\n');
+            }
+            int avant = prospectRepo.findAll().size();
+
+            RapportImport rapport = importCsv.importer(fichier(csv.toString()), TypeEnregistrement.PROSPECT);
+
+            List<Prospect> prospects = prospectRepo.findAll();
+            Set<Integer> ids = new HashSet<>();
+            prospects.forEach(p -> ids.add(p.getId()));
+            Prospect dernier = prospects.stream().max(Comparator.comparingInt(Prospect::getId)).orElseThrow();
+            assertAll("Vérification de l'import",
+                    () -> assertEquals(nb, rapport.nbImportes()),
+                    () -> assertEquals(avant + nb, prospects.size()),
+                    () -> assertEquals(prospects.size(), ids.size()),
+                    () -> assertEquals("Prospect " + (nb - 1), dernier.getRaisonSociale()),
+                    () -> assertEquals(LocalDate.of(2025, 2, (nb - 1) % 9 + 1), dernier.getDateProspection()),
+                    () -> assertEquals(Interesse.OUI, dernier.getInteresse())
+            );
+        }
+
+        @Test
+        @DisplayName("Une colonne obligatoire manquante est signalée avant tout import")
+        void colonneManquante() throws IOException {
+            Path csv = fichier("Raison sociale;Ville\nDupont;Nancy\n");
+
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> importCsv.importer(csv, TypeEnregistrement.CLIENT));
+            assertTrue(exception.getMessage().contains("Code postal"));
+        }
+    }
+
+    // ============================================================
+    // TESTS IMPORT DES CONTRATS
+    // ============================================================
+
+    @Nested
+    @DisplayName("Import des contrats")
+    class ContratsTests {
+
+        @Test
+        @DisplayName("Les contrats sont rattachés à leur client ; un client inconnu est signalé")
+        void rattachement() throws Exception {
+            Client client = clientRepo.findAll().get(0);
+            int avant = client.getContrats().size();
+            Path csv = fichier("client_id,nom du contrat,montant\n"
+                    + client.getId() + ",Maintenance,\"1250,50\"\n"
+                    + "99999,Audit,300\n"
+                    + client.getId() + ",,-5\n");
+
+            RapportImport rapport = importCsv.importer(csv, TypeEnregistrement.CONTRAT);
+
+            assertAll("Vérification de l'import",
+                    () -> assertEquals(1, rapport.nbImportes()),
+                    () -> assertEquals(avant + 1, client.getContrats().size()),
+                    () -> assertEquals(1250.5, client.getContrats().get(avant).getMontant()),
+                    () -> assertEquals(avant + 1, contratRepo.findByClientId(client.getId()).size()),
+                    () -> assertEquals(List.of(Champ.CLIENT_ID, Champ.NOM_CONTRAT, Champ.MONTANT),
+                            rapport.erreurs().stream().map(ErreurChamp::champ).toList())
+            );
+        }
+    }
+}
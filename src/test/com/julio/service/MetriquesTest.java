@@ -0,0 +1,242 @@
+package test.com.julio.service;
+
+import main.com.julio.service.HistogrammeLatence;
+import main.com.julio.service.Metriques;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests des métriques")
+class MetriquesTest {
+
+    // ============================================================
+    // TESTS HISTOGRAMME DE LATENCE
+    // ============================================================
+
+    @Nested
+    @DisplayName("Histogramme de latence")
+    class Histogramme {
+
+        @Test
+        @DisplayName("Histogramme vide : statistiques nulles")
+        void testVide() {
+            HistogrammeLatence.Statistiques s = new HistogrammeLatence("vide").statistiques();
+
+            assertAll(
+                    () -> assertEquals("vide", s.nom()),
+                    () -> assertEquals(0, s.nombre()),
+                    () -> assertEquals(0, s.p99()),
+                    () -> assertEquals(0, s.max())
+            );
+        }
+
+        @Test
+        @DisplayName("Petites valeurs restituées exactement")
+        void testPetitesValeursExactes() {
+            HistogrammeLatence histogramme = new HistogrammeLatence("petites");
+            for (int i = 1; i <= 100; i++) {
+                histogramme.enregistrer(i);
+            }
+
+            HistogrammeLatence.Statistiques s = histogramme.statistiques();
+            assertAll(
+                    () -> assertEquals(100, s.nombre()),
+                    () -> assertEquals(50.5, s.moyenne(), 1e-9),
+                    () -> assertEquals(50, s.p50()),
+                    () -> assertEquals(90, s.p90()),
+                    () -> assertEquals(99, s.p99()),
+                    () -> assertEquals(100, s.p999()),
+                    () -> assertEquals(100, s.max())
+            );
+        }
+
+        @Test
+        @DisplayName("Percentiles à moins de 1/64 près, jamais sous-estimés, de 1 ns à une minute")
+        void testPrecisionRelative() {
+            HistogrammeLatence histogramme = new HistogrammeLatence("precision");
+            SplittableRandom hasard = new SplittableRandom(1);
+            long[] valeurs = new long[100_000];
+            for (int i = 0; i < valeurs.length; i++) {
+                // Distribution log-uniforme sur 11 ordres de grandeur
+                valeurs[i] = (long) Math.exp(hasard.nextDouble(0, Math.log(60e9)));
+                histogramme.enregistrer(valeurs[i]);
+            }
+            Arrays.sort(valeurs);
+
+            HistogrammeLatence.Statistiques s = histogramme.statistiques();
+            long[] mesures = {s.p50(), s.p90(), s.p99(), s.p999()};
+            double[] rangs = {0.50, 0.90, 0.99, 0.999};
+            for (int i = 0; i < rangs.length; i++) {
+                long exacte = valeurs[(int) Math.ceil(rangs[i] * valeurs.length) - 1];
+                assertTrue(mesures[i] >= exacte, "p" + rangs[i] + " sous-estimé");
+                assertTrue(mesures[i] <= exacte + exacte / 64 + 1, "p" + rangs[i] + " : " + mesures[i]
+                        + " au lieu de " + exacte);
+            }
+            assertEquals(valeurs[valeurs.length - 1], s.max());
+        }
+
+        @Test
+        @DisplayName("Valeurs négatives comptées pour 0, valeurs au-delà du maximum conservées")
+        void testBornes() {
+            HistogrammeLatence histogramme = new HistogrammeLatence("bornes");
+            histogramme.enregistrer(-5);
+            histogramme.enregistrer(HistogrammeLatence.VALEUR_MAX * 10);
+
+            HistogrammeLatence.Statistiques s = histogramme.statistiques();
+            assertAll(
+                    () -> assertEquals(2, s.nombre()),
+                    () -> assertEquals(0, s.p50()),
+                    () -> assertEquals(HistogrammeLatence.VALEUR_MAX * 10, s.max()),
+                    () -> assertEquals(HistogrammeLatence.VALEUR_MAX * 10, s.p999())
+            );
+        }
+
+        @Test
+        @DisplayName("Enregistrements concurrents : aucun perdu")
+        void testConcurrence() throws InterruptedException {
+            HistogrammeLatence histogramme = new HistogrammeLatence("concurrence");
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        histogramme.enregistrer(1_000);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            HistogrammeLatence.Statistiques s = histogramme.statistiques();
+            assertAll(
+                    () -> assertEquals(400_000, s.nombre()),
+                    () -> assertEquals(1_000, s.moyenne(), 1e-9),
+                    () -> assertEquals(1_000, s.max())
+            );
+        }
+
+        @Test
+        @DisplayName("Réinitialisation : histogramme vide")
+        void testReinitialiser() {
+            HistogrammeLatence histogramme = new HistogrammeLatence("reinitialiser");
+            histogramme.enregistrer(1_000_000);
+            histogramme.reinitialiser();
+            histogramme.enregistrer(10);
+
+            HistogrammeLatence.Statistiques s = histogramme.statistiques();
+            assertEquals(1, s.nombre());
+            assertEquals(10, s.max());
+        }
+    }
+
+    // ============================================================
+    // TESTS REGISTRE
+    // ============================================================
+
+    @Nested
+    @DisplayName("Registre")
+    class Registre {
+
+        @Test
+        @DisplayName("Même nom : même compteur et même histogramme")
+        void testPartage() {
+            assertSame(Metriques.compteur("test.partage"), Metriques.compteur("test.partage"));
+            assertSame(Metriques.histogramme("test.partage"), Metriques.histogramme("test.partage"));
+        }
+
+        @Test
+        @DisplayName("Relevé des compteurs, jauges et histogrammes")
+        void testInstantane() {
+            LongAdder compteur = Metriques.compteur("test.instantane.compteur");
+            compteur.reset();
+            compteur.add(3);
+            Metriques.jauge("test.instantane.jauge", () -> 42);
+            Metriques.jauge("test.instantane.illisible", () -> {
+                throw new IllegalStateException("indisponible");
+            });
+            HistogrammeLatence histogramme = Metriques.histogramme("test.instantane.latence");
+            histogramme.reinitialiser();
+            histogramme.enregistrer(2_000);
+
+            Metriques.Instantane instantane = Metriques.instantane();
+            HistogrammeLatence.Statistiques latence = instantane.latences().stream()
+                    .filter(s -> s.nom().equals("test.instantane.latence")).findFirst().orElseThrow();
+            assertAll(
+                    () -> assertEquals(3L, instantane.compteurs().get("test.instantane.compteur")),
+                    () -> assertEquals(42L, instantane.jauges().get("test.instantane.jauge")),
+                    () -> assertFalse(instantane.jauges().containsKey("test.instantane.illisible")),
+                    () -> assertEquals(1, latence.nombre()),
+                    () -> assertTrue(Metriques.formater(instantane).contains("test.instantane.latence"))
+            );
+        }
+
+        @Test
+        @DisplayName("Réinitialisation des compteurs et histogrammes")
+        void testReinitialiser() {
+            Metriques.compteur("test.reinitialiser").increment();
+            Metriques.histogramme("test.reinitialiser").enregistrer(1);
+
+            Metriques.reinitialiser();
+
+            assertEquals(0, Metriques.compteur("test.reinitialiser").sum());
+            assertEquals(0, Metriques.histogramme("test.reinitialiser").statistiques().nombre());
+        }
+    }
+
+    // ============================================================
+    // TESTS EXPORT PÉRIODIQUE
+    // ============================================================
+
+    @Nested
+    @DisplayName("Export périodique")
+    class Export {
+
+        @TempDir
+        Path dossier;
+
+        @AfterEach
+        void arreter() {
+            Metriques.arreterExport();
+        }
+
+        @Test
+        @DisplayName("Relevés ajoutés au fichier à chaque période")
+        void testExportFichier() throws IOException, InterruptedException {
+            Metriques.histogramme("test.export").enregistrer(5_000);
+            Path fichier = dossier.resolve("metriques.txt");
+
+            Metriques.demarrerExport(Duration.ofMillis(20), fichier);
+            long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (nbReleves(fichier) < 2 && System.nanoTime() < limite) {
+                Thread.sleep(10);
+            }
+            Metriques.arreterExport();
+
+            assertTrue(nbReleves(fichier) >= 2);
+            assertTrue(Files.readString(fichier).contains("test.export"));
+        }
+
+        private long nbReleves(Path fichier) throws IOException {
+            if (!Files.exists(fichier)) {
+                return 0;
+            }
+            return Files.readAllLines(fichier).stream().filter(l -> l.startsWith("Métriques au")).count();
+        }
+    }
+}
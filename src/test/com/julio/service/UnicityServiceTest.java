@@ -0,0 +1,120 @@
+package test.com.julio.service;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Prospect;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.ProspectRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.service.UnicityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du service d'unicité")
+class UnicityServiceTest {
+    private ClientRepository clientRepo;
+    private ProspectRepository prospectRepo;
+    private UnicityService unicityService;
+
+    @BeforeEach
+    void setUp() throws ValidationException {
+        Adresse.resetCompteur();
+        Client.resetCompteur();
+        Prospect.resetCompteur();
+
+        // Données de démonstration : IBM, Apple, Microsoft / Boulangerie, Supermarché
+        RaisonSocialeIndex index = new RaisonSocialeIndex();
+        clientRepo = new ClientRepository(new ContratRepository(), index);
+        prospectRepo = new ProspectRepository(index);
+        unicityService = new UnicityService(clientRepo, prospectRepo);
+    }
+
+    // ============================================================
+    // TESTS DÉTECTION DES DOUBLONS
+    // ============================================================
+
+    @Nested
+    @DisplayName("Détection des doublons inter-entités")
+    class DoublonsTests {
+
+        @ParameterizedTest(name = "La raison sociale \"{0}\" doit être détectée comme doublon")
+        @ValueSource(strings = {"IBM", "ibm", "Apple", "MICROSOFT", "boulangerie", "SUPERMARCHÉ"})
+        @DisplayName("Raisons sociales existantes (insensible à la casse)")
+        void raisonsSocialesExistantes(String raisonSociale) {
+            assertTrue(unicityService.isRaisonSocialDuplique(raisonSociale, -1),
+                    () -> raisonSociale + " devrait être un doublon");
+        }
+
+        @ParameterizedTest(name = "La raison sociale \"{0}\" doit être unique")
+        @ValueSource(strings = {"Google", "IBM France", "Boulangeries", ""})
+        @DisplayName("Raisons sociales inconnues")
+        void raisonsSocialesUniques(String raisonSociale) {
+            assertFalse(unicityService.isRaisonSocialDuplique(raisonSociale, -1),
+                    () -> raisonSociale + " ne devrait pas être un doublon");
+        }
+
+        @Test
+        @DisplayName("Raison sociale null n'est pas un doublon")
+        void raisonSocialeNull() {
+            assertFalse(unicityService.isRaisonSocialDuplique(null, -1));
+        }
+    }
+
+    // ============================================================
+    // TESTS EXCLUSION ET RENOMMAGE
+    // ============================================================
+
+    @Nested
+    @DisplayName("Exclusion par ID et renommage")
+    class ExclusionTests {
+
+        @Test
+        @DisplayName("L'entité en cours de modification est exclue")
+        void exclusionParId() {
+            Client ibm = clientRepo.findAll().stream()
+                    .filter(c -> c.getRaisonSociale().equals("IBM"))
+                    .findFirst()
+                    .orElseThrow();
+
+            assertFalse(unicityService.isRaisonSocialDuplique("ibm", ibm.getId()),
+                    "La raison sociale de l'entité modifiée ne devrait pas être un doublon");
+        }
+
+        @Test
+        @DisplayName("Le renommage via setRaisonSociale met à jour l'index")
+        void renommageMetAJourIndex() throws ValidationException {
+            Client ibm = clientRepo.findAll().stream()
+                    .filter(c -> c.getRaisonSociale().equals("IBM"))
+                    .findFirst()
+                    .orElseThrow();
+
+            ibm.setRaisonSociale("Kyndryl");
+
+            assertAll("Vérification du renommage",
+                    () -> assertFalse(unicityService.isRaisonSocialDuplique("IBM", -1)),
+                    () -> assertTrue(unicityService.isRaisonSocialDuplique("KYNDRYL", -1))
+            );
+        }
+
+        @Test
+        @DisplayName("La suppression libère la raison sociale")
+        void suppressionLibereRaisonSociale() {
+            Prospect boulangerie = prospectRepo.findAll().stream()
+                    .filter(p -> p.getRaisonSociale().equals("Boulangerie"))
+                    .findFirst()
+                    .orElseThrow();
+
+            prospectRepo.delete(boulangerie.getId());
+
+            assertFalse(unicityService.isRaisonSocialDuplique("Boulangerie", -1));
+        }
+    }
+}
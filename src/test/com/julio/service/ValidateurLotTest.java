@@ -0,0 +1,187 @@
+package test.com.julio.service;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Interesse;
+import main.com.julio.service.Champ;
+import main.com.julio.service.EnregistrementBrut;
+import main.com.julio.service.ErreurChamp;
+import main.com.julio.service.ResultatValidation;
+import main.com.julio.service.TypeEnregistrement;
+import main.com.julio.service.ValidateurLot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests de la validation en masse")
+class ValidateurLotTest {
+
+    private static Map<Champ, String> clientValide() {
+        Map<Champ, String> valeurs = new EnumMap<>(Champ.class);
+        valeurs.put(Champ.RAISON_SOCIALE, "Boulangerie Dupont");
+        valeurs.put(Champ.NUMERO_RUE, "12");
+        valeurs.put(Champ.NOM_RUE, "rue des Lilas");
+        valeurs.put(Champ.CODE_POSTAL, "54000");
+        valeurs.put(Champ.VILLE, "Nancy");
+        valeurs.put(Champ.TELEPHONE, "03 83 12 34 56");
+        valeurs.put(Champ.EMAIL, "contact@dupont.fr");
+        valeurs.put(Champ.CHIFFRE_AFFAIRES, "15000");
+        valeurs.put(Champ.NB_EMPLOYES, "4");
+        return valeurs;
+    }
+
+    private static String message(Executable creation) {
+        return assertThrows(ValidationException.class, creation).getMessage();
+    }
+
+    // ============================================================
+    // TESTS AGRÉGATION DES ERREURS
+    // ============================================================
+
+    @Nested
+    @DisplayName("Agrégation des erreurs par enregistrement")
+    class AgregationTests {
+
+        @Test
+        @DisplayName("Toutes les erreurs d'un enregistrement sont collectées, dans l'ordre des champs")
+        void toutesLesErreurs() {
+            Map<Champ, String> invalide = clientValide();
+            invalide.put(Champ.RAISON_SOCIALE, "  ");
+            invalide.put(Champ.CODE_POSTAL, "5400");
+            invalide.put(Champ.EMAIL, "contact@dupont");
+            invalide.remove(Champ.NB_EMPLOYES);
+            List<EnregistrementBrut> lot = List.of(new EnregistrementBrut(2, clientValide()),
+                    new EnregistrementBrut(3, invalide));
+
+            ResultatValidation resultat = ValidateurLot.valider(TypeEnregistrement.CLIENT, lot);
+
+            assertAll("Vérification du résultat",
+                    () -> assertFalse(resultat.estValide()),
+                    () -> assertEquals(1, resultat.getNbValides()),
+                    () -> assertEquals(1, resultat.getNbInvalides()),
+                    () -> assertTrue(resultat.estValide(0)),
+                    () -> assertEquals(List.of(), resultat.getErreurs(0)),
+                    () -> assertEquals(List.of(Champ.RAISON_SOCIALE, Champ.CODE_POSTAL, Champ.EMAIL,
+                                    Champ.NB_EMPLOYES),
+                            resultat.getErreurs(1).stream().map(ErreurChamp::champ).toList()),
+                    () -> assertEquals(new ErreurChamp(3, Champ.CODE_POSTAL, "5400",
+                            "Le code postal doit contenir exactement 5 chiffres"), resultat.getErreurs(1).get(1)),
+                    () -> assertEquals("Ligne 3, Nombre d'employés : Le nombre d'employés doit être un nombre entier.",
+                            resultat.getErreurs(1).get(3).toString())
+            );
+        }
+
+        @Test
+        @DisplayName("Un grand lot validé en parallèle conserve l'ordre des enregistrements")
+        void lotParallele() {
+            int nb = ValidateurLot.SEUIL_PARALLELE * 20;
+            List<EnregistrementBrut> lot = new ArrayList<>(nb);
+            for (int i = 0; i < nb; i++) {
+                Map<Champ, String> valeurs = clientValide();
+                if (i % 3 == 0) {
+                    valeurs.put(Champ.CHIFFRE_AFFAIRES, "199");
+                }
+                if (i % 5 == 0) {
+                    valeurs.put(Champ.TELEPHONE, "12");
+                }
+                lot.add(new EnregistrementBrut(i + 1, valeurs));
+            }
+
+            ResultatValidation resultat = ValidateurLot.valider(TypeEnregistrement.CLIENT, lot);
+
+            List<Integer> lignes = resultat.getErreurs().stream().map(ErreurChamp::ligne).toList();
+            List<Integer> triees = new ArrayList<>(lignes);
+            triees.sort(null);
+            int invalides = (int) IntStream.range(0, nb).filter(i -> i % 3 == 0 || i % 5 == 0).count();
+            assertAll("Vérification du lot",
+                    () -> assertEquals(invalides, resultat.getNbInvalides()),
+                    () -> assertEquals(triees, lignes),
+                    () -> assertEquals(Map.of(Champ.CHIFFRE_AFFAIRES, (nb + 2) / 3, Champ.TELEPHONE, (nb + 4) / 5),
+                            resultat.getNbErreursParChamp()),
+                    () -> assertFalse(resultat.estValide(15)),
+                    () -> assertEquals(2, resultat.getErreurs(15).size())
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS RÈGLES DES CHAMPS
+    // ============================================================
+
+    @Nested
+    @DisplayName("Règles des champs")
+    class ReglesTests {
+
+        @Test
+        @DisplayName("Les messages sont ceux des setters du modèle")
+        void memesMessagesQueLeModele() throws ValidationException {
+            Adresse adresse = new Adresse("12", "rue des Lilas", "54000", "Nancy");
+            assertAll("Comparaison avec les exceptions du modèle",
+                    () -> assertEquals(message(() -> new Adresse("", "rue", "54000", "Nancy")),
+                            Champ.NUMERO_RUE.verifier("")),
+                    () -> assertEquals(message(() -> new Adresse("1", "rue", "5400", "Nancy")),
+                            Champ.CODE_POSTAL.verifier("5400")),
+                    () -> assertEquals(message(() -> new Adresse("1", "rue", "54000", null)),
+                            Champ.VILLE.verifier(null)),
+                    () -> assertEquals(message(() -> new Client("", adresse, "0383123456", "a@b.fr", null, 300, 1)),
+                            Champ.RAISON_SOCIALE.verifier("")),
+                    () -> assertEquals(message(() -> new Client("X", adresse, "12", "a@b.fr", null, 300, 1)),
+                            Champ.TELEPHONE.verifier("12")),
+                    () -> assertEquals(message(() -> new Client("X", adresse, "0383123456", "a@b", null, 300, 1)),
+                            Champ.EMAIL.verifier("a@b")),
+                    () -> assertEquals(message(() -> new Client("X", adresse, "0383123456", "a@b.fr", null, 199, 1)),
+                            Champ.CHIFFRE_AFFAIRES.verifier("199")),
+                    () -> assertEquals(message(() -> new Client("X", adresse, "0383123456", "a@b.fr", null, 300, 0)),
+                            Champ.NB_EMPLOYES.verifier("0")),
+                    () -> assertEquals(message(() -> new Contrat(0, "Maintenance", 10)),
+                            Champ.CLIENT_ID.verifier("0")),
+                    () -> assertEquals(message(() -> new Contrat(1, " ", 10)),
+                            Champ.NOM_CONTRAT.verifier(" ")),
+                    () -> assertEquals(message(() -> new Contrat(1, "Maintenance", -1)),
+                            Champ.MONTANT.verifier("-1"))
+            );
+        }
+
+        @ParameterizedTest(name = "La date \"{0}\" doit être refusée")
+        @ValueSource(strings = {"29/02/2025", "31/04/2025", "00/01/2025", "01/13/2025", "1/2/2025",
+                "2025-01-01", "01/01/25", "01/0a/2025"})
+        @DisplayName("Dates de prospection invalides")
+        void datesInvalides(String date) {
+            assertNotNull(Champ.DATE_PROSPECTION.verifier(date));
+        }
+
+        @Test
+        @DisplayName("Lecture des valeurs numériques et de l'intérêt sans exception")
+        void lectures() {
+            assertAll("Vérification des lectures",
+                    () -> assertNull(Champ.DATE_PROSPECTION.verifier("29/02/2024")),
+                    () -> assertEquals(-42, Champ.lireEntier("-42")),
+                    () -> assertEquals(Champ.INVALIDE, Champ.lireEntier("4 2")),
+                    () -> assertEquals(Champ.INVALIDE, Champ.lireEntier("-")),
+                    () -> assertEquals(Champ.INVALIDE, Champ.lireEntier("1234567890123456789")),
+                    () -> assertEquals("Le nombre d'employés doit être un nombre entier.",
+                            Champ.NB_EMPLOYES.verifier("3000000000")),
+                    () -> assertEquals(1234.5, Champ.lireDecimal("1234,5")),
+                    () -> assertEquals(12.0, Champ.lireDecimal("12")),
+                    () -> assertTrue(Double.isNaN(Champ.lireDecimal("12."))),
+                    () -> assertTrue(Double.isNaN(Champ.lireDecimal("1e3"))),
+                    () -> assertEquals(Interesse.OUI, Champ.lireInteresse("oui")),
+                    () -> assertNull(Champ.lireInteresse("peut-être")),
+                    () -> assertNull(Champ.COMMENTAIRES.verifier(null))
+            );
+        }
+    }
+}
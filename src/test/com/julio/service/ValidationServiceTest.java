@@ -1,6 +1,7 @@
 package test.com.julio.service;
 
 import main.com.julio.service.ValidationService;
+import main.com.julio.util.RegexPatterns;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -192,4 +198,120 @@ class ValidationServiceTest {
                     () -> "La valeur \"" + valeur + "\" devrait être considérée comme non vide");
         }
     }
-}
\ No newline at end of file
+
+    // ============================================================
+    // TESTS VALIDATION MONTANT
+    // ============================================================
+
+    @Nested
+    @DisplayName("Validation des montants de contrat")
+    class MontantTests {
+
+        @ParameterizedTest(name = "Le montant {0} doit être valide")
+        @ValueSource(doubles = {0.01, 1.005, 45000, 1e12})
+        @DisplayName("Montants positifs jusqu'au maximum")
+        void montantsValides(double montant) {
+            assertTrue(ValidationService.isValidMontant(montant),
+                    () -> "Le montant " + montant + " devrait être valide");
+        }
+
+        @ParameterizedTest(name = "Le montant {0} doit être invalide")
+        @ValueSource(doubles = {0, -1, 1.000001e12, 1e20, Double.NaN, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY})
+        @DisplayName("Montants nuls, négatifs, trop grands ou non finis")
+        void montantsInvalides(double montant) {
+            assertFalse(ValidationService.isValidMontant(montant),
+                    () -> "Le montant " + montant + " devrait être invalide");
+        }
+    }
+
+    // ============================================================
+    // TESTS DIFFÉRENTIELS (parcours manuels contre expressions d'origine)
+    // ============================================================
+
+    @Nested
+    @DisplayName("Équivalence avec les expressions régulières d'origine")
+    class DifferentielTests {
+
+        private static final int NB_CAS = 200_000;
+
+        /** Caractères utiles aux grammaires, espaces \s, chiffres non ASCII et lettres */
+        private static final String ALPHABET = "0123456789+ .-\t\n\r\f\u000B\u00A0٣３aZ@é";
+
+        private static final String[] TELEPHONES = {"0123456789", "01 23 45 67 89", "+33 6.12-34 56  78",
+                "0033 1\t23\n45\r67\f89", "06--12..34  56-.78"};
+
+        private static final String[] CODES_POSTAUX = {"54000", "75001", "00000"};
+
+        /**
+         * Compare la validation à l'expression d'origine sur des valeurs valides mutées et des chaînes aléatoires.
+         */
+        private void comparer(String regex, String[] valides, Predicate<String> validation, long graine) {
+            Pattern reference = Pattern.compile(regex);
+            Random aleatoire = new Random(graine);
+            int acceptes = 0;
+            for (int i = 0; i < NB_CAS; i++) {
+                String valeur = i % 2 == 0
+                        ? muter(valides[aleatoire.nextInt(valides.length)], aleatoire)
+                        : aleatoire(aleatoire);
+                boolean attendu = reference.matcher(valeur).matches();
+                acceptes += attendu ? 1 : 0;
+                assertEquals(attendu, validation.test(valeur),
+                        () -> "Divergence pour \"" + valeur.replace("\n", "\\n") + "\"");
+            }
+            assertTrue(acceptes > NB_CAS / 100, "Trop peu de valeurs valides générées : " + acceptes);
+        }
+
+        /** Insère, supprime ou remplace 0 à 2 caractères d'une valeur valide */
+        private String muter(String valide, Random aleatoire) {
+            StringBuilder valeur = new StringBuilder(valide);
+            int nbMutations = aleatoire.nextInt(3);
+            for (int m = 0; m < nbMutations; m++) {
+                int position = aleatoire.nextInt(valeur.length() + 1);
+                char c = ALPHABET.charAt(aleatoire.nextInt(ALPHABET.length()));
+                switch (aleatoire.nextInt(3)) {
+                    case 0 -> valeur.insert(position, c);
+                    case 1 -> {
+                        if (position < valeur.length()) {
+                            valeur.deleteCharAt(position);
+                        }
+                    }
+                    default -> {
+                        if (position < valeur.length()) {
+                            valeur.setCharAt(position, c);
+                        }
+                    }
+                }
+            }
+            return valeur.toString();
+        }
+
+        private String aleatoire(Random aleatoire) {
+            StringBuilder valeur = new StringBuilder();
+            int longueur = aleatoire.nextInt(18);
+            for (int i = 0; i < longueur; i++) {
+                valeur.append(ALPHABET.charAt(aleatoire.nextInt(ALPHABET.length())));
+            }
+            return valeur.toString();
+        }
+
+        @Test
+        @DisplayName("Le parcours du téléphone accepte exactement le langage de RegexPatterns.TELEPHONE")
+        void telephone() {
+            comparer(RegexPatterns.TELEPHONE, TELEPHONES, ValidationService::isValidTelephone, 17L);
+        }
+
+        @Test
+        @DisplayName("Le parcours du code postal accepte exactement le langage de RegexPatterns.CODE_POSTAL")
+        void codePostal() {
+            comparer(RegexPatterns.CODE_POSTAL, CODES_POSTAUX, ValidationService::isValidCodePostal, 18L);
+        }
+
+        @Test
+        @DisplayName("L'email compilé accepte exactement le langage de RegexPatterns.EMAIL")
+        void email() {
+            comparer(RegexPatterns.EMAIL, new String[]{"user.name@company.fr", "a+b_c-d@x-y.co.uk"},
+                    ValidationService::isValidEmail, 19L);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package test.com.julio.util;
+
+import main.com.julio.util.ChargementAsynchrone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du chargement asynchrone par lots")
+class ChargementAsynchroneTest {
+
+    @Test
+    @DisplayName("Les éléments préparés arrivent sur l'EDT, dans l'ordre et par lots bornés")
+    void lotsOrdonnes() throws Exception {
+        List<Integer> source = IntStream.range(0, 5_000).boxed().toList();
+        List<String> recus = new ArrayList<>();
+        List<Integer> taillesLots = new ArrayList<>();
+        AtomicBoolean horsEdt = new AtomicBoolean();
+        CountDownLatch fin = new CountDownLatch(1);
+
+        new ChargementAsynchrone<Integer, String>(() -> source, i -> "L" + i, lot -> {
+            if (!SwingUtilities.isEventDispatchThread()) {
+                horsEdt.set(true);
+            }
+            taillesLots.add(lot.size());
+            recus.addAll(lot);
+        }, fin::countDown).execute();
+
+        assertTrue(fin.await(10, TimeUnit.SECONDS));
+        assertAll("Vérification des lots reçus",
+                () -> assertEquals(source.stream().map(i -> "L" + i).toList(), recus),
+                () -> assertFalse(horsEdt.get()),
+                () -> assertTrue(taillesLots.stream().allMatch(t -> t <= ChargementAsynchrone.TAILLE_LOT))
+        );
+    }
+
+    @Test
+    @DisplayName("Un chargement annulé ne transmet rien et n'exécute pas l'action de fin")
+    void annulation() throws Exception {
+        CountDownLatch sourceAppelee = new CountDownLatch(1);
+        CountDownLatch liberation = new CountDownLatch(1);
+        List<Integer> recus = new ArrayList<>();
+        AtomicBoolean finExecutee = new AtomicBoolean();
+
+        ChargementAsynchrone<Integer, Integer> chargement = new ChargementAsynchrone<>(() -> {
+            sourceAppelee.countDown();
+            try {
+                liberation.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(1, 2, 3);
+        }, i -> i, recus::addAll, () -> finExecutee.set(true));
+        chargement.execute();
+
+        assertTrue(sourceAppelee.await(10, TimeUnit.SECONDS));
+        chargement.cancel(true);
+        liberation.countDown();
+        SwingUtilities.invokeAndWait(() -> { });  // Vider les traitements EDT en attente
+
+        assertAll("Vérification de l'annulation",
+                () -> assertTrue(chargement.isCancelled()),
+                () -> assertTrue(recus.isEmpty()),
+                () -> assertFalse(finExecutee.get())
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package test.com.julio.util;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.EcouteurRepository;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.util.DetecteurBlocageEdt;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static main.com.julio.service.LoggingService.LOGGER;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du détecteur de blocage de l'EDT")
+class DetecteurBlocageEdtTest {
+
+    private final List<LogRecord> avertissements = new CopyOnWriteArrayList<>();
+    private final Handler capture = new Handler() {
+        @Override
+        public void publish(LogRecord logRecord) {
+            if (logRecord.getLevel() == Level.WARNING) {
+                avertissements.add(logRecord);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private DetecteurBlocageEdt detecteur;
+    private ClientRepository clientRepo;
+
+    @BeforeEach
+    void setUp() throws ValidationException {
+        clientRepo = new ClientRepository(new ContratRepository(), new RaisonSocialeIndex(), false);
+        LOGGER.addHandler(capture);
+        detecteur = DetecteurBlocageEdt.installer(Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        detecteur.desinstaller();
+        LOGGER.removeHandler(capture);
+    }
+
+    /**
+     * Écouteur simulant un traitement lent, exécuté dans l'appel au repository.
+     */
+    private EcouteurRepository<Client> ecouteurLent(long millis) {
+        return new EcouteurRepository<>() {
+            @Override
+            public void entiteAjoutee(Client entite) {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void entiteModifiee(Client entite) {
+            }
+
+            @Override
+            public void entiteSupprimee(int id) {
+            }
+        };
+    }
+
+    private void ajouterSurEdt(String raisonSociale) throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                clientRepo.add(new Client(raisonSociale, new Adresse("1", "Rue Test", "54000", "Nancy"),
+                        "0612345678", "test@test.fr", "", 1000, 1));
+            } catch (ValidationException e) {
+                fail(e.getMessage());
+            }
+        });
+    }
+
+    // ============================================================
+    // TESTS DE DÉTECTION
+    // ============================================================
+
+    @Test
+    @DisplayName("Un appel lent au repository sur l'EDT est signalé une seule fois")
+    void appelLentSignale() throws Exception {
+        clientRepo.ajouterEcouteur(ecouteurLent(300));
+
+        ajouterSurEdt("Lente SA");
+
+        assertAll("Vérification du signalement",
+                () -> assertEquals(1, avertissements.size()),
+                () -> assertTrue(avertissements.get(0).getMessage().contains("ClientRepository"))
+        );
+    }
+
+    @Test
+    @DisplayName("Un appel rapide au repository sur l'EDT n'est pas signalé")
+    void appelRapideIgnore() throws Exception {
+        ajouterSurEdt("Rapide SA");
+        Thread.sleep(100);  // Laisser passer au moins une période de surveillance
+
+        assertTrue(avertissements.isEmpty());
+    }
+}
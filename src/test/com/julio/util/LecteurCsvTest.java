@@ -0,0 +1,103 @@
+package test.com.julio.util;
+
+import main.com.julio.util.LecteurCsv;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests du lecteur CSV")
+class LecteurCsvTest {
+
+    @TempDir
+    Path dossier;
+
+    private List<List<String>> lire(Path fichier, char separateur) throws IOException {
+        List<List<String>> enregistrements = new ArrayList<>();
+        try (LecteurCsv lecteur = new LecteurCsv(fichier, separateur)) {
+            while (lecteur.suivant()) {
+                List<String> champs = new ArrayList<>();
+                for (int i = 0; i < lecteur.nbChamps(); i++) {
+                    champs.add(lecteur.champ(i));
+                }
+                enregistrements.add(champs);
+            }
+        }
+        return enregistrements;
+    }
+
+    @Test
+    @DisplayName("Guillemets, séparateurs et retours à la ligne dans les champs (RFC 4180)")
+    void formatRfc4180() throws IOException {
+        Path fichier = Files.writeString(dossier.resolve("a.csv"),
+                "﻿nom;ville\r\n"
+                        + "\"Dupont; fils\";Nancy\r\n"
+                        + "\r\n"
+                        + "\"Le \"\"Café\"\"\";\"Metz\nCentre\"\n"
+                        + ";\n"
+                        + "dernier;sans fin de ligne", StandardCharsets.UTF_8);
+
+        List<List<String>> enregistrements = new ArrayList<>();
+        List<Long> lignes = new ArrayList<>();
+        try (LecteurCsv lecteur = new LecteurCsv(fichier, ';')) {
+            while (lecteur.suivant()) {
+                lignes.add(lecteur.ligne());
+                enregistrements.add(List.of(lecteur.champ(0), lecteur.champ(1)));
+                assertNull(lecteur.champ(2));
+            }
+        }
+
+        assertAll("Vérification des enregistrements",
+                () -> assertEquals(List.of(
+                        List.of("nom", "ville"),
+                        List.of("Dupont; fils", "Nancy"),
+                        List.of("Le \"Café\"", "Metz\nCentre"),
+                        List.of("", ""),
+                        List.of("dernier", "sans fin de ligne")), enregistrements),
+                () -> assertEquals(List.of(1L, 2L, 4L, 6L, 7L), lignes)
+        );
+    }
+
+    @Test
+    @DisplayName("Les champs et caractères multi-octets à cheval sur deux blocs sont reconstitués")
+    void limitesDesBlocs() throws IOException {
+        StringBuilder contenu = new StringBuilder();
+        String longChamp = "é€😀".repeat(LecteurCsv.TAILLE_TAMPON / 3);
+        int nb = 2_000;
+        for (int i = 0; i < nb; i++) {
+            contenu.append(i).append(',').append(i % 500 == 0 ? longChamp : "ville " + i).append('\n');
+        }
+        Path fichier = Files.writeString(dossier.resolve("b.csv"), contenu, StandardCharsets.UTF_8);
+
+        List<List<String>> enregistrements = lire(fichier, ',');
+
+        assertAll("Vérification des enregistrements",
+                () -> assertEquals(nb, enregistrements.size()),
+                () -> assertEquals(List.of("1500", longChamp), enregistrements.get(1500)),
+                () -> assertEquals(List.of("1999", "ville 1999"), enregistrements.get(nb - 1))
+        );
+    }
+
+    @Test
+    @DisplayName("Détection du séparateur et refus d'un fichier qui n'est pas en UTF-8")
+    void separateurEtEncodage() throws IOException {
+        Path pointVirgule = Files.writeString(dossier.resolve("c.csv"), "a;b\n1;2\n");
+        Path virgule = Files.writeString(dossier.resolve("d.csv"), "a,b\n");
+        Path latin1 = Files.write(dossier.resolve("e.csv"), "nom\nCafé\n".getBytes(StandardCharsets.ISO_8859_1));
+
+        assertAll("Vérification",
+                () -> assertEquals(';', LecteurCsv.detecterSeparateur(pointVirgule)),
+                () -> assertEquals(',', LecteurCsv.detecterSeparateur(virgule)),
+                () -> assertThrows(CharacterCodingException.class, () -> lire(latin1, ','))
+        );
+    }
+}
@@ -0,0 +1,369 @@
+package test.com.julio.viewmodel;
+
+import main.com.julio.exception.ValidationException;
+import main.com.julio.model.Adresse;
+import main.com.julio.model.Client;
+import main.com.julio.model.Contrat;
+import main.com.julio.model.Interesse;
+import main.com.julio.model.Prospect;
+import main.com.julio.repository.ClientRepository;
+import main.com.julio.repository.ContratRepository;
+import main.com.julio.repository.FiltreSocietes;
+import main.com.julio.repository.RaisonSocialeIndex;
+import main.com.julio.repository.ResultatRecherche;
+import main.com.julio.repository.TriSocietes;
+import main.com.julio.service.UnicityService;
+import main.com.julio.viewmodel.ClientTableModel;
+import main.com.julio.viewmodel.ClientViewModel;
+import main.com.julio.viewmodel.ProspectTableModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests des modèles de table virtuels")
+class SocieteTableModelTest {
+    private Client client;
+
+    @BeforeEach
+    void setUp() throws ValidationException {
+        Adresse.resetCompteur();
+        Client.resetCompteur();
+        client = new Client("Entreprise ABC", new Adresse("12", "Rue de la Paix", "75002", "Paris"),
+                "0123456789", "contact@abc.fr", "", 50000, 25);
+    }
+
+    @Test
+    @DisplayName("Les cellules des clients sont lues à la demande")
+    void cellulesClient() {
+        ClientTableModel model = new ClientTableModel(List.of(client));
+
+        assertAll("Vérification des cellules",
+                () -> assertEquals(1, model.getRowCount()),
+                () -> assertEquals(8, model.getColumnCount()),
+                () -> assertEquals("CA (€)", model.getColumnName(5)),
+                () -> assertEquals("Total contrats (€)", model.getColumnName(7)),
+                () -> assertEquals(new BigDecimal("0.00"), model.getValueAt(0, 7)),
+                () -> assertEquals(client.getId(), model.getValueAt(0, 0)),
+                () -> assertEquals(client.getAdresse().toString(), model.getValueAt(0, 2)),
+                () -> assertEquals(50000L, model.getValueAt(0, 5)),
+                () -> assertEquals(25, model.getValueAt(0, 6)),
+                () -> assertFalse(model.isCellEditable(0, 1)),
+                () -> assertSame(client, model.getSociete(0))
+        );
+    }
+
+    @Test
+    @DisplayName("Un changement de client est visible sans reconstruire le modèle")
+    void lectureALaDemande() throws ValidationException {
+        ClientTableModel model = new ClientTableModel(List.of(client));
+
+        client.setRaisonSociale("Entreprise XYZ");
+
+        assertEquals("Entreprise XYZ", model.getValueAt(0, 1));
+    }
+
+    @Test
+    @DisplayName("Les colonnes spécifiques des prospects sont formatées")
+    void cellulesProspect() throws ValidationException {
+        Prospect prospect = new Prospect("Boulangerie", new Adresse("2", "Rue Haute", "54390", "Frouard"),
+                "0456789012", "pain@test.fr", "", LocalDate.of(2024, 3, 15), Interesse.OUI);
+        ProspectTableModel model = new ProspectTableModel(List.of(prospect));
+
+        assertAll("Vérification des colonnes spécifiques",
+                () -> assertEquals("15/03/2024", model.getValueAt(0, 5)),
+                () -> assertEquals(Interesse.OUI.getLibelle(), model.getValueAt(0, 6))
+        );
+    }
+
+    @Test
+    @DisplayName("setLignes remplace les lignes et notifie la table")
+    void setLignesNotifie() {
+        ClientTableModel model = new ClientTableModel(List.of());
+        List<TableModelEvent> evenements = new ArrayList<>();
+        model.addTableModelListener(evenements::add);
+
+        model.setLignes(List.of(client));
+
+        assertAll("Vérification de la notification",
+                () -> assertEquals(1, model.getRowCount()),
+                () -> assertEquals(1, evenements.size())
+        );
+    }
+
+    // ============================================================
+    // TESTS DES MISES À JOUR INCRÉMENTALES
+    // ============================================================
+
+    @Nested
+    @DisplayName("Mises à jour incrémentales depuis le repository")
+    class MisesAJourIncrementalesTests {
+        private ClientRepository clientRepo;
+        private ClientTableModel model;
+        private final List<TableModelEvent> evenements = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() throws ValidationException {
+            clientRepo = new ClientRepository(new ContratRepository(), new RaisonSocialeIndex(), false);
+            clientRepo.add(nouveauClient("Bravo"));
+            clientRepo.add(nouveauClient("Delta"));
+            model = new ClientTableModel(clientRepo.findAll());
+            clientRepo.ajouterEcouteur(model);
+            model.addTableModelListener(evenements::add);
+        }
+
+        private Client nouveauClient(String raisonSociale) throws ValidationException {
+            return new Client(raisonSociale, new Adresse("1", "Rue Test", "54000", "Nancy"),
+                    "0612345678", "test@test.fr", "", 1000, 1);
+        }
+
+        private List<Object> raisonsSociales() {
+            List<Object> noms = new ArrayList<>();
+            for (int i = 0; i < model.getRowCount(); i++) {
+                noms.add(model.getValueAt(i, 1));
+            }
+            return noms;
+        }
+
+        @Test
+        @DisplayName("Un ajout insère une seule ligne à son rang")
+        void ajout() throws Exception {
+            SwingUtilities.invokeAndWait(() -> {
+                try {
+                    clientRepo.add(nouveauClient("Charlie"));
+                } catch (ValidationException e) {
+                    fail(e.getMessage());
+                }
+            });
+
+            assertAll("Vérification de l'insertion",
+                    () -> assertEquals(List.of("Bravo", "Charlie", "Delta"), raisonsSociales()),
+                    () -> assertEquals(1, evenements.size()),
+                    () -> assertEquals(TableModelEvent.INSERT, evenements.get(0).getType()),
+                    () -> assertEquals(1, evenements.get(0).getFirstRow()),
+                    () -> assertEquals(1, evenements.get(0).getLastRow())
+            );
+        }
+
+        @Test
+        @DisplayName("Une modification sans changement de rang ne met à jour que sa ligne")
+        void modificationSurPlace() throws Exception {
+            Client delta = model.getSociete(1);
+
+            SwingUtilities.invokeAndWait(() -> {
+                try {
+                    delta.setNbEmployes(42);
+                    clientRepo.update(delta);
+                } catch (ValidationException e) {
+                    fail(e.getMessage());
+                }
+            });
+
+            assertAll("Vérification de la mise à jour",
+                    () -> assertEquals(1, evenements.size()),
+                    () -> assertEquals(TableModelEvent.UPDATE, evenements.get(0).getType()),
+                    () -> assertEquals(1, evenements.get(0).getFirstRow()),
+                    () -> assertEquals(1, evenements.get(0).getLastRow()),
+                    () -> assertEquals(42, model.getValueAt(1, 6))
+            );
+        }
+
+        @Test
+        @DisplayName("Un renommage déplace la ligne modifiée en place")
+        void renommage() throws Exception {
+            Client bravo = model.getSociete(0);
+
+            SwingUtilities.invokeAndWait(() -> {
+                try {
+                    bravo.setRaisonSociale("Echo");
+                    clientRepo.update(bravo);
+                } catch (ValidationException e) {
+                    fail(e.getMessage());
+                }
+            });
+
+            assertEquals(List.of("Delta", "Echo"), raisonsSociales());
+        }
+
+        @Test
+        @DisplayName("Une suppression retire une seule ligne")
+        void suppression() throws Exception {
+            int idDelta = model.getSociete(1).getId();
+
+            SwingUtilities.invokeAndWait(() -> clientRepo.delete(idDelta));
+
+            assertAll("Vérification des suppressions",
+                    () -> assertEquals(List.of("Bravo"), raisonsSociales()),
+                    () -> assertEquals(TableModelEvent.DELETE, evenements.get(0).getType()),
+                    () -> assertEquals(1, evenements.get(0).getFirstRow())
+            );
+        }
+
+        @Test
+        @DisplayName("Les ajouts et suppressions sur plusieurs blocs suivent le repository")
+        void plusieursBlocs() throws Exception {
+            for (int i = 0; i < 1500; i++) {
+                clientRepo.add(nouveauClient(String.format("Client %04d", i)));
+            }
+            model.setLignes(clientRepo.findAll());
+
+            SwingUtilities.invokeAndWait(() -> {
+                try {
+                    for (int i = 0; i < 700; i++) {
+                        clientRepo.add(nouveauClient(String.format("Client %04d bis", i * 2)));
+                    }
+                } catch (ValidationException e) {
+                    fail(e.getMessage());
+                }
+                for (int rang = 0; rang < 600; rang++) {
+                    clientRepo.delete(model.getSociete(rang * 2).getId());
+                }
+            });
+
+            List<Object> attendues = new ArrayList<>();
+            for (Client c : clientRepo.findAll()) {
+                attendues.add(c.getRaisonSociale());
+            }
+            assertAll("Vérification de l'ordre",
+                    () -> assertEquals(1602, model.getRowCount()),
+                    () -> assertEquals(attendues, raisonsSociales())
+            );
+        }
+    }
+
+    // ============================================================
+    // TESTS DU FILTRAGE ET DU TRI
+    // ============================================================
+
+    @Nested
+    @DisplayName("Résultat de recherche filtré et trié")
+    class ResultatRechercheTests {
+        private ContratRepository contratRepo;
+        private ClientRepository clientRepo;
+        private ClientTableModel model;
+
+        @BeforeEach
+        void setUp() throws ValidationException {
+            contratRepo = new ContratRepository();
+            clientRepo = new ClientRepository(contratRepo, new RaisonSocialeIndex(), false);
+            clientRepo.add(nouveauClient("Alpha", 3000));
+            clientRepo.add(nouveauClient("Bravo", 1000));
+            clientRepo.add(nouveauClient("Charlie", 2000));
+            model = new ClientTableModel(List.of());
+            clientRepo.ajouterEcouteur(model);
+        }
+
+        private Client nouveauClient(String raisonSociale, long ca) throws ValidationException {
+            return new Client(raisonSociale, new Adresse("1", "Rue Test", "54000", "Nancy"),
+                    "0612345678", "test@test.fr", "", ca, 1);
+        }
+
+        private List<Object> raisonsSociales() {
+            List<Object> noms = new ArrayList<>();
+            for (int i = 0; i < model.getRowCount(); i++) {
+                noms.add(model.getValueAt(i, 1));
+            }
+            return noms;
+        }
+
+        @Test
+        @DisplayName("Le modèle adopte l'ordre du résultat et y range les ajouts")
+        void ordreDuResultat() throws Exception {
+            ResultatRecherche<Client> resultat = clientRepo.rechercher(FiltreSocietes.AUCUN,
+                    model.getTri(5), false);
+
+            SwingUtilities.invokeAndWait(() -> {
+                model.setResultat(resultat);
+                try {
+                    clientRepo.add(nouveauClient("Delta", 2500));
+                } catch (ValidationException e) {
+                    fail(e.getMessage());
+                }
+            });
+
+            assertAll("Vérification de l'ordre décroissant du CA",
+                    () -> assertEquals(TriSocietes.CHIFFRE_AFFAIRES, model.getTriCourant()),
+                    () -> assertFalse(model.isCroissant()),
+                    () -> assertEquals(List.of("Alpha", "Delta", "Charlie", "Bravo"), raisonsSociales())
+            );
+        }
+
+        @Test
+        @DisplayName("Un contrat ajouté déplace son client dans le tri par total des contrats")
+        void triTotalContrats() throws Exception {
+            ClientViewModel clientVM = new ClientViewModel(clientRepo, contratRepo,
+                    new UnicityService(clientRepo, null));
+            ClientTableModel parTotal = new ClientTableModel(List.of(), clientVM::getAgregatContrats);
+            clientVM.ajouterEcouteur(parTotal);
+            Client bravo = clientRepo.rechercher(FiltreSocietes.AUCUN, TriSocietes.RAISON_SOCIALE, true)
+                    .getSocietes().get(1);
+            contratRepo.add(new Contrat(bravo.getId(), "Maintenance", 200));
+            ResultatRecherche<Client> resultat = clientRepo.rechercher(FiltreSocietes.AUCUN,
+                    parTotal.getTri(7), false);
+            SwingUtilities.invokeAndWait(() -> parTotal.setResultat(resultat));
+
+            Client charlie = parTotal.getSociete(1);
+            contratRepo.add(new Contrat(charlie.getId(), "Licences", 350.25));
+            SwingUtilities.invokeAndWait(() -> { });  // Relais des agrégats exécuté sur l'EDT
+
+            assertAll("Vérification du déplacement",
+                    () -> assertEquals(charlie, parTotal.getSociete(0)),
+                    () -> assertEquals(new BigDecimal("350.25"), parTotal.getValueAt(0, 7)),
+                    () -> assertEquals(bravo, parTotal.getSociete(1)),
+                    () -> assertEquals(new BigDecimal("200.00"), parTotal.getValueAt(1, 7))
+            );
+            clientVM.retirerEcouteur(parTotal);
+        }
+
+        @Test
+        @DisplayName("Une société modifiée qui ne satisfait plus le filtre disparaît")
+        void filtreApplique() throws Exception {
+            ResultatRecherche<Client> resultat = clientRepo.rechercher(
+                    new FiltreSocietes("", "", "", "", 1500L, null), TriSocietes.RAISON_SOCIALE, true);
+
+            SwingUtilities.invokeAndWait(() -> {
+                model.setResultat(resultat);
+                try {
+                    Client alpha = model.getSociete(0);
+                    alpha.setChiffreAffaires(500);
+                    clientRepo.update(alpha);
+                    clientRepo.add(nouveauClient("Echo", 300));
+                } catch (ValidationException e) {
+                    fail(e.getMessage());
+                }
+            });
+
+            assertEquals(List.of("Charlie"), raisonsSociales());
+        }
+
+        @Test
+        @DisplayName("Les notifications reçues pendant la recherche sont rejouées sur le résultat")
+        void notificationsRejouees() throws Exception {
+            SwingUtilities.invokeAndWait(model::debuterRecherche);
+            ResultatRecherche<Client> resultat = clientRepo.rechercher(FiltreSocietes.AUCUN,
+                    TriSocietes.RAISON_SOCIALE, true);
+            int idBravo = resultat.getSocietes().get(1).getId();
+
+            SwingUtilities.invokeAndWait(() -> {
+                try {
+                    clientRepo.add(nouveauClient("Delta", 4000));  // Absent du résultat déjà calculé
+                } catch (ValidationException e) {
+                    fail(e.getMessage());
+                }
+                clientRepo.delete(idBravo);
+                model.setResultat(resultat);
+            });
+
+            assertEquals(List.of("Alpha", "Charlie", "Delta"), raisonsSociales());
+        }
+    }
+}